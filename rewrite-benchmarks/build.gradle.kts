@@ -16,8 +16,10 @@ dependencies {
     jmh(project(":rewrite-java"))
     jmh(project(":rewrite-java-21"))
     jmh(project(":rewrite-javascript"))
+    jmh(project(":rewrite-json"))
     jmh(project(":rewrite-maven"))
     jmh("org.antlr:antlr4-runtime:4.13.2")
+    jmh("org.ow2.asm:asm:latest.release")
     jmh("org.rocksdb:rocksdbjni:10.2.1")
     jmh("org.openjdk.jmh:jmh-core:latest.release")
     jmh("org.openjdk.jol:jol-core:latest.release")
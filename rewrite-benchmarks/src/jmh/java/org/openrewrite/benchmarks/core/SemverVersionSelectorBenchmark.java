@@ -23,6 +23,7 @@
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openrewrite.semver.LatestRelease;
 import org.openrewrite.semver.Semver;
+import org.openrewrite.semver.SortedVersions;
 import org.openrewrite.semver.VersionComparator;
 
 import java.util.ArrayList;
@@ -39,6 +40,9 @@
  * The version list mimics the shape of {@code org.springframework.boot:spring-boot}: early releases
  * carry a {@code .RELEASE}/{@code .M#}/{@code .RC#}/{@code .BUILD-SNAPSHOT} qualifier, later releases
  * are plain semver with {@code -M#}/{@code -RC#}/{@code -SNAPSHOT} pre-releases.
+ * <p>
+ * The {@code Sorted} variants query the same list through {@link SortedVersions} sorted once for each selector, as
+ * happens when the metadata of a dependency is shared by the modules of a multi-module build.
  */
 @Fork(1)
 @Measurement(iterations = 5, time = 2)
@@ -59,6 +63,9 @@ public class SemverVersionSelectorBenchmark {
     private VersionComparator latestRelease;
     private VersionComparator xRange;
     private VersionComparator hyphenRange;
+    private SortedVersions latestReleaseSorted;
+    private SortedVersions xRangeSorted;
+    private SortedVersions hyphenRangeSorted;
 
     @Setup(Level.Trial)
     public void setup() {
@@ -66,6 +73,9 @@ public void setup() {
         this.latestRelease = new LatestRelease(null);
         this.xRange = Objects.requireNonNull(Semver.validate("3.x", null).getValue());
         this.hyphenRange = Objects.requireNonNull(Semver.validate("2.0-3.0", null).getValue());
+        this.latestReleaseSorted = SortedVersions.of(versions, latestRelease);
+        this.xRangeSorted = SortedVersions.of(versions, xRange);
+        this.hyphenRangeSorted = SortedVersions.of(versions, hyphenRange);
     }
 
     @Benchmark
@@ -83,6 +93,29 @@ public void upgradeHyphenRange(Blackhole bh) {
         bh.consume(hyphenRange.upgrade("3.0.0", versions));
     }
 
+    @Benchmark
+    public void upgradeLatestReleaseSorted(Blackhole bh) {
+        bh.consume(latestRelease.upgrade("3.0.0", latestReleaseSorted));
+    }
+
+    @Benchmark
+    public void upgradeXRangeSorted(Blackhole bh) {
+        bh.consume(xRange.upgrade("3.0.0", xRangeSorted));
+    }
+
+    @Benchmark
+    public void upgradeHyphenRangeSorted(Blackhole bh) {
+        bh.consume(hyphenRange.upgrade("3.0.0", hyphenRangeSorted));
+    }
+
+    /**
+     * The one-time cost of sorting the version list for a selector, paid once per dependency and selector.
+     */
+    @Benchmark
+    public void sortForXRange(Blackhole bh) {
+        bh.consume(SortedVersions.of(versions, xRange));
+    }
+
     /**
      * Mimics the hot path of a recipe run: a (recipe-constant) version selector is repeatedly
      * validated for every dependency and every visit. Exercises {@link Semver#validate} over the
@@ -23,6 +23,7 @@
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openrewrite.InMemoryExecutionContext;
 import org.openrewrite.java.ChangeMethodTargetToStatic;
+import org.openrewrite.java.internal.template.ParserPool;
 
 import java.util.concurrent.TimeUnit;
 
@@ -42,8 +43,28 @@ public static void main(String[] args) throws RunnerException {
         new Runner(opt).run();
     }
 
+    @State(Scope.Benchmark)
+    public static class ParserPoolState {
+        /**
+         * 0 builds a new parser for every contextual template application.
+         */
+        @Param({"0", "8"})
+        int maximumIdleParsers;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            ParserPool.clear();
+            ParserPool.setMaximumIdle(maximumIdleParsers);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            ParserPool.setMaximumIdle(ParserPool.DEFAULT_MAXIMUM_IDLE);
+        }
+    }
+
     @Benchmark
-    public void changeMethodTargetToStatic(JavaCompilationUnitState state) {
+    public void changeMethodTargetToStatic(JavaCompilationUnitState state, ParserPoolState pool) {
         new ChangeMethodTargetToStatic("org.junit.Assert assertThat(..)", "org.hamcrest.MatcherAssert", null, null, false)
                 .run(state.getSourceSet(), new InMemoryExecutionContext());
     }
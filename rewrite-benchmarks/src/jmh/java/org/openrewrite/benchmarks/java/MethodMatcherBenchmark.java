@@ -22,8 +22,10 @@
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.MethodMatcherSet;
 import org.openrewrite.java.tree.JavaType;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
@@ -239,6 +241,61 @@ public void deepSubpackagePatternMatch(SubpackagePattern state, Blackhole bh) {
         }
     }
 
+    // Thousands of patterns, as in a large method-rename or deprecation migration
+    @State(Scope.Benchmark)
+    public static class ManyPatterns {
+        @Param({"1000", "5000"})
+        int patternCount;
+
+        List<MethodMatcher> matchers;
+        MethodMatcherSet matcherSet;
+        JavaType.Method[] methods;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            matchers = new ArrayList<>(patternCount);
+            for (int i = 0; i < patternCount; i++) {
+                String type = "com.example.module" + (i % 50) + ".Type" + (i % 200);
+                switch (i % 10) {
+                    case 0:
+                        matchers.add(new MethodMatcher("com.example.module" + (i % 50) + "..* method" + i + "(..)"));
+                        break;
+                    case 1:
+                        matchers.add(new MethodMatcher(type + " get*()"));
+                        break;
+                    default:
+                        matchers.add(new MethodMatcher(type + " method" + i + "(java.lang.String, ..)"));
+                }
+            }
+            matcherSet = new MethodMatcherSet(matchers);
+
+            methods = new JavaType.Method[]{
+                    newMethodType("com.example.module7.Type7", "method7", "java.lang.String"),
+                    newMethodType("com.example.module10.Type110", "method310", "java.lang.String", "int"),
+                    newMethodType("com.example.module3.Type3", "getName"),
+                    newMethodType("com.example.module3.Type3", "method4", "int"),
+                    newMethodType("java.util.List", "add", "java.lang.Object"),
+                    newMethodType("java.lang.String", "substring", "int")
+            };
+        }
+    }
+
+    @Benchmark
+    public void manyPatternsEachMatcher(ManyPatterns state, Blackhole bh) {
+        for (JavaType.Method method : state.methods) {
+            for (MethodMatcher matcher : state.matchers) {
+                bh.consume(matcher.matches(method));
+            }
+        }
+    }
+
+    @Benchmark
+    public void manyPatternsMatcherSet(ManyPatterns state, Blackhole bh) {
+        for (JavaType.Method method : state.methods) {
+            bh.consume(state.matcherSet.matching(method));
+        }
+    }
+
     // Helper method to create JavaType.Method instances
     private static JavaType.Method newMethodType(String type, String method, String... parameterTypes) {
         List<JavaType> parameterTypeList = Stream.of(parameterTypes)
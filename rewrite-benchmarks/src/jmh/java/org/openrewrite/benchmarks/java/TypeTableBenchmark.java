@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.benchmarks.java;
+
+import org.objectweb.asm.ClassWriter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.internal.parser.BinaryTypeTable;
+import org.openrewrite.java.internal.parser.TypeTable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.zip.GZIPInputStream;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Compares loading the classes of one artifact, and of every artifact, from the gzipped TSV form of a
+ * type table and from its indexed binary form.
+ * <p>
+ * The type table of the rewrite-spring recipe bundle is used when its classpath has been written by
+ * {@code ./gradlew :rewrite-benchmarks:writeRecipeModuleClasspath}, and otherwise a type table is
+ * written for the jars on the benchmark's own classpath.
+ * <p>
+ * Run with: {@code ./gradlew :rewrite-benchmarks:jmh -Pjmh.includes="TypeTableBenchmark"}
+ */
+@Fork(1)
+@Measurement(iterations = 3)
+@Warmup(iterations = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class TypeTableBenchmark {
+
+    Path tsv;
+    Path binary;
+    TypeTable.Reader.Options oneArtifact;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Path dir = Files.createTempDirectory("type-table-benchmark");
+        tsv = dir.resolve("classpath.tsv.gz");
+        if (!extractRecipeBundleTypeTable(tsv)) {
+            try (TypeTable.Writer writer = TypeTable.newWriter(Files.newOutputStream(tsv))) {
+                for (String entry : System.getProperty("java.class.path").split(System.getProperty("path.separator"))) {
+                    Path jar = Paths.get(entry);
+                    String[] artifactVersion = jar.getFileName().toString().replaceAll("\\.jar$", "").split("-(?=\\d)", 2);
+                    if (entry.endsWith(".jar") && Files.exists(jar) && artifactVersion.length == 2) {
+                        writer.jar("benchmark", artifactVersion[0], artifactVersion[1]).write(jar);
+                    }
+                }
+            }
+        }
+
+        binary = dir.resolve("classpath.ttb");
+        BinaryTypeTable.convert(tsv, binary);
+
+        BinaryTypeTable table = BinaryTypeTable.open(binary);
+        oneArtifact = TypeTable.Reader.Options.builder()
+                .artifactPrefixes(singletonList(table.getArtifactVersion(table.getGavCount() / 2)))
+                .build();
+    }
+
+    private static boolean extractRecipeBundleTypeTable(Path target) throws IOException {
+        Path classpathFile = Paths.get(System.getProperty("user.dir"), "rewrite-benchmarks", "build", "recipeModuleClasspath.txt");
+        if (!Files.exists(classpathFile)) {
+            return false;
+        }
+        List<Path> recipeJars = Files.readAllLines(classpathFile).stream()
+                .map(String::trim)
+                .filter(s -> s.contains("rewrite-spring-") && s.endsWith(".jar"))
+                .map(Paths::get)
+                .filter(Files::exists)
+                .collect(toList());
+        for (Path recipeJar : recipeJars) {
+            try (JarFile jar = new JarFile(recipeJar.toFile())) {
+                JarEntry entry = jar.getJarEntry(TypeTable.DEFAULT_RESOURCE_PATH);
+                if (entry != null) {
+                    try (InputStream is = jar.getInputStream(entry)) {
+                        Files.copy(is, target, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public void tsvOneArtifact() throws IOException {
+        readTsv(oneArtifact);
+    }
+
+    @Benchmark
+    public void binaryOneArtifact() throws IOException {
+        readBinary(oneArtifact);
+    }
+
+    @Benchmark
+    public void tsvAllArtifacts() throws IOException {
+        readTsv(TypeTable.Reader.Options.matchAll());
+    }
+
+    @Benchmark
+    public void binaryAllArtifacts() throws IOException {
+        readBinary(TypeTable.Reader.Options.matchAll());
+    }
+
+    private void readTsv(TypeTable.Reader.Options options) throws IOException {
+        try (InputStream is = new GZIPInputStream(Files.newInputStream(tsv))) {
+            new TypeTable.Reader(new InMemoryExecutionContext()).read(is, options, () -> new ClassWriter(0));
+        }
+    }
+
+    private void readBinary(TypeTable.Reader.Options options) throws IOException {
+        new TypeTable.Reader(new InMemoryExecutionContext()).read(BinaryTypeTable.open(binary), options, () -> new ClassWriter(0));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(TypeTableBenchmark.class.getSimpleName())
+                .shouldFailOnError(true)
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.benchmarks.java;
+
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openrewrite.java.internal.AssignabilityCache;
+import org.openrewrite.java.internal.JavaTypeCache;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+
+/**
+ * Assignability checks of the kind recipes make against a Spring application: every component's type, and the
+ * parameterized repositories they depend on, checked against the framework types that recipes look for. The type
+ * graph models the Spring application context, bean factory and Spring Data repository hierarchies, with the
+ * application's controllers, services and repositories extending them.
+ */
+@Fork(1)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+@State(Scope.Benchmark)
+public class TypeUtilsAssignabilityBenchmark {
+
+    @Param({"100", "1000"})
+    int components;
+
+    List<JavaType> froms;
+    List<JavaType> tos;
+    JavaTypeCache typeCache;
+
+    private final Map<String, JavaType.Class> classes = new HashMap<>();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        classes.clear();
+        JavaType.Class object = type("java.lang.Object", JavaType.FullyQualified.Kind.Class, null);
+        JavaType.Class autoCloseable = type("java.lang.AutoCloseable", JavaType.FullyQualified.Kind.Interface, null);
+        JavaType.Class closeable = type("java.io.Closeable", JavaType.FullyQualified.Kind.Interface, null, autoCloseable);
+        JavaType.Class iterable = type("java.lang.Iterable", JavaType.FullyQualified.Kind.Interface, null);
+
+        JavaType.Class beanFactory = type("org.springframework.beans.factory.BeanFactory", JavaType.FullyQualified.Kind.Interface, null);
+        JavaType.Class listable = type("org.springframework.beans.factory.ListableBeanFactory", JavaType.FullyQualified.Kind.Interface, null, beanFactory);
+        JavaType.Class hierarchical = type("org.springframework.beans.factory.HierarchicalBeanFactory", JavaType.FullyQualified.Kind.Interface, null, beanFactory);
+        JavaType.Class environmentCapable = type("org.springframework.core.env.EnvironmentCapable", JavaType.FullyQualified.Kind.Interface, null);
+        JavaType.Class messageSource = type("org.springframework.context.MessageSource", JavaType.FullyQualified.Kind.Interface, null);
+        JavaType.Class eventPublisher = type("org.springframework.context.ApplicationEventPublisher", JavaType.FullyQualified.Kind.Interface, null);
+        JavaType.Class resourceLoader = type("org.springframework.core.io.ResourceLoader", JavaType.FullyQualified.Kind.Interface, null);
+        JavaType.Class patternResolver = type("org.springframework.core.io.support.ResourcePatternResolver", JavaType.FullyQualified.Kind.Interface, null, resourceLoader);
+        JavaType.Class applicationContext = type("org.springframework.context.ApplicationContext", JavaType.FullyQualified.Kind.Interface, null,
+                environmentCapable, listable, hierarchical, messageSource, eventPublisher, patternResolver);
+        JavaType.Class lifecycle = type("org.springframework.context.Lifecycle", JavaType.FullyQualified.Kind.Interface, null);
+        JavaType.Class configurableContext = type("org.springframework.context.ConfigurableApplicationContext", JavaType.FullyQualified.Kind.Interface, null,
+                applicationContext, lifecycle, closeable);
+        JavaType.Class aware = type("org.springframework.beans.factory.Aware", JavaType.FullyQualified.Kind.Interface, null);
+        JavaType.Class contextAware = type("org.springframework.context.ApplicationContextAware", JavaType.FullyQualified.Kind.Interface, null, aware);
+        JavaType.Class initializingBean = type("org.springframework.beans.factory.InitializingBean", JavaType.FullyQualified.Kind.Interface, null);
+        JavaType.Class disposableBean = type("org.springframework.beans.factory.DisposableBean", JavaType.FullyQualified.Kind.Interface, null);
+
+        JavaType.Class repository = type("org.springframework.data.repository.Repository", JavaType.FullyQualified.Kind.Interface, null);
+        JavaType.Class crudRepository = type("org.springframework.data.repository.CrudRepository", JavaType.FullyQualified.Kind.Interface, null, repository);
+        JavaType.Class pagingRepository = type("org.springframework.data.repository.PagingAndSortingRepository", JavaType.FullyQualified.Kind.Interface, null, crudRepository);
+        JavaType.Class queryByExample = type("org.springframework.data.repository.query.QueryByExampleExecutor", JavaType.FullyQualified.Kind.Interface, null);
+        JavaType.Class jpaRepository = type("org.springframework.data.jpa.repository.JpaRepository", JavaType.FullyQualified.Kind.Interface, null,
+                pagingRepository, queryByExample);
+
+        JavaType.Class abstractController = type("com.example.web.AbstractController", JavaType.FullyQualified.Kind.Class, object, contextAware);
+        JavaType.Class abstractService = type("com.example.service.AbstractService", JavaType.FullyQualified.Kind.Class, object,
+                initializingBean, disposableBean);
+        JavaType.Class entity = type("com.example.domain.AbstractEntity", JavaType.FullyQualified.Kind.Class, object);
+        JavaType.Class longType = type("java.lang.Long", JavaType.FullyQualified.Kind.Class, object);
+
+        froms = new ArrayList<>();
+        for (int i = 0; i < components; i++) {
+            JavaType.Class domain = type("com.example.domain.Entity" + i, JavaType.FullyQualified.Kind.Class, entity);
+            JavaType.Parameterized entityRepository = new JavaType.Parameterized(null, jpaRepository, asList(domain, longType));
+            JavaType.Class repositoryType = type("com.example.repository.Entity" + i + "Repository",
+                    JavaType.FullyQualified.Kind.Interface, null, entityRepository);
+            froms.add(type("com.example.web.Entity" + i + "Controller", JavaType.FullyQualified.Kind.Class, abstractController));
+            froms.add(type("com.example.service.Entity" + i + "Service", JavaType.FullyQualified.Kind.Class, abstractService));
+            froms.add(repositoryType);
+            froms.add(entityRepository);
+            froms.add(domain);
+        }
+        froms.add(configurableContext);
+
+        tos = new ArrayList<>(asList(beanFactory, applicationContext, aware, initializingBean, closeable, autoCloseable,
+                repository, crudRepository, jpaRepository, iterable, entity, abstractService,
+                new JavaType.Parameterized(null, crudRepository, asList(entity, longType))));
+    }
+
+    @Setup(Level.Iteration)
+    public void newTypeCache() {
+        // as if every iteration were a recipe run over a newly parsed source set
+        typeCache = new JavaTypeCache();
+    }
+
+    @Benchmark
+    public void uncached(Blackhole bh) {
+        checkAll(bh);
+    }
+
+    @Benchmark
+    public void cached(Blackhole bh) {
+        AssignabilityCache cache = typeCache.getAssignabilityCache();
+        cache.scope(() -> {
+            checkAll(bh);
+            return null;
+        });
+    }
+
+    private void checkAll(Blackhole bh) {
+        for (JavaType to : tos) {
+            for (JavaType from : froms) {
+                bh.consume(TypeUtils.isAssignableTo(to, from));
+            }
+        }
+    }
+
+    private JavaType.Class type(String fqn, JavaType.FullyQualified.Kind kind, JavaType.@Nullable FullyQualified supertype,
+                                JavaType.FullyQualified... interfaces) {
+        return classes.computeIfAbsent(fqn, n -> new JavaType.Class(null, 1L, fqn, kind, emptyList(), supertype, null,
+                emptyList(), asList(interfaces), emptyList(), emptyList()));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(TypeUtilsAssignabilityBenchmark.class.getSimpleName())
+                .shouldFailOnError(true)
+                .build();
+        new Runner(opt).run();
+    }
+}
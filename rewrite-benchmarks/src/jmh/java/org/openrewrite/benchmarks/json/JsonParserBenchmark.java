@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.benchmarks.json;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.json.JsonParser;
+import org.openrewrite.json.internal.JsonParserVisitor;
+import org.openrewrite.json.internal.JsonScanner;
+import org.openrewrite.json.internal.grammar.JSON5Lexer;
+import org.openrewrite.json.internal.grammar.JSON5Parser;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses a {@code package-lock.json} shaped document of {@link #packages} entries with the hand-written
+ * {@link JsonScanner} and with the JSON5 grammar it replaces outside of error reporting.
+ */
+@Fork(1)
+@Measurement(iterations = 2)
+@Warmup(iterations = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class JsonParserBenchmark {
+    private static final Path PATH = Paths.get("package-lock.json");
+
+    @Param({"100", "10000"})
+    int packages;
+
+    String source;
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder("{\n  \"name\": \"app\",\n  \"lockfileVersion\": 3,\n  \"packages\": {\n");
+        for (int i = 0; i < packages; i++) {
+            sb.append("    \"node_modules/package-").append(i).append("\": {\n")
+                    .append("      \"version\": \"1.").append(i % 17).append('.').append(i % 5).append("\",\n")
+                    .append("      \"resolved\": \"https://registry.npmjs.org/package-").append(i)
+                    .append("/-/package-").append(i).append("-1.0.0.tgz\",\n")
+                    .append("      \"integrity\": \"sha512-").append(Integer.toHexString(i * 31 + 7)).append("\",\n")
+                    .append("      \"dev\": ").append(i % 3 == 0).append(",\n")
+                    .append("      \"engines\": { \"node\": \">=").append(i % 20).append("\" },\n")
+                    .append("      \"dependencies\": [").append(i).append(", ").append(i + 0.5).append(", null]\n")
+                    .append("    }").append(i == packages - 1 ? "\n" : ",\n");
+        }
+        source = sb.append("  }\n}\n").toString();
+    }
+
+    @Benchmark
+    public void scanner(Blackhole blackhole) {
+        blackhole.consume(JsonScanner.scan(PATH, null, source, StandardCharsets.UTF_8, false));
+    }
+
+    @Benchmark
+    public void grammar(Blackhole blackhole) {
+        JSON5Parser parser = new JSON5Parser(new CommonTokenStream(new JSON5Lexer(CharStreams.fromString(source))));
+        blackhole.consume(new JsonParserVisitor(PATH, null, source, StandardCharsets.UTF_8, false)
+                .visitJson5(parser.json5()));
+    }
+
+    @Benchmark
+    public void parser(Blackhole blackhole) {
+        JsonParser.builder().build().parse(new InMemoryExecutionContext(), source).forEach(blackhole::consume);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(JsonParserBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opt).run();
+    }
+}
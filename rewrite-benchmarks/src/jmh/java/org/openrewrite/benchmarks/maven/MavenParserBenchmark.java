@@ -23,17 +23,25 @@
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Parser;
 import org.openrewrite.SourceFile;
+import org.openrewrite.maven.MavenDownloadingExceptions;
 import org.openrewrite.maven.MavenExecutionContextView;
 import org.openrewrite.maven.MavenParser;
 import org.openrewrite.maven.cache.CompositeMavenPomCache;
 import org.openrewrite.maven.cache.InMemoryMavenPomCache;
 import org.openrewrite.maven.cache.RocksdbMavenPomCache;
+import org.openrewrite.maven.internal.MavenPomDownloader;
+import org.openrewrite.maven.tree.MavenResolutionResult;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
+import static java.util.stream.Collectors.toList;
+
 @Fork(1)
 @Measurement(iterations = 2)
 @Warmup(iterations = 1)
@@ -46,6 +54,25 @@ public class MavenParserBenchmark {
             new RocksdbMavenPomCache(Paths.get(System.getProperty("user.home")))
     );
 
+    private static final org.openrewrite.maven.tree.Scope[] RESOLVE_SCOPES = {
+            org.openrewrite.maven.tree.Scope.Compile, org.openrewrite.maven.tree.Scope.Runtime,
+            org.openrewrite.maven.tree.Scope.Test, org.openrewrite.maven.tree.Scope.Provided};
+
+    /**
+     * The modules of a typical Spring Boot build, resolved once so that dependency resolution
+     * can be measured on its own.
+     */
+    List<MavenResolutionResult> modules;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        MavenExecutionContextView ctx = MavenExecutionContextView.view(new InMemoryExecutionContext());
+        ctx.setPomCache(pomCache);
+        modules = MavenParser.builder().build().parseInputs(multiModuleBuild(), null, ctx)
+                .map(pom -> pom.getMarkers().findFirst(MavenResolutionResult.class).orElseThrow(IllegalStateException::new))
+                .collect(toList());
+    }
+
     public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(MavenParserBenchmark.class.getSimpleName())
@@ -86,4 +113,97 @@ public void parse(Blackhole blackhole) {
 
         blackhole.consume(maven);
     }
+
+    @Benchmark
+    public void parseMultiModule(Blackhole blackhole) {
+        MavenExecutionContextView ctx = MavenExecutionContextView.view(new InMemoryExecutionContext());
+        ctx.setPomCache(pomCache);
+        blackhole.consume(MavenParser.builder().build().parseInputs(multiModuleBuild(), null, ctx).collect(toList()));
+    }
+
+    /**
+     * Resolves the compile, runtime, test, and provided scopes of each module over one shared dependency graph.
+     */
+    @Benchmark
+    public void resolveAllScopes(Blackhole blackhole) throws MavenDownloadingExceptions {
+        MavenExecutionContextView ctx = MavenExecutionContextView.view(new InMemoryExecutionContext());
+        ctx.setPomCache(pomCache);
+        MavenPomDownloader downloader = new MavenPomDownloader(ctx);
+        for (MavenResolutionResult module : modules) {
+            blackhole.consume(module.resolveDependencies(downloader, ctx));
+        }
+    }
+
+    /**
+     * Resolves the same scopes as {@link #resolveAllScopes(Blackhole)}, each with its own walk of the graph.
+     */
+    @Benchmark
+    public void resolveEachScope(Blackhole blackhole) throws MavenDownloadingExceptions {
+        MavenExecutionContextView ctx = MavenExecutionContextView.view(new InMemoryExecutionContext());
+        ctx.setPomCache(pomCache);
+        MavenPomDownloader downloader = new MavenPomDownloader(ctx);
+        for (MavenResolutionResult module : modules) {
+            for (org.openrewrite.maven.tree.Scope scope : RESOLVE_SCOPES) {
+                blackhole.consume(module.getPom().resolveDependencies(scope, downloader, ctx));
+            }
+        }
+    }
+
+    private static List<Parser.Input> multiModuleBuild() {
+        List<Parser.Input> poms = new ArrayList<>();
+        poms.add(Parser.Input.fromString(Paths.get("pom.xml"), "" +
+                 "<project>" +
+                 "  <parent>" +
+                 "    <groupId>org.springframework.boot</groupId>" +
+                 "    <artifactId>spring-boot-starter-parent</artifactId>" +
+                 "    <version>3.2.5</version>" +
+                 "  </parent>" +
+                 "  <groupId>com.mycompany.app</groupId>" +
+                 "  <artifactId>parent</artifactId>" +
+                 "  <version>1</version>" +
+                 "  <packaging>pom</packaging>" +
+                 "  <modules>" +
+                 "    <module>api</module>" +
+                 "    <module>persistence</module>" +
+                 "    <module>web</module>" +
+                 "  </modules>" +
+                 "</project>"));
+        String[][] modules = {
+                {"api", "spring-boot-starter-validation", "spring-boot-starter-json"},
+                {"persistence", "spring-boot-starter-data-jpa", "spring-boot-starter-cache"},
+                {"web", "spring-boot-starter-web", "spring-boot-starter-actuator"}
+        };
+        for (String[] module : modules) {
+            poms.add(Parser.Input.fromString(Paths.get(module[0], "pom.xml"), "" +
+                     "<project>" +
+                     "  <parent>" +
+                     "    <groupId>com.mycompany.app</groupId>" +
+                     "    <artifactId>parent</artifactId>" +
+                     "    <version>1</version>" +
+                     "  </parent>" +
+                     "  <artifactId>" + module[0] + "</artifactId>" +
+                     "  <dependencies>" +
+                     "    <dependency>" +
+                     "      <groupId>org.springframework.boot</groupId>" +
+                     "      <artifactId>" + module[1] + "</artifactId>" +
+                     "    </dependency>" +
+                     "    <dependency>" +
+                     "      <groupId>org.springframework.boot</groupId>" +
+                     "      <artifactId>" + module[2] + "</artifactId>" +
+                     "    </dependency>" +
+                     "    <dependency>" +
+                     "      <groupId>org.projectlombok</groupId>" +
+                     "      <artifactId>lombok</artifactId>" +
+                     "      <scope>provided</scope>" +
+                     "    </dependency>" +
+                     "    <dependency>" +
+                     "      <groupId>org.springframework.boot</groupId>" +
+                     "      <artifactId>spring-boot-starter-test</artifactId>" +
+                     "      <scope>test</scope>" +
+                     "    </dependency>" +
+                     "  </dependencies>" +
+                     "</project>"));
+        }
+        return poms;
+    }
 }
@@ -33,9 +33,11 @@
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
@@ -46,6 +48,11 @@
  * Measures the cost of {@code Environment.builder().scanJar()} and
  * full-classloader scanning used during recipe marketplace generation.
  * <p>
+ * With {@code superclassMapCache=cold}, every invocation starts from an empty
+ * superclass map cache, so each jar's classes are read and the cache is written.
+ * With {@code warm}, the cache is filled once during setup, so invocations
+ * read the superclass maps of unchanged jars from it.
+ * <p>
  * Run with: {@code ./gradlew :rewrite-benchmarks:jmh -Pjmh.includes="RecipeLoadingBenchmark"}
  */
 @Fork(1)
@@ -55,6 +62,12 @@
 @OutputTimeUnit(TimeUnit.MILLISECONDS)
 @State(Scope.Benchmark)
 public class RecipeLoadingBenchmark {
+    private static final long CACHE_SIZE_BYTES = 256L * 1024 * 1024;
+
+    @Param({"cold", "warm"})
+    String superclassMapCache;
+
+    Path superclassMapCacheDir;
 
     Path recipeJar;
     List<Path> dependencyPaths;
@@ -125,6 +138,49 @@ public void setup() throws IOException {
                         .collect(toList());
             }
         }
+
+        superclassMapCacheDir = Files.createTempDirectory("rewrite-superclass-maps");
+        if ("warm".equals(superclassMapCache)) {
+            ClasspathScanningLoader.setSuperclassMapCache(superclassMapCacheDir, CACHE_SIZE_BYTES);
+            prefill(recipeJar, dependencyPaths);
+            if (rewriteSpringJar != null) {
+                prefill(rewriteSpringJar, rewriteSpringDependencyPaths);
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void emptySuperclassMapCache() throws IOException {
+        if ("cold".equals(superclassMapCache)) {
+            deleteRecursively(superclassMapCacheDir);
+            ClasspathScanningLoader.setSuperclassMapCache(superclassMapCacheDir, CACHE_SIZE_BYTES);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        ClasspathScanningLoader.setSuperclassMapCache(null, 0);
+        deleteRecursively(superclassMapCacheDir);
+    }
+
+    private static void prefill(Path jar, List<Path> dependencies) throws IOException {
+        try (RecipeClassLoader classLoader = new RecipeClassLoader(jar, dependencies)) {
+            Environment.builder()
+                    .scanJar(jar, dependencies, classLoader)
+                    .build()
+                    .listRecipeDescriptors();
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path p : paths.sorted(Comparator.reverseOrder()).collect(toList())) {
+                Files.delete(p);
+            }
+        }
     }
 
     @Benchmark
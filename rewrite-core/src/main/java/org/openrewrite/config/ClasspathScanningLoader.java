@@ -24,6 +24,7 @@
 import org.openrewrite.internal.MetricsHelper;
 import org.openrewrite.internal.RecipeIntrospectionUtils;
 import org.openrewrite.internal.RecipeLoader;
+import org.openrewrite.internal.ThreadPools;
 import org.openrewrite.style.NamedStyles;
 
 import java.io.*;
@@ -38,14 +39,22 @@
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
 
 public class ClasspathScanningLoader implements ResourceLoader {
+    private static final ThreadPoolExecutor superclassScanExecutor = ThreadPools.newBoundedDaemonPool(
+            "rewrite-superclass-scan", Math.min(8, Runtime.getRuntime().availableProcessors()));
+
+    private static volatile @Nullable SuperclassMapCache superclassMapCache;
 
     private final LinkedHashMap<String, Recipe> recipes = new LinkedHashMap<>();
     private final List<NamedStyles> styles = new ArrayList<>();
@@ -94,18 +103,10 @@ public ClasspathScanningLoader(@Nullable Properties properties, String[] acceptP
             packagePrefixes.add(pkg.replace('.', '/'));
         }
         this.performClassScan = () -> {
-            Map<String, String> superclassMap = buildSuperclassMapFromClassLoader(classLoader);
-            if (!packagePrefixes.isEmpty()) {
-                superclassMap.keySet().removeIf(name -> {
-                    String path = name.replace('.', '/');
-                    for (String prefix : packagePrefixes) {
-                        if (path.startsWith(prefix)) {
-                            return false;
-                        }
-                    }
-                    return true;
-                });
-            }
+            List<Path> unindexed = configureIndexed(classpathEntriesOf(classLoader), classLoader,
+                    name -> isAccepted(name, packagePrefixes));
+            Map<String, String> superclassMap = buildSuperclassMapFromPaths(unindexed);
+            superclassMap.keySet().removeIf(name -> !isAccepted(name, packagePrefixes));
             configureRecipesAndStyles(superclassMap, classLoader);
         };
         this.performYamlListing = () -> listYamlLoaders(listYamlResourcesFromClassLoader(classLoader), properties, emptyList(), null);
@@ -120,7 +121,10 @@ public ClasspathScanningLoader(@Nullable Properties properties, String[] acceptP
     public ClasspathScanningLoader(@Nullable Properties properties, ClassLoader classLoader) {
         this.classLoader = classLoader;
         this.recipeLoader = new RecipeLoader(classLoader);
-        this.performClassScan = () -> configureRecipesAndStyles(buildSuperclassMapFromClassLoader(classLoader), classLoader);
+        this.performClassScan = () -> {
+            List<Path> unindexed = configureIndexed(classpathEntriesOf(classLoader), classLoader, name -> true);
+            configureRecipesAndStyles(buildSuperclassMapFromPaths(unindexed), classLoader);
+        };
         this.performYamlListing = () -> listYamlLoaders(listYamlResourcesFromClassLoader(classLoader), properties, emptyList(), classLoader);
     }
 
@@ -141,7 +145,11 @@ public ClasspathScanningLoader(Path jar, @Nullable Properties properties, Collec
         this.classLoader = classLoader;
         this.recipeLoader = new RecipeLoader(classLoader);
 
-        this.performClassScan = () -> configureRecipesAndStyles(sharedSuperclassMap.scan(jar), classLoader);
+        this.performClassScan = () -> {
+            if (!configureIndexed(singletonList(jar), classLoader, name -> true).isEmpty()) {
+                configureRecipesAndStyles(sharedSuperclassMap.scan(jar), classLoader);
+            }
+        };
         this.performYamlListing = () -> listYamlLoaders(listYamlResourcesFromPath(jar), properties, dependencyResourceLoaders, classLoader);
     }
 
@@ -193,20 +201,89 @@ private static boolean shouldSkipClassEntry(String entryName) {
         return false;
     }
 
+    private static boolean isAccepted(String className, Set<String> packagePrefixes) {
+        if (packagePrefixes.isEmpty()) {
+            return true;
+        }
+        String path = className.replace('.', '/');
+        for (String prefix : packagePrefixes) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Builds a map of className -> superClassName by reading class bytecode headers from
-     * all URLs in a classloader. Only reads the first few bytes of each class file via ASM's
+     * classpath entries. Only reads the first few bytes of each class file via ASM's
      * ClassReader to extract the superclass — no full parsing or class loading required.
      */
-    private static Map<String, String> buildSuperclassMapFromClassLoader(ClassLoader classLoader) {
+    private static Map<String, String> buildSuperclassMapFromPaths(List<Path> paths) {
         Set<String> scannedPaths = new HashSet<>();
+        List<Path> distinct = new ArrayList<>();
+        for (Path path : paths) {
+            if (scannedPaths.add(canonicalPath(path))) {
+                distinct.add(path);
+            }
+        }
         Map<String, String> superclassMap = new HashMap<>();
-        for (Path path : classpathEntriesOf(classLoader)) {
-            buildSuperclassMapFromPath(path, superclassMap, scannedPaths);
+        for (Map<String, String> pathSuperclassMap : buildSuperclassMapsInParallel(distinct)) {
+            superclassMap.putAll(pathSuperclassMap);
         }
         return superclassMap;
     }
 
+    /**
+     * Persist the superclass maps of recipe jars to a directory, so that loading recipes in later processes doesn't
+     * need to read the classes of jars that are unchanged since they were last scanned.
+     *
+     * @param cacheDirectory The directory to persist superclass maps to, or {@code null} to stop persisting them.
+     */
+    public static void setSuperclassMapCache(@Nullable Path cacheDirectory, long maximumSizeBytes) {
+        superclassMapCache = cacheDirectory == null ? null : new SuperclassMapCache(cacheDirectory, maximumSizeBytes);
+    }
+
+    /**
+     * Build the superclass map of each path, reading jars from the {@link SuperclassMapCache} when one is set and
+     * they are unchanged since they were last read, and scanning the rest in parallel.
+     *
+     * @return The superclass map of each path, in the order of the paths.
+     */
+    private static List<Map<String, String>> buildSuperclassMapsInParallel(List<Path> paths) {
+        if (paths.size() == 1) {
+            return singletonList(buildSuperclassMap(paths.get(0)));
+        }
+        List<CompletableFuture<Map<String, String>>> futures = new ArrayList<>(paths.size());
+        for (Path path : paths) {
+            futures.add(CompletableFuture.supplyAsync(() -> buildSuperclassMap(path), superclassScanExecutor));
+        }
+        List<Map<String, String>> superclassMaps = new ArrayList<>(paths.size());
+        for (CompletableFuture<Map<String, String>> future : futures) {
+            superclassMaps.add(future.join());
+        }
+        return superclassMaps;
+    }
+
+    private static Map<String, String> buildSuperclassMap(Path path) {
+        SuperclassMapCache cache = superclassMapCache;
+        return cache == null ? scanSuperclassMap(path) : cache.get(path, ClasspathScanningLoader::scanSuperclassMap);
+    }
+
+    private static Map<String, String> scanSuperclassMap(Path path) {
+        Map<String, String> superclassMap = new HashMap<>();
+        buildSuperclassMapFromPath(path, superclassMap);
+        return superclassMap;
+    }
+
+    private static String canonicalPath(Path path) {
+        try {
+            return path.toAbsolutePath().normalize().toString();
+        } catch (Exception e) {
+            return path.toString();
+        }
+    }
+
     private static List<Path> classpathEntriesOf(ClassLoader classLoader) {
         // Use URLClassLoader URLs when available (e.g. RecipeClassLoader),
         // otherwise fall back to java.class.path
@@ -237,17 +314,6 @@ private static List<Path> classpathEntriesOf(ClassLoader classLoader) {
      * Builds a map of className -> superClassName from a JAR file or directory.
      */
     private static void buildSuperclassMapFromPath(Path path, Map<String, String> superclassMap) {
-        buildSuperclassMapFromPath(path, superclassMap, null);
-    }
-
-    private static void buildSuperclassMapFromPath(Path path, Map<String, String> superclassMap, @Nullable Set<String> scannedPaths) {
-        try {
-            String canonicalPath = path.toAbsolutePath().normalize().toString();
-            if (scannedPaths != null && !scannedPaths.add(canonicalPath)) {
-                return;
-            }
-        } catch (Exception ignored) {
-        }
         if (Files.isDirectory(path)) {
             try {
                 Files.walkFileTree(path, new SimpleFileVisitor<Path>() {
@@ -314,9 +380,18 @@ static class ClassLoaderBackedSuperclassMap {
         private final ClassLoader classLoader;
         private final Set<String> scannedPaths = new HashSet<>();
 
+        // Paths that will be scanned, which are scanned together in parallel on the first scan
+        private List<Path> expectedPaths;
+        private final Map<String, Map<String, String>> prescanned = new HashMap<>();
+
         ClassLoaderBackedSuperclassMap(Map<String, String> seed, ClassLoader classLoader) {
+            this(seed, classLoader, emptyList());
+        }
+
+        ClassLoaderBackedSuperclassMap(Map<String, String> seed, ClassLoader classLoader, Collection<Path> expectedPaths) {
             delegate.putAll(seed);
             this.classLoader = classLoader;
+            this.expectedPaths = new ArrayList<>(expectedPaths);
         }
 
         public @Nullable String get(String key) {
@@ -342,12 +417,43 @@ public void putAll(Map<String, String> m) {
          * (the candidates) together with this hierarchy map.
          */
         public Scan scan(Path path) {
-            Map<String, String> classes = new HashMap<>();
-            buildSuperclassMapFromPath(path, classes, scannedPaths);
+            prescanExpectedPaths();
+            String canonicalPath = canonicalPath(path);
+            Map<String, String> classes;
+            if (!scannedPaths.add(canonicalPath)) {
+                classes = new HashMap<>();
+            } else {
+                classes = prescanned.remove(canonicalPath);
+                if (classes == null) {
+                    classes = buildSuperclassMapsInParallel(singletonList(path)).get(0);
+                }
+            }
             delegate.putAll(classes);
             return new Scan(classes, this);
         }
 
+        private void prescanExpectedPaths() {
+            if (expectedPaths.isEmpty()) {
+                return;
+            }
+            List<Path> unscanned = new ArrayList<>();
+            for (Path path : expectedPaths) {
+                String canonicalPath = canonicalPath(path);
+                if (!scannedPaths.contains(canonicalPath) && !prescanned.containsKey(canonicalPath) &&
+                    RecipeIndex.read(path) == null) {
+                    prescanned.put(canonicalPath, emptyMap());
+                    unscanned.add(path);
+                }
+            }
+            expectedPaths = emptyList();
+            List<Map<String, String>> superclassMaps = buildSuperclassMapsInParallel(unscanned);
+            for (int i = 0; i < unscanned.size(); i++) {
+                prescanned.put(canonicalPath(unscanned.get(i)), superclassMaps.get(i));
+                // known up front, so superclass chains through these paths need no class loader lookups
+                delegate.putAll(superclassMaps.get(i));
+            }
+        }
+
         private @Nullable String resolveSuperclass(String className) {
             String resourceName = className.replace('.', '/') + ".class";
             try (InputStream is = classLoader.getResourceAsStream(resourceName)) {
@@ -402,14 +508,40 @@ private static boolean isSubclassOf(String className, String targetSuperclass, C
 
 
 
+    /**
+     * Scan a classpath entry as it would be scanned without an index, to build its index.
+     */
+    static RecipeIndex index(Path path, ClassLoader classLoader) {
+        Map<String, String> classes = new HashMap<>();
+        buildSuperclassMapFromPath(path, classes);
+        Scan scan = new Scan(classes, new ClassLoaderBackedSuperclassMap(classes, classLoader));
+        List<String> recipeClasses = new ArrayList<>();
+        List<String> styleClasses = new ArrayList<>();
+        for (String name : new TreeSet<>(scan.candidates.keySet())) {
+            if (isSubclassOf(name, RECIPE_SUPERCLASS_NAME, scan.hierarchy)) {
+                recipeClasses.add(name);
+            } else if (isSubclassOf(name, NAMED_STYLES_NAME, scan.hierarchy)) {
+                styleClasses.add(name);
+            }
+        }
+        List<String> yamlResources = new ArrayList<>();
+        for (YamlResource resource : scanYamlResourcesFromPath(path)) {
+            yamlResources.add(resource.name);
+        }
+        Collections.sort(yamlResources);
+        return new RecipeIndex(recipeClasses, styleClasses, yamlResources);
+    }
+
     // ---- YAML resource enumeration ----
 
     private static class YamlResource {
         final URI uri;
+        final String name;
         final InputStreamSupplier inputStreamSupplier;
 
-        YamlResource(URI uri, InputStreamSupplier inputStreamSupplier) {
+        YamlResource(URI uri, String name, InputStreamSupplier inputStreamSupplier) {
             this.uri = uri;
+            this.name = name;
             this.inputStreamSupplier = inputStreamSupplier;
         }
 
@@ -428,6 +560,34 @@ private static List<YamlResource> listYamlResourcesFromClassLoader(ClassLoader c
     }
 
     private static List<YamlResource> listYamlResourcesFromPath(Path path) {
+        RecipeIndex index = RecipeIndex.read(path);
+        return index == null ? scanYamlResourcesFromPath(path) : indexedYamlResources(path, index.getYamlResources());
+    }
+
+    private static List<YamlResource> indexedYamlResources(Path path, List<String> names) {
+        List<YamlResource> resources = new ArrayList<>();
+        if (Files.isDirectory(path)) {
+            for (String name : names) {
+                Path file = path.resolve(name);
+                if (Files.isRegularFile(file)) {
+                    resources.add(new YamlResource(file.toUri(), name, () -> Files.newInputStream(file)));
+                }
+            }
+        } else if (Files.isRegularFile(path)) {
+            try (JarFile jarFile = new JarFile(path.toFile())) {
+                for (String name : names) {
+                    JarEntry entry = jarFile.getJarEntry(name);
+                    if (entry != null) {
+                        addYamlResourceFromJar(resources, path, jarFile, entry);
+                    }
+                }
+            } catch (IOException ignored) {
+            }
+        }
+        return resources;
+    }
+
+    private static List<YamlResource> scanYamlResourcesFromPath(Path path) {
         List<YamlResource> resources = new ArrayList<>();
         if (Files.isDirectory(path)) {
             Path rewriteDir = path.resolve("META-INF/rewrite");
@@ -438,7 +598,9 @@ private static List<YamlResource> listYamlResourcesFromPath(Path path) {
                               String name = p.getFileName().toString();
                               return name.endsWith(".yml") || name.endsWith(".yaml");
                           })
-                          .forEach(file -> resources.add(new YamlResource(file.toUri(), () -> Files.newInputStream(file))));
+                          .forEach(file -> resources.add(new YamlResource(file.toUri(),
+                                  path.relativize(file).toString().replace(File.separatorChar, '/'),
+                                  () -> Files.newInputStream(file))));
                 } catch (IOException | java.io.UncheckedIOException ignored) {
                 }
             }
@@ -456,24 +618,28 @@ private static void addYamlResourcesFromJar(List<YamlResource> resources, Path j
                 String name = entry.getName();
                 if (name.startsWith("META-INF/rewrite/") && !entry.isDirectory() &&
                         (name.endsWith(".yml") || name.endsWith(".yaml"))) {
-                    // Read the content eagerly since the JarFile will be closed
-                    ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                    try (InputStream is = jarFile.getInputStream(entry)) {
-                        byte[] buf = new byte[8192];
-                        int n;
-                        while ((n = is.read(buf)) != -1) {
-                            baos.write(buf, 0, n);
-                        }
-                    }
-                    byte[] content = baos.toByteArray();
-                    URI uri = URI.create("jar:" + jarPath.toUri() + "!/" + name);
-                    resources.add(new YamlResource(uri, () -> new ByteArrayInputStream(content)));
+                    addYamlResourceFromJar(resources, jarPath, jarFile, entry);
                 }
             }
         } catch (IOException ignored) {
         }
     }
 
+    private static void addYamlResourceFromJar(List<YamlResource> resources, Path jarPath, JarFile jarFile, JarEntry entry) throws IOException {
+        // Read the content eagerly since the JarFile will be closed
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (InputStream is = jarFile.getInputStream(entry)) {
+            byte[] buf = new byte[8192];
+            int n;
+            while ((n = is.read(buf)) != -1) {
+                baos.write(buf, 0, n);
+            }
+        }
+        byte[] content = baos.toByteArray();
+        URI uri = URI.create("jar:" + jarPath.toUri() + "!/" + entry.getName());
+        resources.add(new YamlResource(uri, entry.getName(), () -> new ByteArrayInputStream(content)));
+    }
+
     // ---- Recipe, style, and YAML configuration ----
 
     /**
@@ -493,31 +659,68 @@ private void configureRecipesAndStyles(Scan scan, ClassLoader classLoader) {
 
         for (String name : scan.candidates.keySet()) {
             if (isSubclassOf(name, RECIPE_SUPERCLASS_NAME, scan.hierarchy)) {
-                try {
-                    Class<?> cls = classLoader.loadClass(name);
-                    if (!cls.getName().equals(DeclarativeRecipe.class.getName()) &&
-                            (cls.getModifiers() & Modifier.PUBLIC) != 0 &&
-                            (cls.getModifiers() & Modifier.ABSTRACT) == 0 &&
-                            !cls.isAnnotationPresent(AbstractRecipe.class)) {
-                        configureRecipe(cls, configured);
-                    }
-                } catch (ClassNotFoundException | LinkageError ignored) {
-                }
+                configureRecipe(name, classLoader, configured);
             } else if (isSubclassOf(name, NAMED_STYLES_NAME, scan.hierarchy)) {
-                try {
-                    Class<?> cls = classLoader.loadClass(name);
-                    if ((cls.getModifiers() & Modifier.PUBLIC) != 0 &&
-                            (cls.getModifiers() & Modifier.ABSTRACT) == 0) {
-                        Constructor<?> constructor = RecipeIntrospectionUtils.getZeroArgsConstructor(cls);
-                        if (constructor != null) {
-                            constructor.setAccessible(true);
-                            styles.add((NamedStyles) constructor.newInstance());
-                        }
-                    }
-                } catch (Exception ignored) {
+                configureStyle(name, classLoader);
+            }
+        }
+    }
+
+    /**
+     * Configure the recipes and styles of the classpath entries that have a {@link RecipeIndex},
+     * which need no bytecode scanning.
+     *
+     * @return The classpath entries without an index, which must be scanned.
+     */
+    private List<Path> configureIndexed(List<Path> paths, ClassLoader classLoader, Predicate<String> accept) {
+        List<Path> unindexed = new ArrayList<>();
+        Set<String> configured = new HashSet<>();
+        for (Path path : paths) {
+            RecipeIndex index = RecipeIndex.read(path);
+            if (index == null) {
+                unindexed.add(path);
+                continue;
+            }
+            for (String name : index.getRecipeClasses()) {
+                if (accept.test(name)) {
+                    configureRecipe(name, classLoader, configured);
+                }
+            }
+            for (String name : index.getStyleClasses()) {
+                if (accept.test(name)) {
+                    configureStyle(name, classLoader);
                 }
             }
         }
+        return unindexed;
+    }
+
+    private void configureRecipe(String name, ClassLoader classLoader, Set<String> configured) {
+        try {
+            Class<?> cls = classLoader.loadClass(name);
+            if (!cls.getName().equals(DeclarativeRecipe.class.getName()) &&
+                    (cls.getModifiers() & Modifier.PUBLIC) != 0 &&
+                    (cls.getModifiers() & Modifier.ABSTRACT) == 0 &&
+                    !cls.isAnnotationPresent(AbstractRecipe.class)) {
+                configureRecipe(cls, configured);
+            }
+        } catch (ClassNotFoundException | LinkageError ignored) {
+        }
+    }
+
+    private void configureStyle(String name, ClassLoader classLoader) {
+        try {
+            Class<?> cls = classLoader.loadClass(name);
+            if ((cls.getModifiers() & Modifier.PUBLIC) != 0 &&
+                    (cls.getModifiers() & Modifier.ABSTRACT) == 0) {
+                Constructor<?> constructor = RecipeIntrospectionUtils.getZeroArgsConstructor(cls);
+                if (constructor != null) {
+                    constructor.setAccessible(true);
+                    styles.add((NamedStyles) constructor.newInstance());
+                }
+            }
+        } catch (Exception ignored) {
+        }
     }
 
     private void configureRecipe(Class<?> recipeClass, Set<String> configured) {
@@ -335,9 +335,12 @@ public Builder scanYamlResources() {
         @SuppressWarnings("unused")
         public Builder scanJar(Path jar, Collection<Path> dependencies, ClassLoader classLoader) {
             // Share a single superclass resolution cache across all loaders to avoid
-            // redundant ASM bytecode reads when resolving class hierarchies.
+            // redundant ASM bytecode reads when resolving class hierarchies. The first
+            // loader to scan triggers a parallel scan of the jar and all its dependencies.
+            List<Path> expectedPaths = new ArrayList<>(dependencies);
+            expectedPaths.add(jar);
             ClasspathScanningLoader.ClassLoaderBackedSuperclassMap sharedSuperclassMap =
-                    new ClasspathScanningLoader.ClassLoaderBackedSuperclassMap(new java.util.HashMap<>(), classLoader);
+                    new ClasspathScanningLoader.ClassLoaderBackedSuperclassMap(new java.util.HashMap<>(), classLoader, expectedPaths);
 
             // Create a single set of dependency loaders, passing the list to itself so that
             // cross-dependency YAML recipe references can be resolved. This works because
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.config;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Incubating;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * The classes that may be recipes or styles and the YAML resources of one classpath entry, generated when the entry
+ * is built and stored in it at {@link #RESOURCE_PATH}. {@link ClasspathScanningLoader} registers the recipes and
+ * styles of an entry with an index without reading the bytecode of every class in it, and scans entries without one.
+ */
+@Incubating(since = "8.88.0")
+@Value
+public class RecipeIndex {
+    public static final String RESOURCE_PATH = "META-INF/rewrite/recipe-index.txt";
+
+    private static final String HEADER = "# rewrite recipe index v1";
+
+    /**
+     * Subclasses of {@link org.openrewrite.Recipe}, including abstract ones, which are skipped when loading.
+     */
+    List<String> recipeClasses;
+
+    /**
+     * Subclasses of {@link org.openrewrite.style.NamedStyles}, including abstract ones.
+     */
+    List<String> styleClasses;
+
+    /**
+     * Paths of YAML resources relative to the root of the classpath entry, such as
+     * {@code META-INF/rewrite/spring.yml}.
+     */
+    List<String> yamlResources;
+
+    /**
+     * Index a jar or directory of classes by reading the bytecode of every class in it, as
+     * {@link ClasspathScanningLoader} would when the entry has no index.
+     *
+     * @param classpathEntry The jar or directory to index.
+     * @param classLoader    A class loader that can load the classes of the entry and its dependencies, to resolve
+     *                       superclasses that are declared in dependencies.
+     */
+    public static RecipeIndex generate(Path classpathEntry, ClassLoader classLoader) {
+        return ClasspathScanningLoader.index(classpathEntry, classLoader);
+    }
+
+    /**
+     * Write this index into a directory of classes, at {@link #RESOURCE_PATH}, to be packaged with them.
+     */
+    public void writeTo(Path classesDirectory) throws IOException {
+        Path index = classesDirectory.resolve(RESOURCE_PATH);
+        Files.createDirectories(index.getParent());
+        try (Writer writer = Files.newBufferedWriter(index, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.write('\n');
+            write(writer, "recipe", recipeClasses);
+            write(writer, "style", styleClasses);
+            write(writer, "yaml", yamlResources);
+        }
+    }
+
+    private static void write(Writer writer, String kind, List<String> names) throws IOException {
+        for (String name : names) {
+            writer.write(kind);
+            writer.write(' ');
+            writer.write(name);
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * @return The index of a jar or directory, or {@code null} if it has none or has one in a format this version
+     * doesn't read, in which case the entry must be scanned.
+     */
+    static @Nullable RecipeIndex read(Path classpathEntry) {
+        try {
+            if (Files.isDirectory(classpathEntry)) {
+                Path index = classpathEntry.resolve(RESOURCE_PATH);
+                if (Files.isRegularFile(index)) {
+                    try (InputStream is = Files.newInputStream(index)) {
+                        return read(is);
+                    }
+                }
+            } else if (Files.isRegularFile(classpathEntry)) {
+                try (JarFile jarFile = new JarFile(classpathEntry.toFile())) {
+                    JarEntry index = jarFile.getJarEntry(RESOURCE_PATH);
+                    if (index != null) {
+                        try (InputStream is = jarFile.getInputStream(index)) {
+                            return read(is);
+                        }
+                    }
+                }
+            }
+        } catch (IOException ignored) {
+        }
+        return null;
+    }
+
+    static @Nullable RecipeIndex read(InputStream is) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+        if (!HEADER.equals(reader.readLine())) {
+            return null;
+        }
+        List<String> recipeClasses = new ArrayList<>();
+        List<String> styleClasses = new ArrayList<>();
+        List<String> yamlResources = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            int space = line.indexOf(' ');
+            if (line.isEmpty() || line.startsWith("#") || space < 0) {
+                continue;
+            }
+            String name = line.substring(space + 1).trim();
+            switch (line.substring(0, space)) {
+                case "recipe":
+                    recipeClasses.add(name);
+                    break;
+                case "style":
+                    styleClasses.add(name);
+                    break;
+                case "yaml":
+                    yamlResources.add(name);
+                    break;
+            }
+        }
+        return new RecipeIndex(recipeClasses, styleClasses, yamlResources);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.config;
+
+import org.openrewrite.internal.BoundedDiskCache;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The superclass maps of jars, as built by reading the header of every class in them, stored in a directory so that a
+ * jar is only read again once its size or modification time changes. Directories of classes are not cached, since
+ * they are typically build output that changes between runs.
+ * <p>
+ * Each entry stores the distinct superclass names once, and each class as its name and the index of its superclass.
+ */
+class SuperclassMapCache {
+    private static final int MAGIC = 0x52575343; // "RWSC"
+    private static final int VERSION = 1;
+
+    private final BoundedDiskCache entries;
+
+    SuperclassMapCache(Path directory, long maximumSizeBytes) {
+        this.entries = new BoundedDiskCache(directory, ".bin", maximumSizeBytes);
+    }
+
+    /**
+     * @param scan Builds the superclass map of a path when it isn't cached.
+     */
+    Map<String, String> get(Path path, Function<Path, Map<String, String>> scan) {
+        if (!Files.isRegularFile(path)) {
+            return scan.apply(path);
+        }
+        String key;
+        try {
+            key = path.toAbsolutePath().normalize() + "\n" +
+                  Files.size(path) + "\n" +
+                  Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return scan.apply(path);
+        }
+        Map<String, String> superclassMap = entries.read(key, SuperclassMapCache::read);
+        if (superclassMap == null) {
+            superclassMap = scan.apply(path);
+            Map<String, String> scanned = superclassMap;
+            entries.write(key, out -> write(out, scanned));
+        }
+        return superclassMap;
+    }
+
+    private static Map<String, String> read(Path entry) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Superclass map written by another version");
+            }
+            String[] superclasses = new String[in.readInt()];
+            for (int i = 0; i < superclasses.length; i++) {
+                superclasses[i] = in.readUTF();
+            }
+            int size = in.readInt();
+            Map<String, String> superclassMap = new HashMap<>((int) (size / 0.75f) + 1);
+            for (int i = 0; i < size; i++) {
+                superclassMap.put(in.readUTF(), superclasses[in.readInt()]);
+            }
+            return superclassMap;
+        }
+    }
+
+    private static void write(OutputStream os, Map<String, String> superclassMap) throws IOException {
+        Map<String, Integer> superclassIndices = new LinkedHashMap<>();
+        for (String superclass : superclassMap.values()) {
+            superclassIndices.putIfAbsent(superclass, superclassIndices.size());
+        }
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(superclassIndices.size());
+        for (String superclass : superclassIndices.keySet()) {
+            out.writeUTF(superclass);
+        }
+        out.writeInt(superclassMap.size());
+        for (Map.Entry<String, String> e : superclassMap.entrySet()) {
+            out.writeUTF(e.getKey());
+            out.writeInt(superclassIndices.get(e.getValue()));
+        }
+        out.flush();
+    }
+}
@@ -22,6 +22,7 @@
 import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Deque;
+import java.util.function.BiConsumer;
 
 @Incubating(since = "8.38.0")
 public class AdaptiveRadixTree<V> {
@@ -867,6 +868,56 @@ private static <V> Node<V> deepCopy(Node<V> root) {
         return rootClone;
     }
 
+    /**
+     * Visit every key and its value, in the unsigned lexicographic order of the keys.
+     */
+    public void forEach(BiConsumer<byte[], V> action) {
+        if (root == null) return;
+        // Iterative like deepCopy: each stack entry pairs a node with the key bytes that lead to it.
+        Deque<Visit<V>> work = new ArrayDeque<>();
+        work.push(new Visit<>(root, new byte[0]));
+        while (!work.isEmpty()) {
+            Visit<V> visit = work.pop();
+            Node<V> node = visit.node;
+            byte[] key = visit.prefix;
+            if (node.keyLength > 0) {
+                key = Arrays.copyOf(key, key.length + node.keyLength);
+                for (int i = 0; i < node.keyLength; i++) {
+                    key[visit.prefix.length + i] = keyTable.get(node.keyOffset + i);
+                }
+            }
+
+            if (node instanceof LeafNode) {
+                action.accept(key, ((LeafNode<V>) node).value);
+                continue;
+            }
+
+            InternalNode<V> internal = (InternalNode<V>) node;
+            if (internal.value != null) {
+                action.accept(key, internal.value);
+            }
+            // Push in reverse so that children are popped in ascending order of their key byte
+            for (int i = 255; i >= 0; i--) {
+                Node<V> child = internal.getChild((byte) i);
+                if (child != null) {
+                    byte[] childPrefix = Arrays.copyOf(key, key.length + 1);
+                    childPrefix[key.length] = (byte) i;
+                    work.push(new Visit<>(child, childPrefix));
+                }
+            }
+        }
+    }
+
+    private static class Visit<V> {
+        final Node<V> node;
+        final byte[] prefix;
+
+        Visit(Node<V> node, byte[] prefix) {
+            this.node = node;
+            this.prefix = prefix;
+        }
+    }
+
     public void clear() {
         root = null;
         keyTable.clear();
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.internal;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A directory of files, one per key, whose least recently used entries are deleted once their total size grows
+ * beyond a maximum. Reading an entry marks it as used by updating its modification time, so recency survives
+ * between runs and is shared by every process using the same directory.
+ * <p>
+ * Entries are named for the SHA-256 of their key, and may be placed in a group, a subdirectory that can be removed
+ * as a whole. Each entry is written to a temporary file and moved into place, so that readers never see a partially
+ * written entry. The cache never fails its caller because of I/O: an entry that can't be written or read is the
+ * same as an entry that was never written.
+ */
+public class BoundedDiskCache {
+    private final Path directory;
+    private final String extension;
+    private final long maximumSizeBytes;
+    private final AtomicLong sizeBytes = new AtomicLong();
+
+    /**
+     * @param directory        The root directory of the cache, created if it doesn't exist.
+     * @param extension        The file extension of entries, e.g. {@code .lst}, which tells them apart from
+     *                         temporary files and anything else in the directory.
+     * @param maximumSizeBytes The size beyond which least recently used entries are evicted.
+     */
+    public BoundedDiskCache(Path directory, String extension, long maximumSizeBytes) {
+        this.directory = directory;
+        this.extension = extension;
+        this.maximumSizeBytes = maximumSizeBytes;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (Path entry : entries()) {
+            sizeBytes.addAndGet(entry.toFile().length());
+        }
+    }
+
+    public interface EntryReader<T> {
+        T read(Path entry) throws IOException;
+    }
+
+    public interface EntryWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    public <T> @Nullable T read(String key, EntryReader<T> reader) {
+        return read(entryPath(null, key), reader);
+    }
+
+    public <T> @Nullable T read(String group, String key, EntryReader<T> reader) {
+        return read(entryPath(group, key), reader);
+    }
+
+    /**
+     * @return The path of the entry, which is not evicted by this write, or {@code null} if it couldn't be written.
+     */
+    public @Nullable Path write(String key, EntryWriter writer) {
+        return write(entryPath(null, key), writer);
+    }
+
+    public @Nullable Path write(String group, String key, EntryWriter writer) {
+        return write(entryPath(group, key), writer);
+    }
+
+    public void remove(String key) {
+        delete(entryPath(null, key));
+    }
+
+    public void removeGroup(String group) {
+        Path groupDirectory = directory.resolve(HashUtils.sha256Hex(group));
+        if (!Files.isDirectory(groupDirectory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(groupDirectory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(toList())) {
+                delete(file);
+            }
+        } catch (IOException ignored) {
+            // whatever is left is evicted in time
+        }
+    }
+
+    public void clear() {
+        for (Path entry : entries()) {
+            delete(entry);
+        }
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes.get();
+    }
+
+    private <T> @Nullable T read(Path entry, EntryReader<T> reader) {
+        if (!Files.isRegularFile(entry)) {
+            return null;
+        }
+        T value;
+        try {
+            value = reader.read(entry);
+        } catch (NoSuchFileException e) {
+            // evicted concurrently
+            return null;
+        } catch (IOException | RuntimeException e) {
+            // truncated or written in a format the reader no longer understands
+            delete(entry);
+            return null;
+        }
+        try {
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ignored) {
+            // evicted concurrently, which doesn't change what was read
+        }
+        return value;
+    }
+
+    private @Nullable Path write(Path entry, EntryWriter writer) {
+        try {
+            Files.createDirectories(entry.getParent());
+            Path tmp = Files.createTempFile(entry.getParent(), entry.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(tmp)) {
+                    writer.write(out);
+                }
+                long size = Files.size(tmp) - (Files.exists(entry) ? Files.size(entry) : 0);
+                move(tmp, entry);
+                if (sizeBytes.addAndGet(size) > maximumSizeBytes) {
+                    evict(entry);
+                }
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            return entry;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * @param retain The entry just written, which its writer may still be about to read.
+     */
+    private synchronized void evict(Path retain) {
+        if (sizeBytes.get() <= maximumSizeBytes) {
+            return;
+        }
+        List<Path> leastRecentlyUsedFirst = entries();
+        leastRecentlyUsedFirst.remove(retain);
+        leastRecentlyUsedFirst.sort(Comparator.comparing(entry -> entry.toFile().lastModified()));
+        // evict down to 90% of the maximum size so that eviction isn't triggered by every write
+        long target = maximumSizeBytes / 10 * 9;
+        for (Path entry : leastRecentlyUsedFirst) {
+            if (sizeBytes.get() <= target) {
+                break;
+            }
+            delete(entry);
+        }
+    }
+
+    private void delete(Path file) {
+        try {
+            long size = Files.isRegularFile(file) ? Files.size(file) : 0;
+            if (Files.deleteIfExists(file) && file.toString().endsWith(extension)) {
+                sizeBytes.addAndGet(-size);
+            }
+        } catch (IOException ignored) {
+            // another process may be deleting the same file
+        }
+    }
+
+    private List<Path> entries() {
+        List<Path> entries = new ArrayList<>();
+        try {
+            Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (file.toString().endsWith(extension)) {
+                        entries.add(file);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    // deleted by another process while walking
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException ignored) {
+            // the entries that could be listed
+        }
+        return entries;
+    }
+
+    private Path entryPath(@Nullable String group, String key) {
+        Path parent = group == null ? directory : directory.resolve(HashUtils.sha256Hex(group));
+        return parent.resolve(HashUtils.sha256Hex(key) + extension);
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.internal;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Value;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Canonicalizes equal immutable values so that parsers can share a single instance
+ * of frequently repeated LST leaves (whitespace, comments, identifier names) instead
+ * of holding many functionally identical copies.
+ *
+ * @param <T> The type of value being interned. Must have value-based equality and be immutable.
+ */
+public interface Interner<T> {
+
+    /**
+     * @param sample A candidate value.
+     * @return A canonical instance equal to {@code sample}, which may be {@code sample} itself.
+     */
+    T intern(T sample);
+
+    Stats getStats();
+
+    void clear();
+
+    /**
+     * An interner that retains every value it has ever seen. Fast, but grows without bound
+     * in long-running processes.
+     */
+    static <T> Interner<T> strong() {
+        return new StrongInterner<>();
+    }
+
+    /**
+     * An interner that retains at most {@code maximumSize} values, evicting the least
+     * recently (and least frequently) used when full.
+     */
+    static <T> Interner<T> lru(long maximumSize) {
+        return new LruInterner<>(maximumSize);
+    }
+
+    /**
+     * An interner whose canonical instances are released once no LST refers to them anymore.
+     * Lookups are guarded by one of several locks chosen by hash code to limit contention
+     * between concurrent parsers.
+     */
+    static <T> Interner<T> weak() {
+        return new WeakInterner<>(Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * An interner that never shares anything, effectively disabling interning.
+     */
+    static <T> Interner<T> none() {
+        return new NoOpInterner<>();
+    }
+
+    @Value
+    class Stats {
+        public static final Stats EMPTY = new Stats(0, 0, 0, 0);
+
+        long hitCount;
+        long missCount;
+        long evictionCount;
+
+        /**
+         * The approximate number of canonical instances currently retained.
+         */
+        long size;
+
+        public double hitRate() {
+            long requests = hitCount + missCount;
+            return requests == 0 ? 1.0 : (double) hitCount / requests;
+        }
+    }
+
+    class StrongInterner<T> implements Interner<T> {
+        private final Map<T, T> canonical = new ConcurrentHashMap<>();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        @Override
+        public T intern(T sample) {
+            T existing = canonical.putIfAbsent(sample, sample);
+            if (existing == null) {
+                misses.increment();
+                return sample;
+            }
+            hits.increment();
+            return existing;
+        }
+
+        @Override
+        public Stats getStats() {
+            return new Stats(hits.sum(), misses.sum(), 0, canonical.size());
+        }
+
+        @Override
+        public void clear() {
+            canonical.clear();
+        }
+    }
+
+    class LruInterner<T> implements Interner<T> {
+        private final Cache<T, T> canonical;
+
+        LruInterner(long maximumSize) {
+            this.canonical = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .executor(Runnable::run)
+                    .recordStats()
+                    .build();
+        }
+
+        @Override
+        public T intern(T sample) {
+            //noinspection DataFlowIssue
+            return canonical.get(sample, s -> s);
+        }
+
+        @Override
+        public Stats getStats() {
+            CacheStats stats = canonical.stats();
+            return new Stats(stats.hitCount(), stats.missCount(), stats.evictionCount(), canonical.estimatedSize());
+        }
+
+        @Override
+        public void clear() {
+            canonical.invalidateAll();
+        }
+    }
+
+    class WeakInterner<T> implements Interner<T> {
+        private final Map<T, WeakReference<T>>[] stripes;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        @SuppressWarnings("unchecked")
+        WeakInterner(int concurrencyLevel) {
+            int n = Integer.highestOneBit(Math.max(1, concurrencyLevel - 1)) << 1;
+            stripes = new Map[n];
+            for (int i = 0; i < n; i++) {
+                stripes[i] = new WeakHashMap<>();
+            }
+        }
+
+        @Override
+        public T intern(T sample) {
+            int h = sample.hashCode();
+            Map<T, WeakReference<T>> stripe = stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+            synchronized (stripe) {
+                WeakReference<T> ref = stripe.get(sample);
+                T existing = ref == null ? null : ref.get();
+                if (existing != null) {
+                    hits.increment();
+                    return existing;
+                }
+                stripe.put(sample, new WeakReference<>(sample));
+            }
+            misses.increment();
+            return sample;
+        }
+
+        @Override
+        public Stats getStats() {
+            long size = 0;
+            for (Map<T, WeakReference<T>> stripe : stripes) {
+                synchronized (stripe) {
+                    size += stripe.size();
+                }
+            }
+            // entries are reclaimed by the garbage collector rather than evicted
+            return new Stats(hits.sum(), misses.sum(), 0, size);
+        }
+
+        @Override
+        public void clear() {
+            for (Map<T, WeakReference<T>> stripe : stripes) {
+                synchronized (stripe) {
+                    stripe.clear();
+                }
+            }
+        }
+    }
+
+    class NoOpInterner<T> implements Interner<T> {
+        @Override
+        public T intern(T sample) {
+            return sample;
+        }
+
+        @Override
+        public Stats getStats() {
+            return Stats.EMPTY;
+        }
+
+        @Override
+        public void clear() {
+        }
+    }
+}
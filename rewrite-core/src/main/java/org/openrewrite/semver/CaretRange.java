@@ -15,6 +15,7 @@
  */
 package org.openrewrite.semver;
 
+import lombok.EqualsAndHashCode;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.Validated;
 
@@ -29,6 +30,7 @@
  * Allows changes that do not modify the left-most non-zero element in the [major, minor, patch] tuple.
  * <a href="https://github.com/npm/node-semver#caret-ranges-123-025-004">Caret ranges</a>.
  */
+@EqualsAndHashCode(callSuper = true)
 public class CaretRange extends LatestRelease {
     private static final Pattern CARET_RANGE_PATTERN = Pattern.compile("\\^(\\d+)(?:\\.([*xX]|\\d+))?(?:\\.([*xX]|\\d+))?(?:\\.([*xX]|\\d+))?");
 
@@ -15,6 +15,7 @@
  */
 package org.openrewrite.semver;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.Validated;
@@ -24,6 +25,7 @@
  * or implicit default when no other version selectors match.
  */
 @Getter
+@EqualsAndHashCode(callSuper = true)
 public class ExactVersion extends LatestRelease {
     String version;
 
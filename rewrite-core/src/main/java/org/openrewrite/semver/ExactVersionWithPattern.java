@@ -15,10 +15,12 @@
  */
 package org.openrewrite.semver;
 
+import lombok.EqualsAndHashCode;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.Validated;
 import org.openrewrite.internal.StringUtils;
 
+@EqualsAndHashCode(callSuper = true)
 public class ExactVersionWithPattern extends LatestRelease {
     private final String version;
 
@@ -15,6 +15,7 @@
  */
 package org.openrewrite.semver;
 
+import lombok.EqualsAndHashCode;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.Validated;
 
@@ -27,6 +28,7 @@
 /**
  * <a href="https://github.com/npm/node-semver#hyphen-ranges-xyz---abc">Hyphen ranges</a>.
  */
+@EqualsAndHashCode(callSuper = true)
 public class HyphenRange extends LatestRelease {
     private static final Pattern HYPHEN_RANGE_PATTERN = Pattern.compile("(\\d+(\\.\\d+)?(\\.\\d+)?(\\.\\d+)?)\\s*-\\s*(\\d+(\\.\\d+)?(\\.\\d+)?(\\.\\d+)?)");
 
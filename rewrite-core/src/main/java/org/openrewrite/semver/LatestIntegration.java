@@ -15,9 +15,11 @@
  */
 package org.openrewrite.semver;
 
+import lombok.EqualsAndHashCode;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.Validated;
 
+@EqualsAndHashCode(callSuper = true)
 public class LatestIntegration extends LatestRelease {
 
     @Nullable
@@ -15,9 +15,11 @@
  */
 package org.openrewrite.semver;
 
+import lombok.EqualsAndHashCode;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.Validated;
 
+@EqualsAndHashCode
 public class LatestRelease implements VersionComparator {
 
     @Nullable
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.semver;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Incubating;
+
+import java.util.*;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * The published versions of a dependency, de-duplicated and sorted once in the order a {@link VersionComparator}
+ * ranks them, so that the same list can be queried by that comparator many times, typically once per module of a
+ * multi-module build, without evaluating the comparator against every version each time.
+ * <p>
+ * {@link VersionComparator#upgrade(String, SortedVersions)} then finds the current version by binary search and
+ * only looks at the versions above it, from the highest down, stopping at the first one the selector admits. The
+ * result is the same as {@link VersionComparator#upgrade(String, Collection)} over the original list, including
+ * which spelling wins among versions that rank equal.
+ * <p>
+ * Only the selectors whose ranking of two versions doesn't depend on the current version can be sorted for.
+ * Versions sorted for any other comparator keep their original order and are queried exhaustively, as before.
+ */
+@Incubating(since = "8.88.0")
+public final class SortedVersions {
+    private static final Set<Class<?>> SORTABLE = new HashSet<>(Arrays.asList(
+            LatestRelease.class, ExactVersion.class, ExactVersionWithPattern.class, CaretRange.class,
+            HyphenRange.class, SetRange.class, TildeRange.class, XRange.class, UnionRange.class));
+
+    private final VersionComparator comparator;
+
+    /**
+     * Distinct versions, in ascending order when {@link #sorted}, otherwise in the order first seen. Versions that
+     * rank equal keep the order in which they were first seen.
+     */
+    private final List<String> versions;
+
+    private final boolean sorted;
+
+    private SortedVersions(VersionComparator comparator, List<String> versions, boolean sorted) {
+        this.comparator = comparator;
+        this.versions = versions;
+        this.sorted = sorted;
+    }
+
+    public static SortedVersions of(Collection<String> versions, VersionComparator comparator) {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(versions));
+        if (!SORTABLE.contains(comparator.getClass())) {
+            return new SortedVersions(comparator, unmodifiableList(distinct), false);
+        }
+        List<String> sorted = new ArrayList<>(distinct);
+        try {
+            // a stable sort, which keeps versions that rank equal in the order first seen
+            sorted.sort((v1, v2) -> comparator.compare(null, v1, v2));
+        } catch (IllegalArgumentException e) {
+            // exotic versions that the comparator doesn't rank consistently
+            return new SortedVersions(comparator, unmodifiableList(distinct), false);
+        }
+        return new SortedVersions(comparator, unmodifiableList(sorted), true);
+    }
+
+    public List<String> getVersions() {
+        return versions;
+    }
+
+    boolean isSortedFor(VersionComparator comparator) {
+        // selectors validated separately from the same selector and metadata pattern are equal
+        return sorted && this.comparator.equals(comparator);
+    }
+
+    Optional<String> upgrade(String currentVersion) {
+        // the first version that does not rank below the current one
+        int low = 0;
+        int high = versions.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(currentVersion, currentVersion, versions.get(mid)) <= 0) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return Optional.ofNullable(highestValid(currentVersion, low))
+                .filter(v -> !v.equals(currentVersion));
+    }
+
+    Optional<String> maxSatisfying() {
+        return Optional.ofNullable(highestValid(null, 0));
+    }
+
+    private @Nullable String highestValid(@Nullable String currentVersion, int from) {
+        for (int i = versions.size() - 1; i >= from; i--) {
+            String candidate = versions.get(i);
+            if (comparator.isValid(currentVersion, candidate)) {
+                // among versions that rank equal, the first one seen that is valid wins
+                String best = candidate;
+                for (int j = i - 1; j >= from && comparator.compare(currentVersion, versions.get(j), candidate) == 0; j--) {
+                    if (comparator.isValid(currentVersion, versions.get(j))) {
+                        best = versions.get(j);
+                    }
+                }
+                return best;
+            }
+        }
+        return null;
+    }
+}
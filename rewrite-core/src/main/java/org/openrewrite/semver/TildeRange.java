@@ -15,6 +15,7 @@
  */
 package org.openrewrite.semver;
 
+import lombok.EqualsAndHashCode;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.Validated;
 
@@ -29,6 +30,7 @@
  * Allows patch-level changes if a minor version is specified on the comparator. Allows minor-level changes if not.
  * <a href="https://github.com/npm/node-semver#tilde-ranges-123-12-1">Tilde ranges</a>.
  */
+@EqualsAndHashCode(callSuper = true)
 public class TildeRange extends LatestRelease {
     private static final Pattern TILDE_RANGE_PATTERN = Pattern.compile("~(\\d+)(?:\\.(\\d+))?(?:\\.(\\d+))?(?:\\.(\\d+))?");
 
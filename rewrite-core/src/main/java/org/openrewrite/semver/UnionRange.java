@@ -15,6 +15,7 @@
  */
 package org.openrewrite.semver;
 
+import lombok.EqualsAndHashCode;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.Validated;
 
@@ -29,6 +30,7 @@
  * a group when some clause names the same major.minor.patch tuple with a prerelease of its own,
  * unless {@code includePrerelease}.
  */
+@EqualsAndHashCode
 class UnionRange implements VersionComparator {
 
     private static final int MAX_CACHE_SIZE = 4_096;
@@ -37,6 +39,9 @@ class UnionRange implements VersionComparator {
 
     private final String raw;
     private final boolean includePrerelease;
+
+    // parsed from the raw range
+    @EqualsAndHashCode.Exclude
     private final List<List<NodeComparand>> set;
 
     private final @Nullable String metadataPattern;
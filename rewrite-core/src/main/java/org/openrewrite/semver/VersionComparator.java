@@ -70,6 +70,26 @@ default Optional<String> upgrade(String currentVersion, Collection<String> avail
                 .filter(v -> !v.equals(currentVersion));
     }
 
+    /**
+     * The same as {@link #maxSatisfying(Collection)}, but only looks at versions from the highest down until one
+     * is admitted when the versions were sorted for this comparator.
+     */
+    default Optional<String> maxSatisfying(SortedVersions availableVersions) {
+        return availableVersions.isSortedFor(this) ?
+                availableVersions.maxSatisfying() :
+                maxSatisfying(availableVersions.getVersions());
+    }
+
+    /**
+     * The same as {@link #upgrade(String, Collection)}, but finds the current version by binary search and only
+     * looks at the versions above it when the versions were sorted for this comparator.
+     */
+    default Optional<String> upgrade(String currentVersion, SortedVersions availableVersions) {
+        return availableVersions.isSortedFor(this) ?
+                availableVersions.upgrade(currentVersion) :
+                upgrade(currentVersion, availableVersions.getVersions());
+    }
+
     static boolean checkVersion(String version, @Nullable String metadataPattern, boolean requireRelease) {
         ParsedVersion parsed = ParsedVersion.parse(version);
         if (!parsed.matches()) {
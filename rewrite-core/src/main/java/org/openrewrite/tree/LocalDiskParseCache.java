@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.tree;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.RecipeSerializer;
+import org.openrewrite.SourceFile;
+import org.openrewrite.internal.BoundedDiskCache;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A {@link ParseCache} that stores each source file as a Smile-encoded LST in a directory
+ * on local disk, so that it survives between runs. Entries are grouped by classpath
+ * fingerprint so that {@link #invalidate(String)} is a single directory deletion, and the least
+ * recently used entries are deleted once the cache grows beyond its maximum size.
+ */
+public class LocalDiskParseCache implements ParseCache {
+    private final BoundedDiskCache entries;
+    private final ObjectMapper mapper = new RecipeSerializer().getMapper();
+
+    /**
+     * @param cacheDirectory   The root directory of the cache. Entries written by a different version of
+     *                         rewrite are kept in a separate subdirectory, since the LST model may have changed.
+     * @param maximumSizeBytes The size beyond which least recently used entries are evicted.
+     */
+    public LocalDiskParseCache(Path cacheDirectory, long maximumSizeBytes) {
+        String version = LocalDiskParseCache.class.getPackage().getImplementationVersion();
+        this.entries = new BoundedDiskCache(cacheDirectory.resolve(version == null ? "dev" : version), ".lst",
+                maximumSizeBytes);
+    }
+
+    @Override
+    public @Nullable SourceFile get(Key key) {
+        return entries.read(key.getClasspathFingerprint(), entryKey(key), entry -> {
+            try (InputStream is = Files.newInputStream(entry)) {
+                return mapper.readValue(is, SourceFile.class);
+            }
+        });
+    }
+
+    @Override
+    public void put(Key key, SourceFile sourceFile) {
+        entries.write(key.getClasspathFingerprint(), entryKey(key), os -> mapper.writeValue(os, sourceFile));
+    }
+
+    @Override
+    public void invalidate(String classpathFingerprint) {
+        entries.removeGroup(classpathFingerprint);
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+    }
+
+    public long getSizeBytes() {
+        return entries.getSizeBytes();
+    }
+
+    private static String entryKey(Key key) {
+        return key.getParser() + '\n' + key.getSourcePath() + '\n' + key.getContentHash();
+    }
+}
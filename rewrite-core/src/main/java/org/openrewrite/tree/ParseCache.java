@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.tree;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.ParseExceptionResult;
+import org.openrewrite.Parser;
+import org.openrewrite.SourceFile;
+import org.openrewrite.internal.HashUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A cache of previously parsed source files, keyed by the content of the source
+ * and everything else that influences the resulting LST, so that parsers can skip
+ * re-parsing sources that have not changed since a previous run.
+ * <p>
+ * Register an implementation with {@link ParsingExecutionContextView#setParseCache(ParseCache)}.
+ */
+public interface ParseCache {
+
+    @Nullable
+    SourceFile get(Key key);
+
+    void put(Key key, SourceFile sourceFile);
+
+    /**
+     * Discard every entry parsed against the given classpath, for example because
+     * a dependency was republished without a version change.
+     */
+    void invalidate(String classpathFingerprint);
+
+    void clear();
+
+    @Value
+    class Key {
+        /**
+         * Identifies the parser implementation and any options that influence the LST it produces.
+         */
+        String parser;
+
+        /**
+         * Identifies the types available to the parser, or the empty string for parsers
+         * that do no type attribution.
+         */
+        String classpathFingerprint;
+
+        /**
+         * Included so that two identical sources at different paths never share tree ids.
+         */
+        Path sourcePath;
+
+        String contentHash;
+    }
+
+    /**
+     * Parse the inputs that are not already cached with {@code parse}, and serve the remainder
+     * from the {@link ParseCache} registered on the execution context, if any.
+     *
+     * @param parser               The parser whose accepted inputs should be parsed.
+     * @param parserFingerprint    The parser implementation and the options that influence its output.
+     * @param classpathFingerprint See {@link #fingerprint(Collection)}.
+     * @param independent          Whether each input can be parsed without the others, as is the case for most
+     *                             parsers that do no type attribution. When false, the inputs are treated as a unit
+     *                             and are either all served from the cache or all parsed.
+     * @param parse                The uncached parse.
+     * @return A stream of source files.
+     */
+    static Stream<SourceFile> parseInputs(Parser parser, Iterable<Parser.Input> sources, @Nullable Path relativeTo,
+                                          ExecutionContext ctx, String parserFingerprint, String classpathFingerprint,
+                                          boolean independent, Function<List<Parser.Input>, Stream<SourceFile>> parse) {
+        ParseCache cache = ParsingExecutionContextView.view(ctx).getParseCache();
+        if (cache == null) {
+            return parse.apply(parser.acceptedInputs(sources).collect(toList()));
+        }
+
+        List<Parser.Input> inputs = parser.acceptedInputs(sources).collect(toList());
+        Map<Path, Key> keys = new LinkedHashMap<>();
+        MessageDigest unit = HashUtils.sha256();
+        for (Parser.Input input : inputs) {
+            if (input.isSynthetic()) {
+                if (!independent) {
+                    return parse.apply(inputs);
+                }
+                continue;
+            }
+            String contentHash = ParseCacheHashing.contentHash(input, ctx);
+            unit.update(contentHash.getBytes(StandardCharsets.UTF_8));
+            Path sourcePath = input.getRelativePath(relativeTo);
+            keys.put(sourcePath, new Key(parserFingerprint, classpathFingerprint, sourcePath, contentHash));
+        }
+
+        if (!independent) {
+            // any change to one input may change the type attribution of the others
+            String unitHash = HashUtils.hex(unit.digest());
+            keys.replaceAll((path, key) -> new Key(key.getParser(), key.getClasspathFingerprint(),
+                    key.getSourcePath(), key.getContentHash() + ":" + unitHash));
+        }
+
+        Map<Parser.Input, SourceFile> cached = new LinkedHashMap<>();
+        for (Parser.Input input : inputs) {
+            Key key = keys.get(input.getRelativePath(relativeTo));
+            SourceFile sourceFile = key == null ? null : cache.get(key);
+            if (sourceFile != null) {
+                cached.put(input, sourceFile);
+            } else if (!independent) {
+                cached.clear();
+                break;
+            }
+        }
+
+        List<Parser.Input> misses = new ArrayList<>(inputs);
+        misses.removeAll(cached.keySet());
+        ParsingEventListener parsingListener = ParsingExecutionContextView.view(ctx).getParsingListener();
+        Stream<SourceFile> fromCache = cached.entrySet().stream().map(hit -> {
+            Parser.Input input = hit.getKey();
+            parsingListener.startedParsing(input);
+            SourceFile sourceFile = hit.getValue().<SourceFile>withFileAttributes(input.getFileAttributes());
+            parsingListener.parsed(input, sourceFile);
+            return sourceFile;
+        });
+        if (misses.isEmpty()) {
+            return fromCache;
+        }
+        return Stream.concat(fromCache, parse.apply(misses).map(sourceFile -> {
+            Key key = keys.get(sourceFile.getSourcePath());
+            if (key != null && !(sourceFile instanceof ParseError) &&
+                !sourceFile.getMarkers().findFirst(ParseExceptionResult.class).isPresent()) {
+                cache.put(key, sourceFile);
+            }
+            return sourceFile;
+        }));
+    }
+
+    /**
+     * @param classpath The classpath entries used for type attribution.
+     * @return A fingerprint that changes when any entry is added, removed, or modified.
+     */
+    static String fingerprint(Collection<Path> classpath) {
+        MessageDigest digest = HashUtils.sha256();
+        for (Path entry : classpath) {
+            digest.update(entry.toString().getBytes(StandardCharsets.UTF_8));
+            try {
+                if (Files.isRegularFile(entry)) {
+                    digest.update(Long.toString(Files.size(entry)).getBytes(StandardCharsets.UTF_8));
+                    digest.update(Long.toString(Files.getLastModifiedTime(entry).toMillis()).getBytes(StandardCharsets.UTF_8));
+                }
+            } catch (IOException ignored) {
+                // the path alone still identifies the entry
+            }
+        }
+        return HashUtils.hex(digest.digest());
+    }
+}
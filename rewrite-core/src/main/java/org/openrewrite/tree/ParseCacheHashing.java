@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.tree;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Parser;
+import org.openrewrite.internal.EncodingDetectingInputStream;
+import org.openrewrite.internal.HashUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+
+final class ParseCacheHashing {
+    private ParseCacheHashing() {
+    }
+
+    static String contentHash(Parser.Input input, ExecutionContext ctx) {
+        MessageDigest digest = HashUtils.sha256();
+        try (EncodingDetectingInputStream is = input.getSource(ctx)) {
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = is.read(buffer)) != -1) {
+                digest.update(buffer, 0, n);
+            }
+            // the byte order mark is skipped by the stream, but is recorded on the LST
+            digest.update((byte) (is.isCharsetBomMarked() ? 1 : 0));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return HashUtils.hex(digest.digest());
+    }
+}
@@ -26,6 +26,8 @@ public class ParsingExecutionContextView extends DelegatingExecutionContext {
 
     private static final String CHARSET = "org.openrewrite.parser.charset";
 
+    private static final String PARSE_CACHE = "org.openrewrite.parser.parseCache";
+
     public ParsingExecutionContextView(ExecutionContext delegate) {
         super(delegate);
     }
@@ -54,4 +56,13 @@ public ParsingExecutionContextView setCharset(@Nullable Charset charset) {
     public @Nullable Charset getCharset() {
         return getMessage(CHARSET);
     }
+
+    public ParsingExecutionContextView setParseCache(@Nullable ParseCache parseCache) {
+        putMessage(PARSE_CACHE, parseCache);
+        return this;
+    }
+
+    public @Nullable ParseCache getParseCache() {
+        return getMessage(PARSE_CACHE);
+    }
 }
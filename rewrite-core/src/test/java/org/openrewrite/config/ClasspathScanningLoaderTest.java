@@ -19,6 +19,7 @@
 import org.junit.jupiter.api.io.TempDir;
 import org.openrewrite.Recipe;
 
+import java.io.InputStream;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Files;
@@ -200,4 +201,61 @@ void singleDeclarativeRecipeActivationDrainsOnlyUntilFirstMatch(@TempDir Path te
         // the recipe turned up in the shared map.
         assertThat(loader.yamlLoadersDrained()).isEqualTo(1);
     }
+
+    @Test
+    void indexedClasspathEntryIsNotScanned(@TempDir Path tempDir) throws Exception {
+        Path classesDir = tempDir.resolve("classes");
+        Path metaInf = classesDir.resolve("META-INF/rewrite");
+        Files.createDirectories(metaInf);
+        String yaml = """
+                type: specs.openrewrite.org/v1beta/recipe
+                name: com.example.%s
+                displayName: Declarative
+                description: A declarative recipe.
+                recipeList:
+                  - org.openrewrite.text.ChangeText:
+                      toText: hello
+                """;
+        Files.writeString(metaInf.resolve("indexed.yml"), yaml.formatted("IndexedRecipe"));
+        Files.writeString(metaInf.resolve("unindexed.yml"), yaml.formatted("UnindexedRecipe"));
+        new RecipeIndex(
+                List.of(AbstractRecipeFixtures.ConcreteRecipe.class.getName(),
+                        AbstractRecipeFixtures.AbstractlyMarkedRecipe.class.getName()),
+                List.of(),
+                List.of("META-INF/rewrite/indexed.yml")
+        ).writeTo(classesDir);
+
+        ClassLoader cl = new URLClassLoader(new URL[]{classesDir.toUri().toURL()}, Recipe.class.getClassLoader());
+        ClasspathScanningLoader loader = new ClasspathScanningLoader(classesDir, new Properties(), List.of(), cl);
+
+        // the index is authoritative, so resources that it doesn't list are not found
+        assertThat(loader.listRecipeDescriptors())
+                .extracting(RecipeDescriptor::getName)
+                .containsExactlyInAnyOrder(
+                        AbstractRecipeFixtures.ConcreteRecipe.class.getName(),
+                        "com.example.IndexedRecipe");
+    }
+
+    @Test
+    void generateIndex(@TempDir Path tempDir) throws Exception {
+        Path classesDir = tempDir.resolve("classes");
+        for (Class<?> fixture : List.of(AbstractRecipeFixtures.ConcreteRecipe.class, AbstractRecipeFixtures.class)) {
+            String resource = fixture.getName().replace('.', '/') + ".class";
+            Path classFile = classesDir.resolve(resource);
+            Files.createDirectories(classFile.getParent());
+            try (InputStream is = fixture.getClassLoader().getResourceAsStream(resource)) {
+                Files.copy(is, classFile);
+            }
+        }
+        Files.createDirectories(classesDir.resolve("META-INF/rewrite"));
+        Files.writeString(classesDir.resolve("META-INF/rewrite/recipes.yml"), "");
+
+        RecipeIndex index = RecipeIndex.generate(classesDir, Recipe.class.getClassLoader());
+        index.writeTo(classesDir);
+
+        assertThat(index.getRecipeClasses()).containsExactly(AbstractRecipeFixtures.ConcreteRecipe.class.getName());
+        assertThat(index.getStyleClasses()).isEmpty();
+        assertThat(index.getYamlResources()).containsExactly("META-INF/rewrite/recipes.yml");
+        assertThat(RecipeIndex.read(classesDir)).isEqualTo(index);
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuperclassMapCacheTest {
+
+    @Test
+    void jarIsScannedAgainOnlyOnceChanged(@TempDir Path tempDir) throws Exception {
+        SuperclassMapCache cache = new SuperclassMapCache(tempDir.resolve("cache"), 1 << 20);
+        Path jar = Files.writeString(tempDir.resolve("recipes.jar"), "not really a jar");
+        Map<String, String> superclassMap = Map.of(
+          "com.example.A", "org.openrewrite.Recipe",
+          "com.example.B", "org.openrewrite.ScanningRecipe",
+          "com.example.C", "org.openrewrite.Recipe"
+        );
+        AtomicInteger scans = new AtomicInteger();
+
+        assertThat(cache.get(jar, p -> {
+            scans.incrementAndGet();
+            return superclassMap;
+        })).isEqualTo(superclassMap);
+        assertThat(cache.get(jar, p -> {
+            scans.incrementAndGet();
+            return Map.of();
+        })).isEqualTo(superclassMap);
+        assertThat(scans).hasValue(1);
+
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 1000));
+        assertThat(cache.get(jar, p -> {
+            scans.incrementAndGet();
+            return Map.of();
+        })).isEmpty();
+        assertThat(scans).hasValue(2);
+    }
+
+    @Test
+    void directoriesAreNotCached(@TempDir Path tempDir) {
+        SuperclassMapCache cache = new SuperclassMapCache(tempDir.resolve("cache"), 1 << 20);
+        AtomicInteger scans = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            cache.get(tempDir, p -> {
+                scans.incrementAndGet();
+                return Map.of();
+            });
+        }
+        assertThat(scans).hasValue(2);
+        assertThat(tempDir.resolve("cache")).isEmptyDirectory();
+    }
+}
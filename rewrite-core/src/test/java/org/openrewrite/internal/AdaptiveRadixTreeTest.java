@@ -17,6 +17,9 @@
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -81,6 +84,29 @@ void copy() {
         assertThat(copy.search("dog")).isNull();
     }
 
+    @Test
+    void forEachVisitsKeysInOrder() {
+        AdaptiveRadixTree<Integer> tree = new AdaptiveRadixTree<>();
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            keys.add("key" + i);
+        }
+        keys.addAll(List.of("", "k", "ke", "key", "cat", "category", "cé"));
+        for (int i = 0; i < keys.size(); i++) {
+            tree.insert(keys.get(i), i);
+        }
+
+        Map<String, Integer> visited = new LinkedHashMap<>();
+        tree.forEach((key, value) -> visited.put(new String(key, StandardCharsets.UTF_8), value));
+
+        assertThat(visited).hasSize(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            assertThat(visited).containsEntry(keys.get(i), i);
+        }
+        assertThat(visited.keySet()).isSortedAccordingTo(Comparator.comparing(
+          k -> k.getBytes(StandardCharsets.UTF_8), Arrays::compareUnsigned));
+    }
+
     @Test
     void copySurvivesDeepChainOnSmallStack() throws Exception {
         // A deep chain of keyLength=0 internal nodes makes a recursive copy() walk one
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedDiskCacheTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void entriesSurviveANewInstance() {
+        new BoundedDiskCache(dir, ".entry", 1_000).write("key", out -> out.write("value".getBytes()));
+
+        BoundedDiskCache reopened = new BoundedDiskCache(dir, ".entry", 1_000);
+        assertThat(reopened.read("key", BoundedDiskCacheTest::readString)).isEqualTo("value");
+        assertThat(reopened.getSizeBytes()).isEqualTo(5);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedButNotTheEntryJustWritten() throws Exception {
+        BoundedDiskCache cache = new BoundedDiskCache(dir, ".entry", 10);
+        Path first = cache.write("first", out -> out.write("12345".getBytes()));
+        Path second = cache.write("second", out -> out.write("12345".getBytes()));
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        Files.setLastModifiedTime(second, Files.getLastModifiedTime(first));
+        Thread.sleep(10);
+        assertThat(cache.read("first", BoundedDiskCacheTest::readString)).isEqualTo("12345");
+
+        Path third = cache.write("third", out -> out.write("1234".getBytes()));
+
+        assertThat(third).exists();
+        assertThat(cache.read("second", BoundedDiskCacheTest::readString)).isNull();
+        assertThat(cache.read("first", BoundedDiskCacheTest::readString)).isEqualTo("12345");
+        assertThat(cache.getSizeBytes()).isEqualTo(9);
+    }
+
+    @Test
+    void unreadableEntryIsAMiss() {
+        BoundedDiskCache cache = new BoundedDiskCache(dir, ".entry", 1_000);
+        cache.write("key", out -> out.write("value".getBytes()));
+
+        assertThat(cache.<String>read("key", entry -> {
+            throw new IllegalStateException("written in an older format");
+        })).isNull();
+        assertThat(cache.read("key", BoundedDiskCacheTest::readString)).isNull();
+        assertThat(cache.getSizeBytes()).isZero();
+    }
+
+    @Test
+    void removeGroup() {
+        BoundedDiskCache cache = new BoundedDiskCache(dir, ".entry", 1_000);
+        cache.write("a", "key", out -> out.write("a".getBytes()));
+        cache.write("b", "key", out -> out.write("b".getBytes()));
+
+        cache.removeGroup("a");
+
+        assertThat(cache.read("a", "key", BoundedDiskCacheTest::readString)).isNull();
+        assertThat(cache.read("b", "key", BoundedDiskCacheTest::readString)).isEqualTo("b");
+        assertThat(cache.getSizeBytes()).isEqualTo(1);
+    }
+
+    private static String readString(Path entry) throws IOException {
+        return new String(Files.readAllBytes(entry), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.internal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InternerTest {
+
+    @Test
+    void weakInternerSharesEqualValues() {
+        Interner<String> interner = Interner.weak();
+        var first = interner.intern(new String("    "));
+        var second = interner.intern(new String("    "));
+
+        assertThat(second).isSameAs(first);
+        assertThat(interner.getStats().getHitCount()).isEqualTo(1);
+        assertThat(interner.getStats().getMissCount()).isEqualTo(1);
+        assertThat(interner.getStats().getSize()).isEqualTo(1);
+    }
+
+    @Test
+    void lruInternerIsBounded() {
+        Interner<String> interner = Interner.lru(10);
+        for (int i = 0; i < 1_000; i++) {
+            interner.intern(Integer.toString(i));
+        }
+
+        assertThat(interner.getStats().getSize()).isLessThan(1_000);
+        assertThat(interner.getStats().getEvictionCount()).isPositive();
+        assertThat(interner.getStats().getMissCount()).isEqualTo(1_000);
+    }
+
+    @Test
+    void strongInternerSharesEqualValues() {
+        Interner<String> interner = Interner.strong();
+        var first = interner.intern(new String("name"));
+
+        assertThat(interner.intern(new String("name"))).isSameAs(first);
+        assertThat(interner.getStats().hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void noneNeverShares() {
+        Interner<String> interner = Interner.none();
+        var first = new String("name");
+        var second = new String("name");
+
+        assertThat(interner.intern(first)).isSameAs(first);
+        assertThat(interner.intern(second)).isSameAs(second);
+    }
+}
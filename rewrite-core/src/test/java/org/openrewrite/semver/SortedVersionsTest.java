@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.semver;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SortedVersionsTest {
+
+    private static final List<String> VERSIONS = List.of(
+      "1.0.0", "2.0.0.RELEASE", "1.5.1", "2.0.0", "3.0.0-RC1", "1.5.1", "2.7.18", "3.0.0", "3.1.0-SNAPSHOT",
+      "2.5.0.M1", "1.5.10", "3.0.1", "2.0", "3.2.0-M2", "2.7.0");
+
+    @ParameterizedTest
+    @ValueSource(strings = {"latest.release", "latest.patch", "latest.minor", "latest.integration",
+      "1.x", "2.x", "^2.0", "~1.5", "2.0 - 3.0", "[2.0,3.0)", "2.0.0", "3.x"})
+    void sameResultAsTheUnsortedList(String selector) {
+        VersionComparator comparator = Semver.validate(selector, null).getValue();
+        assertThat(comparator).isNotNull();
+        SortedVersions sorted = SortedVersions.of(VERSIONS, comparator);
+
+        for (String current : List.of("0.9.0", "1.5.1", "2.0.0", "2.7.18", "3.0.0", "4.0.0")) {
+            assertThat(comparator.upgrade(current, sorted))
+              .as("upgrade %s from %s", selector, current)
+              .isEqualTo(comparator.upgrade(current, VERSIONS));
+        }
+        assertThat(comparator.maxSatisfying(sorted)).isEqualTo(comparator.maxSatisfying(VERSIONS));
+    }
+
+    @Test
+    void sortedOnlyForSelectorsIndependentOfTheCurrentVersion() {
+        VersionComparator xRange = Semver.validate("2.x", null).getValue();
+        VersionComparator latestPatch = Semver.validate("latest.patch", null).getValue();
+
+        assertThat(SortedVersions.of(VERSIONS, xRange).getVersions())
+          .startsWith("1.0.0")
+          .doesNotHaveDuplicates();
+        assertThat(SortedVersions.of(VERSIONS, latestPatch).getVersions())
+          .startsWith("1.0.0", "2.0.0.RELEASE");
+    }
+
+    @Test
+    void sortedForEqualSelectorsValidatedSeparately() {
+        List<VersionComparator> separatelyBuilt = List.of(
+          new LatestRelease("-jre"),
+          XRange.build("2.x", "-jre").getValue(),
+          CaretRange.build("^2.0", "-jre").getValue(),
+          TildeRange.build("~1.5", "-jre").getValue(),
+          HyphenRange.build("2.0 - 3.0", "-jre").getValue(),
+          SetRange.build("[2.0,3.0)", "-jre").getValue());
+        List<String> selectors = List.of("latest.release", "2.x", "^2.0", "~1.5", "2.0 - 3.0", "[2.0,3.0)");
+
+        for (int i = 0; i < selectors.size(); i++) {
+            VersionComparator validated = Semver.validate(selectors.get(i), "-jre").getValue();
+            VersionComparator other = separatelyBuilt.get(i);
+            assertThat(other).as(selectors.get(i))
+              .isNotSameAs(validated)
+              .isEqualTo(validated)
+              .hasSameHashCodeAs(validated);
+            assertThat(SortedVersions.of(VERSIONS, validated).isSortedFor(other)).as(selectors.get(i)).isTrue();
+        }
+        assertThat(XRange.build("2.x", null).getValue()).isNotEqualTo(XRange.build("3.x", null).getValue());
+        assertThat(new LatestRelease(null)).isNotEqualTo(new LatestIntegration(null));
+    }
+}
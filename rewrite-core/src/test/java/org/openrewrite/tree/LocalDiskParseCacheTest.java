@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.tree;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Parser;
+import org.openrewrite.SourceFile;
+import org.openrewrite.text.PlainTextParser;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalDiskParseCacheTest {
+
+    @TempDir
+    Path cacheDir;
+
+    @TempDir
+    Path project;
+
+    @Test
+    void servesUnchangedSourcesFromCache() throws Exception {
+        Path file = Files.write(project.resolve("hello.txt"), "hello".getBytes());
+        ExecutionContext ctx = ParsingExecutionContextView.view(new InMemoryExecutionContext())
+          .setParseCache(new LocalDiskParseCache(cacheDir, 10_000_000));
+        AtomicInteger parsed = new AtomicInteger();
+
+        List<SourceFile> first = parse(file, ctx, parsed);
+        List<SourceFile> second = parse(file, ctx, parsed);
+
+        assertThat(parsed.get()).isEqualTo(1);
+        assertThat(second.get(0).getId()).isEqualTo(first.get(0).getId());
+        assertThat(second.get(0).printAll()).isEqualTo("hello");
+    }
+
+    @Test
+    void reparsesChangedSources() throws Exception {
+        Path file = Files.write(project.resolve("hello.txt"), "hello".getBytes());
+        ExecutionContext ctx = ParsingExecutionContextView.view(new InMemoryExecutionContext())
+          .setParseCache(new LocalDiskParseCache(cacheDir, 10_000_000));
+        AtomicInteger parsed = new AtomicInteger();
+
+        parse(file, ctx, parsed);
+        Files.write(file, "goodbye".getBytes());
+        List<SourceFile> changed = parse(file, ctx, parsed);
+
+        assertThat(parsed.get()).isEqualTo(2);
+        assertThat(changed.get(0).printAll()).isEqualTo("goodbye");
+    }
+
+    @Test
+    void invalidateByClasspath() throws Exception {
+        Path file = Files.write(project.resolve("hello.txt"), "hello".getBytes());
+        LocalDiskParseCache cache = new LocalDiskParseCache(cacheDir, 10_000_000);
+        ExecutionContext ctx = ParsingExecutionContextView.view(new InMemoryExecutionContext())
+          .setParseCache(cache);
+        AtomicInteger parsed = new AtomicInteger();
+
+        parse(file, ctx, parsed);
+        assertThat(cache.getSizeBytes()).isPositive();
+        cache.invalidate("classpath");
+        parse(file, ctx, parsed);
+
+        assertThat(parsed.get()).isEqualTo(2);
+    }
+
+    @Test
+    void evictsBeyondMaximumSize() throws Exception {
+        LocalDiskParseCache cache = new LocalDiskParseCache(cacheDir, 1);
+        ExecutionContext ctx = ParsingExecutionContextView.view(new InMemoryExecutionContext())
+          .setParseCache(cache);
+        Path hello = Files.write(project.resolve("hello.txt"), "hello".getBytes());
+        Path goodbye = Files.write(project.resolve("goodbye.txt"), "goodbye".getBytes());
+        AtomicInteger parsed = new AtomicInteger();
+
+        parse(hello, ctx, parsed);
+        parse(goodbye, ctx, parsed);
+        parse(goodbye, ctx, parsed);
+        parse(hello, ctx, parsed);
+
+        // the entry just written is kept, the one before it evicted
+        assertThat(parsed.get()).isEqualTo(3);
+    }
+
+    private List<SourceFile> parse(Path file, ExecutionContext ctx, AtomicInteger parsed) {
+        PlainTextParser parser = new PlainTextParser();
+        return ParseCache.parseInputs(parser, singletonList(Parser.Input.fromFile(file)), project, ctx,
+          "plainText", "classpath", true, inputs -> {
+              parsed.incrementAndGet();
+              return parser.parseInputs(inputs, project, ctx);
+          }).collect(toList());
+    }
+}
@@ -21,6 +21,7 @@
 import org.openrewrite.csharp.tree.Cs;
 import org.openrewrite.csharp.tree.CsDocComment;
 import org.openrewrite.csharp.tree.Linq;
+import org.openrewrite.java.internal.JavaLeafInterners;
 import org.openrewrite.java.internal.rpc.JavaReceiver;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.rpc.RpcReceiveQueue;
@@ -53,7 +54,7 @@ public class CSharpReceiver extends CSharpVisitor<RpcReceiveQueue> {
     public J preVisit(J j, RpcReceiveQueue q) {
         return ((J) j.withId(q.receiveAndGet(j.getId(), UUID::fromString)))
                 .withPrefix(q.receive(j.getPrefix(), space -> visitSpace(space, q)))
-                .withMarkers(q.receive(j.getMarkers()));
+                .withMarkers(JavaLeafInterners.markers(q.receive(j.getMarkers())));
     }
 
     @Override
@@ -36,6 +36,7 @@
 import org.openrewrite.maven.tree.GroupArtifact;
 import org.openrewrite.maven.tree.GroupArtifactVersion;
 import org.openrewrite.maven.tree.MavenRepository;
+import org.openrewrite.maven.tree.ResolvedDependencyInterner;
 import org.openrewrite.maven.tree.ResolvedGroupArtifactVersion;
 
 import java.lang.reflect.InvocationTargetException;
@@ -197,6 +198,12 @@ private static GroupArtifactVersion groupArtifactVersion(Dependency dep) {
 
     private static final Map<ResolvedGroupArtifactVersion, ResolvedGroupArtifactVersion> resolvedGroupArtifactVersionCache = new ConcurrentHashMap<>();
 
+    /**
+     * Shares the dependency subtrees that configurations and projects have in common, such as those of
+     * compileClasspath and runtimeClasspath.
+     */
+    private static final ResolvedDependencyInterner resolvedDependencyInterner = new ResolvedDependencyInterner();
+
     private static ResolvedGroupArtifactVersion resolvedGroupArtifactVersion(ResolvedDependency dep) {
         return resolvedGroupArtifactVersionCache.computeIfAbsent(new ResolvedGroupArtifactVersion(
                         null, dep.getModuleGroup(), dep.getModuleName(), dep.getModuleVersion(), null),
@@ -244,7 +251,7 @@ static Map<String, GradleDependencyConfiguration> dependencyConfigurations(Confi
                     }
                     Map<GroupArtifact, ResolvedDependency> gaToResolved = resolvedConf.getFirstLevelModuleDependencies().stream()
                             .collect(toMap(GradleProjectBuilder::groupArtifact, dep -> dep, (a, b) -> a));
-                    resolved = resolved(gaToRequested, gaToResolved, detectedCycles);
+                    resolved = resolvedDependencyInterner.intern(resolved(gaToRequested, gaToResolved, detectedCycles));
                 } else {
                     resolved = emptyList();
                 }
@@ -540,5 +547,6 @@ public static void clearCaches() {
         groupArtifactCache.clear();
         groupArtifactVersionCache.clear();
         resolvedGroupArtifactVersionCache.clear();
+        resolvedDependencyInterner.clear();
     }
 }
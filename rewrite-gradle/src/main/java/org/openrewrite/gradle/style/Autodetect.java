@@ -51,6 +51,14 @@ public void sample(SourceFile cu) {
             }
         }
 
+        /**
+         * @see org.openrewrite.java.style.Autodetect.Detector#merge(org.openrewrite.java.style.Autodetect.Detector)
+         */
+        public Detector merge(Detector other) {
+            javaDetector.merge(other.javaDetector);
+            return this;
+        }
+
         public Autodetect build() {
             return new Autodetect(Tree.randomId(), Arrays.asList(
                     javaDetector.getTabsAndIndentsStyle(),
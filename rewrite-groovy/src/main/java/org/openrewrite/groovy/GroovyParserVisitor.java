@@ -42,6 +42,7 @@
 import org.openrewrite.internal.EncodingDetectingInputStream;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.internal.StringUtils;
+import org.openrewrite.java.internal.JavaLeafInterners;
 import org.openrewrite.java.internal.JavaTypeCache;
 import org.openrewrite.java.internal.JavaTypeFactory;
 import org.openrewrite.java.marker.ImplicitReturn;
@@ -326,7 +327,7 @@ public void visitClass(ClassNode clazz) {
                         Space compPrefix = whitespace();
                         TypeTree typeExpr = visitTypeTree(rc.getType());
                         J.Identifier compName = new J.Identifier(randomId(), sourceBefore(rc.getName()), Markers.EMPTY,
-                                emptyList(), rc.getName(), typeMapping.type(rc.getType()), null);
+                                emptyList(), JavaLeafInterners.name(rc.getName()), typeMapping.type(rc.getType()), null);
                         J.VariableDeclarations.NamedVariable namedVar = new J.VariableDeclarations.NamedVariable(
                                 randomId(), compName.getPrefix(), Markers.EMPTY,
                                 compName.withPrefix(EMPTY), emptyList(), null, typeMapping.variableType(compName.getSimpleName(), rc.getType()));
@@ -847,7 +848,7 @@ private J.EnumValue visitEnumField(FieldNode field) {
             Space namePrefix = whitespace();
             String enumName = skip(field.getName());
 
-            J.Identifier name = new J.Identifier(randomId(), namePrefix, Markers.EMPTY, emptyList(), enumName, typeMapping.type(field.getType()), typeMapping.variableType(field));
+            J.Identifier name = new J.Identifier(randomId(), namePrefix, Markers.EMPTY, emptyList(), JavaLeafInterners.name(enumName), typeMapping.type(field.getType()), typeMapping.variableType(field));
 
             // Groovy 4 represents enum constants with anonymous class bodies by appending a
             // ClassExpression as the last element of the ListExpression initializer
@@ -931,7 +932,7 @@ private void visitVariableField(FieldNode field) {
             }
 
             J.Identifier name = new J.Identifier(randomId(), sourceBefore(field.getName()), Markers.EMPTY,
-                    emptyList(), field.getName(), typeMapping.type(field.getOriginType()), typeMapping.variableType(field));
+                    emptyList(), JavaLeafInterners.name(field.getName()), typeMapping.type(field.getOriginType()), typeMapping.variableType(field));
 
             J.VariableDeclarations.NamedVariable namedVariable = new J.VariableDeclarations.NamedVariable(
                     randomId(),
@@ -1034,7 +1035,7 @@ class B {                               class B {
                     namePrefix,
                     Markers.EMPTY,
                     emptyList(),
-                    methodName,
+                    JavaLeafInterners.name(methodName),
                     null, null);
 
             RewriteGroovyVisitor bodyVisitor = new RewriteGroovyVisitor(method, this);
@@ -1063,7 +1064,7 @@ class B {                               class B {
                     // populates the body rather than seeding a ShallowClass.
                     JavaType objectType = typeMapping.type(param.getType());
                     if (sourceStartsWith("java.lang.Object")) {
-                        paramType = new J.Identifier(randomId(), whitespace(), Markers.EMPTY, emptyList(), skip(name()), objectType, null);
+                        paramType = new J.Identifier(randomId(), whitespace(), Markers.EMPTY, emptyList(), JavaLeafInterners.name(skip(name())), objectType, null);
                     } else {
                         paramType = new J.Identifier(randomId(), EMPTY, Markers.EMPTY, emptyList(), "", objectType, null);
                     }
@@ -1080,7 +1081,7 @@ class B {                               class B {
 
                 JRightPadded<J.VariableDeclarations.NamedVariable> paramName = JRightPadded.build(
                         new J.VariableDeclarations.NamedVariable(randomId(), EMPTY, Markers.EMPTY,
-                                new J.Identifier(randomId(), whitespace(), Markers.EMPTY, emptyList(), param.getName(), null, null),
+                                new J.Identifier(randomId(), whitespace(), Markers.EMPTY, emptyList(), JavaLeafInterners.name(param.getName()), null, null),
                                 emptyList(), null, null)
                 );
                 skip(param.getName());
@@ -1830,7 +1831,7 @@ public void visitCatchStatement(CatchStatement node) {
 
             JRightPadded<J.VariableDeclarations.NamedVariable> paramName = JRightPadded.build(
                     new J.VariableDeclarations.NamedVariable(randomId(), whitespace(), Markers.EMPTY,
-                            new J.Identifier(randomId(), EMPTY, Markers.EMPTY, emptyList(), param.getName(), null, null),
+                            new J.Identifier(randomId(), EMPTY, Markers.EMPTY, emptyList(), JavaLeafInterners.name(param.getName()), null, null),
                             emptyList(), null, null)
             );
             cursor += param.getName().length();
@@ -1874,7 +1875,7 @@ private void visitMultiCatchStatement(List<CatchStatement> catchStatements) {
             Parameter param = catchStatements.get(0).getVariable();
             JRightPadded<J.VariableDeclarations.NamedVariable> paramName = JRightPadded.build(
                     new J.VariableDeclarations.NamedVariable(randomId(), whitespace(), Markers.EMPTY,
-                            new J.Identifier(randomId(), EMPTY, Markers.EMPTY, emptyList(), param.getName(), null, null),
+                            new J.Identifier(randomId(), EMPTY, Markers.EMPTY, emptyList(), JavaLeafInterners.name(param.getName()), null, null),
                             emptyList(), null, null)
             );
             cursor += param.getName().length();
@@ -1909,7 +1910,7 @@ public void visitBreakStatement(BreakStatement statement) {
                             null :
                             new J.Identifier(randomId(),
                                     sourceBefore(statement.getLabel()),
-                                    Markers.EMPTY, emptyList(), statement.getLabel(), null, null))
+                                    Markers.EMPTY, emptyList(), JavaLeafInterners.name(statement.getLabel()), null, null))
             );
         }
 
@@ -1956,7 +1957,7 @@ private J.Case visitDefaultCaseStatement(BlockStatement statement) {
                     Markers.EMPTY,
                     caseType,
                     null,
-                    JContainer.build(singletonList(JRightPadded.build(new J.Identifier(randomId(), EMPTY, Markers.EMPTY, emptyList(), defaultName, null, null)))),
+                    JContainer.build(singletonList(JRightPadded.build(new J.Identifier(randomId(), EMPTY, Markers.EMPTY, emptyList(), JavaLeafInterners.name(defaultName), null, null)))),
                     null,
                     null,
                     JContainer.build(sourceBefore(separator), convertStatements(bodyStmts), Markers.EMPTY),
@@ -2039,7 +2040,7 @@ public void visitClosureExpression(ClosureExpression expression) {
                     TypeTree paramType = p.isDynamicTyped() ? null : visitTypeTree(p.getType());
                     JRightPadded<J.VariableDeclarations.NamedVariable> paramName = JRightPadded.build(
                             new J.VariableDeclarations.NamedVariable(randomId(), sourceBefore(p.getName()), Markers.EMPTY,
-                                    new J.Identifier(randomId(), EMPTY, Markers.EMPTY, emptyList(), p.getName(), type, null),
+                                    new J.Identifier(randomId(), EMPTY, Markers.EMPTY, emptyList(), JavaLeafInterners.name(p.getName()), type, null),
                                     emptyList(), null,
                                     typeMapping.variableType(p.getName(), staticType(p)))
                     );
@@ -2232,7 +2233,7 @@ public void visitContinueStatement(ContinueStatement statement) {
                             null :
                             new J.Identifier(randomId(),
                                     sourceBefore(statement.getLabel()),
-                                    Markers.EMPTY, emptyList(), statement.getLabel(), null, null))
+                                    Markers.EMPTY, emptyList(), JavaLeafInterners.name(statement.getLabel()), null, null))
             );
         }
 
@@ -2405,7 +2406,7 @@ public void visitForLoop(ForStatement forLoop) {
                     TypeTree paramType = param.getOriginType().getColumnNumber() >= 0 ? visitTypeTree(param.getOriginType()) : null;
                     JRightPadded<J.VariableDeclarations.NamedVariable> paramName = JRightPadded.build(
                             new J.VariableDeclarations.NamedVariable(randomId(), whitespace(), Markers.EMPTY,
-                                    new J.Identifier(randomId(), EMPTY, Markers.EMPTY, emptyList(), param.getName(), null, null),
+                                    new J.Identifier(randomId(), EMPTY, Markers.EMPTY, emptyList(), JavaLeafInterners.name(param.getName()), null, null),
                                     emptyList(), null, null)
                     );
                     cursor += param.getName().length();
@@ -2612,7 +2613,7 @@ public void visitMethodCallExpression(MethodCallExpression call) {
                     Space prefix = whitespace();
                     if (source.startsWith(fieldName, cursor)) {
                         skip(fieldName);
-                        queue.add(new J.Identifier(randomId(), prefix, Markers.EMPTY, emptyList(), fieldName, typeMapping.type(staticType(call)), null));
+                        queue.add(new J.Identifier(randomId(), prefix, Markers.EMPTY, emptyList(), JavaLeafInterners.name(fieldName), typeMapping.type(staticType(call)), null));
                         return;
                     }
                 }
@@ -2639,7 +2640,7 @@ public void visitMethodCallExpression(MethodCallExpression call) {
                         if (source.startsWith(fieldName, cursor)) {
                             skip(fieldName);
                             J.Identifier propIdent = new J.Identifier(randomId(), propPrefix, Markers.EMPTY, emptyList(),
-                                    fieldName, typeMapping.type(staticType(call)), null);
+                                    JavaLeafInterners.name(fieldName), typeMapping.type(staticType(call)), null);
                             target = new J.FieldAccess(randomId(), fmt, Markers.EMPTY,
                                     thisIdent, padLeft(beforeDot, propIdent), null);
                         } else {
@@ -2649,7 +2650,7 @@ public void visitMethodCallExpression(MethodCallExpression call) {
                     } else if (source.startsWith(fieldName, cursor)) {
                         skip(fieldName);
                         target = new J.Identifier(randomId(), fmt, Markers.EMPTY, emptyList(),
-                                fieldName, typeMapping.type(staticType(call)), null);
+                                JavaLeafInterners.name(fieldName), typeMapping.type(staticType(call)), null);
                     } else {
                         cursor = saveCursor;
                         target = null;
@@ -2727,7 +2728,7 @@ public void visitMethodCallExpression(MethodCallExpression call) {
                 } else {
                     if (methodName.equals(source.substring(cursor, cursor + methodName.length()))) {
                         skip(methodName);
-                        name = new J.Identifier(randomId(), prefix, Markers.EMPTY, emptyList(), methodName, null, null);
+                        name = new J.Identifier(randomId(), prefix, Markers.EMPTY, emptyList(), JavaLeafInterners.name(methodName), null, null);
                     } else if (select != null && select.getElement() instanceof J.Identifier) {
                         name = (J.Identifier) select.getElement();
                         // Closure-style command expression like `x foo(c)` parses as `x.call(foo(c))`.
@@ -2837,7 +2838,7 @@ public void visitStaticMethodCallExpression(StaticMethodCallExpression call) {
             MethodNode methodNode = (MethodNode) call.getNodeMetaData().get(StaticTypesMarker.DIRECT_METHOD_CALL_TARGET);
             JavaType.Method methodType = typeMapping.methodType(methodNode);
             J.Identifier name = new J.Identifier(randomId(), sourceBefore(call.getMethodAsString()), Markers.EMPTY,
-                    emptyList(), call.getMethodAsString(), methodType, null);
+                    emptyList(), JavaLeafInterners.name(call.getMethodAsString()), methodType, null);
 
             // Method invocations may have type information that can enrich the type information of its parameters
             Markers markers = Markers.EMPTY;
@@ -2904,7 +2905,7 @@ public void visitAttributeExpression(AttributeExpression attr) {
                 if (name instanceof J.Literal) {
                     String nameStr = ((J.Literal) name).getValueSource();
                     assert nameStr != null;
-                    name = new J.Identifier(randomId(), name.getPrefix(), Markers.EMPTY, emptyList(), nameStr, null, null);
+                    name = new J.Identifier(randomId(), name.getPrefix(), Markers.EMPTY, emptyList(), JavaLeafInterners.name(nameStr), null, null);
                 } else if (name instanceof G.GString) {
                     name = gStringAsIdentifier((G.GString) name, saveCursor);
                 }
@@ -2936,7 +2937,7 @@ public void visitPropertyExpression(PropertyExpression prop) {
                     Space namePrefix = whitespace();
                     if (source.startsWith(simpleName, cursor)) {
                         skip(simpleName);
-                        queue.add(new J.Identifier(randomId(), namePrefix, Markers.EMPTY, emptyList(), simpleName, typeMapping.type(staticType(prop)), null));
+                        queue.add(new J.Identifier(randomId(), namePrefix, Markers.EMPTY, emptyList(), JavaLeafInterners.name(simpleName), typeMapping.type(staticType(prop)), null));
                         return;
                     }
                     // The trait transform may rewrite `this.X` to `$self.X` even though the source contains
@@ -2952,7 +2953,7 @@ public void visitPropertyExpression(PropertyExpression prop) {
                         Space propPrefix = whitespace();
                         skip(simpleName);
                         J.Identifier propIdent = new J.Identifier(randomId(), propPrefix, Markers.EMPTY, emptyList(),
-                                simpleName, typeMapping.type(staticType(prop)), null);
+                                JavaLeafInterners.name(simpleName), typeMapping.type(staticType(prop)), null);
                         queue.add(new J.FieldAccess(randomId(), Space.EMPTY, Markers.EMPTY,
                                 thisIdent, padLeft(beforeDot, propIdent), null));
                         return;
@@ -2983,7 +2984,7 @@ public void visitPropertyExpression(PropertyExpression prop) {
         private J.Identifier gStringAsIdentifier(G.GString gString, int saveCursor) {
             int gStringStart = indexOfNextNonWhitespace(saveCursor, source);
             String text = source.substring(gStringStart, cursor);
-            return new J.Identifier(randomId(), gString.getPrefix(), Markers.EMPTY, emptyList(), text, gString.getType(), null);
+            return new J.Identifier(randomId(), gString.getPrefix(), Markers.EMPTY, emptyList(), JavaLeafInterners.name(text), gString.getType(), null);
         }
 
         @Override
@@ -3343,7 +3344,7 @@ public TypeTree visitVariableExpressionType(@Nullable VariableExpression express
                     EMPTY,
                     Markers.EMPTY,
                     emptyList(),
-                    typeName,
+                    JavaLeafInterners.name(typeName),
                     type, null);
             if (expression.getOriginType().getGenericsTypes() != null && !expression.getOriginType().isGenericsPlaceHolder() && sourceStartsWith("<")) {
                 return new J.ParameterizedType(randomId(), prefix, Markers.EMPTY, ident, visitTypeParameterizations(
@@ -3366,7 +3367,7 @@ public void visitVariableExpression(VariableExpression expression) {
                         fmt.withWhitespace(fmt.getWhitespace() + sourceBefore(expression.getName()).getWhitespace()),
                         Markers.EMPTY,
                         emptyList(),
-                        expression.getName(),
+                        JavaLeafInterners.name(expression.getName()),
                         type, null);
             }));
         }
@@ -3575,7 +3576,7 @@ public J.Annotation visitAnnotation(AnnotationNode annotation, RewriteGroovyClas
                                 }
                                 Expression element = isImplicitValue ? expression.withPrefix(argPrefix) :
                                         (new J.Assignment(randomId(), argPrefix, Markers.EMPTY,
-                                                new J.Identifier(randomId(), EMPTY, Markers.EMPTY, emptyList(), arg.getKey(), null, null),
+                                                new J.Identifier(randomId(), EMPTY, Markers.EMPTY, emptyList(), JavaLeafInterners.name(arg.getKey()), null, null),
                                                 padLeft(isSign, expression), null));
                                 return JRightPadded.build(element)
                                         .withAfter(arg.getKey().equals(lastArgKey) ? sourceBefore(")") : sourceBefore(","));
@@ -3792,7 +3793,7 @@ private <T extends TypeTree & Expression> T typeTree(@Nullable ClassNode classNo
             }
 
             if (i == 0) {
-                expr = new J.Identifier(randomId(), EMPTY, Markers.EMPTY, emptyList(), part, segmentType, null);
+                expr = new J.Identifier(randomId(), EMPTY, Markers.EMPTY, emptyList(), JavaLeafInterners.name(part), segmentType, null);
             } else {
                 Matcher whitespacePrefix = whitespacePrefixPattern.matcher(part);
                 Space identFmt = whitespacePrefix.matches() ? format(whitespacePrefix.group(0)) : EMPTY;
@@ -3807,7 +3808,7 @@ private <T extends TypeTree & Expression> T typeTree(@Nullable ClassNode classNo
                         EMPTY,
                         Markers.EMPTY,
                         expr,
-                        padLeft(namePrefix, new J.Identifier(randomId(), identFmt, Markers.EMPTY, emptyList(), part.trim(), null, null)),
+                        padLeft(namePrefix, new J.Identifier(randomId(), identFmt, Markers.EMPTY, emptyList(), JavaLeafInterners.name(part.trim()), null, null)),
                         segmentType
                 );
             }
@@ -4232,7 +4233,7 @@ private String name() {
                 break;
             }
         }
-        String result = source.substring(cursor, i);
+        String result = JavaLeafInterners.name(source.substring(cursor, i));
         cursor += i - cursor;
         return result;
     }
@@ -4315,11 +4316,11 @@ private J.FieldAccess buildImportQualid(ImportNode importNode, Space prefix) {
 
             if (segmentIndex == 0) {
                 expr = new J.Identifier(randomId(), beforeIdent, Markers.EMPTY, emptyList(),
-                        segment, segmentType, null);
+                        JavaLeafInterners.name(segment), segmentType, null);
             } else {
                 expr = new J.FieldAccess(randomId(), EMPTY, Markers.EMPTY, expr,
                         new JLeftPadded<>(beforeDot, new J.Identifier(randomId(), beforeIdent,
-                                Markers.EMPTY, emptyList(), segment, null, null), Markers.EMPTY),
+                                Markers.EMPTY, emptyList(), JavaLeafInterners.name(segment), null, null), Markers.EMPTY),
                         segmentType);
             }
             segmentIndex++;
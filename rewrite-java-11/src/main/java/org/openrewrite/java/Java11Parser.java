@@ -18,6 +18,7 @@
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.SourceFile;
+import org.openrewrite.java.internal.JavaParseCaching;
 import org.openrewrite.java.internal.JavaTypeCache;
 import org.openrewrite.java.internal.JavaTypeFactory;
 
@@ -30,19 +31,22 @@
 
 public class Java11Parser implements JavaParser {
     private final JavaParser delegate;
+    private final JavaParseCaching parseCaching;
 
-    Java11Parser(JavaParser delegate) {
+    Java11Parser(JavaParser delegate, JavaParseCaching parseCaching) {
         this.delegate = delegate;
+        this.parseCaching = parseCaching;
     }
 
     @Override
     public Stream<SourceFile> parseInputs(Iterable<Input> sourceFiles, @Nullable Path relativeTo, ExecutionContext ctx) {
-        return delegate.parseInputs(sourceFiles, relativeTo, ctx);
+        return parseCaching.parseInputs(this, delegate, sourceFiles, relativeTo, ctx);
     }
 
     @Override
     public JavaParser reset() {
         delegate.reset();
+        parseCaching.reset();
         return this;
     }
 
@@ -55,6 +59,7 @@ public JavaParser reset(Collection<URI> cus) {
     @Override
     public void setClasspath(Collection<Path> classpath) {
         delegate.setClasspath(classpath);
+        parseCaching.setClasspath(classpath);
     }
 
     public static Builder builder() {
@@ -90,9 +95,10 @@ public Java11Parser build() {
                 parserConstructor.setAccessible(true);
 
                 JavaParser delegate = (JavaParser) parserConstructor
-                        .newInstance(logCompilationWarningsAndErrors, resolvedClasspath(), classBytesClasspath, dependsOn, charset, styles, javaTypeCache, resolvedTypeFactory());
+                        .newInstance(logCompilationWarningsAndErrors, resolvedClasspath(), resolvedClassBytesClasspath(), dependsOn, charset, styles, javaTypeCache, resolvedTypeFactory());
 
-                return new Java11Parser(delegate);
+                return new Java11Parser(delegate, new JavaParseCaching("java11", charset, styles,
+                        resolvedClasspath(), resolvedClassBytesClasspath(), dependsOn));
             } catch (Exception e) {
                 throw new IllegalStateException("Unable to construct Java11Parser. java.version: " + System.getProperty("java.version") + ", classpath: " + resolvedClasspath() +
                                                 "\nhttps://docs.openrewrite.org/reference/faq#im-getting-unable-to-construct-java21parser-or-similar-when-running-my-recipe-what-does-this-mean", e);
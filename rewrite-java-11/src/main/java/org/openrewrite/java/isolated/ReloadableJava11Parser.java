@@ -379,7 +379,7 @@ public Env<AttrContext> remove() {
     public static class Builder extends JavaParser.Builder<ReloadableJava11Parser, Builder> {
         @Override
         public ReloadableJava11Parser build() {
-            return new ReloadableJava11Parser(logCompilationWarningsAndErrors, resolvedClasspath(), classBytesClasspath, dependsOn, charset, styles, javaTypeCache, javaTypeFactory);
+            return new ReloadableJava11Parser(logCompilationWarningsAndErrors, resolvedClasspath(), resolvedClassBytesClasspath(), dependsOn, charset, styles, javaTypeCache, javaTypeFactory);
         }
     }
 
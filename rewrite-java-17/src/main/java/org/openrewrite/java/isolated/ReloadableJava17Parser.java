@@ -350,7 +350,7 @@ public void reset(Collection<URI> uris) {
     public static class Builder extends JavaParser.Builder<ReloadableJava17Parser, Builder> {
         @Override
         public ReloadableJava17Parser build() {
-            return new ReloadableJava17Parser(logCompilationWarningsAndErrors, resolvedClasspath(), classBytesClasspath, dependsOn, charset, styles, javaTypeCache, javaTypeFactory);
+            return new ReloadableJava17Parser(logCompilationWarningsAndErrors, resolvedClasspath(), resolvedClassBytesClasspath(), dependsOn, charset, styles, javaTypeCache, javaTypeFactory);
         }
     }
 
@@ -37,6 +37,7 @@
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaParsingException;
 import org.openrewrite.java.JavaPrinter;
+import org.openrewrite.java.internal.JavaLeafInterners;
 import org.openrewrite.java.internal.JavaTypeFactory;
 import org.openrewrite.java.marker.CompactConstructor;
 import org.openrewrite.java.marker.OmitParentheses;
@@ -333,7 +334,7 @@ public J visitBreak(BreakTree node, Space fmt) {
 
         J.Identifier label = node.getLabel() == null ? null : new J.Identifier(randomId(),
                 sourceBefore(node.getLabel().toString()), Markers.EMPTY,
-                emptyList(), node.getLabel().toString(), null, null);
+                emptyList(), JavaLeafInterners.name(node.getLabel().toString()), null, null);
 
         return new J.Break(randomId(), fmt, Markers.EMPTY, label);
     }
@@ -413,7 +414,7 @@ public J visitClass(ClassTree node, Space fmt) {
         }
 
         J.Identifier name = new J.Identifier(randomId(), sourceBefore(node.getSimpleName().toString()),
-                Markers.EMPTY, emptyList(), ((JCClassDecl) node).getSimpleName().toString(), typeMapping.type(node), null);
+                Markers.EMPTY, emptyList(), JavaLeafInterners.name(((JCClassDecl) node).getSimpleName().toString()), typeMapping.type(node), null);
 
         JContainer<J.TypeParameter> typeParams = node.getTypeParameters().isEmpty() ? null : JContainer.build(
                 sourceBefore("<"),
@@ -719,7 +720,7 @@ public J visitContinue(ContinueTree node, Space fmt) {
         Name label = node.getLabel();
         return new J.Continue(randomId(), fmt, Markers.EMPTY,
                 label == null ? null : new J.Identifier(randomId(), sourceBefore(label.toString()),
-                        Markers.EMPTY, emptyList(), label.toString(), null, null));
+                        Markers.EMPTY, emptyList(), JavaLeafInterners.name(label.toString()), null, null));
     }
 
     @Override
@@ -756,7 +757,7 @@ private J visitEnumVariable(VariableTree node, Space fmt) {
             skip(node.getName().toString());
         }
 
-        J.Identifier name = new J.Identifier(randomId(), nameSpace, Markers.EMPTY, emptyList(), node.getName().toString(), typeMapping.type(node), null);
+        J.Identifier name = new J.Identifier(randomId(), nameSpace, Markers.EMPTY, emptyList(), JavaLeafInterners.name(node.getName().toString()), typeMapping.type(node), null);
 
         J.NewClass initializer = null;
         if (source.charAt(endPos(node) - 1) == ')' || source.charAt(endPos(node) - 1) == '}') {
@@ -803,7 +804,7 @@ public J visitForLoop(ForLoopTree node, Space fmt) {
 
     @Override
     public J visitIdentifier(IdentifierTree node, Space fmt) {
-        String name = node.getName().toString();
+        String name = JavaLeafInterners.name(node.getName().toString());
         cursor += name.length();
 
         JCIdent ident = (JCIdent) node;
@@ -850,7 +851,7 @@ public J visitInstanceOf(InstanceOfTree node, Space fmt) {
         }
         J clazz = convertInstanceOfTree(node);
         if (node.getPattern() instanceof JCBindingPattern b) {
-            pattern = new J.Identifier(randomId(), sourceBefore(b.getVariable().getName().toString()), Markers.EMPTY, emptyList(), b.getVariable().getName().toString(),
+            pattern = new J.Identifier(randomId(), sourceBefore(b.getVariable().getName().toString()), Markers.EMPTY, emptyList(), JavaLeafInterners.name(b.getVariable().getName().toString()),
                     type, typeMapping.variableType(b.var.sym));
         }
         return new J.InstanceOf(randomId(), fmt, Markers.EMPTY, expression, clazz, pattern, type, modifier);
@@ -885,7 +886,7 @@ public J visitIntersectionType(IntersectionTypeTree node, Space fmt) {
     public J visitLabeledStatement(LabeledStatementTree node, Space fmt) {
         skip(node.getLabel().toString());
         return new J.Label(randomId(), fmt, Markers.EMPTY,
-                padRight(new J.Identifier(randomId(), EMPTY, Markers.EMPTY, emptyList(), node.getLabel().toString(), null, null), sourceBefore(":")),
+                padRight(new J.Identifier(randomId(), EMPTY, Markers.EMPTY, emptyList(), JavaLeafInterners.name(node.getLabel().toString()), null, null), sourceBefore(":")),
                 convert(node.getStatement()));
     }
 
@@ -1014,7 +1015,7 @@ public J visitMemberReference(MemberReferenceTree node, Space fmt) {
                         sourceBefore(referenceName),
                         Markers.EMPTY,
                         emptyList(),
-                        referenceName,
+                        JavaLeafInterners.name(referenceName),
                         null, null)),
                 typeMapping.type(node),
                 methodReferenceType,
@@ -1030,7 +1031,7 @@ public J visitMemberSelect(MemberSelectTree node, Space fmt) {
                 convert(fieldAccess.selected),
                 padLeft(sourceBefore("."), new J.Identifier(randomId(),
                         sourceBefore(fieldAccess.name.toString()), Markers.EMPTY,
-                        emptyList(), fieldAccess.name.toString(), type, typeMapping.variableType(fieldAccess.sym))),
+                        emptyList(), JavaLeafInterners.name(fieldAccess.name.toString()), type, typeMapping.variableType(fieldAccess.sym))),
                 type);
     }
 
@@ -1055,7 +1056,7 @@ public J visitMethodInvocation(MethodInvocationTree node, Space fmt) {
         J.Identifier name;
         if (jcSelect instanceof JCFieldAccess) {
             String selectName = ((JCFieldAccess) jcSelect).name.toString();
-            name = new J.Identifier(randomId(), sourceBefore(selectName), Markers.EMPTY, emptyList(), selectName, null, null);
+            name = new J.Identifier(randomId(), sourceBefore(selectName), Markers.EMPTY, emptyList(), JavaLeafInterners.name(selectName), null, null);
         } else {
             name = convert(jcSelect);
         }
@@ -1144,10 +1145,10 @@ public J visitMethod(MethodTree node, Space fmt) {
                 owner = jcMethod.sym.owner.name.toString();
             }
             name = new J.MethodDeclaration.IdentifierWithAnnotations(new J.Identifier(randomId(), sourceBefore(owner),
-                    Markers.EMPTY, emptyList(), owner, null, null), returnType == null ? returnTypeAnnotations : emptyList());
+                    Markers.EMPTY, emptyList(), JavaLeafInterners.name(owner), null, null), returnType == null ? returnTypeAnnotations : emptyList());
         } else {
             name = new J.MethodDeclaration.IdentifierWithAnnotations(new J.Identifier(randomId(), sourceBefore(node.getName().toString(), null), Markers.EMPTY,
-                    emptyList(), node.getName().toString(), null, null), returnType == null ? returnTypeAnnotations : emptyList());
+                    emptyList(), JavaLeafInterners.name(node.getName().toString()), null, null), returnType == null ? returnTypeAnnotations : emptyList());
         }
 
         boolean isCompactConstructor = nodeSym != null && (nodeSym.flags() & Flags.COMPACT_RECORD_CONSTRUCTOR) != 0;
@@ -1511,7 +1512,7 @@ private TypeTree annotatedTypeTree(Tree node, Map<Integer, JCAnnotation> annotat
                     select,
                     padLeft(dotPrefix, new J.Identifier(randomId(),
                             sourceBefore(fieldAccess.name.toString()), Markers.EMPTY,
-                            annotations, fieldAccess.name.toString(), type, typeMapping.variableType(fieldAccess.sym))),
+                            annotations, JavaLeafInterners.name(fieldAccess.name.toString()), type, typeMapping.variableType(fieldAccess.sym))),
                     type
             );
         }
@@ -1597,7 +1598,7 @@ public J visitTypeParameter(TypeParameterTree node, Space fmt) {
         // (T, E, K, V, ?). No dotted names possible.
         String typeParamName = node.getName().toString();
         J.Identifier name = new J.Identifier(randomId(), sourceBefore(typeParamName),
-                Markers.EMPTY, emptyList(), typeParamName, null, null);
+                Markers.EMPTY, emptyList(), JavaLeafInterners.name(typeParamName), null, null);
 
         // see https://docs.oracle.com/javase/tutorial/java/generics/bounded.html
         JContainer<TypeTree> bounds = node.getBounds().isEmpty() ? null :
@@ -1762,7 +1763,7 @@ private J.VariableDeclarations visitVariables(List<VariableTree> nodes, Space fm
             Space namedVarPrefix = sourceBefore(n.getName().toString());
 
             JavaType.Variable type = typeMapping.variableType(n.sym);
-            J.Identifier name = new J.Identifier(randomId(), EMPTY, Markers.EMPTY, emptyList(), n.getName().toString(),
+            J.Identifier name = new J.Identifier(randomId(), EMPTY, Markers.EMPTY, emptyList(), JavaLeafInterners.name(n.getName().toString()),
                     type != null ? type.getType() : null,
                     type);
             List<JLeftPadded<Space>> dimensionsAfterName = arrayDimensions();
@@ -40,6 +40,7 @@
 import org.openrewrite.java.internal.DefaultJavaTypeFactory;
 import org.openrewrite.java.internal.JavaTypeCache;
 import org.openrewrite.java.internal.JavaTypeFactory;
+import org.openrewrite.java.internal.parser.InMemoryClasspathEntry;
 import org.openrewrite.java.lombok.LombokSupport;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.Space;
@@ -88,6 +89,7 @@ private ReloadableJava21Parser(
             boolean logCompilationWarningsAndErrors,
             @Nullable Collection<Path> classpath,
             Collection<byte[]> classBytesClasspath,
+            Collection<InMemoryClasspathEntry> inMemoryClasspath,
             @Nullable Collection<Input> dependsOn,
             Charset charset,
             Collection<NamedStyles> styles,
@@ -101,7 +103,7 @@ private ReloadableJava21Parser(
 
         this.context = new Context();
         this.compilerLog = new ResettableLog(context);
-        this.pfm = new ByteArrayCapableJavacFileManager(context, true, charset, classBytesClasspath);
+        this.pfm = new ByteArrayCapableJavacFileManager(context, true, charset, classBytesClasspath, inMemoryClasspath);
 
         // otherwise, consecutive string literals in binary expressions are concatenated by the parser, losing the original
         // structure of the expression!
@@ -350,21 +352,28 @@ public void reset(Collection<URI> uris) {
     public static class Builder extends JavaParser.Builder<ReloadableJava21Parser, Builder> {
         @Override
         public ReloadableJava21Parser build() {
-            return new ReloadableJava21Parser(logCompilationWarningsAndErrors, resolvedClasspath(), classBytesClasspath, dependsOn, charset, styles, javaTypeCache, javaTypeFactory);
+            return new ReloadableJava21Parser(logCompilationWarningsAndErrors, resolvedClasspath(), classBytesClasspath, inMemoryClasspath, dependsOn, charset, styles, javaTypeCache, javaTypeFactory);
         }
     }
 
     private static class ByteArrayCapableJavacFileManager extends JavacFileManager {
         private final List<PackageAwareJavaFileObject> classByteClasspath;
 
+        /**
+         * Shared, immutable classes indexed by package, which are listed without parsing them first.
+         */
+        private final Collection<InMemoryClasspathEntry> inMemoryClasspath;
+
         public ByteArrayCapableJavacFileManager(Context context,
                                                 boolean register,
                                                 Charset charset,
-                                                Collection<byte[]> classByteClasspath) {
+                                                Collection<byte[]> classByteClasspath,
+                                                Collection<InMemoryClasspathEntry> inMemoryClasspath) {
             super(context, register, charset);
             this.classByteClasspath = classByteClasspath.stream()
                     .map(PackageAwareJavaFileObject::new)
                     .collect(toList());
+            this.inMemoryClasspath = inMemoryClasspath;
         }
 
         @Override
@@ -372,6 +381,9 @@ public String inferBinaryName(Location location, JavaFileObject file) {
             if (file instanceof PackageAwareJavaFileObject) {
                 return ((PackageAwareJavaFileObject) file).getClassName();
             }
+            if (file instanceof InMemoryJavaFileObject) {
+                return ((InMemoryJavaFileObject) file).getBinaryName();
+            }
             return super.inferBinaryName(location, file);
         }
 
@@ -379,6 +391,18 @@ public String inferBinaryName(Location location, JavaFileObject file) {
         public Iterable<JavaFileObject> list(Location location, String packageName, Set<JavaFileObject.Kind> kinds, boolean recurse) throws IOException {
             if (StandardLocation.CLASS_PATH == location) {
                 Iterable<JavaFileObject> listed = super.list(location, packageName, kinds, recurse);
+                if (!inMemoryClasspath.isEmpty() && kinds.contains(JavaFileObject.Kind.CLASS)) {
+                    List<JavaFileObject> inMemory = new ArrayList<>();
+                    for (InMemoryClasspathEntry entry : inMemoryClasspath) {
+                        for (Map.Entry<String, byte[]> classBytes : entry.getClasses(packageName).entrySet()) {
+                            inMemory.add(new InMemoryJavaFileObject(packageName, classBytes.getKey(), classBytes.getValue()));
+                        }
+                    }
+                    if (!inMemory.isEmpty()) {
+                        listed.forEach(inMemory::add);
+                        listed = inMemory;
+                    }
+                }
                 return classByteClasspath.isEmpty() ? listed :
                         Stream.concat(classByteClasspath.stream()
                                         .filter(jfo -> jfo.getPackage().equals(packageName)),
@@ -389,6 +413,28 @@ public Iterable<JavaFileObject> list(Location location, String packageName, Set<
         }
     }
 
+    /**
+     * A class of an {@link InMemoryClasspathEntry}, whose package and name are already known from the entry's index.
+     */
+    private static class InMemoryJavaFileObject extends SimpleJavaFileObject {
+        @Getter
+        private final String binaryName;
+
+        private final byte[] classBytes;
+
+        private InMemoryJavaFileObject(String packageName, String binaryName, byte[] classBytes) {
+            super(URI.create("memory:///" + (packageName.isEmpty() ? "" : packageName.replace('.', '/') + "/") +
+                              binaryName + Kind.CLASS.extension), Kind.CLASS);
+            this.binaryName = packageName.isEmpty() ? binaryName : packageName + "." + binaryName;
+            this.classBytes = classBytes;
+        }
+
+        @Override
+        public InputStream openInputStream() {
+            return new ByteArrayInputStream(classBytes);
+        }
+    }
+
     private static class PackageAwareJavaFileObject extends SimpleJavaFileObject {
         private final String pkg;
         @Getter
@@ -350,7 +350,7 @@ public void reset(Collection<URI> uris) {
     public static class Builder extends JavaParser.Builder<ReloadableJava25Parser, Builder> {
         @Override
         public ReloadableJava25Parser build() {
-            return new ReloadableJava25Parser(logCompilationWarningsAndErrors, resolvedClasspath(), classBytesClasspath, dependsOn, charset, styles, javaTypeCache, javaTypeFactory);
+            return new ReloadableJava25Parser(logCompilationWarningsAndErrors, resolvedClasspath(), resolvedClassBytesClasspath(), dependsOn, charset, styles, javaTypeCache, javaTypeFactory);
         }
     }
 
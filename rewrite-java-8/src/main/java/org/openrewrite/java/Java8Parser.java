@@ -18,6 +18,7 @@
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.SourceFile;
+import org.openrewrite.java.internal.JavaParseCaching;
 import org.openrewrite.java.internal.JavaTypeCache;
 import org.openrewrite.java.internal.JavaTypeFactory;
 
@@ -35,19 +36,22 @@
 
 public class Java8Parser implements JavaParser {
     private final JavaParser delegate;
+    private final JavaParseCaching parseCaching;
 
-    Java8Parser(JavaParser delegate) {
+    Java8Parser(JavaParser delegate, JavaParseCaching parseCaching) {
         this.delegate = delegate;
+        this.parseCaching = parseCaching;
     }
 
     @Override
     public Stream<SourceFile> parseInputs(Iterable<Input> sourceFiles, @Nullable Path relativeTo, ExecutionContext ctx) {
-        return delegate.parseInputs(sourceFiles, relativeTo, ctx);
+        return parseCaching.parseInputs(this, delegate, sourceFiles, relativeTo, ctx);
     }
 
     @Override
     public JavaParser reset() {
         delegate.reset();
+        parseCaching.reset();
         return this;
     }
 
@@ -60,6 +64,7 @@ public JavaParser reset(Collection<URI> cus) {
     @Override
     public void setClasspath(Collection<Path> classpath) {
         delegate.setClasspath(classpath);
+        parseCaching.setClasspath(classpath);
     }
 
     public static Builder builder() {
@@ -136,9 +141,10 @@ public Java8Parser build() {
                 delegateParserConstructor.setAccessible(true);
 
                 JavaParser delegate = (JavaParser) delegateParserConstructor
-                        .newInstance(resolvedClasspath(), classBytesClasspath, dependsOn, charset, logCompilationWarningsAndErrors, styles, javaTypeCache, resolvedTypeFactory());
+                        .newInstance(resolvedClasspath(), resolvedClassBytesClasspath(), dependsOn, charset, logCompilationWarningsAndErrors, styles, javaTypeCache, resolvedTypeFactory());
 
-                return new Java8Parser(delegate);
+                return new Java8Parser(delegate, new JavaParseCaching("java8", charset, styles,
+                        resolvedClasspath(), resolvedClassBytesClasspath(), dependsOn));
             } catch (Exception e) {
                 throw new IllegalStateException("Unable to construct Java8Parser. java.version: " + System.getProperty("java.version") + ", classpath: " + resolvedClasspath() +
                                                 "\nhttps://docs.openrewrite.org/reference/faq#im-getting-unable-to-construct-java21parser-or-similar-when-running-my-recipe-what-does-this-mean", e);
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.tree.JavaType.ShallowClass.build;
+
+class MethodMatcherSetTest {
+
+    @Test
+    void matchesSameAsEachMatcher() {
+        List<MethodMatcher> matchers = new ArrayList<>(Stream.of(
+          "java.util.List add(..)",
+          "java.util.List add(java.lang.Object)",
+          "java.util.* add(..)",
+          "java.util..* *(..)",
+          "java.util.Map.Entry getKey()",
+          "java.util.Map$Entry getValue()",
+          "*..* toString()",
+          "*..*Service find*(..)",
+          "java.lang.String <constructor>(..)",
+          "java.lang.String format(java.lang.String, ..)",
+          "com.example..* *(..)"
+        )
+          .map(MethodMatcher::new)
+          .toList());
+        matchers.add(new MethodMatcher("java.util.Collection add(..)", true));
+        MethodMatcherSet set = new MethodMatcherSet(matchers);
+
+        for (JavaType.Method method : List.of(
+          newMethodType("java.util.List", "add", "java.lang.Object"),
+          newMethodType("java.util.List", "add", "int", "java.lang.Object"),
+          newMethodType("java.util.Set", "remove", "java.lang.Object"),
+          newMethodType("java.util.concurrent.ConcurrentMap", "putIfAbsent", "java.lang.Object", "java.lang.Object"),
+          newMethodType("java.util.Map$Entry", "getKey"),
+          newMethodType("java.util.Map$Entry", "getValue"),
+          newMethodType("java.lang.Object", "toString"),
+          newMethodType("com.example.UserService", "findById", "long"),
+          newMethodType("com.example.UserService", "save"),
+          newMethodType("java.lang.String", "<constructor>", "java.lang.String"),
+          newMethodType("java.lang.String", "format", "java.lang.String", "java.lang.Object"),
+          newMethodType("java.lang.StringBuilder", "append", "java.lang.String")
+        )) {
+            assertThat(set.matching(method))
+              .as(method.toString())
+              .containsExactlyElementsOf(matchers.stream().filter(m -> m.matches(method)).toList());
+        }
+    }
+
+    @Test
+    void noMatches() {
+        MethodMatcherSet set = MethodMatcherSet.of("java.util.List add(..)", "java.util.Set add(..)");
+        assertThat(set.matches(newMethodType("java.util.List", "remove", "java.lang.Object"))).isFalse();
+        assertThat(set.matches(newMethodType("java.util.Li", "add", "java.lang.Object"))).isFalse();
+        assertThat(set.matching((JavaType.Method) null)).isEmpty();
+    }
+
+    private static JavaType.Method newMethodType(String type, String method, String... parameterTypes) {
+        List<JavaType> parameterTypeList = Stream.of(parameterTypes)
+          .map(name -> {
+              JavaType.Primitive primitive = JavaType.Primitive.fromKeyword(name);
+              return primitive != null ? primitive : JavaType.ShallowClass.build(name);
+          })
+          .map(JavaType.class::cast)
+          .toList();
+
+        return new JavaType.Method(
+          null,
+          1L,
+          build(type),
+          method,
+          null,
+          null,
+          parameterTypeList,
+          emptyList(),
+          emptyList(),
+          emptyList(),
+          null
+        );
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.format;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.test.RewriteTest.toRecipe;
+
+class DirtyRegionTest implements RewriteTest {
+
+    @Test
+    void regionIsStatementEnclosingChange() {
+        J.CompilationUnit cu = JavaParser.fromJavaVersion().build()
+          .parse(
+            """
+              class Test {
+                  void a() {}
+                  void b() {
+                      int x = 1;
+                      System.out.println(x);
+                  }
+              }
+              """
+          )
+          .map(J.CompilationUnit.class::cast)
+          .findFirst()
+          .orElseThrow();
+        J.ClassDeclaration before = cu.getClasses().get(0);
+        J.ClassDeclaration after = (J.ClassDeclaration) new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.Literal visitLiteral(J.Literal literal, Integer p) {
+                return literal.withValue(2).withValueSource("2");
+            }
+        }.visitNonNull(before, 0);
+
+        Cursor region = DirtyRegion.find(before, after, new Cursor(new Cursor(null, Cursor.ROOT_VALUE), cu));
+
+        assertThat(region).isNotNull();
+        assertThat(region.<J>getValue()).isInstanceOf(J.VariableDeclarations.class);
+        assertThat(region.getParentTreeCursor().<J>getValue()).isInstanceOf(J.Block.class);
+        assertThat(DirtyRegion.find(before, before, new Cursor(null, cu))).isNull();
+    }
+
+    @Test
+    void formatsOnlyWhatChanged() {
+        rewriteRun(
+          spec -> spec.recipe(toRecipe(() -> new JavaIsoVisitor<>() {
+              @Override
+              public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                  return maybeAutoFormatChanges(classDecl, super.visitClassDeclaration(classDecl, ctx), ctx);
+              }
+
+              @Override
+              public J.Literal visitLiteral(J.Literal literal, ExecutionContext ctx) {
+                  return Integer.valueOf(1).equals(literal.getValue()) ?
+                    literal.withValue(2).withValueSource("2") : literal;
+              }
+          })),
+          java(
+            """
+              class Test {
+                  void a() {int   y=3;}
+
+                  void b() {
+                      int x = 1;
+                  }
+              }
+              """,
+            """
+              class Test {
+                  void a() {int   y=3;}
+
+                  void b() {
+                      int x = 2;
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssignabilityCacheTest {
+
+    JavaType.Class object = newClass("java.lang.Object", null);
+    JavaType.Class repository = newInterface("com.example.Repository");
+    JavaType.Class crudRepository = newInterface("com.example.CrudRepository", repository);
+    JavaType.Class base = newClass("com.example.BaseRepository", object, crudRepository);
+    JavaType.Class users = newClass("com.example.UserRepository", base);
+
+    @Test
+    void memoizesOnlyInScope() {
+        AssignabilityCache cache = new AssignabilityCache();
+
+        assertThat(TypeUtils.isAssignableTo(repository, users)).isTrue();
+        assertThat(cache.size()).isZero();
+
+        assertThat(cache.scope(() -> TypeUtils.isAssignableTo(repository, users))).isTrue();
+        assertThat(cache.get(repository, users, TypeUtils.ComparisonContext.BOUND)).isTrue();
+        assertThat(AssignabilityCache.current()).isNull();
+    }
+
+    @Test
+    void sameResultsAsUncached() {
+        AssignabilityCache cache = new JavaTypeCache().getAssignabilityCache();
+        List<JavaType.Class> types = List.of(object, repository, crudRepository, base, users);
+        for (int pass = 0; pass < 2; pass++) {
+            for (JavaType.Class to : types) {
+                for (JavaType.Class from : types) {
+                    assertThat(cache.scope(() -> TypeUtils.isAssignableTo(to, from)))
+                      .as("%s <- %s", to, from)
+                      .isEqualTo(TypeUtils.isAssignableTo(to, from));
+                }
+            }
+        }
+    }
+
+    @Test
+    void emptiedBeyondMaximumSize() {
+        AssignabilityCache cache = new AssignabilityCache(2);
+        cache.scope(() -> TypeUtils.isAssignableTo(repository, users) &&
+                          TypeUtils.isAssignableTo(crudRepository, users) &&
+                          TypeUtils.isAssignableTo(base, users));
+        assertThat(cache.size()).isLessThanOrEqualTo(2);
+    }
+
+    private static JavaType.Class newClass(String fqn, JavaType.Class supertype, JavaType.Class... interfaces) {
+        return new JavaType.Class(null, 1L, fqn, JavaType.FullyQualified.Kind.Class, null, supertype, null, null,
+          List.of(interfaces), null, null);
+    }
+
+    private static JavaType.Class newInterface(String fqn, JavaType.Class... interfaces) {
+        return new JavaType.Class(null, 1L, fqn, JavaType.FullyQualified.Kind.Interface, null, null, null, null,
+          List.of(interfaces), null, null);
+    }
+}
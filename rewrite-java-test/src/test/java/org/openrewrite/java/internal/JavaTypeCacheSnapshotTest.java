@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.JavaType;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JavaTypeCacheSnapshotTest {
+
+    @Test
+    void forEachRecoversSignatures() {
+        JavaTypeCache base = new JavaTypeCache();
+        base.put("java.lang.String", "base");
+        base.put("java.util.List", "base");
+        JavaTypeCache cache = JavaTypeCache.withBase(base);
+        cache.put("java.util.List", "overlay");
+        cache.put("com.example.Ünïcödé", "overlay");
+        cache.put("com.example.中文", "overlay");
+
+        Map<String, Object> visited = new LinkedHashMap<>();
+        cache.forEach(visited::put);
+
+        assertThat(visited).containsOnly(
+          Map.entry("java.lang.String", "base"),
+          Map.entry("java.util.List", "overlay"),
+          Map.entry("com.example.Ünïcödé", "overlay"),
+          Map.entry("com.example.中文", "overlay")
+        );
+    }
+
+    @Test
+    void roundTrip(@TempDir Path dir) throws Exception {
+        JavaTypeCache cache = new JavaTypeCache();
+        JavaParser.Builder<?, ?> builder = JavaParser.fromJavaVersion()
+          .typeFactory(new DefaultJavaTypeFactory(cache));
+        builder.build().parse(new InMemoryExecutionContext(), """
+          import java.util.*;
+          class A {
+              List<String> names = new ArrayList<>();
+              Map<String, List<Integer>> index;
+          }
+          """).toList();
+
+        Map<String, Object> written = new LinkedHashMap<>();
+        cache.forEach(written::put);
+        assertThat(written).isNotEmpty();
+
+        Path file = dir.resolve("types.snapshot");
+        String version = JavaTypeCacheSnapshot.version(builder);
+        JavaTypeCacheSnapshot.write(cache, file, version);
+
+        JavaTypeCache snapshot = JavaTypeCacheSnapshot.load(file, version);
+        assertThat(snapshot).isNotNull();
+        for (Map.Entry<String, Object> entry : written.entrySet()) {
+            if (entry.getValue() instanceof JavaType) {
+                JavaType type = snapshot.get(entry.getKey());
+                assertThat(type).as(entry.getKey()).isNotNull();
+                assertThat(type.toString()).isEqualTo(entry.getValue().toString());
+            }
+        }
+        JavaTypeCache overlay = snapshot.clone();
+        overlay.put("com.example.A", JavaType.Unknown.getInstance());
+        String signature = written.keySet().iterator().next();
+        assertThat(overlay.<Object>get(signature)).isSameAs(snapshot.get(signature));
+        assertThat(snapshot.<Object>get("com.example.A")).isNull();
+    }
+
+    @Test
+    void loadedSnapshotCanBeWrittenToAndCleared(@TempDir Path dir) throws Exception {
+        JavaTypeCache cache = new JavaTypeCache();
+        cache.put("java.lang.String", JavaType.ShallowClass.build("java.lang.String"));
+        Path file = dir.resolve("types.snapshot");
+        JavaTypeCacheSnapshot.write(cache, file, "jdk-17");
+
+        // as a parser does when given the snapshot as its type cache and then reset
+        JavaTypeCache snapshot = JavaTypeCacheSnapshot.newCache(file, "jdk-17");
+        snapshot.put("com.example.A", JavaType.Unknown.getInstance());
+        snapshot.clear();
+
+        assertThat(snapshot.<JavaType>get("com.example.A")).isNull();
+        assertThat(snapshot.<JavaType>get("java.lang.String")).isNotNull();
+    }
+
+    @Test
+    void notLoadedForAnotherVersion(@TempDir Path dir) throws Exception {
+        JavaTypeCache cache = new JavaTypeCache();
+        cache.put("java.lang.String", JavaType.ShallowClass.build("java.lang.String"));
+        Path file = dir.resolve("types.snapshot");
+        JavaTypeCacheSnapshot.write(cache, file, "jdk-17");
+
+        assertThat(JavaTypeCacheSnapshot.load(file, "jdk-21")).isNull();
+        assertThat(JavaTypeCacheSnapshot.load(dir.resolve("missing.snapshot"), "jdk-17")).isNull();
+        assertThat(JavaTypeCacheSnapshot.newCache(file, "jdk-21").<JavaType>get("java.lang.String")).isNull();
+        assertThat(JavaTypeCacheSnapshot.load(file, "jdk-17")).isNotNull();
+    }
+
+    @Test
+    void loadsShareOneDecodedBaseUntilTheFileChanges(@TempDir Path dir) throws Exception {
+        JavaTypeCache cache = new JavaTypeCache();
+        cache.put("java.lang.String", JavaType.ShallowClass.build("java.lang.String"));
+        Path file = dir.resolve("types.snapshot");
+        JavaTypeCacheSnapshot.write(cache, file, "jdk-17");
+
+        JavaTypeCache first = JavaTypeCacheSnapshot.newCache(file, "jdk-17");
+        JavaTypeCache second = JavaTypeCacheSnapshot.newCache(file, "jdk-17");
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.<JavaType>get("java.lang.String")).isSameAs(first.get("java.lang.String"));
+
+        first.put("com.example.A", JavaType.Unknown.getInstance());
+        assertThat(second.<JavaType>get("com.example.A")).isNull();
+
+        cache.put("java.lang.Integer", JavaType.ShallowClass.build("java.lang.Integer"));
+        JavaTypeCacheSnapshot.write(cache, file, "jdk-17");
+        JavaTypeCache rewritten = JavaTypeCacheSnapshot.newCache(file, "jdk-17");
+        assertThat(rewritten.<JavaType>get("java.lang.Integer")).isNotNull();
+        assertThat(rewritten.<JavaType>get("java.lang.String")).isNotSameAs(first.get("java.lang.String"));
+    }
+}
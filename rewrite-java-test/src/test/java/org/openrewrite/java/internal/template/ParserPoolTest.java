@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal.template;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Parser;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.J;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParserPoolTest {
+
+    @AfterEach
+    void reset() {
+        ParserPool.setMaximumIdle(ParserPool.DEFAULT_MAXIMUM_IDLE);
+        ParserPool.clear();
+    }
+
+    @Test
+    void reusesParserForSameClasspath() {
+        JavaParser.Builder<?, ?> builder = JavaParser.fromJavaVersion();
+        AtomicInteger built = new AtomicInteger();
+
+        Parser first = ParserPool.withParser(builder.classpathFingerprint(), null,
+          () -> {
+              built.incrementAndGet();
+              return builder.build();
+          },
+          jp -> {
+              assertThat(jp.reset().parse(new InMemoryExecutionContext(), "class A {}").findFirst())
+                .containsInstanceOf(J.CompilationUnit.class);
+              return jp;
+          });
+        Parser second = ParserPool.withParser(JavaParser.fromJavaVersion().classpathFingerprint(), null,
+          () -> {
+              built.incrementAndGet();
+              return builder.build();
+          },
+          jp -> {
+              assertThat(jp.reset().parse(new InMemoryExecutionContext(), "class B {}").findFirst())
+                .containsInstanceOf(J.CompilationUnit.class);
+              return jp;
+          });
+
+        assertThat(built).hasValue(1);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void discardsParserThatFailed() {
+        JavaParser.Builder<?, ?> builder = JavaParser.fromJavaVersion();
+        Object classpath = builder.classpathFingerprint();
+
+        assertThatThrownBy(() -> ParserPool.withParser(classpath, null, builder::build, jp -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        AtomicInteger built = new AtomicInteger();
+        ParserPool.withParser(classpath, null, () -> {
+            built.incrementAndGet();
+            return builder.build();
+        }, jp -> jp);
+        assertThat(built).hasValue(1);
+    }
+
+    @Test
+    void fingerprintsClassBytesByContent(@TempDir Path tempDir) throws Exception {
+        assertThat(JavaParser.fromJavaVersion().classpath(new byte[]{1, 2}).classpathFingerprint())
+          .isEqualTo(JavaParser.fromJavaVersion().classpath(new byte[]{1, 2}).classpathFingerprint())
+          .isNotEqualTo(JavaParser.fromJavaVersion().classpath(new byte[]{2, 1}).classpathFingerprint());
+
+        Path jar = Files.write(tempDir.resolve("lib.jar"), new byte[]{1});
+        List<Object> before = JavaParser.fromJavaVersion().classpath(List.of(jar)).classpathFingerprint();
+        Files.write(jar, new byte[]{1, 2});
+        assertThat(JavaParser.fromJavaVersion().classpath(List.of(jar)).classpathFingerprint()).isNotEqualTo(before);
+    }
+}
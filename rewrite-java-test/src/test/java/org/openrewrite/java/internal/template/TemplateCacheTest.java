@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal.template;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.Cursor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.J;
+
+import java.util.List;
+
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TemplateCacheTest {
+
+    @AfterEach
+    void reset() {
+        TemplateCache.setMaximumWeight(TemplateCache.DEFAULT_MAXIMUM_WEIGHT);
+        TemplateCache.clear();
+    }
+
+    @Test
+    void sharedAcrossRunsAndParsersWithSameClasspath() {
+        J.CompilationUnit cu = parse("class A {}");
+
+        List<J.TypeParameter> first = typeParameters(cu, "T extends Comparable<T>");
+        List<J.TypeParameter> second = typeParameters(cu, "T extends Comparable<T>");
+
+        assertThat(second.get(0).printTrimmed()).isEqualTo(first.get(0).printTrimmed());
+        assertThat(second.get(0).getId()).isNotEqualTo(first.get(0).getId());
+        assertThat(((J.Identifier) second.get(0).getName()).getType())
+          .isSameAs(((J.Identifier) first.get(0).getName()).getType());
+    }
+
+    @Test
+    void notCachedBeyondMaximumWeight() {
+        TemplateCache.setMaximumWeight(0);
+        J.CompilationUnit cu = parse("class A {}");
+
+        List<J.TypeParameter> first = typeParameters(cu, "U extends Comparable<U>");
+        List<J.TypeParameter> second = typeParameters(cu, "U extends Comparable<U>");
+
+        assertThat(((J.Identifier) second.get(0).getName()).getType())
+          .isNotSameAs(((J.Identifier) first.get(0).getName()).getType());
+    }
+
+    /**
+     * A template parser of its own, and a root cursor of its own as in a separate recipe cycle.
+     */
+    private static List<J.TypeParameter> typeParameters(J.CompilationUnit cu, String template) {
+        JavaTemplateParser templateParser = new JavaTemplateParser(
+          false, JavaParser.fromJavaVersion(), s -> {}, s -> {}, emptySet(), "Type");
+        return templateParser.parseTypeParameters(new Cursor(new Cursor(null, Cursor.ROOT_VALUE), cu), template);
+    }
+
+    private static J.CompilationUnit parse(String source) {
+        return JavaParser.fromJavaVersion().build()
+          .parse(source)
+          .findFirst()
+          .filter(J.CompilationUnit.class::isInstance)
+          .map(J.CompilationUnit.class::cast)
+          .orElseThrow();
+    }
+}
@@ -1143,6 +1143,77 @@ public void cont() {
         assertThat(tabsAndIndents.getContinuationIndent()).isEqualTo(12);
     }
 
+    @Test
+    void mergedDetectorsDetectSameStylesAsOne() {
+        var cus = jp().parse(
+          """
+            import java.util.List;
+            import static java.util.Collections.emptyList;
+
+            class A {
+              List<String> a(int x, int y) {
+                if(x > y) {
+                  return emptyList();
+                }
+                return null;
+              }
+            }
+            """,
+          """
+            import java.util.Set;
+
+            class B {
+                void b() {
+                    for (int i = 0; i < 10; i++) {
+                        System.out.println(i);
+                    }
+                }
+            }
+            """,
+          """
+            class C {
+              @Deprecated
+              void c(int a,int b) {
+                while(a < b) {
+                  a++;
+                }
+              }
+            }
+            """
+        ).toList();
+
+        var one = Autodetect.detector();
+        cus.forEach(one::sample);
+
+        var first = Autodetect.detector();
+        first.sample(cus.get(0));
+        var rest = Autodetect.detector();
+        rest.sample(cus.get(1));
+        rest.sample(cus.get(2));
+        var merged = first.merge(rest);
+
+        assertThat(merged.getTabsAndIndentsStyle()).isEqualTo(one.getTabsAndIndentsStyle());
+        assertThat(merged.getImportLayoutStyle()).isEqualTo(one.getImportLayoutStyle());
+        assertThat(merged.getSpacesStyle()).isEqualTo(one.getSpacesStyle());
+        assertThat(merged.getWrappingAndBracesStyle()).isEqualTo(one.getWrappingAndBracesStyle());
+        assertThat(merged.getFormatStyle()).isEqualTo(one.getFormatStyle());
+    }
+
+    @Test
+    void stopsSamplingOnceConfident() {
+        var detector = Autodetect.detector(0.99);
+        for (int i = 0; i < 50 && !detector.isConfident(); i++) {
+            jp().parse("class Test%d {\n\tvoid test() {\n\t\tint n = %d;\n\t}\n}\n".formatted(i, i))
+              .forEach(detector::sample);
+        }
+        assertThat(detector.isConfident()).isTrue();
+
+        jp().parse("class Spaces {\r\n    void test() {\r\n        int n = 0;\r\n    }\r\n}\r\n")
+          .forEach(detector::sample);
+        assertThat(detector.getTabsAndIndentsStyle().getUseTabCharacter()).isTrue();
+        assertThat(detector.getFormatStyle().isUseCRLFNewLines()).isFalse();
+    }
+
     @Nested
     class ContinuationIndentForAnnotations {
         @Issue("https://github.com/openrewrite/rewrite/issues/3568")
@@ -19,14 +19,17 @@
 import org.intellij.lang.annotations.Language;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
+import org.openrewrite.internal.HashUtils;
 import org.openrewrite.internal.ToBeRemoved;
 import org.openrewrite.java.internal.JavaTypeCache;
 import org.openrewrite.java.internal.JavaTypeFactory;
+import org.openrewrite.java.internal.parser.InMemoryClasspathEntry;
 import org.openrewrite.java.internal.parser.RewriteClasspathJarClasspathLoader;
 import org.openrewrite.java.internal.parser.TypeTable;
 import org.openrewrite.java.marker.JavaSourceSet;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.style.NamedStyles;
+import org.openrewrite.tree.ParseCache;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
@@ -234,6 +237,7 @@ default boolean accept(Path path) {
         protected Collection<Path> classpath = emptyList();
         protected Collection<String> artifactNames = emptyList();
         protected Collection<byte[]> classBytesClasspath = emptyList();
+        protected Collection<InMemoryClasspathEntry> inMemoryClasspath = emptyList();
         protected JavaTypeCache javaTypeCache = new JavaTypeCache();
 
         @Nullable
@@ -293,6 +297,7 @@ public B dependsOn(@Language("java") String... inputsAsStrings) {
 
         public B classpath(Collection<Path> classpath) {
             this.artifactNames = emptyList();
+            this.inMemoryClasspath = emptyList();
             this.classpath = classpath;
             return (B) this;
         }
@@ -321,6 +326,7 @@ public B addClasspathEntry(Path entry) {
          */
         public B classpath(String... artifactNames) {
             this.artifactNames = Arrays.asList(artifactNames);
+            this.inMemoryClasspath = emptyList();
             this.classpath = emptyList();
             return (B) this;
         }
@@ -329,6 +335,8 @@ public B classpath(String... artifactNames) {
          * Load artifacts from packaged resources. This is useful for loading dependencies which are not on the recipe
          * execution classpath, or where you need to load multiple different versions of the same artifact.
          * Supports both {@link TypeTable} `classpath.tsv.gz` and packaged resource jars in `META-INF/rewrite/classpath/`.
+         * When {@link JavaParserExecutionContextView#isParserClasspathInMemory()}, artifacts found in type tables are
+         * read by the parser from memory rather than from jars written to disk.
          *
          * @param ctx       The execution context to use for loading resources.
          * @param classpath artifact prefix to match, e.g. "guava" or "guava-31" for a specific version.
@@ -337,7 +345,25 @@ public B classpath(String... artifactNames) {
         @SuppressWarnings({"UnusedReturnValue", "unused"})
         public B classpathFromResources(ExecutionContext ctx, String... classpath) {
             this.artifactNames = emptyList();
-            this.classpath = dependenciesFromResources(ctx, classpath);
+            if (!JavaParserExecutionContextView.view(ctx).isParserClasspathInMemory()) {
+                this.inMemoryClasspath = emptyList();
+                this.classpath = dependenciesFromResources(ctx, classpath);
+                return (B) this;
+            }
+
+            List<InMemoryClasspathEntry> inMemory = new ArrayList<>(classpath.length);
+            List<String> notInTypeTable = new ArrayList<>(classpath.length);
+            TypeTable typeTable = TypeTable.fromClasspath(ctx, Arrays.asList(classpath));
+            for (String artifactName : classpath) {
+                InMemoryClasspathEntry entry = typeTable == null ? null : typeTable.loadInMemory(artifactName);
+                if (entry == null) {
+                    notInTypeTable.add(artifactName);
+                } else {
+                    inMemory.add(entry);
+                }
+            }
+            this.inMemoryClasspath = inMemory;
+            this.classpath = dependenciesFromResources(ctx, notInTypeTable.toArray(new String[0]));
             return (B) this;
         }
 
@@ -358,6 +384,21 @@ public B styles(Iterable<? extends NamedStyles> styles) {
             return (B) this;
         }
 
+        /**
+         * @return The class bytes for a parser to read alongside its classpath, for parsers that read the classes of
+         * {@link #inMemoryClasspath} entries as individual class bytes rather than by package.
+         */
+        protected Collection<byte[]> resolvedClassBytesClasspath() {
+            if (inMemoryClasspath.isEmpty()) {
+                return classBytesClasspath;
+            }
+            List<byte[]> classBytes = new ArrayList<>(classBytesClasspath);
+            for (InMemoryClasspathEntry entry : inMemoryClasspath) {
+                classBytes.addAll(entry.getAllClassBytes());
+            }
+            return classBytes;
+        }
+
         protected Collection<Path> resolvedClasspath() {
             if (!artifactNames.isEmpty()) {
                 classpath = new ArrayList<>(classpath);
@@ -367,6 +408,33 @@ protected Collection<Path> resolvedClasspath() {
             return classpath;
         }
 
+        /**
+         * @return A value that is equal for builders of parsers that attribute the same source with the same types,
+         * being of the same Java version and having the same classpath and dependencies, for use in keys of caches of
+         * what these parsers produce. Type factories are not considered.
+         */
+        public List<Object> classpathFingerprint() {
+            List<Object> fingerprint = new ArrayList<>();
+            fingerprint.add(getClass().getName());
+            fingerprint.add(charset.name());
+            fingerprint.add(ParseCache.fingerprint(resolvedClasspath()));
+            for (byte[] classBytes : classBytesClasspath) {
+                fingerprint.add(ClassBytesDigests.digest(classBytes));
+            }
+            for (InMemoryClasspathEntry entry : inMemoryClasspath) {
+                fingerprint.add(entry.getName());
+                fingerprint.add(entry.getContentHash());
+            }
+            if (dependsOn != null) {
+                ExecutionContext ctx = new InMemoryExecutionContext();
+                for (Input input : dependsOn) {
+                    fingerprint.add(input.getPath());
+                    fingerprint.add(input.getSource(ctx).readFully());
+                }
+            }
+            return fingerprint;
+        }
+
         /**
          * Resolve the {@link JavaTypeFactory} to use for this parser. Returns the explicit
          * factory set via {@link #typeFactory}, or {@code null} when none is configured —
@@ -421,6 +489,19 @@ static Path resolveSourcePathFromSourceText(Path prefix, String sourceCode) {
     }
 }
 
+/**
+ * Digests of class bytes, remembered per array so that the classpath fingerprints of the many builders sharing the
+ * same class bytes hash them only once.
+ */
+@UtilityClass
+class ClassBytesDigests {
+    private static final Map<byte[], String> digests = synchronizedMap(new WeakHashMap<>());
+
+    static String digest(byte[] classBytes) {
+        return digests.computeIfAbsent(classBytes, b -> HashUtils.hex(HashUtils.sha256().digest(b)));
+    }
+}
+
 @UtilityClass
 class RuntimeClasspathCache {
     private static final Map<ClassLoader, List<Path>> runtimeClasspaths = synchronizedMap(new WeakHashMap<>());
@@ -24,6 +24,7 @@
 
 public class JavaParserExecutionContextView extends DelegatingExecutionContext {
     private static final String PARSER_CLASSPATH_DOWNLOAD_LOCATION = "org.openrewrite.java.parserClasspathDownloadLocation";
+    private static final String PARSER_CLASSPATH_IN_MEMORY = "org.openrewrite.java.parserClasspathInMemory";
 
     public JavaParserExecutionContextView(ExecutionContext delegate) {
         super(delegate);
@@ -52,4 +53,19 @@ public File getParserClasspathDownloadTarget() {
         }
         return target;
     }
+
+    /**
+     * Hold the classes that {@link JavaParser.Builder#classpathFromResources(ExecutionContext, String...)} reads
+     * from type tables in memory, for parsers to read directly, rather than writing them to jars in the
+     * {@link #getParserClasspathDownloadTarget() download target} for parsers to read back.
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    public JavaParserExecutionContextView setParserClasspathInMemory(boolean inMemory) {
+        putMessage(PARSER_CLASSPATH_IN_MEMORY, inMemory);
+        return this;
+    }
+
+    public boolean isParserClasspathInMemory() {
+        return getMessage(PARSER_CLASSPATH_IN_MEMORY, false);
+    }
 }
@@ -18,6 +18,7 @@
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.format.DirtyRegion;
 import org.openrewrite.java.service.AutoFormatService;
 import org.openrewrite.java.service.ImportService;
 import org.openrewrite.java.tree.*;
@@ -78,6 +79,33 @@ public <J2 extends J> J2 maybeAutoFormat(J2 before, J2 after, @Nullable J stopAf
         return after;
     }
 
+    /**
+     * Like {@link #maybeAutoFormat(J, J, Object)}, but in a Java source file only the statement enclosing what
+     * actually changed is formatted, as found by {@link DirtyRegion}, so that formatting cost scales with the size
+     * of the edit rather than of {@code after}. Formatting elsewhere in {@code after} is left as it is, even where
+     * {@link #maybeAutoFormat(J, J, Object)} would have changed it.
+     */
+    @Incubating(since = "8.88.0")
+    public <J2 extends J> J2 maybeAutoFormatChanges(J2 before, J2 after, P p) {
+        return maybeAutoFormatChanges(before, after, p, getCursor().getParentTreeCursor());
+    }
+
+    @Incubating(since = "8.88.0")
+    @SuppressWarnings("unchecked")
+    public <J2 extends J> J2 maybeAutoFormatChanges(J2 before, J2 after, P p, Cursor parent) {
+        if (before == after) {
+            return after;
+        }
+        if (parent.firstEnclosing(JavaSourceFile.class) instanceof J.CompilationUnit) {
+            Cursor region = DirtyRegion.find(before, after, parent);
+            if (region != null) {
+                J formatted = autoFormat((J) region.getValue(), null, p, region.getParentTreeCursor());
+                return DirtyRegion.replace(after, region, formatted, parent);
+            }
+        }
+        return autoFormat(after, null, p, parent);
+    }
+
     public <J2 extends J> J2 autoFormat(J2 j, P p) {
         return autoFormat(j, p, getCursor().getParentTreeCursor());
     }
@@ -22,10 +22,12 @@
 import org.openrewrite.java.tree.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.StringJoiner;
 
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -158,6 +160,19 @@ private void parsePattern(String methodPattern) {
         return declaringTypeMatchPrefix;
     }
 
+    /**
+     * The method names this matcher requires one of, or {@code null} when the method name pattern has wildcards.
+     */
+    @Nullable
+    List<String> getLiteralMethodNames() {
+        if (methodNameMatcher instanceof ExactMethodNameMatcher) {
+            return singletonList(methodNameMatcher.toString());
+        } else if (methodNameMatcher instanceof ConstructorMethodNameMatcher) {
+            return Arrays.asList("<constructor>", "<init>");
+        }
+        return null;
+    }
+
     /**
      * The literal prefix of a declaring-type pattern: characters preceding the first {@code *} or {@code ..}, with
      * {@code $} canonicalized to {@code .}. The package separator before a {@code ..} wildcard is retained
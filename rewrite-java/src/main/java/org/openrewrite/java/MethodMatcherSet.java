@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.MethodCall;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Many {@link MethodMatcher}s, indexed so that a method is only tested against the matchers that could match it.
+ * Matchers are indexed by the method name they require, when their method name pattern has no wildcards, and then
+ * by the {@link MethodMatcher#getDeclaringTypeMatchPrefix() prefix} they require of the declaring type's fully
+ * qualified name, when they don't match overrides. A method is tested against the matchers indexed under its name
+ * with a prefix of its declaring type, and against those that couldn't be indexed, so that the cost of matching
+ * grows with the number of matchers that could match a method rather than with the number of matchers in the set.
+ */
+public class MethodMatcherSet {
+    private final List<MethodMatcher> matchers;
+    private final Map<String, ByDeclaringType> byMethodName = new HashMap<>();
+    private final ByDeclaringType anyMethodName = new ByDeclaringType();
+
+    public MethodMatcherSet(Collection<MethodMatcher> matchers) {
+        this.matchers = new ArrayList<>(matchers);
+        for (int i = 0; i < this.matchers.size(); i++) {
+            MethodMatcher matcher = this.matchers.get(i);
+            List<String> methodNames = matcher.getLiteralMethodNames();
+            if (methodNames == null) {
+                anyMethodName.add(matcher, i);
+            } else {
+                for (String methodName : methodNames) {
+                    byMethodName.computeIfAbsent(methodName, n -> new ByDeclaringType()).add(matcher, i);
+                }
+            }
+        }
+    }
+
+    public static MethodMatcherSet of(String... methodPatterns) {
+        List<MethodMatcher> matchers = new ArrayList<>(methodPatterns.length);
+        for (String methodPattern : methodPatterns) {
+            matchers.add(new MethodMatcher(methodPattern));
+        }
+        return new MethodMatcherSet(matchers);
+    }
+
+    public List<MethodMatcher> getMatchers() {
+        return Collections.unmodifiableList(matchers);
+    }
+
+    public boolean matches(JavaType.@Nullable Method type) {
+        return !matching(type).isEmpty();
+    }
+
+    public boolean matches(@Nullable MethodCall methodCall) {
+        return methodCall != null && matches(methodCall.getMethodType());
+    }
+
+    public boolean matches(@Nullable Expression maybeMethod) {
+        return maybeMethod instanceof MethodCall && matches((MethodCall) maybeMethod);
+    }
+
+    /**
+     * @return The matchers that match the method, in the order they were given to this set.
+     */
+    public List<MethodMatcher> matching(JavaType.@Nullable Method type) {
+        if (type == null) {
+            return emptyList();
+        }
+        String declaringType = type.getDeclaringType().getFullyQualifiedName();
+        if (declaringType.indexOf('$') >= 0) {
+            declaringType = declaringType.replace('$', '.');
+        }
+
+        BitSet matched = new BitSet();
+        ByDeclaringType named = byMethodName.get(type.getName());
+        if (named != null) {
+            named.match(type, declaringType, matched);
+        }
+        anyMethodName.match(type, declaringType, matched);
+
+        if (matched.isEmpty()) {
+            return emptyList();
+        }
+        List<MethodMatcher> matching = new ArrayList<>(matched.cardinality());
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            matching.add(matchers.get(i));
+        }
+        return matching;
+    }
+
+    public List<MethodMatcher> matching(@Nullable MethodCall methodCall) {
+        return methodCall == null ? emptyList() : matching(methodCall.getMethodType());
+    }
+
+    /**
+     * Matchers indexed by the literal prefix they require of the declaring type, and those that don't require one.
+     */
+    private static class ByDeclaringType {
+        private final Map<String, List<Indexed>> byPrefix = new HashMap<>();
+        private final SortedSet<Integer> prefixLengths = new TreeSet<>();
+        private final List<Indexed> unindexed = new ArrayList<>();
+
+        void add(MethodMatcher matcher, int index) {
+            String prefix = matcher.isMatchOverrides() ? null : matcher.getDeclaringTypeMatchPrefix();
+            if (prefix == null) {
+                unindexed.add(new Indexed(matcher, index));
+            } else {
+                byPrefix.computeIfAbsent(prefix, p -> new ArrayList<>()).add(new Indexed(matcher, index));
+                prefixLengths.add(prefix.length());
+            }
+        }
+
+        void match(JavaType.Method type, String declaringType, BitSet matched) {
+            for (int length : prefixLengths) {
+                if (length > declaringType.length()) {
+                    break;
+                }
+                List<Indexed> candidates = byPrefix.get(declaringType.substring(0, length));
+                if (candidates != null) {
+                    match(candidates, type, matched);
+                }
+            }
+            match(unindexed, type, matched);
+        }
+
+        private static void match(List<Indexed> candidates, JavaType.Method type, BitSet matched) {
+            for (Indexed candidate : candidates) {
+                if (!matched.get(candidate.index) && candidate.matcher.matches(type)) {
+                    matched.set(candidate.index);
+                }
+            }
+        }
+    }
+
+    private static class Indexed {
+        final MethodMatcher matcher;
+        final int index;
+
+        Indexed(MethodMatcher matcher, int index) {
+            this.matcher = matcher;
+            this.index = index;
+        }
+    }
+}
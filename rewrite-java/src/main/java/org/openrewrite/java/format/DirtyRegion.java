@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.format;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.Tree;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.Space;
+
+import java.util.*;
+
+/**
+ * The part of an edited tree that actually differs from the tree it was edited from, so that
+ * {@link JavaVisitor#maybeAutoFormatChanges(J, J, Object)} can format that part rather than the whole of what was edited.
+ * <p>
+ * The two trees are walked together from the top, pairing each node of the edited tree with the child of the same
+ * id of the node it replaces, and never descending into a subtree that is the very same instance in both, so only
+ * the paths to what changed are walked. Of the nodes walked, a node is changed itself when it has no counterpart, or
+ * when its own whitespace or the ids of its children differ from its counterpart's, or when none of its children
+ * changed (so the change is in something other than a subtree, such as a name). The region is the innermost node that contains every such change, widened to the enclosing statement of
+ * a block so that indentation and blank lines are computed with the same context as they are for a whole block.
+ */
+public final class DirtyRegion {
+    private DirtyRegion() {
+    }
+
+    /**
+     * @param parent The cursor of the parent of {@code after}.
+     * @return A cursor positioned at the region of {@code after} to format, or {@code null} if the region is
+     * all of {@code after}.
+     */
+    public static @Nullable Cursor find(J before, J after, Cursor parent) {
+        if (after instanceof JavaSourceFile) {
+            return null;
+        }
+
+        Map<J, J> counterparts = new IdentityHashMap<>();
+        if (before.getId().equals(after.getId())) {
+            counterparts.put(after, before);
+        }
+        List<Cursor> changes = new ArrayList<>();
+        new JavaVisitor<Integer>() {
+            // whether any child of each node being visited changed, and whether the node itself changed
+            private final Deque<boolean[]> state = new ArrayDeque<>();
+
+            @Override
+            public J preVisit(J tree, Integer p) {
+                J counterpart = counterparts.remove(tree);
+                if (counterpart == tree) {
+                    stopAfterPreVisit();
+                    return tree;
+                }
+                if (!state.isEmpty()) {
+                    state.peek()[0] = true;
+                }
+                boolean changed = counterpart == null || counterpart.getClass() != tree.getClass();
+                if (counterpart != null) {
+                    Shape shape = Shape.of(tree);
+                    Shape counterpartShape = Shape.of(counterpart);
+                    changed |= !shape.own.equals(counterpartShape.own);
+                    for (J child : shape.children.values()) {
+                        J childCounterpart = counterpartShape.children.get(child.getId());
+                        if (childCounterpart != null) {
+                            counterparts.put(child, childCounterpart);
+                        }
+                    }
+                }
+                state.push(new boolean[]{false, changed});
+                return tree;
+            }
+
+            @Override
+            public J postVisit(J tree, Integer p) {
+                boolean[] anyChildChangedAndChanged = state.pop();
+                if (!anyChildChangedAndChanged[0] || anyChildChangedAndChanged[1]) {
+                    changes.add(getCursor());
+                }
+                return tree;
+            }
+        }.visit(after, 0, parent);
+
+        if (changes.isEmpty()) {
+            return null;
+        }
+
+        // the innermost tree that encloses every change, which is a prefix of each change's path from after
+        List<Cursor> region = treePath(changes.get(0), after);
+        for (int i = 1; i < changes.size(); i++) {
+            List<Cursor> path = treePath(changes.get(i), after);
+            int common = 0;
+            while (common < region.size() && common < path.size() &&
+                   region.get(common).getValue() == path.get(common).getValue()) {
+                common++;
+            }
+            region = region.subList(0, common);
+        }
+
+        // widen to a statement of a block
+        int depth = region.size() - 1;
+        while (depth > 0 && !(region.get(depth - 1).getValue() instanceof J.Block)) {
+            depth--;
+        }
+        return depth <= 0 ? null : region.get(depth);
+    }
+
+    /**
+     * Replace the region of {@code after} found by {@link #find(J, J, Cursor)} with its formatted form.
+     */
+    @SuppressWarnings("unchecked")
+    public static <J2 extends J> J2 replace(J2 after, Cursor region, J formatted, Cursor parent) {
+        Set<Object> path = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Cursor c = region; c != null && c != parent; c = c.getParent()) {
+            path.add(c.getValue());
+        }
+        Object target = region.getValue();
+        return (J2) new JavaVisitor<Integer>() {
+            @Override
+            public @Nullable J visit(@Nullable Tree tree, Integer p) {
+                if (tree == target) {
+                    return formatted;
+                } else if (tree != null && !path.contains(tree)) {
+                    return (J) tree;
+                }
+                return super.visit(tree, p);
+            }
+        }.visitNonNull(after, 0, parent);
+    }
+
+    /**
+     * @return The cursors of the trees from {@code root} down to the tree at {@code cursor}, inclusive.
+     */
+    private static List<Cursor> treePath(Cursor cursor, J root) {
+        List<Cursor> path = new ArrayList<>();
+        for (Cursor c = cursor; c != null; c = c.getParent()) {
+            if (c.getValue() instanceof Tree) {
+                path.add(c);
+            }
+            if (c.getValue() == root) {
+                break;
+            }
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * A node's own whitespace and the ids of its children, and its children by id, without visiting the children.
+     */
+    private static class Shape extends JavaVisitor<Integer> {
+        private final J root;
+        private final List<Object> own = new ArrayList<>();
+        private final Map<UUID, J> children = new LinkedHashMap<>();
+
+        private Shape(J root) {
+            this.root = root;
+        }
+
+        static Shape of(J j) {
+            Shape shape = new Shape(j);
+            shape.visit(j, 0);
+            return shape;
+        }
+
+        @Override
+        public @Nullable J visit(@Nullable Tree tree, Integer p) {
+            if (tree != null && tree != root) {
+                own.add(tree.getId());
+                children.put(tree.getId(), (J) tree);
+                return (J) tree;
+            }
+            return super.visit(tree, p);
+        }
+
+        @Override
+        public Space visitSpace(@Nullable Space space, Space.Location loc, Integer p) {
+            own.add(space);
+            return space;
+        }
+    }
+}
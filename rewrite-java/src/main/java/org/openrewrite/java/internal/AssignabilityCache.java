@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Memoized results of {@link TypeUtils#isAssignableTo(JavaType, JavaType, TypeUtils.ComparisonContext)}, keyed by
+ * the identity of the two types and the comparison context. Types deduplicated by a {@link JavaTypeCache} are the
+ * same instance wherever they appear in a source set, so one cache per type cache turns the repeated walks of the
+ * same supertype hierarchies into lookups. Only comparisons in one of the root contexts
+ * ({@link TypeUtils.ComparisonContext#BOUND} and {@link TypeUtils.ComparisonContext#INFER}) are memoized, because a
+ * nested context carries the comparisons in progress and the answer in it may differ.
+ * <p>
+ * Memoization is opt-in: it only applies to comparisons made by a thread inside {@link #scope(Supplier)}, since
+ * types are mutable while they are being built. Any number of threads may share a cache.
+ */
+public class AssignabilityCache {
+    public static final int DEFAULT_MAXIMUM_SIZE = 100_000;
+
+    private static final ThreadLocal<@Nullable AssignabilityCache> CURRENT = new ThreadLocal<>();
+
+    private final Map<Key, Boolean> results = new ConcurrentHashMap<>();
+    private final int maximumSize;
+
+    public AssignabilityCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * @param maximumSize The number of results beyond which the cache is emptied, so that a cache kept for a long
+     *                    time doesn't grow with every pair of types ever compared.
+     */
+    public AssignabilityCache(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * @return The cache memoizing assignability checks on the current thread, if any.
+     */
+    public static @Nullable AssignabilityCache current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Memoize the assignability checks the current thread makes while producing a result.
+     */
+    public <T> T scope(Supplier<T> work) {
+        AssignabilityCache previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public @Nullable Boolean get(JavaType to, JavaType from, TypeUtils.ComparisonContext context) {
+        return results.get(new Key(to, from, context));
+    }
+
+    public void put(JavaType to, JavaType from, TypeUtils.ComparisonContext context, boolean assignable) {
+        if (results.size() >= maximumSize) {
+            results.clear();
+        }
+        results.put(new Key(to, from, context), assignable);
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    public void clear() {
+        results.clear();
+    }
+
+    private static class Key {
+        private final JavaType to;
+        private final JavaType from;
+        private final TypeUtils.ComparisonContext context;
+        private final int hash;
+
+        Key(JavaType to, JavaType from, TypeUtils.ComparisonContext context) {
+            this.to = to;
+            this.from = from;
+            this.context = context;
+            this.hash = (System.identityHashCode(to) * 31 + System.identityHashCode(from)) * 31 +
+                        System.identityHashCode(context);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return to == key.to && from == key.from && context == key.context;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
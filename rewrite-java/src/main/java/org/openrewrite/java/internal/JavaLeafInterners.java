@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal;
+
+import org.openrewrite.internal.Interner;
+import org.openrewrite.java.tree.Space;
+import org.openrewrite.java.tree.TextComment;
+import org.openrewrite.marker.Markers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The interners used by the Java, Kotlin, Groovy and C# parsers to share repeated
+ * LST leaves (whitespace, comments, identifier names and empty marker sets) between
+ * source files. Each interner may be replaced to tune the trade-off between memory
+ * retained by the interner itself and memory saved in the LSTs, e.g.
+ * {@link Interner#strong()} for short-lived CLI runs or {@link Interner#weak()} for
+ * daemons that parse many repositories over their lifetime.
+ */
+public final class JavaLeafInterners {
+    private static volatile Interner<Space> whitespace = Interner.lru(10_000);
+    private static volatile Interner<TextComment> comments = Interner.weak();
+    private static volatile Interner<String> names = Interner.weak();
+
+    private JavaLeafInterners() {
+    }
+
+    /**
+     * @param space A space with no comments.
+     * @return A shared space with the same whitespace.
+     */
+    public static Space whitespace(Space space) {
+        return whitespace.intern(space);
+    }
+
+    public static TextComment comment(TextComment comment) {
+        return comments.intern(comment);
+    }
+
+    public static String name(String name) {
+        return names.intern(name);
+    }
+
+    /**
+     * @param markers Markers, typically received from another process where
+     *                every tree carries its own empty marker set.
+     * @return {@link Markers#EMPTY} when {@code markers} is empty, otherwise {@code markers}.
+     * The id of an empty marker set is ignored, as {@link Markers#build} does, since
+     * every empty marker set would otherwise be distinct.
+     */
+    public static Markers markers(Markers markers) {
+        return markers.getMarkers().isEmpty() ? Markers.EMPTY : markers;
+    }
+
+    public static void setWhitespaceInterner(Interner<Space> interner) {
+        whitespace = interner;
+    }
+
+    public static void setCommentInterner(Interner<TextComment> interner) {
+        comments = interner;
+    }
+
+    public static void setNameInterner(Interner<String> interner) {
+        names = interner;
+    }
+
+    /**
+     * @return Statistics for each interner, keyed by the kind of leaf it interns.
+     */
+    public static Map<String, Interner.Stats> getStats() {
+        Map<String, Interner.Stats> stats = new LinkedHashMap<>();
+        stats.put("whitespace", whitespace.getStats());
+        stats.put("comments", comments.getStats());
+        stats.put("names", names.getStats());
+        return stats;
+    }
+
+    public static void clear() {
+        whitespace.clear();
+        comments.clear();
+        names.clear();
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Parser;
+import org.openrewrite.RecipeSerializer;
+import org.openrewrite.SourceFile;
+import org.openrewrite.internal.HashUtils;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.style.NamedStyles;
+import org.openrewrite.style.Style;
+import org.openrewrite.tree.ParseCache;
+import org.openrewrite.tree.ParsingExecutionContextView;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Consults the {@link ParseCache} on behalf of a javac-based {@link JavaParser}.
+ * <p>
+ * Sources parsed together are attributed against one another, so a batch is either served
+ * from the cache in its entirety or parsed in its entirety. Because javac accumulates the symbols
+ * of every batch it parses until it is reset, a batch is only served from the cache when the batches
+ * before it since the reset are unchanged too. The sources of batches served from the cache are
+ * only given to javac, with the result discarded, once a later batch that may refer to their types
+ * has to be parsed after all.
+ */
+public class JavaParseCaching {
+    private static final ObjectMapper MAPPER = new RecipeSerializer().getMapper();
+
+    private final String parserFingerprint;
+    private final Collection<byte[]> classBytesClasspath;
+
+    @Nullable
+    private final Collection<Parser.Input> dependsOn;
+
+    private Collection<Path> classpath;
+
+    @Nullable
+    private String classpathFingerprint;
+
+    /**
+     * The content of every batch since the last reset.
+     */
+    private String earlierBatches = "";
+
+    private List<Parser.Input> servedFromCache = new ArrayList<>();
+
+    public JavaParseCaching(String parserName, Charset charset, Collection<NamedStyles> styles,
+                            Collection<Path> classpath, Collection<byte[]> classBytesClasspath,
+                            @Nullable Collection<Parser.Input> dependsOn) {
+        this.parserFingerprint = parserName + ':' + charset.name() + ':' + stylesFingerprint(styles);
+        this.classBytesClasspath = classBytesClasspath;
+        this.dependsOn = dependsOn;
+        this.classpath = classpath;
+    }
+
+    public Stream<SourceFile> parseInputs(JavaParser parser, JavaParser delegate, Iterable<Parser.Input> sourceFiles,
+                                          @Nullable Path relativeTo, ExecutionContext ctx) {
+        if (ParsingExecutionContextView.view(ctx).getParseCache() == null) {
+            enterServedFromCache(delegate, relativeTo, ctx);
+            return delegate.parseInputs(sourceFiles, relativeTo, ctx);
+        }
+        if (classpathFingerprint == null) {
+            classpathFingerprint = classpathFingerprint();
+        }
+
+        List<Parser.Input> inputs = parser.acceptedInputs(sourceFiles).collect(toList());
+        String batchFingerprint = parserFingerprint + ':' + earlierBatches;
+        earlierBatches = batchesFingerprint(earlierBatches, inputs, ctx);
+
+        boolean[] parsed = {false};
+        Stream<SourceFile> sourceFileStream = ParseCache.parseInputs(parser, inputs, relativeTo, ctx,
+                batchFingerprint, classpathFingerprint, false, misses -> {
+                    parsed[0] = true;
+                    enterServedFromCache(delegate, relativeTo, ctx);
+                    return delegate.parseInputs(misses, relativeTo, ctx);
+                });
+        if (!parsed[0]) {
+            servedFromCache.addAll(inputs);
+        }
+        return sourceFileStream;
+    }
+
+    public void reset() {
+        earlierBatches = "";
+        servedFromCache = new ArrayList<>();
+    }
+
+    public void setClasspath(Collection<Path> classpath) {
+        this.classpath = classpath;
+        this.classpathFingerprint = null;
+    }
+
+    private void enterServedFromCache(JavaParser delegate, @Nullable Path relativeTo, ExecutionContext ctx) {
+        if (!servedFromCache.isEmpty()) {
+            List<Parser.Input> enter = servedFromCache;
+            servedFromCache = new ArrayList<>();
+            delegate.parseInputs(enter, relativeTo, ctx).forEach(sourceFile -> {
+            });
+        }
+    }
+
+    private static String batchesFingerprint(String earlierBatches, List<Parser.Input> batch, ExecutionContext ctx) {
+        MessageDigest digest = HashUtils.sha256();
+        digest.update(earlierBatches.getBytes(StandardCharsets.UTF_8));
+        for (Parser.Input input : batch) {
+            digest.update(input.getPath().toString().getBytes(StandardCharsets.UTF_8));
+            digest.update(input.getSource(ctx).readFully().getBytes(StandardCharsets.UTF_8));
+        }
+        return HashUtils.hex(digest.digest());
+    }
+
+    /**
+     * Styles are part of the LST, so a style changed under the same name must not serve trees parsed with the old one.
+     */
+    private static String stylesFingerprint(Collection<NamedStyles> styles) {
+        MessageDigest digest = HashUtils.sha256();
+        for (NamedStyles namedStyles : styles) {
+            digest.update(namedStyles.getName().getBytes(StandardCharsets.UTF_8));
+            for (Style style : namedStyles.getStyles()) {
+                try {
+                    digest.update(MAPPER.writeValueAsBytes(style));
+                } catch (JsonProcessingException e) {
+                    digest.update(style.toString().getBytes(StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return HashUtils.hex(digest.digest());
+    }
+
+    private String classpathFingerprint() {
+        if (classBytesClasspath.isEmpty() && (dependsOn == null || dependsOn.isEmpty())) {
+            return ParseCache.fingerprint(classpath);
+        }
+        MessageDigest digest = HashUtils.sha256();
+        digest.update(ParseCache.fingerprint(classpath).getBytes(StandardCharsets.UTF_8));
+        for (byte[] classBytes : classBytesClasspath) {
+            digest.update(classBytes);
+        }
+        if (dependsOn != null) {
+            ExecutionContext ctx = new InMemoryExecutionContext();
+            for (Parser.Input input : dependsOn) {
+                digest.update(input.getSource(ctx).readFully().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return HashUtils.hex(digest.digest());
+    }
+}
@@ -19,7 +19,9 @@
 import org.openrewrite.internal.AdaptiveRadixTree;
 
 import java.lang.reflect.Field;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
+import java.util.function.BiConsumer;
 
 public class JavaTypeCache implements Cloneable {
 
@@ -27,6 +29,8 @@ public class JavaTypeCache implements Cloneable {
 
     @Nullable JavaTypeCache base;
 
+    private volatile @Nullable AssignabilityCache assignabilityCache;
+
     public <T> @Nullable T get(String signature) {
         //noinspection unchecked
         T result = (T) typeCache.search(getKeyBytes(signature));
@@ -40,8 +44,44 @@ public void put(String signature, Object o) {
         typeCache.insert(getKeyBytes(signature), o);
     }
 
+    /**
+     * Visit every signature and its cached value, including those of the base that are not
+     * shadowed by this cache.
+     */
+    public void forEach(BiConsumer<String, Object> action) {
+        if (base != null) {
+            base.forEach((signature, o) -> {
+                if (typeCache.search(getKeyBytes(signature)) == null) {
+                    action.accept(signature, o);
+                }
+            });
+        }
+        typeCache.forEach((key, o) -> action.accept(getSignature(key), o));
+    }
+
+    /**
+     * @return The assignability results among the types deduplicated by this cache, for use with
+     * {@link AssignabilityCache#scope(java.util.function.Supplier)}.
+     */
+    public AssignabilityCache getAssignabilityCache() {
+        AssignabilityCache cache = assignabilityCache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = assignabilityCache;
+                if (cache == null) {
+                    assignabilityCache = cache = new AssignabilityCache();
+                }
+            }
+        }
+        return cache;
+    }
+
     public void clear() {
         typeCache.clear();
+        AssignabilityCache cache = assignabilityCache;
+        if (cache != null) {
+            cache.clear();
+        }
         // base is intentionally NOT cleared — it may be shared
     }
 
@@ -51,6 +91,7 @@ public JavaTypeCache clone() {
             JavaTypeCache clone = (JavaTypeCache) super.clone();
             clone.base = this;
             clone.typeCache = new AdaptiveRadixTree<>();
+            clone.assignabilityCache = null;
             return clone;
         } catch (CloneNotSupportedException e) {
             throw new RuntimeException(e);
@@ -128,4 +169,19 @@ static byte[] getKeyBytes(String s) {
 
         return s.getBytes(StandardCharsets.UTF_8);
     }
+
+    /**
+     * The inverse of {@link #getKeyBytes(String)}.
+     */
+    static String getSignature(byte[] key) {
+        if (USE_REFLECTION) {
+            if (key.length % 2 == 1 && key[key.length - 1] == 0) {
+                // UTF-16 in the platform's byte order, as String stores it, followed by the NUL byte
+                return new String(key, 0, key.length - 1, ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ?
+                        StandardCharsets.UTF_16BE : StandardCharsets.UTF_16LE);
+            }
+            return new String(key, StandardCharsets.ISO_8859_1);
+        }
+        return new String(key, StandardCharsets.UTF_8);
+    }
 }
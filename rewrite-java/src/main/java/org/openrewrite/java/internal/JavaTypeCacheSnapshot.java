@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Incubating;
+import org.openrewrite.RecipeSerializer;
+import org.openrewrite.internal.HashUtils;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.JavaType;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.synchronizedMap;
+
+/**
+ * A {@link JavaTypeCache} written to a file, so that the types of the JDK and of a classpath that were mapped once
+ * can be the {@link JavaTypeCache#withBase(JavaTypeCache) base} of the caches of parsers in subsequent runs. A
+ * snapshot is written with a version, typically from {@link #version(JavaParser.Builder)}, and is only loaded for the
+ * same version, so that a snapshot of one JDK or classpath is never used with another.
+ * <p>
+ * The types of a loaded snapshot are a read-only base that is never exposed, under a cache that can be used like any
+ * other, including being cleared when a parser is reset. The types of a snapshot are decoded once per process and
+ * shared by every cache loaded from the same unchanged file.
+ */
+@Incubating(since = "8.88.0")
+public final class JavaTypeCacheSnapshot {
+    private static final int MAGIC = 0x52574a43; // "RWJC"
+    private static final int FORMAT_VERSION = 1;
+
+    private static final ObjectMapper MAPPER = new RecipeSerializer().getMapper();
+
+    /**
+     * Few snapshots are loaded in one process, and each holds the types of a whole JDK or classpath, so only the
+     * most recently loaded are kept decoded.
+     */
+    private static final int MAX_DECODED = 4;
+
+    /**
+     * Decoded snapshots, keyed by the path, size, and modification time of their file and their version, so that a
+     * file replaced by a newer snapshot is decoded again.
+     */
+    private static final Map<String, JavaTypeCache> DECODED = synchronizedMap(
+            new LinkedHashMap<String, JavaTypeCache>(MAX_DECODED + 1, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, JavaTypeCache> eldest) {
+                    return size() > MAX_DECODED;
+                }
+            });
+
+    private JavaTypeCacheSnapshot() {
+    }
+
+    /**
+     * @return A version that differs between parsers of different JDKs, classpaths, or versions of rewrite, which
+     * would each map different types. A classpath entry rebuilt in place, with a different size or modification time,
+     * is a different classpath.
+     */
+    public static String version(JavaParser.Builder<?, ?> builder) {
+        String rewriteVersion = JavaTypeCacheSnapshot.class.getPackage().getImplementationVersion();
+        String fingerprint = System.getProperty("java.vendor") + '\n' +
+                             System.getProperty("java.version") + '\n' +
+                             (rewriteVersion == null ? "dev" : rewriteVersion) + '\n' +
+                             builder.classpathFingerprint();
+        return HashUtils.sha256Hex(fingerprint);
+    }
+
+    /**
+     * Write the types of a cache, including those of its base, to a file. The file is replaced atomically where the
+     * file system supports it, so processes loading it concurrently see either the previous snapshot or this one.
+     */
+    public static void write(JavaTypeCache cache, Path file, String version) throws IOException {
+        Map<String, JavaType> types = new LinkedHashMap<>();
+        cache.forEach((signature, o) -> {
+            if (o instanceof JavaType) {
+                types.put(signature, (JavaType) o);
+            }
+        });
+
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(version);
+                // a single document, so that types referenced from many entries are written once
+                MAPPER.writeValue(out, types);
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * @return A new cache whose base is the types of the snapshot, or {@code null} if there is no snapshot of this
+     * version at that path. Caches loaded from the same unchanged file share one decoded base.
+     */
+    public static @Nullable JavaTypeCache load(Path file, String version) {
+        String key;
+        try {
+            key = file.toAbsolutePath() + "\n" + Files.size(file) + "\n" +
+                  Files.getLastModifiedTime(file).toMillis() + "\n" + version;
+        } catch (IOException e) {
+            return null;
+        }
+        JavaTypeCache snapshot = DECODED.get(key);
+        if (snapshot == null) {
+            // decoded outside the lock, so that loading one snapshot doesn't wait on decoding another
+            JavaTypeCache decoded = read(file, version);
+            if (decoded == null) {
+                return null;
+            }
+            JavaTypeCache existing = DECODED.putIfAbsent(key, decoded);
+            snapshot = existing == null ? decoded : existing;
+        }
+        return JavaTypeCache.withBase(snapshot);
+    }
+
+    /**
+     * @return A new cache whose base is the types of the snapshot, or an empty cache if there is no snapshot of this
+     * version at that path.
+     */
+    public static JavaTypeCache newCache(Path file, String version) {
+        JavaTypeCache cache = load(file, version);
+        return cache == null ? new JavaTypeCache() : cache;
+    }
+
+    private static @Nullable JavaTypeCache read(Path file, String version) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // mapped rather than read onto the heap, since only the decoded types need to stay in memory
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            DataInputStream in = new DataInputStream(new ByteBufferInputStream(buffer));
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || !version.equals(in.readUTF())) {
+                return null;
+            }
+            Map<String, JavaType> types = MAPPER.readValue(in, new TypeReference<Map<String, JavaType>>() {
+            });
+            JavaTypeCache snapshot = new JavaTypeCache();
+            for (Map.Entry<String, JavaType> type : types.entrySet()) {
+                snapshot.put(type.getKey(), type.getValue());
+            }
+            return snapshot;
+        } catch (IOException | RuntimeException e) {
+            // truncated or written by an incompatible type model, so the same as having no snapshot
+            return null;
+        }
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
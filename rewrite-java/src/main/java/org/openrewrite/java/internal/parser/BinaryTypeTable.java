@@ -0,0 +1,328 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal.parser;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Incubating;
+
+import java.io.*;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * An indexed binary form of a {@link TypeTable}, holding the same rows as the TSV form, laid out so that a reader
+ * can go straight to the rows of the artifacts it needs without inflating and parsing the rows of every other
+ * artifact in the table. Tables on the file system are memory-mapped, so only the pages of the requested artifacts
+ * are ever read.
+ * <p>
+ * The layout, with all numbers as big-endian 32-bit integers:
+ * <ul>
+ *     <li>A header: magic, format version, string count, GAV count, and the positions of the string offsets,
+ *     the GAV index and the rows.</li>
+ *     <li>The string table: the position of each string's UTF-8 bytes, followed by one more position marking
+ *     the end of the last string, and then the bytes themselves. Every string in the table is stored once.</li>
+ *     <li>The GAV index: the groupId, artifactId and version of each artifact as string ids, with the index of
+ *     its first row and its number of rows.</li>
+ *     <li>The rows: fixed width records of the class and member access flags and a string id for each of the
+ *     other TSV columns, grouped by artifact and, within an artifact, by class. A string id of -1 is null.</li>
+ * </ul>
+ */
+@Incubating(since = "8.88.0")
+public class BinaryTypeTable {
+    public static final String DEFAULT_RESOURCE_PATH = "META-INF/rewrite/classpath.ttb";
+
+    private static final int MAGIC = 0x52575454; // "RWTT"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 7 * 4;
+    private static final int GAV_SIZE = 5 * 4;
+    private static final int ROW_FIELDS = 16;
+    private static final int ROW_SIZE = ROW_FIELDS * 4;
+    private static final int NULL = -1;
+
+    private final ByteBuffer buffer;
+    private final int stringCount;
+    private final int gavCount;
+    private final int stringOffsetsPosition;
+    private final int gavIndexPosition;
+    private final int rowsPosition;
+
+    /**
+     * Decoded strings, so that a string referenced by many rows is only decoded once. Strings are immutable, so
+     * concurrent readers racing to decode the same string is harmless.
+     */
+    private final @Nullable String[] strings;
+
+    BinaryTypeTable(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a binary type table");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported binary type table version " + buffer.getInt(4));
+        }
+        this.stringCount = buffer.getInt(8);
+        this.gavCount = buffer.getInt(12);
+        this.stringOffsetsPosition = buffer.getInt(16);
+        this.gavIndexPosition = buffer.getInt(20);
+        this.rowsPosition = buffer.getInt(24);
+        this.strings = new String[stringCount];
+    }
+
+    /**
+     * Memory-map a binary type table on the file system.
+     */
+    public static BinaryTypeTable open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // the mapping remains valid after the channel is closed
+            return new BinaryTypeTable(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Open a binary type table, memory-mapping it if it is a file, and otherwise (e.g. when it is an entry of a
+     * recipe jar) reading it into memory.
+     */
+    public static BinaryTypeTable open(URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return open(Paths.get(url.toURI()));
+            } catch (URISyntaxException ignored) {
+                // fall through to reading the stream
+            }
+        }
+        try (InputStream is = url.openStream()) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] chunk = new byte[8192];
+            int n;
+            while ((n = is.read(chunk)) != -1) {
+                bytes.write(chunk, 0, n);
+            }
+            return new BinaryTypeTable(ByteBuffer.wrap(bytes.toByteArray()));
+        }
+    }
+
+    public int getGavCount() {
+        return gavCount;
+    }
+
+    TypeTable.GroupArtifactVersion getGav(int gav) {
+        int position = gavIndexPosition + gav * GAV_SIZE;
+        return new TypeTable.GroupArtifactVersion(
+                requireString(buffer.getInt(position)),
+                requireString(buffer.getInt(position + 4)),
+                requireString(buffer.getInt(position + 8)));
+    }
+
+    /**
+     * @return The "artifactId-version" of an artifact, which is what type table artifact names are matched against.
+     */
+    public String getArtifactVersion(int gav) {
+        int position = gavIndexPosition + gav * GAV_SIZE;
+        return requireString(buffer.getInt(position + 4)) + "-" + requireString(buffer.getInt(position + 8));
+    }
+
+    void forEachRow(int gav, Consumer<TypeTable.TsvRow> consumer) {
+        TypeTable.GroupArtifactVersion groupArtifactVersion = getGav(gav);
+        int position = gavIndexPosition + gav * GAV_SIZE;
+        int firstRow = buffer.getInt(position + 12);
+        int rowCount = buffer.getInt(position + 16);
+        for (int row = firstRow; row < firstRow + rowCount; row++) {
+            consumer.accept(getRow(groupArtifactVersion, row));
+        }
+    }
+
+    private TypeTable.TsvRow getRow(TypeTable.GroupArtifactVersion gav, int row) {
+        int p = rowsPosition + row * ROW_SIZE;
+        return TypeTable.TsvRow.builder()
+                .groupId(gav.getGroupId()).artifactId(gav.getArtifactId()).version(gav.getVersion())
+                .classAccess(buffer.getInt(p))
+                .memberAccess(buffer.getInt(p + 4))
+                .className(requireString(buffer.getInt(p + 8)))
+                .classSignature(requireString(buffer.getInt(p + 12)))
+                .classSuperclassName(getString(buffer.getInt(p + 16)))
+                .classSuperinterfaceSignatures(requireString(buffer.getInt(p + 20)))
+                .memberName(requireString(buffer.getInt(p + 24)))
+                .descriptor(requireString(buffer.getInt(p + 28)))
+                .signature(requireString(buffer.getInt(p + 32)))
+                .parameterNames(requireString(buffer.getInt(p + 36)))
+                .exceptions(requireString(buffer.getInt(p + 40)))
+                .elementAnnotations(requireString(buffer.getInt(p + 44)))
+                .parameterAnnotations(requireString(buffer.getInt(p + 48)))
+                .typeAnnotations(requireString(buffer.getInt(p + 52)))
+                .constantValue(requireString(buffer.getInt(p + 56)))
+                .innerClasses(requireString(buffer.getInt(p + 60)))
+                .build();
+    }
+
+    private String requireString(int id) {
+        String s = getString(id);
+        if (s == null) {
+            throw new IllegalStateException("Missing string in binary type table");
+        }
+        return s;
+    }
+
+    private @Nullable String getString(int id) {
+        if (id == NULL) {
+            return null;
+        }
+        String s = strings[id];
+        if (s == null) {
+            int start = buffer.getInt(stringOffsetsPosition + id * 4);
+            int end = buffer.getInt(stringOffsetsPosition + (id + 1) * 4);
+            byte[] bytes = new byte[end - start];
+            ByteBuffer slice = buffer.duplicate();
+            slice.position(start);
+            slice.get(bytes);
+            s = new String(bytes, StandardCharsets.UTF_8);
+            strings[id] = s;
+        }
+        return s;
+    }
+
+    /**
+     * Convert a gzipped TSV type table into a binary type table.
+     */
+    public static void convert(Path tsvGz, Path binary) throws IOException {
+        try (InputStream is = new GZIPInputStream(Files.newInputStream(tsvGz));
+             OutputStream out = Files.newOutputStream(binary)) {
+            convert(is, out);
+        }
+    }
+
+    /**
+     * Convert an uncompressed TSV type table into a binary type table. The binary table isn't compressed, so that it
+     * can be memory-mapped, but stores each distinct string only once.
+     */
+    public static void convert(InputStream tsv, OutputStream binary) throws IOException {
+        Map<String, Integer> stringIds = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        Map<TypeTable.GroupArtifactVersion, List<int[]>> rowsByGav = new LinkedHashMap<>();
+
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(tsv, StandardCharsets.UTF_8))) {
+            in.readLine(); // skip the header row
+            String line;
+            while ((line = in.readLine()) != null) {
+                TypeTable.TsvRow row = TypeTable.TsvRow.parse(line);
+                TypeTable.GroupArtifactVersion gav = new TypeTable.GroupArtifactVersion(
+                        row.getGroupId(), row.getArtifactId(), row.getVersion());
+                intern(gav.getGroupId(), stringIds, strings);
+                intern(gav.getArtifactId(), stringIds, strings);
+                intern(gav.getVersion(), stringIds, strings);
+                rowsByGav.computeIfAbsent(gav, g -> new ArrayList<>()).add(new int[]{
+                        row.getClassAccess(),
+                        row.getMemberAccess(),
+                        intern(row.getClassName(), stringIds, strings),
+                        intern(row.getClassSignature(), stringIds, strings),
+                        intern(row.getClassSuperclassName(), stringIds, strings),
+                        intern(row.getClassSuperinterfaceSignatures(), stringIds, strings),
+                        intern(row.getMemberName(), stringIds, strings),
+                        intern(row.getDescriptor(), stringIds, strings),
+                        intern(row.getSignature(), stringIds, strings),
+                        intern(row.getParameterNames(), stringIds, strings),
+                        intern(row.getExceptions(), stringIds, strings),
+                        intern(row.getElementAnnotations(), stringIds, strings),
+                        intern(row.getParameterAnnotations(), stringIds, strings),
+                        intern(row.getTypeAnnotations(), stringIds, strings),
+                        intern(row.getConstantValue(), stringIds, strings),
+                        intern(row.getInnerClasses(), stringIds, strings)
+                });
+            }
+        }
+
+        List<byte[]> encoded = new ArrayList<>(strings.size());
+        long stringBytes = 0;
+        for (String s : strings) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            encoded.add(bytes);
+            stringBytes += bytes.length;
+        }
+        int rowCount = 0;
+        for (List<int[]> rows : rowsByGav.values()) {
+            rowCount += rows.size();
+        }
+
+        int stringOffsetsPosition = HEADER_SIZE;
+        long stringsPosition = stringOffsetsPosition + (strings.size() + 1) * 4L;
+        long gavIndexPosition = stringsPosition + stringBytes;
+        long rowsPosition = gavIndexPosition + (long) rowsByGav.size() * GAV_SIZE;
+        if (rowsPosition + (long) rowCount * ROW_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Type table is too large for the binary type table format");
+        }
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(binary));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(strings.size());
+        out.writeInt(rowsByGav.size());
+        out.writeInt(stringOffsetsPosition);
+        out.writeInt((int) gavIndexPosition);
+        out.writeInt((int) rowsPosition);
+
+        int position = (int) stringsPosition;
+        for (byte[] bytes : encoded) {
+            out.writeInt(position);
+            position += bytes.length;
+        }
+        out.writeInt(position);
+        for (byte[] bytes : encoded) {
+            out.write(bytes);
+        }
+
+        int firstRow = 0;
+        for (Map.Entry<TypeTable.GroupArtifactVersion, List<int[]>> gavRows : rowsByGav.entrySet()) {
+            TypeTable.GroupArtifactVersion gav = gavRows.getKey();
+            out.writeInt(stringIds.get(gav.getGroupId()));
+            out.writeInt(stringIds.get(gav.getArtifactId()));
+            out.writeInt(stringIds.get(gav.getVersion()));
+            out.writeInt(firstRow);
+            out.writeInt(gavRows.getValue().size());
+            firstRow += gavRows.getValue().size();
+        }
+
+        for (List<int[]> rows : rowsByGav.values()) {
+            for (int[] row : rows) {
+                for (int field : row) {
+                    out.writeInt(field);
+                }
+            }
+        }
+        out.flush();
+    }
+
+    private static int intern(@Nullable String s, Map<String, Integer> stringIds, List<String> strings) {
+        if (s == null) {
+            return NULL;
+        }
+        Integer id = stringIds.get(s);
+        if (id == null) {
+            id = strings.size();
+            strings.add(s);
+            stringIds.put(s, id);
+        }
+        return id;
+    }
+}
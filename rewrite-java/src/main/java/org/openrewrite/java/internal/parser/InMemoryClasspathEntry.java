@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal.parser;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Incubating;
+import org.openrewrite.internal.HashUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.*;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * The classes of one artifact, held in memory and indexed by package, for a parser to read directly rather than
+ * from a jar. Entries are immutable, so one entry is shared by every parser that has the artifact on its classpath.
+ */
+@Incubating(since = "8.88.0")
+public final class InMemoryClasspathEntry {
+    private final String name;
+    private final Map<String, Map<String, byte[]>> classesByPackage;
+    private final int classCount;
+
+    private volatile @Nullable String contentHash;
+
+    /**
+     * @param name                  A name for the artifact, such as its GAV coordinates, that is the same for
+     *                              entries holding the same classes.
+     * @param classesByInternalName Class bytes, keyed by the internal name of the class, such as
+     *                              {@code com/example/Outer$Inner}.
+     */
+    public InMemoryClasspathEntry(String name, Map<String, byte[]> classesByInternalName) {
+        this.name = name;
+        Map<String, Map<String, byte[]>> byPackage = new HashMap<>();
+        for (Map.Entry<String, byte[]> classBytes : classesByInternalName.entrySet()) {
+            String internalName = classBytes.getKey();
+            int lastSlash = internalName.lastIndexOf('/');
+            String packageName = lastSlash == -1 ? "" : internalName.substring(0, lastSlash).replace('/', '.');
+            byPackage.computeIfAbsent(packageName, p -> new HashMap<>())
+                    .put(internalName.substring(lastSlash + 1), classBytes.getValue());
+        }
+        for (Map.Entry<String, Map<String, byte[]>> packageClasses : byPackage.entrySet()) {
+            packageClasses.setValue(unmodifiableMap(packageClasses.getValue()));
+        }
+        this.classesByPackage = unmodifiableMap(byPackage);
+        this.classCount = classesByInternalName.size();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Set<String> getPackages() {
+        return classesByPackage.keySet();
+    }
+
+    /**
+     * @param packageName A package name, such as {@code com.example}.
+     * @return The class bytes of the classes in the package, keyed by their binary name without the package, such
+     * as {@code Outer$Inner}.
+     */
+    public Map<String, byte[]> getClasses(String packageName) {
+        return classesByPackage.getOrDefault(packageName, emptyMap());
+    }
+
+    /**
+     * @return A SHA-256 digest of the names and bytes of every class in the entry, computed on first use.
+     */
+    public String getContentHash() {
+        String hash = contentHash;
+        if (hash == null) {
+            MessageDigest digest = HashUtils.sha256();
+            for (Map.Entry<String, Map<String, byte[]>> packageClasses : new TreeMap<>(classesByPackage).entrySet()) {
+                for (Map.Entry<String, byte[]> classBytes : new TreeMap<>(packageClasses.getValue()).entrySet()) {
+                    digest.update((packageClasses.getKey() + '/' + classBytes.getKey()).getBytes(StandardCharsets.UTF_8));
+                    digest.update((byte) 0);
+                    digest.update(classBytes.getValue());
+                }
+            }
+            hash = HashUtils.hex(digest.digest());
+            contentHash = hash;
+        }
+        return hash;
+    }
+
+    public Collection<byte[]> getAllClassBytes() {
+        List<byte[]> all = new ArrayList<>(classCount);
+        for (Map<String, byte[]> packageClasses : classesByPackage.values()) {
+            all.addAll(packageClasses.values());
+        }
+        return all;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -87,6 +87,9 @@
  * <p>
  * To read a compressed type table file (which is compressed with gzip), the following command can be used:
  * <code>gzcat types.tsv.gz</code>.
+ * <p>
+ * A type table can also be converted to the indexed {@link BinaryTypeTable} form, which is read in preference
+ * to the TSV when a classpath entry has both, since it lets a reader go straight to the requested artifacts.
  */
 @Incubating(since = "8.44.0")
 @Value
@@ -102,15 +105,42 @@ public class TypeTable implements JavaParserClasspathLoader {
 
     private static final Map<GroupArtifactVersion, CompletableFuture<Path>> jarByArtifact = new ConcurrentHashMap<>();
 
+    /**
+     * Classes of artifacts read while {@link JavaParserExecutionContextView#isParserClasspathInMemory()}, shared
+     * by every parser with the artifact on its classpath in place of a jar on disk.
+     */
+    private static final Map<GroupArtifactVersion, CompletableFuture<InMemoryClasspathEntry>> classesByArtifact = new ConcurrentHashMap<>();
+
+    /**
+     * Artifact names are matched as regular expressions against "artifactId-version", and the same few names
+     * are matched over and over, so their patterns are compiled once.
+     */
+    private static final Map<String, Pattern> artifactPatterns = new ConcurrentHashMap<>();
+
     public static @Nullable TypeTable fromClasspath(ExecutionContext ctx, Collection<String> artifactNames) {
         try {
             ClassLoader callerClassLoader = findCaller().getClassLoader();
             ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
 
-            Set<URL> seen = new LinkedHashSet<>();
-            collectResources(callerClassLoader, DEFAULT_RESOURCE_PATH, seen);
+            Set<URL> binary = new LinkedHashSet<>();
+            collectResources(callerClassLoader, BinaryTypeTable.DEFAULT_RESOURCE_PATH, binary);
+            Set<URL> tsv = new LinkedHashSet<>();
+            collectResources(callerClassLoader, DEFAULT_RESOURCE_PATH, tsv);
             if (contextClassLoader != null && contextClassLoader != callerClassLoader) {
-                collectResources(contextClassLoader, DEFAULT_RESOURCE_PATH, seen);
+                collectResources(contextClassLoader, BinaryTypeTable.DEFAULT_RESOURCE_PATH, binary);
+                collectResources(contextClassLoader, DEFAULT_RESOURCE_PATH, tsv);
+            }
+
+            // prefer the indexed binary table over the TSV wherever a classpath entry has both
+            Set<String> binaryLocations = new HashSet<>();
+            for (URL url : binary) {
+                binaryLocations.add(location(url, BinaryTypeTable.DEFAULT_RESOURCE_PATH));
+            }
+            Set<URL> seen = new LinkedHashSet<>(binary);
+            for (URL url : tsv) {
+                if (!binaryLocations.contains(location(url, DEFAULT_RESOURCE_PATH))) {
+                    seen.add(url);
+                }
             }
 
             if (!seen.isEmpty()) {
@@ -122,6 +152,11 @@ public class TypeTable implements JavaParserClasspathLoader {
         }
     }
 
+    private static String location(URL resource, String resourcePath) {
+        String url = resource.toString();
+        return url.substring(0, url.length() - resourcePath.length());
+    }
+
     private static void collectResources(ClassLoader classLoader, String resourcePath, Set<URL> target) throws IOException {
         for (Enumeration<URL> e = classLoader.getResources(resourcePath); e.hasMoreElements(); ) {
             target.add(e.nextElement());
@@ -139,13 +174,22 @@ private static void collectResources(ClassLoader classLoader, String resourcePat
     }
 
     private static void read(URL url, Collection<String> artifactNames, ExecutionContext ctx) {
-        Collection<String> missingArtifacts = artifactsNotYetWritten(artifactNames);
+        Collection<String> missingArtifacts = artifactsNotYetWritten(artifactNames,
+                JavaParserExecutionContextView.view(ctx).isParserClasspathInMemory() ? classesByArtifact : jarByArtifact);
         if (missingArtifacts.isEmpty()) {
             // all artifacts have already been extracted
             return;
         }
 
         Reader.Options options = Reader.Options.builder().artifactPrefixes(artifactNames).build();
+        if (url.getPath().endsWith(".ttb")) {
+            try {
+                new Reader(ctx).read(BinaryTypeTable.open(url), options);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return;
+        }
         try (InputStream is = url.openStream(); InputStream inflate = new GZIPInputStream(is)) {
             new Reader(ctx).read(inflate, options);
         } catch (ZipException e) {
@@ -160,21 +204,33 @@ private static void read(URL url, Collection<String> artifactNames, ExecutionCon
         }
     }
 
-    private static Collection<String> artifactsNotYetWritten(Collection<String> artifactNames) {
-        Collection<String> notWritten = new ArrayList<>(artifactNames);
+    private static Collection<String> artifactsNotYetWritten(Collection<String> artifactNames,
+                                                             Map<GroupArtifactVersion, ? extends CompletableFuture<?>> written) {
+        Collection<String> notWritten = new ArrayList<>(artifactNames.size());
         for (String artifactName : artifactNames) {
-            Pattern artifactPattern = Pattern.compile(artifactName + ".*");
-            for (GroupArtifactVersion groupArtifactVersion : jarByArtifact.keySet()) {
-                if (artifactPattern
-                        .matcher(groupArtifactVersion.getArtifactId() + "-" + groupArtifactVersion.getVersion())
-                        .matches()) {
-                    notWritten.remove(artifactName);
-                }
+            if (findWritten(artifactName, written) == null) {
+                notWritten.add(artifactName);
             }
         }
         return notWritten;
     }
 
+    private static <T extends CompletableFuture<?>> @Nullable T findWritten(String artifactName,
+                                                                         Map<GroupArtifactVersion, T> written) {
+        Pattern artifactPattern = artifactPattern(artifactName);
+        for (Map.Entry<GroupArtifactVersion, T> gavAndWritten : written.entrySet()) {
+            GroupArtifactVersion gav = gavAndWritten.getKey();
+            if (artifactPattern.matcher(gav.getArtifactId() + "-" + gav.getVersion()).matches()) {
+                return gavAndWritten.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static Pattern artifactPattern(String artifactName) {
+        return artifactPatterns.computeIfAbsent(artifactName, name -> Pattern.compile(name + ".*"));
+    }
+
     /**
      * Reads a type table from the classpath, and writes per-artifact JARs to disk for matching artifact names.
      * <p>
@@ -216,7 +272,7 @@ public static class Builder {
                  */
                 public Builder artifactPrefixes(Collection<String> artifactPrefixes) {
                     Set<Pattern> patterns = artifactPrefixes.stream()
-                            .map(prefix -> Pattern.compile(prefix + ".*"))
+                            .map(TypeTable::artifactPattern)
                             .collect(toSet());
                     this.artifactMatcher(artifactVersion -> patterns.stream()
                             .anyMatch(pattern -> pattern.matcher(artifactVersion).matches()));
@@ -233,7 +289,7 @@ public Builder artifactPrefixes(Collection<String> artifactPrefixes) {
         private final ExecutionContext ctx;
 
         public void read(InputStream is, Options options) throws IOException {
-            parseTsvAndProcess(is, options, this::writeJar);
+            parseTsvAndProcess(is, options, materializer());
         }
 
         /**
@@ -253,15 +309,18 @@ public void read(InputStream is, Options options, Supplier<ClassVisitor> visitor
          */
         public void read(InputStream is, Options options, Supplier<ClassVisitor> visitorSupplier,
                          ResourceConsumer resourceConsumer) throws IOException {
-            parseTsvAndProcess(is, options,
-                    (gav, classes, nestedTypes, resources) -> {
-                        for (ClassDefinition classDef : classes.values()) {
-                            processClass(classDef, nestedTypes.getOrDefault(classDef.getName(), emptyList()), visitorSupplier.get());
-                        }
-                        for (Map.Entry<String, byte[]> e : resources.entrySet()) {
-                            resourceConsumer.accept(e.getKey(), e.getValue());
-                        }
-                    });
+            parseTsvAndProcess(is, options, visiting(visitorSupplier, resourceConsumer));
+        }
+
+        private ClassesProcessor visiting(Supplier<ClassVisitor> visitorSupplier, ResourceConsumer resourceConsumer) {
+            return (gav, classes, nestedTypes, resources) -> {
+                for (ClassDefinition classDef : classes.values()) {
+                    processClass(classDef, nestedTypes.getOrDefault(classDef.getName(), emptyList()), visitorSupplier.get());
+                }
+                for (Map.Entry<String, byte[]> e : resources.entrySet()) {
+                    resourceConsumer.accept(e.getKey(), e.getValue());
+                }
+            };
         }
 
         /**
@@ -270,74 +329,117 @@ public void read(InputStream is, Options options, Supplier<ClassVisitor> visitor
          */
         public void parseTsvAndProcess(InputStream is, Options options,
                                         ClassesProcessor processor) throws IOException {
-            GroupArtifactVersion matchedGav = null;
-            Map<String, ClassDefinition> classesByName = new HashMap<>();
-            // nested types appear first in type tables and therefore not stored in a `ClassDefinition` field
-            Map<String, List<ClassDefinition>> nestedTypesByOwner = new HashMap<>();
-            Map<String, byte[]> resourcesByPath = new LinkedHashMap<>();
-
+            RowGrouper rows = new RowGrouper(options, processor);
             try (BufferedReader in = new BufferedReader(new InputStreamReader(is))) {
-                GroupArtifactVersion lastGav = null;
                 in.readLine(); // skip the header row
                 String line;
                 while ((line = in.readLine()) != null) {
-                    TsvRow row = TsvRow.parse(line);
-                    GroupArtifactVersion rowGav = new GroupArtifactVersion(row.getGroupId(), row.getArtifactId(), row.getVersion());
+                    rows.accept(TsvRow.parse(line));
+                }
+            }
+            rows.finish();
+        }
 
-                    if (!Objects.equals(rowGav, lastGav)) {
-                        if (matchedGav != null) {
-                            processor.accept(matchedGav, classesByName, nestedTypesByOwner, resourcesByPath);
-                        }
-                        matchedGav = null;
-                        classesByName.clear();
-                        nestedTypesByOwner.clear();
-                        resourcesByPath.clear();
+        /**
+         * Read just the artifacts matching the options from an indexed binary type table, and
+         * write per-artifact JARs to disk for them.
+         */
+        public void read(BinaryTypeTable table, Options options) {
+            processBinary(table, options, materializer());
+        }
 
-                        String artifactVersion = row.getArtifactId() + "-" + row.getVersion();
+        /**
+         * Read just the artifacts matching the options from an indexed binary type table, and process
+         * their classes with custom ClassVisitors instead of writing to disk.
+         */
+        public void read(BinaryTypeTable table, Options options, Supplier<ClassVisitor> visitorSupplier) {
+            processBinary(table, options, visiting(visitorSupplier, (path, content) -> {}));
+        }
 
-                        // Check if this artifact matches our predicate
-                        if (options.getArtifactMatcher().test(artifactVersion)) {
-                            matchedGav = rowGav;
-                        }
+        private void processBinary(BinaryTypeTable table, Options options, ClassesProcessor processor) {
+            RowGrouper rows = new RowGrouper(options, processor);
+            for (int gav = 0; gav < table.getGavCount(); gav++) {
+                if (options.getArtifactMatcher().test(table.getArtifactVersion(gav))) {
+                    table.forEachRow(gav, rows::accept);
+                }
+            }
+            rows.finish();
+        }
+
+        /**
+         * Groups consecutive rows by GAV into class definitions, handing each matching
+         * GAV's classes to the processor once all of its rows have been seen.
+         */
+        @RequiredArgsConstructor
+        private static class RowGrouper {
+            private final Options options;
+            private final ClassesProcessor processor;
+
+            private @Nullable GroupArtifactVersion lastGav;
+            private @Nullable GroupArtifactVersion matchedGav;
+            private final Map<String, ClassDefinition> classesByName = new HashMap<>();
+            // nested types appear first in type tables and therefore not stored in a `ClassDefinition` field
+            private final Map<String, List<ClassDefinition>> nestedTypesByOwner = new HashMap<>();
+            private final Map<String, byte[]> resourcesByPath = new LinkedHashMap<>();
+
+            void accept(TsvRow row) {
+                GroupArtifactVersion rowGav = new GroupArtifactVersion(row.getGroupId(), row.getArtifactId(), row.getVersion());
+
+                if (!Objects.equals(rowGav, lastGav)) {
+                    finish();
+
+                    String artifactVersion = row.getArtifactId() + "-" + row.getVersion();
+
+                    // Check if this artifact matches our predicate
+                    if (options.getArtifactMatcher().test(artifactVersion)) {
+                        matchedGav = rowGav;
                     }
-                    lastGav = rowGav;
-
-                    if (matchedGav != null) {
-                        switch (row.kind()) {
-                            case RESOURCE: {
-                                resourcesByPath.put(row.getClassName(),
-                                        Base64.getDecoder().decode(row.getConstantValue()));
-                                break;
-                            }
-                            case CLASS: {
-                                getOrCreateClassDefinition(row, classesByName, nestedTypesByOwner);
-                                break;
-                            }
-                            case MEMBER: {
-                                ClassDefinition classDefinition = getOrCreateClassDefinition(row, classesByName, nestedTypesByOwner);
-                                classDefinition.addMember(new Member(
-                                        classDefinition,
-                                        row.getMemberAccess(),
-                                        row.getMemberName(),
-                                        row.getDescriptor(),
-                                        row.getSignature().isEmpty() ? null : row.getSignature(),
-                                        row.getParameterNames().isEmpty() ? null : row.getParameterNames().split("\\|"),
-                                        row.getExceptions().isEmpty() ? null : row.getExceptions().split("\\|"),
-                                        row.getElementAnnotations().isEmpty() ? null : row.getElementAnnotations(),
-                                        row.getParameterAnnotations().isEmpty() ? null : row.getParameterAnnotations(),
-                                        row.getTypeAnnotations().isEmpty() ? null : TsvEscapeUtils.splitAnnotationList(row.getTypeAnnotations(), '|'),
-                                        row.getConstantValue().isEmpty() ? null : row.getConstantValue()
-                                ));
-                                break;
-                            }
+                }
+                lastGav = rowGav;
+
+                if (matchedGav != null) {
+                    switch (row.kind()) {
+                        case RESOURCE: {
+                            resourcesByPath.put(row.getClassName(),
+                                    Base64.getDecoder().decode(row.getConstantValue()));
+                            break;
+                        }
+                        case CLASS: {
+                            getOrCreateClassDefinition(row, classesByName, nestedTypesByOwner);
+                            break;
+                        }
+                        case MEMBER: {
+                            ClassDefinition classDefinition = getOrCreateClassDefinition(row, classesByName, nestedTypesByOwner);
+                            classDefinition.addMember(new Member(
+                                    classDefinition,
+                                    row.getMemberAccess(),
+                                    row.getMemberName(),
+                                    row.getDescriptor(),
+                                    row.getSignature().isEmpty() ? null : row.getSignature(),
+                                    row.getParameterNames().isEmpty() ? null : row.getParameterNames().split("\\|"),
+                                    row.getExceptions().isEmpty() ? null : row.getExceptions().split("\\|"),
+                                    row.getElementAnnotations().isEmpty() ? null : row.getElementAnnotations(),
+                                    row.getParameterAnnotations().isEmpty() ? null : row.getParameterAnnotations(),
+                                    row.getTypeAnnotations().isEmpty() ? null : TsvEscapeUtils.splitAnnotationList(row.getTypeAnnotations(), '|'),
+                                    row.getConstantValue().isEmpty() ? null : row.getConstantValue()
+                            ));
+                            break;
                         }
                     }
                 }
             }
 
-            // Process final GAV if any
-            if (matchedGav != null) {
-                processor.accept(matchedGav, classesByName, nestedTypesByOwner, resourcesByPath);
+            /**
+             * Process the GAV whose rows were seen last, if it matched.
+             */
+            void finish() {
+                if (matchedGav != null) {
+                    processor.accept(matchedGav, classesByName, nestedTypesByOwner, resourcesByPath);
+                }
+                matchedGav = null;
+                classesByName.clear();
+                nestedTypesByOwner.clear();
+                resourcesByPath.clear();
             }
         }
 
@@ -377,6 +479,49 @@ public interface ResourceConsumer {
             void accept(String resourcePath, byte[] content);
         }
 
+        /**
+         * Artifacts are materialized as jars on disk, unless the parser classpath is to be held in memory.
+         */
+        private ClassesProcessor materializer() {
+            return JavaParserExecutionContextView.view(ctx).isParserClasspathInMemory() ?
+                    this::keepInMemory : this::writeJar;
+        }
+
+        private void keepInMemory(@Nullable GroupArtifactVersion gav, Map<String, ClassDefinition> classes,
+                                  Map<String, List<ClassDefinition>> nestedTypesByOwner,
+                                  Map<String, byte[]> resources) {
+            if (gav == null) {
+                return;
+            }
+
+            CompletableFuture<InMemoryClasspathEntry> future = new CompletableFuture<>();
+            if (classesByArtifact.putIfAbsent(gav, future) != null) {
+                // is already being read (by concurrent thread)
+                return;
+            }
+
+            try {
+                Map<String, byte[]> classBytes = new HashMap<>(classes.size());
+                for (ClassDefinition classDef : classes.values()) {
+                    classBytes.put(classDef.getName(), toClassBytes(classDef,
+                            nestedTypesByOwner.getOrDefault(classDef.getName(), emptyList())));
+                }
+                // resources such as .kotlin_module files are only of use to compilers reading jars
+                future.complete(new InMemoryClasspathEntry(
+                        gav.getGroupId() + ":" + gav.getArtifactId() + ":" + gav.getVersion(), classBytes));
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        private byte[] toClassBytes(ClassDefinition classDef, List<ClassDefinition> nestedTypes) {
+            ClassWriter cw = new ClassWriter(COMPUTE_MAXS);
+            ClassVisitor classWriter = ctx.getMessage(VERIFY_CLASS_WRITING, false) ?
+                    new CheckClassAdapter(cw) : cw;
+            processClass(classDef, nestedTypes, classWriter);
+            return cw.toByteArray();
+        }
+
         private void writeJar(@Nullable GroupArtifactVersion gav, Map<String, ClassDefinition> classes,
                               Map<String, List<ClassDefinition>> nestedTypesByOwner,
                               Map<String, byte[]> resources) {
@@ -404,17 +549,13 @@ private void writeJar(@Nullable GroupArtifactVersion gav, Map<String, ClassDefin
                 try (JarOutputStream jos = new JarOutputStream(
                         new BufferedOutputStream(Files.newOutputStream(tmpJar)))) {
                     for (String name : classNames) {
-                        ClassDefinition classDef = classes.get(name);
-                        ClassWriter cw = new ClassWriter(COMPUTE_MAXS);
-                        ClassVisitor classWriter = ctx.getMessage(VERIFY_CLASS_WRITING, false) ?
-                                new CheckClassAdapter(cw) : cw;
-                        processClass(classDef,
-                                nestedTypesByOwner.getOrDefault(name, emptyList()), classWriter);
+                        byte[] classBytes = toClassBytes(classes.get(name),
+                                nestedTypesByOwner.getOrDefault(name, emptyList()));
                         JarEntry entry = new JarEntry(name + ".class");
                         // Fixed entry timestamp keeps the jar bit-stable across rebuilds.
                         entry.setTime(0L);
                         jos.putNextEntry(entry);
-                        jos.write(cw.toByteArray());
+                        jos.write(classBytes);
                         jos.closeEntry();
                     }
                     for (String resourcePath : resourcePaths) {
@@ -695,21 +836,27 @@ public static Writer newWriter(OutputStream out) {
 
     @Override
     public @Nullable Path load(String artifactName) {
-        for (Map.Entry<GroupArtifactVersion, CompletableFuture<Path>> gavAndJar : jarByArtifact.entrySet()) {
-            GroupArtifactVersion gav = gavAndJar.getKey();
-            if (Pattern.compile(artifactName + ".*")
-                    .matcher(gav.getArtifactId() + "-" + gav.getVersion())
-                    .matches()) {
-                return gavAndJar.getValue().join();
-            }
-        }
-        return null;
+        CompletableFuture<Path> jar = findWritten(artifactName, jarByArtifact);
+        return jar == null ? null : jar.join();
+    }
+
+    /**
+     * Load the classes of an artifact read while {@link JavaParserExecutionContextView#isParserClasspathInMemory()}.
+     *
+     * @param artifactName A descriptor for the artifact to load.
+     * @return The artifact's classes, for the parser to read from memory rather than from a jar.
+     */
+    public @Nullable InMemoryClasspathEntry loadInMemory(String artifactName) {
+        CompletableFuture<InMemoryClasspathEntry> classes = findWritten(artifactName, classesByArtifact);
+        return classes == null ? null : classes.join();
     }
 
     @Override
     public Collection<String> availableArtifacts() {
-        List<String> available = new ArrayList<>(jarByArtifact.size());
-        for (GroupArtifactVersion gav : jarByArtifact.keySet()) {
+        Set<GroupArtifactVersion> gavs = new HashSet<>(jarByArtifact.keySet());
+        gavs.addAll(classesByArtifact.keySet());
+        List<String> available = new ArrayList<>(gavs.size());
+        for (GroupArtifactVersion gav : gavs) {
             available.add(gav.getArtifactId() + "-" + gav.getVersion());
         }
         sort(available);
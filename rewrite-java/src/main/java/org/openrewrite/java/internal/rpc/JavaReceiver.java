@@ -18,6 +18,7 @@
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.internal.JavaLeafInterners;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.rpc.RpcReceiveQueue;
 
@@ -37,7 +38,7 @@ public class JavaReceiver extends JavaVisitor<RpcReceiveQueue> {
     public J preVisit(J j, RpcReceiveQueue q) {
         J j2 = j.withId(q.receiveAndGet(j.getId(), UUID::fromString));
         j2 = j2.withPrefix(q.receive(j.getPrefix(), space -> visitSpace(space, q)));
-        return j2.withMarkers(q.receive(j.getMarkers()));
+        return j2.withMarkers(JavaLeafInterners.markers(q.receive(j.getMarkers())));
     }
 
     @Override
@@ -264,7 +265,7 @@ public J visitForLoop(J.ForLoop forLoop, RpcReceiveQueue q) {
     public J visitIdentifier(J.Identifier identifier, RpcReceiveQueue q) {
         return identifier
                 .withAnnotations(q.receiveList(identifier.getAnnotations(), a -> (J.Annotation) visitNonNull(a, q)))
-                .withSimpleName(q.receive(identifier.getSimpleName()))
+                .withSimpleName(JavaLeafInterners.name(q.receive(identifier.getSimpleName())))
                 .withType(q.receive(identifier.getType(), t -> visitType(t, q)))
                 .withFieldType(q.receive(identifier.getFieldType(), t -> (JavaType.Variable) visitType(t, q)));
     }
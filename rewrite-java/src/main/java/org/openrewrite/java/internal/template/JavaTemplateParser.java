@@ -46,8 +46,6 @@
 public class JavaTemplateParser {
     private static final PropertyPlaceholderHelper placeholderHelper = new PropertyPlaceholderHelper("#{", "}", null);
 
-    private static final String TEMPLATE_CACHE_MESSAGE_KEY = "__org.openrewrite.java.internal.template.JavaTemplateParser.cache__";
-
     private static final String PACKAGE_STUB = "package #{}; class $Template {}";
     private static final String PARAMETER_STUB = "abstract class $Template { abstract void $template(#{}); }";
     private static final String LAMBDA_PARAMETER_STUB = "class $Template { { Object o = (#{}) -> {}; } }";
@@ -67,6 +65,8 @@ public class JavaTemplateParser {
     private final BlockStatementTemplateGenerator statementTemplateGenerator;
     private final AnnotationTemplateGenerator annotationTemplateGenerator;
 
+    private @Nullable List<Object> classpathFingerprint;
+
     public JavaTemplateParser(boolean contextSensitive, Parser.Builder parser, Consumer<String> onAfterVariableSubstitution,
                               Consumer<String> onBeforeParseTemplate, Set<String> imports, String bindType) {
         this(
@@ -302,8 +302,8 @@ private JavaSourceFile compileTemplate(Cursor cursor, @Language("java") String s
         if (parser instanceof JavaParser.Builder && typeFactory != null) {
             ((JavaParser.Builder<?, ?>) parser).typeFactory(typeFactory);
         }
-        Parser jp = parser.build();
-        return getJavaSourceFile(stub, jp, ctx)
+        List<Object> classpath = classpathFingerprint();
+        return ParserPool.withParser(classpath == null ? parser : classpath, typeFactory, parser::build, jp -> getJavaSourceFile(stub, jp, ctx)
                 // In some specific and rare cases, the parser fails to parse what is a valid program. This has been
                 // investigated for several days to no avail, so the workaround is to retry parsing, which is known to
                 // address the issue.
@@ -313,7 +313,7 @@ private JavaSourceFile compileTemplate(Cursor cursor, @Language("java") String s
                 // - https://github.com/openrewrite/rewrite/pull/5801 which is a unit test that reproduces the issue
                 // TLDR: I suspect either a bug in Java Compiler, or some fault in how we call its internals.
                 .orElseGet(() -> getJavaSourceFile(stub, jp, ctx)
-                        .orElseThrow(() -> new IllegalArgumentException("Could not parse as Java:\n" + stub)));
+                        .orElseThrow(() -> new IllegalArgumentException("Could not parse as Java:\n" + stub))));
     }
 
     /**
@@ -366,29 +366,58 @@ private <J2 extends J> List<J2> cacheIfContextFree(Cursor cursor, ContextFreeCac
 
     @SuppressWarnings("unchecked")
     private <J2 extends J> List<J2> cache(Cursor cursor, Object key, Supplier<List<? extends J>> ifAbsent) {
-        List<J2> js = null;
-
-        Timer.Sample sample = Timer.start();
-        Cursor root = cursor.getRoot();
-        Map<Object, List<J2>> cache = root.getMessage(TEMPLATE_CACHE_MESSAGE_KEY);
-        if (cache == null) {
-            cache = new HashMap<>();
-            root.putMessage(TEMPLATE_CACHE_MESSAGE_KEY, cache);
-        } else {
-            js = cache.get(key);
+        List<Object> classpath = classpathFingerprint();
+        if (classpath == null) {
+            // without a fingerprint, stubs could only be shared by templates using the very same builder
+            return (List<J2>) ifAbsent.get();
         }
+        Timer.Sample sample = Timer.start();
+        TemplateCache cache = TemplateCache.getInstance();
+        TemplateCache.Key cacheKey = new TemplateCache.Key(classpath, enclosingSourceSetId(cursor), key);
+        List<? extends J> js = cache.get(cacheKey);
 
         if (js == null) {
-            js = (List<J2>) ifAbsent.get();
-            cache.put(key, js);
+            List<? extends J> parsed = ifAbsent.get();
+            js = cache.put(cacheKey, parsed);
             sample.stop(Timer.builder("rewrite.template.cache").tag("result", "miss")
                     .register(Metrics.globalRegistry));
+            if (js == parsed) {
+                // freshly parsed trees have ids of their own, so only later copies need new ones
+                return (List<J2>) js;
+            }
         } else {
             sample.stop(Timer.builder("rewrite.template.cache").tag("result", "hit")
                     .register(Metrics.globalRegistry));
         }
 
-        return ListUtils.map(js, j -> (J2) new RandomizeIdVisitor<Integer>().visit(j, 0));
+        RandomizeIdVisitor<Integer> randomizeIds = new RandomizeIdVisitor<>();
+        return ListUtils.map((List<J2>) js, j -> (J2) randomizeIds.visit(j, 0));
+    }
+
+    /**
+     * @return The classpath fingerprint of the parser's builder, or {@code null} if it is not a
+     * {@link JavaParser.Builder} and so has none.
+     */
+    private @Nullable List<Object> classpathFingerprint() {
+        if (classpathFingerprint == null && parser instanceof JavaParser.Builder) {
+            classpathFingerprint = ((JavaParser.Builder<?, ?>) parser).classpathFingerprint();
+        }
+        return classpathFingerprint;
+    }
+
+    /**
+     * Stubs compiled with the type factory of the enclosing source set share its types, so they can only be reused
+     * within that source set.
+     */
+    private static @Nullable UUID enclosingSourceSetId(Cursor cursor) {
+        SourceFile sourceFile = cursor.firstEnclosing(SourceFile.class);
+        if (sourceFile == null) {
+            return null;
+        }
+        return sourceFile.getMarkers().findFirst(JavaSourceSet.class)
+                .filter(sourceSet -> sourceSet.getTypeFactory() != null)
+                .map(JavaSourceSet::getId)
+                .orElse(null);
     }
 
     @Value
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal.template;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Parser;
+import org.openrewrite.java.internal.JavaTypeFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Idle parsers that template stubs were compiled with, kept so that the next stub with the same classpath is
+ * compiled by a parser whose compiler has already entered the classpath's symbols, rather than by a newly built
+ * parser that has to read the classpath again. A parser is only ever used by one thread at a time, and is reset
+ * between stubs. The least recently used idle parsers are discarded beyond the maximum.
+ */
+public final class ParserPool {
+    public static final int DEFAULT_MAXIMUM_IDLE = 8;
+
+    private static final Deque<Idle> idle = new ArrayDeque<>();
+    private static int maximumIdle = DEFAULT_MAXIMUM_IDLE;
+
+    private ParserPool() {
+    }
+
+    /**
+     * @param maximumIdle The maximum number of idle parsers to keep across all classpaths, or 0 to build a new
+     *                    parser for every stub.
+     */
+    public static synchronized void setMaximumIdle(int maximumIdle) {
+        ParserPool.maximumIdle = maximumIdle;
+        while (idle.size() > maximumIdle) {
+            idle.removeLast();
+        }
+    }
+
+    public static synchronized void clear() {
+        idle.clear();
+    }
+
+    /**
+     * Apply a function to a parser for the given classpath and type factory, returning the parser to the pool
+     * afterwards unless the function failed, since the compiler may then be left in an inconsistent state.
+     */
+    static <T> T withParser(Object classpath, @Nullable JavaTypeFactory typeFactory, Supplier<Parser> build,
+                            Function<Parser, T> apply) {
+        Key key = new Key(classpath, typeFactory);
+        Parser parser = borrow(key);
+        if (parser == null) {
+            parser = build.get();
+        }
+        T result = apply.apply(parser);
+        release(key, parser);
+        return result;
+    }
+
+    private static synchronized @Nullable Parser borrow(Key key) {
+        for (Iterator<Idle> mostRecentlyUsedFirst = idle.iterator(); mostRecentlyUsedFirst.hasNext(); ) {
+            Idle candidate = mostRecentlyUsedFirst.next();
+            if (candidate.getKey().equals(key)) {
+                mostRecentlyUsedFirst.remove();
+                return candidate.getParser();
+            }
+        }
+        return null;
+    }
+
+    private static synchronized void release(Key key, Parser parser) {
+        if (maximumIdle <= 0) {
+            return;
+        }
+        idle.addFirst(new Idle(key, parser));
+        if (idle.size() > maximumIdle) {
+            idle.removeLast();
+        }
+    }
+
+    private static class Key {
+        private final Object classpath;
+        private final @Nullable JavaTypeFactory typeFactory;
+
+        Key(Object classpath, @Nullable JavaTypeFactory typeFactory) {
+            this.classpath = classpath;
+            this.typeFactory = typeFactory;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            // a parser attributes types with the factory it was built with, so only that very factory will do
+            return classpath.equals(((Key) o).classpath) && typeFactory == ((Key) o).typeFactory;
+        }
+
+        @Override
+        public int hashCode() {
+            return classpath.hashCode() * 31 + System.identityHashCode(typeFactory);
+        }
+    }
+
+    @Value
+    private static class Idle {
+        Key key;
+        Parser parser;
+    }
+}
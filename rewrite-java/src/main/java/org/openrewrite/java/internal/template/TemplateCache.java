@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal.template;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.J;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The LST elements parsed from template stubs, shared by every {@link JavaTemplateParser} in the process so that
+ * a template is compiled once rather than once per recipe cycle. Entries are keyed by the stub (which includes the
+ * template's imports), the classpath and Java version of the template's parser, and the source set whose types the
+ * stub was attributed with, and the least recently used entries are evicted once the total number of LST elements
+ * held exceeds the maximum weight.
+ */
+public final class TemplateCache {
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 500_000;
+
+    private static final TemplateCache INSTANCE = new TemplateCache();
+
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long weight;
+    private long maximumWeight = DEFAULT_MAXIMUM_WEIGHT;
+
+    private final Counter evictions = Counter.builder("rewrite.template.cache.evictions")
+            .description("Parsed template stubs evicted to stay within the maximum weight")
+            .register(Metrics.globalRegistry);
+
+    private TemplateCache() {
+        Gauge.builder("rewrite.template.cache.size", this, cache -> cache.size())
+                .description("Parsed template stubs held")
+                .register(Metrics.globalRegistry);
+        Gauge.builder("rewrite.template.cache.weight", this, cache -> cache.weight())
+                .description("LST elements held by parsed template stubs")
+                .register(Metrics.globalRegistry);
+    }
+
+    static TemplateCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param maximumWeight The maximum number of LST elements to hold across all cached templates, or 0 to
+     *                      disable caching between uses of a template.
+     */
+    public static void setMaximumWeight(long maximumWeight) {
+        synchronized (INSTANCE) {
+            INSTANCE.maximumWeight = maximumWeight;
+            INSTANCE.evict();
+        }
+    }
+
+    public static void clear() {
+        synchronized (INSTANCE) {
+            INSTANCE.entries.clear();
+            INSTANCE.weight = 0;
+        }
+    }
+
+    synchronized @Nullable List<? extends J> get(Key key) {
+        Entry entry = entries.get(key);
+        return entry == null ? null : entry.getTrees();
+    }
+
+    /**
+     * @return The trees already cached by another thread that parsed the same stub concurrently, if any,
+     * or else the given trees.
+     */
+    List<? extends J> put(Key key, List<? extends J> trees) {
+        long treeWeight = weigh(trees);
+        synchronized (this) {
+            Entry existing = entries.get(key);
+            if (existing != null) {
+                return existing.getTrees();
+            }
+            if (treeWeight <= maximumWeight) {
+                entries.put(key, new Entry(trees, treeWeight));
+                weight += treeWeight;
+                evict();
+            }
+        }
+        return trees;
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized long weight() {
+        return weight;
+    }
+
+    private void evict() {
+        Iterator<Entry> leastRecentlyUsedFirst = entries.values().iterator();
+        while (weight > maximumWeight && leastRecentlyUsedFirst.hasNext()) {
+            weight -= leastRecentlyUsedFirst.next().getWeight();
+            leastRecentlyUsedFirst.remove();
+            evictions.increment();
+        }
+    }
+
+    private static long weigh(List<? extends J> trees) {
+        AtomicInteger count = new AtomicInteger();
+        JavaIsoVisitor<Integer> counter = new JavaIsoVisitor<Integer>() {
+            @Override
+            public J preVisit(J tree, Integer p) {
+                count.incrementAndGet();
+                return tree;
+            }
+        };
+        for (J tree : trees) {
+            counter.visit(tree, 0);
+        }
+        return count.get();
+    }
+
+    @Value
+    static class Key {
+        /**
+         * The {@link org.openrewrite.java.JavaParser.Builder#classpathFingerprint() classpath fingerprint} of the
+         * template's parser.
+         */
+        List<Object> classpath;
+
+        /**
+         * The id of the source set whose type factory attributed the stub, if it has one.
+         */
+        @Nullable
+        UUID sourceSet;
+
+        Object template;
+    }
+
+    @Value
+    private static class Entry {
+        List<? extends J> trees;
+        long weight;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.marker;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.internal.BoundedDiskCache;
+import org.openrewrite.internal.ThreadPools;
+import org.openrewrite.java.tree.JavaType;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * The types in classpath jars, listed once per process rather than once per {@link JavaSourceSet}, since the
+ * source sets of a multi-module project mostly share the same dependencies. A listing is reused for as long as
+ * the jar's size and last modified time are unchanged, and is one immutable list shared by every source set
+ * the jar is on. Listings can also be persisted to a directory so that later processes don't open the jars at all.
+ */
+final class JarTypeListings {
+    private static final int CONCURRENCY = 8;
+
+    private static final Map<Path, Listing> listings = new ConcurrentHashMap<>();
+
+    private static final ThreadPoolExecutor executor =
+            ThreadPools.newBoundedDaemonPool("rewrite-jar-type-listing", CONCURRENCY);
+
+    /**
+     * Class names listed from each jar, one per line, keyed by the jar's path, size and last modified time.
+     */
+    private static volatile @Nullable BoundedDiskCache diskCache;
+
+    private JarTypeListings() {
+    }
+
+    static void persistTo(@Nullable Path cacheDirectory, long maximumSizeBytes) {
+        diskCache = cacheDirectory == null ? null : new BoundedDiskCache(cacheDirectory, ".types", maximumSizeBytes);
+    }
+
+    /**
+     * @return The listing of each path in order, jars that haven't been listed yet being enumerated in parallel.
+     * Directories of class files are walked on the calling thread and not cached, since they are typically
+     * the output of the build being analyzed.
+     */
+    static List<List<JavaType.FullyQualified>> list(Collection<Path> classpath) {
+        List<CompletableFuture<List<JavaType.FullyQualified>>> futures = new ArrayList<>(classpath.size());
+        for (Path path : classpath) {
+            if (!Files.isRegularFile(path)) {
+                futures.add(CompletableFuture.completedFuture(JavaSourceSet.typesFromPath(path, null)));
+                continue;
+            }
+            Listing listing = listings.get(path.toAbsolutePath().normalize());
+            if (listing != null && listing.isCurrent(path)) {
+                futures.add(CompletableFuture.completedFuture(listing.getTypes()));
+            } else {
+                futures.add(CompletableFuture.supplyAsync(() -> get(path), executor));
+            }
+        }
+        List<List<JavaType.FullyQualified>> types = new ArrayList<>(futures.size());
+        for (CompletableFuture<List<JavaType.FullyQualified>> future : futures) {
+            types.add(future.join());
+        }
+        return types;
+    }
+
+    static List<JavaType.FullyQualified> get(Path jar) {
+        Path key = jar.toAbsolutePath().normalize();
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return listTypes(jar);
+        }
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+
+        Listing listing = listings.get(key);
+        if (listing != null && listing.getSize() == size && listing.getLastModified() == lastModified) {
+            return listing.getTypes();
+        }
+
+        BoundedDiskCache disk = diskCache;
+        String diskKey = key + "\n" + size + "\n" + lastModified;
+        List<String> classNames = disk == null ? null :
+                disk.read(diskKey, entry -> Files.readAllLines(entry, StandardCharsets.UTF_8));
+        if (classNames == null) {
+            classNames = new ArrayList<>();
+            try {
+                listClassNames(jar, classNames);
+            } catch (IOException e) {
+                // Partial results better than no results, but not worth keeping
+                return toTypes(classNames);
+            }
+            if (disk != null) {
+                List<String> listed = classNames;
+                disk.write(diskKey, out -> {
+                    Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                    for (String className : listed) {
+                        writer.write(className);
+                        writer.write('\n');
+                    }
+                    writer.flush();
+                });
+            }
+        }
+        List<JavaType.FullyQualified> types = toTypes(classNames);
+        listings.put(key, new Listing(size, lastModified, types));
+        return types;
+    }
+
+    static void clear() {
+        listings.clear();
+    }
+
+    private static List<JavaType.FullyQualified> listTypes(Path jar) {
+        List<String> classNames = new ArrayList<>();
+        try {
+            listClassNames(jar, classNames);
+        } catch (IOException e) {
+            // Partial results better than no results
+        }
+        return toTypes(classNames);
+    }
+
+    private static void listClassNames(Path jar, List<String> classNames) throws IOException {
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                String entryName = entries.nextElement().getName();
+                if (entryName.endsWith(".class") && !JavaSourceSet.isMetaInfEntry(entryName)) {
+                    String s = JavaSourceSet.entryNameToClassName(entryName);
+                    if (JavaSourceSet.isDeclarable(s)) {
+                        classNames.add(s);
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<JavaType.FullyQualified> toTypes(List<String> classNames) {
+        List<JavaType.FullyQualified> types = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            types.add(JavaType.ShallowClass.build(className));
+        }
+        return Collections.unmodifiableList(types);
+    }
+
+    @Value
+    private static class Listing {
+        long size;
+        long lastModified;
+        List<JavaType.FullyQualified> types;
+
+        boolean isCurrent(Path jar) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+                return attributes.size() == size && attributes.lastModifiedTime().toMillis() == lastModified;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -42,8 +42,6 @@
 import java.nio.file.*;
 import java.util.*;
 import java.util.function.Function;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
 
 import static java.util.Collections.emptyMap;
 import static org.openrewrite.Tree.randomId;
@@ -444,10 +442,11 @@ private static List<JavaType.FullyQualified> typesFrom(List<String> typeNames) {
      * Uses file I/O to compute the classpath.
      */
     public static JavaSourceSet build(String sourceSetName, Collection<Path> classpath) {
-        List<JavaType.FullyQualified> types = getJavaStandardLibraryTypes();
+        List<JavaType.FullyQualified> types = new ArrayList<>(getJavaStandardLibraryTypes());
         Map<String, List<JavaType.FullyQualified>> gavToTypes = new LinkedHashMap<>();
+        Iterator<List<JavaType.FullyQualified>> listings = JarTypeListings.list(classpath).iterator();
         for (Path path : classpath) {
-            List<JavaType.FullyQualified> typesFromPath = typesFromPath(path, null);
+            List<JavaType.FullyQualified> typesFromPath = listings.next();
 
             types.addAll(typesFromPath);
             String gav = gavFromPath(path);
@@ -517,43 +516,44 @@ public static JavaSourceSet build(String sourceSetName, Collection<Path> classpa
     }
 
 
-    // Worth caching as there is typically substantial overlap in dependencies in use within the same repository
-    // Even a single module project will typically have at least two source sets, main and test
+    /**
+     * Persist the listings of the types in classpath jars to a directory, so that building source sets in later
+     * processes doesn't need to open jars that are unchanged since they were last listed. Within a process,
+     * listings are always reused.
+     *
+     * @param cacheDirectory The directory to persist listings to, or {@code null} to stop persisting them.
+     */
+    public static void setTypeListingCache(@Nullable Path cacheDirectory, long maximumSizeBytes) {
+        JarTypeListings.persistTo(cacheDirectory, maximumSizeBytes);
+    }
+
+    /**
+     * @return The types in a jar or directory of class files. The listing of a jar is cached for as long as the jar
+     * is unchanged and is immutable, being shared by every caller.
+     */
     public static List<JavaType.FullyQualified> typesFromPath(Path path, @Nullable String acceptPackage) {
+        // Paths will be to either directories of class files or jar files
+        if (Files.isRegularFile(path)) {
+            return JarTypeListings.get(path);
+        }
         List<JavaType.FullyQualified> types = new ArrayList<>();
         try {
-            // Paths will be to either directories of class files or jar files
-            if (Files.isRegularFile(path)) {
-                try (JarFile jarFile = new JarFile(path.toFile())) {
-                    Enumeration<JarEntry> entries = jarFile.entries();
-                    while (entries.hasMoreElements()) {
-                        String entryName = entries.nextElement().getName();
-                        if (entryName.endsWith(".class") && !isMetaInfEntry(entryName)) {
-                            String s = entryNameToClassName(entryName);
-                            if (isDeclarable(s)) {
-                                types.add(JavaType.ShallowClass.build(s));
-                            }
+            Files.walkFileTree(path, new SimpleFileVisitor<Path>() {
+                @Override
+                public java.nio.file.FileVisitResult visitFile(Path file, java.nio.file.attribute.BasicFileAttributes attrs) {
+                    if (file.getFileName().toString().endsWith(".class")) {
+                        String pathStr = file.isAbsolute() ? path.relativize(file).toString() : file.toString();
+                        if (isMetaInfEntry(pathStr)) {
+                            return java.nio.file.FileVisitResult.CONTINUE;
                         }
-                    }
-                }
-            } else {
-                Files.walkFileTree(path, new SimpleFileVisitor<Path>() {
-                    @Override
-                    public java.nio.file.FileVisitResult visitFile(Path file, java.nio.file.attribute.BasicFileAttributes attrs) {
-                        if (file.getFileName().toString().endsWith(".class")) {
-                            String pathStr = file.isAbsolute() ? path.relativize(file).toString() : file.toString();
-                            if (isMetaInfEntry(pathStr)) {
-                                return java.nio.file.FileVisitResult.CONTINUE;
-                            }
-                            String s = entryNameToClassName(pathStr);
-                            if ((acceptPackage == null || s.startsWith(acceptPackage)) && isDeclarable(s)) {
-                                types.add(JavaType.ShallowClass.build(s));
-                            }
+                        String s = entryNameToClassName(pathStr);
+                        if ((acceptPackage == null || s.startsWith(acceptPackage)) && isDeclarable(s)) {
+                            types.add(JavaType.ShallowClass.build(s));
                         }
-                        return java.nio.file.FileVisitResult.CONTINUE;
                     }
-                });
-            }
+                    return java.nio.file.FileVisitResult.CONTINUE;
+                }
+            });
         } catch (IOException e) {
             // Partial results better than no results
         }
@@ -571,20 +571,26 @@ static boolean isMetaInfEntry(String entryName) {
         return normalized.startsWith("META-INF/");
     }
 
-    private static List<JavaType.FullyQualified> getJavaStandardLibraryTypes() {
-        List<JavaType.FullyQualified> javaStandardLibraryTypes = new ArrayList<>();
-        Path toolsJar = Paths.get(System.getProperty("java.home")).resolve("../lib/tools.jar");
-        if (Files.exists(toolsJar)) {
-            javaStandardLibraryTypes.addAll(typesFromPath(toolsJar, "java"));
-        } else {
-            javaStandardLibraryTypes.addAll(typesFromPath(
-                    FileSystems.getFileSystem(URI.create("jrt:/")).getPath("modules", "java.base"),
-                    "java"));
+    private static @Nullable List<JavaType.FullyQualified> javaStandardLibraryTypes;
+
+    /**
+     * The standard library doesn't change over the life of the process, so it is only listed once.
+     */
+    private static synchronized List<JavaType.FullyQualified> getJavaStandardLibraryTypes() {
+        if (javaStandardLibraryTypes == null) {
+            Path toolsJar = Paths.get(System.getProperty("java.home")).resolve("../lib/tools.jar");
+            if (Files.exists(toolsJar)) {
+                javaStandardLibraryTypes = typesFromPath(toolsJar, "java");
+            } else {
+                javaStandardLibraryTypes = Collections.unmodifiableList(typesFromPath(
+                        FileSystems.getFileSystem(URI.create("jrt:/")).getPath("modules", "java.base"),
+                        "java"));
+            }
         }
         return javaStandardLibraryTypes;
     }
 
-    private static String entryNameToClassName(String entryName) {
+    static String entryNameToClassName(String entryName) {
         int start = entryName.startsWith("modules/java.base/") ? "modules/java.base/".length() : 0;
         return entryName.substring(start, entryName.length() - ".class".length())
                 .replace('/', '.');
@@ -57,6 +57,21 @@ public static Detector detector() {
         return new Detector();
     }
 
+    /**
+     * @param confidence The probability, between 0 and 1 exclusive, with which each detected style should be right
+     *                   before the detector stops sampling.
+     * @return A detector that ignores further samples once it is confident of the styles it has detected.
+     * @see Detector#isConfident()
+     */
+    public static Detector detector(double confidence) {
+        return new Detector(confidence);
+    }
+
+    /**
+     * Accumulates style statistics from samples of source files. Sampling and merging are thread-safe, and detectors
+     * can be merged, so that a large set of source files can be sampled in parallel by a detector per thread, e.g.
+     * {@code sourceFiles.parallelStream().collect(Autodetect::detector, Detector::sample, Detector::merge)}.
+     */
     public static class Detector {
 
         private final IndentStatistics indentStatistics = new IndentStatistics();
@@ -70,6 +85,19 @@ public static class Detector {
         private final FindWrappingAndBracesStyle findWrappingAndBraces = new FindWrappingAndBracesStyle();
         private final FindLineFormatJavaVisitor findLineFormat = new FindLineFormatJavaVisitor();
 
+        private final @Nullable SampleVotes votes;
+
+        public Detector() {
+            this.votes = null;
+        }
+
+        public Detector(double confidence) {
+            if (!(confidence > 0 && confidence < 1)) {
+                throw new IllegalArgumentException("Confidence must be between 0 and 1 exclusive, but was " + confidence);
+            }
+            this.votes = new SampleVotes(confidence);
+        }
+
         public void sample(SourceFile cu) {
             // only sample Java sources; extending languages need their own `Autodetect.Detector`
             // and can call `sampleJava()` from their `sample()` method if that helps
@@ -79,6 +107,28 @@ public void sample(SourceFile cu) {
         }
 
         public void sampleJava(JavaSourceFile cu) {
+            if (votes == null) {
+                synchronized (this) {
+                    visit(cu);
+                }
+                return;
+            }
+
+            synchronized (this) {
+                if (votes.isConfident()) {
+                    return;
+                }
+            }
+            // each file is sampled on its own, without holding the lock, so that it can vote for the styles it uses
+            Detector file = new Detector();
+            file.visit(cu);
+            synchronized (this) {
+                votes.record(file);
+                merge(file);
+            }
+        }
+
+        private void visit(JavaSourceFile cu) {
             findImportLayout.visitNonNull(cu, 0);
             findIndent.visitNonNull(cu, indentStatistics);
             findSpaces.visitNonNull(cu, spacesStatistics);
@@ -86,7 +136,37 @@ public void sampleJava(JavaSourceFile cu) {
             findLineFormat.visitNonNull(cu, generalFormatStatistics);
         }
 
-        public Autodetect build() {
+        /**
+         * Add the statistics of another detector to this one, as if this detector had sampled the same source files.
+         * The other detector must not be sampled while it is being merged.
+         *
+         * @return This detector.
+         */
+        public synchronized Detector merge(Detector other) {
+            if (other == this) {
+                return this;
+            }
+            indentStatistics.merge(other.indentStatistics);
+            spacesStatistics.merge(other.spacesStatistics);
+            wrappingAndBracesStatistics.merge(other.wrappingAndBracesStatistics);
+            generalFormatStatistics.merge(other.generalFormatStatistics);
+            findImportLayout.merge(other.findImportLayout);
+            if (votes != null && other.votes != null) {
+                votes.merge(other.votes);
+            }
+            return this;
+        }
+
+        /**
+         * @return {@code true} when this detector was created with a confidence and has sampled enough source files to
+         * be that confident of the indentation and line endings it detects, after which further samples are ignored.
+         * Always {@code false} for a detector that samples every source file.
+         */
+        public synchronized boolean isConfident() {
+            return votes != null && votes.isConfident();
+        }
+
+        public synchronized Autodetect build() {
             return new Autodetect(Tree.randomId(), Arrays.asList(
                     indentStatistics.getTabsAndIndentsStyle(),
                     findImportLayout.aggregate().getImportLayoutStyle(),
@@ -95,31 +175,104 @@ public Autodetect build() {
                     generalFormatStatistics.getFormatStyle()));
         }
 
-        public TabsAndIndentsStyle getTabsAndIndentsStyle() {
+        public synchronized TabsAndIndentsStyle getTabsAndIndentsStyle() {
             return indentStatistics.getTabsAndIndentsStyle();
         }
 
-        public ImportLayoutStyle getImportLayoutStyle() {
+        public synchronized ImportLayoutStyle getImportLayoutStyle() {
             return findImportLayout.aggregate().getImportLayoutStyle();
         }
 
-        public SpacesStyle getSpacesStyle() {
+        public synchronized SpacesStyle getSpacesStyle() {
             return spacesStatistics.getSpacesStyle();
         }
 
-        public WrappingAndBracesStyle getWrappingAndBracesStyle() {
+        public synchronized WrappingAndBracesStyle getWrappingAndBracesStyle() {
             return wrappingAndBracesStatistics.getWrappingAndBracesStyle();
         }
 
-        public GeneralFormatStyle getFormatStyle() {
+        public synchronized GeneralFormatStyle getFormatStyle() {
             return generalFormatStatistics.getFormatStyle();
         }
     }
 
+    /**
+     * Each sampled source file votes for whether it is indented with tabs, for its indent size and for its line
+     * endings. A decision is confident when the leading choice is ahead of the runner-up by enough votes that, by
+     * Hoeffding's inequality, the probability of the runner-up being the more common choice among all source files,
+     * {@code exp(-(leading - runnerUp)^2 / (2 * (leading + runnerUp)))}, is at most {@code 1 - confidence}.
+     */
+    private static class SampleVotes {
+        private final double evidence;
+        private final Map<Boolean, Long> useTabs = new HashMap<>();
+        private final Map<Integer, Long> indentSize = new HashMap<>();
+        private final Map<Boolean, Long> useCRLF = new HashMap<>();
+        private boolean confident;
+
+        SampleVotes(double confidence) {
+            this.evidence = Math.log(1 / (1 - confidence));
+        }
+
+        boolean isConfident() {
+            return confident;
+        }
+
+        void record(Detector file) {
+            IndentStatistics indents = file.indentStatistics;
+            if (indents.accumulateDepthCount > 0) {
+                useTabs.merge(indents.getTabsAndIndentsStyle().getUseTabCharacter(), 1L, Long::sum);
+            }
+            int tabSize = getBiggestGroupOfTabSize(indents.deltaSpaceIndentFrequencies);
+            if (tabSize != 0) {
+                indentSize.merge(tabSize, 1L, Long::sum);
+            }
+            GeneralFormatStatistics lines = file.generalFormatStatistics;
+            if (lines.linesWithLFNewLines + lines.linesWithCRLFNewLines > 0) {
+                useCRLF.merge(!lines.isIndentedWithLFNewLines(), 1L, Long::sum);
+            }
+            updateConfidence();
+        }
+
+        void merge(SampleVotes other) {
+            other.useTabs.forEach((k, v) -> useTabs.merge(k, v, Long::sum));
+            other.indentSize.forEach((k, v) -> indentSize.merge(k, v, Long::sum));
+            other.useCRLF.forEach((k, v) -> useCRLF.merge(k, v, Long::sum));
+            updateConfidence();
+        }
+
+        private void updateConfidence() {
+            Boolean tabs = decided(useTabs);
+            // the indent size of tab-indented sources is seldom observable, and doesn't need to be decided
+            confident = tabs != null && (tabs || decided(indentSize) != null) && decided(useCRLF) != null;
+        }
+
+        private <T> @Nullable T decided(Map<T, Long> votes) {
+            T leader = null;
+            long leading = 0;
+            long runnerUp = 0;
+            for (Map.Entry<T, Long> vote : votes.entrySet()) {
+                if (vote.getValue() > leading) {
+                    runnerUp = leading;
+                    leading = vote.getValue();
+                    leader = vote.getKey();
+                } else if (vote.getValue() > runnerUp) {
+                    runnerUp = vote.getValue();
+                }
+            }
+            long margin = leading - runnerUp;
+            return margin * margin >= 2 * (leading + runnerUp) * evidence ? leader : null;
+        }
+    }
+
     private static class GeneralFormatStatistics {
         private int linesWithCRLFNewLines = 0;
         private int linesWithLFNewLines = 0;
 
+        public void merge(GeneralFormatStatistics other) {
+            linesWithCRLFNewLines += other.linesWithCRLFNewLines;
+            linesWithLFNewLines += other.linesWithLFNewLines;
+        }
+
         public boolean isIndentedWithLFNewLines() {
             return linesWithLFNewLines >= linesWithCRLFNewLines;
         }
@@ -147,6 +300,10 @@ public void record(int indentDepth, int continuationDepth, int charCount) {
         }
 
         public void record(DepthCoordinate depth, int charCount) {
+            record(depth, charCount, 1);
+        }
+
+        private void record(DepthCoordinate depth, int charCount, long occurrences) {
             if (charCount <= 0) {
                 return;
             }
@@ -158,12 +315,17 @@ public void record(DepthCoordinate depth, int charCount) {
                     if (count == null) {
                         count = 0L;
                     }
-                    return count + 1;
+                    return count + occurrences;
                 });
                 return map;
             });
         }
 
+        public void merge(IndentStatistic other) {
+            other.depthToSpaceIndentFrequencies.forEach((depth, frequencies) ->
+                    frequencies.forEach((charCount, occurrences) -> record(depth, charCount, occurrences)));
+        }
+
 
         /**
          * Use the provided common indentation to interpret this IndentStatistic's contents as continuation indents.
@@ -202,6 +364,15 @@ private static class IndentStatistics {
         @Getter
         private int continuationDepth = 1;
 
+        public void merge(IndentStatistics other) {
+            spaceIndentFrequencies.merge(other.spaceIndentFrequencies);
+            spaceContinuationIndentFrequencies.merge(other.spaceContinuationIndentFrequencies);
+            tabIndentFrequencies.merge(other.tabIndentFrequencies);
+            tabContinuationIndentFrequencies.merge(other.tabContinuationIndentFrequencies);
+            deltaSpaceIndentFrequencies.merge(other.deltaSpaceIndentFrequencies);
+            accumulateDepthCount += other.accumulateDepthCount;
+        }
+
         public void incrementDepth() {
             depth++;
         }
@@ -911,9 +1082,22 @@ private static class ImportAttributes {
     private static class FindImportLayout extends JavaIsoVisitor<Integer> {
         private final List<List<ImportAttributes>> importsBySourceFile = new ArrayList<>();
         private final NavigableSet<String> importedPackages = new TreeSet<>();
-        private final ImportLayoutStatistics importLayoutStatistics = new ImportLayoutStatistics();
+        private int minimumFoldedImports = Integer.MAX_VALUE;
+        private int minimumFoldedStaticImports = Integer.MAX_VALUE;
+
+        public void merge(FindImportLayout other) {
+            importsBySourceFile.addAll(other.importsBySourceFile);
+            importedPackages.addAll(other.importedPackages);
+            minimumFoldedImports = Math.min(minimumFoldedImports, other.minimumFoldedImports);
+            minimumFoldedStaticImports = Math.min(minimumFoldedStaticImports, other.minimumFoldedStaticImports);
+        }
 
         public ImportLayoutStatistics aggregate() {
+            // aggregated anew each time, since more source files may have been sampled or merged in the meantime
+            ImportLayoutStatistics importLayoutStatistics = new ImportLayoutStatistics();
+            importLayoutStatistics.minimumFoldedImports = minimumFoldedImports;
+            importLayoutStatistics.minimumFoldedStaticImports = minimumFoldedStaticImports;
+
             // initializes importLayoutStatistics.pkgToBlockPattern which is used in the loop that follows
             importLayoutStatistics.mapBlockPatterns(importedPackages);
 
@@ -1017,8 +1201,8 @@ public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, Integer inte
                             }
                         }
 
-                        importLayoutStatistics.minimumFoldedStaticImports = Math.min(
-                                importLayoutStatistics.minimumFoldedStaticImports,
+                        minimumFoldedStaticImports = Math.min(
+                                minimumFoldedStaticImports,
                                 staticMembers.size()
                         );
                     } else {
@@ -1034,8 +1218,8 @@ public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, Integer inte
                             }
                         }
 
-                        importLayoutStatistics.minimumFoldedImports = Math.min(
-                                importLayoutStatistics.minimumFoldedImports,
+                        minimumFoldedImports = Math.min(
+                                minimumFoldedImports,
                                 fqns.size()
                         );
                     }
@@ -1051,6 +1235,8 @@ public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, Integer inte
     }
 
     private static class SpacesStatistics {
+        private static final SpacesStatistics INITIAL = new SpacesStatistics();
+
         int beforeIf = 1;
         int beforeMethodCall = 0;
         int beforeMethodDeclaration = 0;
@@ -1068,6 +1254,28 @@ private static class SpacesStatistics {
         int afterTypeCast = 0;
         int withinMethodCallParentheses = 0;
 
+        /**
+         * Each statistic starts out biased towards IntelliJ's default, and that bias is only counted once.
+         */
+        public void merge(SpacesStatistics other) {
+            beforeIf += other.beforeIf - INITIAL.beforeIf;
+            beforeMethodCall += other.beforeMethodCall - INITIAL.beforeMethodCall;
+            beforeMethodDeclaration += other.beforeMethodDeclaration - INITIAL.beforeMethodDeclaration;
+            beforeFor += other.beforeFor - INITIAL.beforeFor;
+            beforeWhile += other.beforeWhile - INITIAL.beforeWhile;
+            beforeSwitch += other.beforeSwitch - INITIAL.beforeSwitch;
+            beforeTry += other.beforeTry - INITIAL.beforeTry;
+            beforeCatch += other.beforeCatch - INITIAL.beforeCatch;
+            beforeSynchronized += other.beforeSynchronized - INITIAL.beforeSynchronized;
+            beforeComma += other.beforeComma - INITIAL.beforeComma;
+            afterComma += other.afterComma - INITIAL.afterComma;
+            beforeColonInForEach += other.beforeColonInForEach - INITIAL.beforeColonInForEach;
+            beforeForSemiColon += other.beforeForSemiColon - INITIAL.beforeForSemiColon;
+            afterForSemiColon += other.afterForSemiColon - INITIAL.afterForSemiColon;
+            afterTypeCast += other.afterTypeCast - INITIAL.afterTypeCast;
+            withinMethodCallParentheses += other.withinMethodCallParentheses - INITIAL.withinMethodCallParentheses;
+        }
+
         public SpacesStyle getSpacesStyle() {
             SpacesStyle spaces = IntelliJ.spaces();
             return spaces
@@ -1304,6 +1512,18 @@ private static class WrappingAndBracesStatistics {
         int multilineAlignedToFirstArgument = 0;
         int multilineNotAlignedToFirstArgument = 0;
 
+        public void merge(WrappingAndBracesStatistics other) {
+            elseOnNewLine += other.elseOnNewLine;
+            classAnnotationsWrapped += other.classAnnotationsWrapped;
+            methodAnnotationsWrapped += other.methodAnnotationsWrapped;
+            fieldAnnotationsWrapped += other.fieldAnnotationsWrapped;
+            parameterAnnotationsWrapped += other.parameterAnnotationsWrapped;
+            localVariableAnnotationsWrapped += other.localVariableAnnotationsWrapped;
+            enumFieldAnnotationsWrapped += other.enumFieldAnnotationsWrapped;
+            multilineAlignedToFirstArgument += other.multilineAlignedToFirstArgument;
+            multilineNotAlignedToFirstArgument += other.multilineNotAlignedToFirstArgument;
+        }
+
         public WrappingAndBracesStyle getWrappingAndBracesStyle() {
             WrappingAndBracesStyle wrappingAndBracesStyle = IntelliJ.wrappingAndBraces();
             if (classAnnotationsWrapped != 0 && wrappingAndBracesStyle.getClassAnnotations() != null) {
@@ -18,11 +18,11 @@
 import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.EqualsAndHashCode;
 import org.jspecify.annotations.Nullable;
+import org.openrewrite.java.internal.JavaLeafInterners;
 import org.openrewrite.marker.Markers;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Collections.emptyList;
 
@@ -40,17 +40,6 @@ public class Space {
     @Nullable
     private final String whitespace;
 
-    /*
-     * Most occurrences of spaces will have no comments or markers and will be repeated frequently throughout a source file.
-     * e.g.: a single space between keywords, or the common indentation of every line in a block.
-     * So use flyweights to avoid storing many instances of functionally identical spaces
-     */
-    private static final ConcurrentHashMap<String, Space> flyweights = new ConcurrentHashMap<>();
-
-    static {
-        flyweights.put(" ", SINGLE_SPACE);
-    }
-
     private Space(@Nullable String whitespace, List<Comment> comments) {
         this.comments = comments;
         this.whitespace = whitespace == null || whitespace.isEmpty() ? null : whitespace;
@@ -61,10 +50,15 @@ public static Space build(@Nullable String whitespace, List<Comment> comments) {
         if (comments.isEmpty()) {
             if (whitespace == null || whitespace.isEmpty()) {
                 return Space.EMPTY;
+            } else if (" ".equals(whitespace)) {
+                return Space.SINGLE_SPACE;
             } else if (whitespace.length() <= 50) {
-                Space newSpace = new Space(whitespace, comments);
-                Space existing = flyweights.putIfAbsent(whitespace, newSpace);
-                return existing != null ? existing : newSpace;
+                /*
+                 * Most occurrences of spaces will have no comments or markers and will be repeated frequently throughout a source file.
+                 * e.g.: a single space between keywords, or the common indentation of every line in a block.
+                 * So use flyweights to avoid storing many instances of functionally identical spaces
+                 */
+                return JavaLeafInterners.whitespace(new Space(whitespace, comments));
             }
         }
         return new Space(whitespace, comments);
@@ -227,7 +221,7 @@ public static Space format(String formatting, int beginIndex, int toIndex) {
             for (int i = comments.size() - 1; i >= 0; i--) {
                 Comment c = comments.get(i);
                 String next = c.getSuffix();
-                comments.set(i, c.withSuffix(whitespace));
+                comments.set(i, JavaLeafInterners.comment((TextComment) c.withSuffix(whitespace)));
                 whitespace = next;
             }
         }
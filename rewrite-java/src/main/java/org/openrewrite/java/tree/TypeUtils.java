@@ -18,6 +18,7 @@
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.Incubating;
 import org.openrewrite.java.JavaTypeVisitor;
+import org.openrewrite.java.internal.AssignabilityCache;
 import org.openrewrite.java.internal.JavaReflectionTypeMapping;
 import org.openrewrite.java.internal.JavaTypeCache;
 
@@ -477,6 +478,21 @@ public static boolean isAssignableTo(@Nullable JavaType to, @Nullable JavaType f
     }
 
     public static boolean isAssignableTo(@Nullable JavaType to, @Nullable JavaType from, ComparisonContext context) {
+        if (to != null && from != null && (context == ComparisonContext.BOUND || context == ComparisonContext.INFER)) {
+            AssignabilityCache cache = AssignabilityCache.current();
+            if (cache != null) {
+                Boolean assignable = cache.get(to, from, context);
+                if (assignable == null) {
+                    assignable = isAssignableToUncached(to, from, context);
+                    cache.put(to, from, context, assignable);
+                }
+                return assignable;
+            }
+        }
+        return isAssignableToUncached(to, from, context);
+    }
+
+    private static boolean isAssignableToUncached(@Nullable JavaType to, @Nullable JavaType from, ComparisonContext context) {
         try {
             if (to == from && !(to instanceof JavaType.Unknown)) {
                 return true;
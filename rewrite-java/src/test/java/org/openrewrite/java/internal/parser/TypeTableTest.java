@@ -35,9 +35,11 @@
 
 import javax.tools.JavaCompiler;
 import javax.tools.ToolProvider;
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.lang.reflect.Field;
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -46,6 +48,7 @@
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -963,6 +966,123 @@ private void clearJarByArtifact() throws Exception {
         }
     }
 
+    @Nested
+    class BinaryTypeTableTests {
+
+        @Test
+        void convertedTableHasSameRows() throws Exception {
+            //language=java
+            String source = """
+                package com.example.binary;
+
+                import java.util.List;
+
+                public class Rows<T> {
+                    public static final String VALUE = "hello|world";
+                    public List<T> items(@Deprecated String name) throws Exception { return null; }
+                }
+                """;
+            Path classFile = compileToClassFile(source, "com.example.binary.Rows");
+            Path jarFile = createJarFromClasses("rows.jar", classFile);
+            try (TypeTable.Writer writer = TypeTable.newWriter(Files.newOutputStream(tsv))) {
+                writer.jar("com.example", "rows", "1.0").write(jarFile);
+                writer.jar("com.example", "other-rows", "2.0").write(jarFile);
+            }
+            Path binary = tempDir.resolve("types.ttb");
+            BinaryTypeTable.convert(tsv, binary);
+
+            List<TypeTable.TsvRow> expected;
+            try (var in = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(tsv))))) {
+                expected = in.lines().skip(1).map(TypeTable.TsvRow::parse).toList();
+            }
+            BinaryTypeTable table = BinaryTypeTable.open(binary);
+            List<TypeTable.TsvRow> actual = new ArrayList<>();
+            for (int gav = 0; gav < table.getGavCount(); gav++) {
+                table.forEachRow(gav, actual::add);
+            }
+            assertThat(actual).isEqualTo(expected);
+            assertThat(table.getArtifactVersion(1)).isEqualTo("other-rows-2.0");
+        }
+
+        @Test
+        void readsOnlyRequestedArtifacts() throws Exception {
+            //language=java
+            String source = """
+                package com.example.binary;
+
+                public class Requested {
+                    public static final int VALUE = 42;
+                }
+                """;
+            Path classFile = compileToClassFile(source, "com.example.binary.Requested");
+            Path jarFile = createJarFromClasses("requested.jar", classFile);
+            try (TypeTable.Writer writer = TypeTable.newWriter(Files.newOutputStream(tsv))) {
+                writer.jar("com.example", "binary-requested", "1.0").write(jarFile);
+                writer.jar("com.example", "binary-unrequested", "1.0").write(jarFile);
+            }
+            Path binary = tempDir.resolve("types.ttb");
+            BinaryTypeTable.convert(tsv, binary);
+
+            TypeTable table = new TypeTable(ctx, binary.toUri().toURL(), List.of("binary-requested"));
+            Path loaded = table.load("binary-requested");
+            assertThat(loaded).isNotNull();
+            try (JarFile jar = new JarFile(loaded.toFile())) {
+                assertThat(jar.stream().map(JarEntry::getName))
+                  .containsExactly("com/example/binary/Requested.class");
+            }
+            assertThat(table.load("binary-unrequested")).isNull();
+        }
+    }
+
+    @Nested
+    class InMemoryClasspathTests {
+
+        @Test
+        void parsesAgainstClassesHeldInMemory() throws Exception {
+            //language=java
+            String source = """
+                package com.example.inmemory;
+
+                public class Greeter {
+                    public static String greet(String name) {
+                        return "Hello " + name;
+                    }
+                }
+                """;
+            Path classFile = compileToClassFile(source, "com.example.inmemory.Greeter");
+            Path jarFile = createJarFromClasses("greeter.jar", classFile);
+
+            Path recipeJarDir = tempDir.resolve("recipe-jar");
+            Path metaInfDir = recipeJarDir.resolve("META-INF/rewrite");
+            Files.createDirectories(metaInfDir);
+            try (TypeTable.Writer writer = TypeTable.newWriter(Files.newOutputStream(metaInfDir.resolve("classpath.tsv.gz")))) {
+                writer.jar("com.example", "inmemory-greeter", "1.0").write(jarFile);
+            }
+
+            JavaParserExecutionContextView.view(ctx).setParserClasspathInMemory(true);
+            ClassLoader originalTccl = Thread.currentThread().getContextClassLoader();
+            try (var recipeLoader = new URLClassLoader(new URL[]{recipeJarDir.toUri().toURL()}, ClassLoader.getPlatformClassLoader())) {
+                Thread.currentThread().setContextClassLoader(recipeLoader);
+                rewriteRun(
+                  spec -> spec.parser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "inmemory-greeter")),
+                  java(
+                    """
+                      import com.example.inmemory.Greeter;
+
+                      class Test {
+                          String hello = Greeter.greet("world");
+                      }
+                      """
+                  )
+                );
+            } finally {
+                Thread.currentThread().setContextClassLoader(originalTccl);
+            }
+
+            assertThat(tempDir.resolve(".tt/com/example/inmemory-greeter")).doesNotExist();
+        }
+    }
+
     // Helper methods for integration tests
     private static long writeJar(Path classpath, TypeTable.Writer writer) throws Exception {
         String fileName = classpath.toFile().getName();
@@ -22,6 +22,7 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
 import java.util.jar.JarEntry;
 import java.util.jar.JarOutputStream;
@@ -66,6 +67,52 @@ void skipsMetaInfEntriesUnderDirectoryClasspath() throws Exception {
           .containsExactly("net.bytebuddy.asm.Advice");
     }
 
+    @Test
+    void jarListingSharedUntilJarChanges() throws Exception {
+        Path jarFile = tempDir.resolve("lib.jar");
+        byte[] dummyClassBytes = new byte[]{(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE};
+        try (JarOutputStream jos = new JarOutputStream(Files.newOutputStream(jarFile))) {
+            writeEntry(jos, "org/example/A.class", dummyClassBytes);
+        }
+        List<JavaType.FullyQualified> first = JavaSourceSet.typesFromPath(jarFile, null);
+
+        assertThat(JavaSourceSet.build("main", List.of(jarFile)).getClasspath()).containsAll(first);
+        assertThat(JavaSourceSet.typesFromPath(jarFile, null)).isSameAs(first);
+
+        try (JarOutputStream jos = new JarOutputStream(Files.newOutputStream(jarFile))) {
+            writeEntry(jos, "org/example/A.class", dummyClassBytes);
+            writeEntry(jos, "org/example/B.class", dummyClassBytes);
+        }
+
+        assertThat(JavaSourceSet.typesFromPath(jarFile, null))
+          .extracting(JavaType.FullyQualified::getFullyQualifiedName)
+          .containsExactly("org.example.A", "org.example.B");
+    }
+
+    @Test
+    void jarListingPersisted(@TempDir Path cacheDir) throws Exception {
+        Path jarFile = tempDir.resolve("lib.jar");
+        try (JarOutputStream jos = new JarOutputStream(Files.newOutputStream(jarFile))) {
+            writeEntry(jos, "org/example/A.class", new byte[]{(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE});
+        }
+        try {
+            JavaSourceSet.setTypeListingCache(cacheDir, 10_000_000);
+            JavaSourceSet.typesFromPath(jarFile, null);
+
+            // a jar that can no longer be opened, but with the same size and last modified time
+            JarTypeListings.clear();
+            FileTime lastModified = Files.getLastModifiedTime(jarFile);
+            Files.write(jarFile, new byte[(int) Files.size(jarFile)]);
+            Files.setLastModifiedTime(jarFile, lastModified);
+
+            assertThat(JavaSourceSet.typesFromPath(jarFile, null))
+              .extracting(JavaType.FullyQualified::getFullyQualifiedName)
+              .containsExactly("org.example.A");
+        } finally {
+            JavaSourceSet.setTypeListingCache(null, 0);
+        }
+    }
+
     private static void writeEntry(JarOutputStream jos, String name, byte[] content) throws java.io.IOException {
         JarEntry entry = new JarEntry(name);
         jos.putNextEntry(entry);
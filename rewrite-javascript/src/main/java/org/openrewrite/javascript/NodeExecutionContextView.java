@@ -18,6 +18,8 @@
 import org.openrewrite.DelegatingExecutionContext;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.HttpSenderExecutionContextView;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.javascript.internal.registry.NpmRegistryCache;
 import org.openrewrite.javascript.internal.registry.NpmRegistryClient;
 
 import java.util.List;
@@ -33,6 +35,7 @@ public class NodeExecutionContextView extends DelegatingExecutionContext {
     private static final String REGISTRIES = "org.openrewrite.javascript.registries";
     private static final String CREDENTIALS = "org.openrewrite.javascript.registryCredentials";
     private static final String REGISTRY_CLIENT = "org.openrewrite.javascript.registryClient";
+    private static final String REGISTRY_CACHE = "org.openrewrite.javascript.registryCache";
 
     public NodeExecutionContextView(ExecutionContext delegate) {
         super(delegate);
@@ -71,12 +74,27 @@ public List<NodeRegistryCredentials> getRegistryCredentials() {
         return getMessage(CREDENTIALS, emptyList());
     }
 
+    /**
+     * A persistent registry cache that the {@link #getRegistryClient() registry client} revalidates against
+     * rather than refetching every packument, manifest, and tarball on each run. Must be set before the
+     * client is first requested.
+     */
+    public NodeExecutionContextView setRegistryCache(NpmRegistryCache registryCache) {
+        putMessage(REGISTRY_CACHE, registryCache);
+        return this;
+    }
+
+    public @Nullable NpmRegistryCache getRegistryCache() {
+        return getMessage(REGISTRY_CACHE);
+    }
+
     /**
      * A per-run {@link NpmRegistryClient} over the run's {@code HttpSender}, lazily created and shared
      * so its packument/manifest caches are reused across the execution.
      */
     public NpmRegistryClient getRegistryClient() {
         return (NpmRegistryClient) getMessages().computeIfAbsent(REGISTRY_CLIENT,
-                k -> new NpmRegistryClient(HttpSenderExecutionContextView.view(this).getHttpSender()));
+                k -> new NpmRegistryClient(HttpSenderExecutionContextView.view(this).getHttpSender(),
+                        getRegistryCache()));
     }
 }
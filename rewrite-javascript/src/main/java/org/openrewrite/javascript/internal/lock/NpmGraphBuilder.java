@@ -93,6 +93,11 @@ public ResolutionGraph build(Map<String, String> importerManifests) {
 
         // Phase 1: importer direct deps select their versions first, so a compatible transitive dedupes to a
         // directly-declared version rather than resolving its own.
+        for (ImporterDecl decl : declared) {
+            for (Map<String, String> scope : decl.scopes.values()) {
+                prefetch(scope, chosen);
+            }
+        }
         for (ImporterDecl decl : declared) {
             for (Map<String, String> scope : decl.scopes.values()) {
                 for (Map.Entry<String, String> dep : scope.entrySet()) {
@@ -183,6 +188,7 @@ private String select(String name, String range,
         String key = ResolutionGraph.key(name, version);
         if (!manifests.containsKey(key)) {
             VersionManifest manifest = registry.manifest(name, version);
+            prefetchEdges(manifest, chosen);
             manifests.put(key, manifest);
             chosen.computeIfAbsent(name, k -> new LinkedHashSet<>()).add(version);
             work.add(new String[]{name, version});
@@ -190,6 +196,42 @@ private String select(String name, String range,
         return version;
     }
 
+    /**
+     * Ask the registry to start fetching the edges of a node as soon as it is discovered, so the next frontier of
+     * the closure is in flight while the current one is still being resolved. Selection itself stays sequential
+     * (and so deterministic); a prefetch only warms what it will later ask for.
+     */
+    private void prefetchEdges(VersionManifest manifest, Map<String, Set<String>> chosen) {
+        if (manifest.getDependencies() != null) {
+            prefetch(manifest.getDependencies(), chosen);
+        }
+        if (manifest.getOptionalDependencies() != null) {
+            prefetch(manifest.getOptionalDependencies(), chosen);
+        }
+    }
+
+    private void prefetch(Map<String, String> declaredEdges, Map<String, Set<String>> chosen) {
+        for (Map.Entry<String, String> dep : declaredEdges.entrySet()) {
+            String name = dep.getKey();
+            String range = dep.getValue();
+            if (range.startsWith("npm:")) {
+                Alias alias = parseAlias(range);
+                if (alias == null) {
+                    continue;
+                }
+                name = alias.realName;
+                range = alias.range;
+            } else if (!Semver.validate(range, null, NODE).isValid()) {
+                continue;
+            }
+            if (Semver.maxSatisfying(chosen.getOrDefault(dep.getKey(), emptySet()), range, NODE) != null) {
+                continue;
+            }
+            String locked = lockedSatisfying(dep.getKey(), range);
+            registry.prefetch(name, locked == null ? range : locked);
+        }
+    }
+
     /** The highest already-locked version of {@code name} that {@code range} admits, or {@code null}. */
     private @Nullable String lockedSatisfying(String name, String range) {
         return Semver.maxSatisfying(lockedVersions.getOrDefault(name, emptySet()), range, NODE);
@@ -234,7 +276,9 @@ private String selectAlias(String aliasName, String realName, String range, Map<
         }
         String key = ResolutionGraph.key(aliasName, version);
         if (!manifests.containsKey(key)) {
-            manifests.put(key, registry.manifest(realName, version));
+            VersionManifest manifest = registry.manifest(realName, version);
+            prefetchEdges(manifest, chosen);
+            manifests.put(key, manifest);
             chosen.computeIfAbsent(aliasName, k -> new LinkedHashSet<>()).add(version);
             work.add(new String[]{aliasName, version});
         }
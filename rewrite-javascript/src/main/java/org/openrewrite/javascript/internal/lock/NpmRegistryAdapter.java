@@ -24,7 +24,7 @@
 /**
  * Adapts the live {@link NpmRegistryClient}/{@link NodeRegistries} to the {@link Registry} surface a graph builder
  * needs, routing each package name to its configured registry. The client caches per run, so repeated lookups
- * during resolution do not re-hit the network.
+ * during resolution do not re-hit the network, and fetches prefetched packages concurrently.
  */
 public final class NpmRegistryAdapter implements Registry {
 
@@ -45,4 +45,9 @@ public Set<String> versions(String name) {
     public VersionManifest manifest(String name, String version) {
         return client.getManifest(registries.registryFor(name), name, version);
     }
+
+    @Override
+    public void prefetch(String name, String range) {
+        client.prefetch(registries.registryFor(name), name, range);
+    }
 }
@@ -31,4 +31,11 @@ public interface Registry {
 
     /** The manifest for a specific {@code name@version}. */
     VersionManifest manifest(String name, String version);
+
+    /**
+     * A hint that {@code name} is about to be resolved against {@code range}, so an implementation backed by a
+     * network may start fetching ahead. Never changes what {@link #versions} or {@link #manifest} return.
+     */
+    default void prefetch(String name, String range) {
+    }
 }
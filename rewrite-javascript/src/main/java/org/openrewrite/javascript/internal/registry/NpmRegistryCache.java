@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.javascript.internal.registry;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.internal.BoundedDiskCache;
+import org.openrewrite.internal.StreamUtils;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A size-bounded, on-disk cache of npm registry responses that survives between runs. Each packument or manifest
+ * is stored with the {@code ETag}/{@code Last-Modified} validators it was served with, so the
+ * {@link NpmRegistryClient} can revalidate it with a conditional request and reuse the body on a {@code 304}.
+ * Tarballs are immutable once published and are served from here without revalidation.
+ * The least recently used entries are deleted once the cache grows beyond its maximum size.
+ */
+public class NpmRegistryCache {
+    private final BoundedDiskCache entries;
+
+    public NpmRegistryCache(Path cacheDirectory, long maximumSizeBytes) {
+        this.entries = new BoundedDiskCache(cacheDirectory, ".body", maximumSizeBytes);
+    }
+
+    @Value
+    public static class Entry {
+        byte[] body;
+
+        @Nullable
+        String etag;
+
+        @Nullable
+        String lastModified;
+    }
+
+    /**
+     * @param key Identifies the request, e.g. its accept header and URL.
+     * @return The cached response, or {@code null} when there is none.
+     */
+    public @Nullable Entry get(String key) {
+        return entries.read(key, entry -> {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+                String etag = in.readUTF();
+                String lastModified = in.readUTF();
+                return new Entry(StreamUtils.readAllBytes(in), etag.isEmpty() ? null : etag,
+                        lastModified.isEmpty() ? null : lastModified);
+            }
+        });
+    }
+
+    /**
+     * Store a response body together with its validators. A response served without either validator is not
+     * stored, since it could never be revalidated.
+     */
+    public void put(String key, byte[] body, @Nullable String etag, @Nullable String lastModified) {
+        if (etag == null && lastModified == null) {
+            return;
+        }
+        entries.write(key, os -> {
+            DataOutputStream out = new DataOutputStream(os);
+            out.writeUTF(etag == null ? "" : etag);
+            out.writeUTF(lastModified == null ? "" : lastModified);
+            out.write(body);
+            out.flush();
+        });
+    }
+
+    /**
+     * @return The file the tarball is stored in, or {@code null} when there is none.
+     */
+    public @Nullable Path getTarball(String key) {
+        return entries.read(key, entry -> entry);
+    }
+
+    /**
+     * Store a tarball, streaming it to disk rather than buffering it on the heap.
+     *
+     * @return The file the tarball is stored in, or {@code null} if the cache could not be written to.
+     */
+    public @Nullable Path putTarball(String key, InputStream tarball) {
+        return entries.write(key, out -> {
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = tarball.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+        });
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public long getSizeBytes() {
+        return entries.getSizeBytes();
+    }
+}
@@ -19,11 +19,19 @@
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jspecify.annotations.Nullable;
+import org.openrewrite.internal.StreamUtils;
+import org.openrewrite.internal.ThreadPools;
 import org.openrewrite.ipc.http.HttpSender;
 import org.openrewrite.ipc.http.HttpUrlConnectionSender;
 import org.openrewrite.javascript.NodeRegistry;
 import org.openrewrite.javascript.internal.registry.NodeRegistryException.Reason;
+import org.openrewrite.semver.Semver;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -31,64 +39,192 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+
+import static org.openrewrite.semver.Semver.Ecosystem.NODE;
 
 /**
  * A two-step npm registry client: the abbreviated packument to select a version over a range, then
  * the single-version manifest for the byte-exact locked entry. Results are cached in memory per run,
  * keyed by (registry, name[, version]). Mirrors the Python {@code SimpleIndexClient}.
+ * <p>
+ * When constructed with an {@link NpmRegistryCache}, responses also persist between runs: packuments and
+ * manifests are revalidated with {@code If-None-Match}/{@code If-Modified-Since} and reused on a {@code 304},
+ * and tarballs are served from disk outright. Tarball bodies are never held on the heap between calls; without
+ * a persistent cache they spill to temporary files for the rest of the run.
+ * <p>
+ * {@link #prefetch} lets a resolver fetch the packages it is about to need on a small bounded pool while it
+ * walks the closure; a lookup whose prefetch is in flight waits for it rather than fetching again.
  */
 public class NpmRegistryClient {
     private static final String PACKUMENT_ACCEPT = "application/vnd.npm.install-v1+json";
     private static final ObjectMapper MAPPER = new ObjectMapper()
             .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private static final int PREFETCH_CONCURRENCY = 8;
 
     private final HttpSender httpSender;
+    private final @Nullable NpmRegistryCache diskCache;
     private final Map<String, AbbreviatedPackument> packumentCache = new ConcurrentHashMap<>();
     private final Map<String, VersionManifest> manifestCache = new ConcurrentHashMap<>();
-    private final Map<String, byte[]> tarballCache = new ConcurrentHashMap<>();
+    private final Map<String, Path> tarballCache = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+
+    private final ThreadPoolExecutor prefetchExecutor =
+            ThreadPools.newBoundedDaemonPool("npm-registry-prefetch", PREFETCH_CONCURRENCY);
 
     public NpmRegistryClient(HttpSender httpSender) {
+        this(httpSender, null);
+    }
+
+    public NpmRegistryClient(HttpSender httpSender, @Nullable NpmRegistryCache diskCache) {
         this.httpSender = httpSender;
+        this.diskCache = diskCache;
     }
 
     public AbbreviatedPackument getPackument(NodeRegistry registry, String name) {
-        String key = registry.getUrl() + "#" + name;
-        AbbreviatedPackument cached = packumentCache.get(key);
-        if (cached == null) {
-            cached = fetchPackument(registry, name);
-            packumentCache.put(key, cached);
-        }
-        return cached;
+        return cached(packumentCache, packumentKey(registry, name), () -> fetchPackument(registry, name));
     }
 
     public VersionManifest getManifest(NodeRegistry registry, String name, String version) {
-        String key = registry.getUrl() + "#" + name + "@" + version;
-        VersionManifest cached = manifestCache.get(key);
-        if (cached == null) {
-            cached = fetchManifest(registry, name, version);
-            manifestCache.put(key, cached);
-        }
-        return cached;
+        return cached(manifestCache, manifestKey(registry, name, version), () -> fetchManifest(registry, name, version));
     }
 
     /**
-     * The raw gzipped tarball bytes from {@code dist.tarball}, cached per (registry, url). Needed to reproduce
-     * a Yarn Berry checksum, which hashes the tarball's repacked contents.
+     * The raw gzipped tarball bytes from {@code dist.tarball}, cached per (registry, url) on disk when there is a
+     * disk cache. Needed to reproduce a Yarn Berry checksum, which hashes the tarball's repacked contents.
      */
     public byte[] getTarball(NodeRegistry registry, String name, @Nullable String version, String tarballUrl) {
-        byte[] cached = tarballCache.get(tarballUrl);
+        Path cached = tarballCache.get(tarballUrl);
+        if ((cached == null || !Files.exists(cached)) && diskCache != null) {
+            cached = storeTarball(registry, name, version, tarballUrl, diskCache);
+            if (cached != null) {
+                tarballCache.put(tarballUrl, cached);
+            }
+        }
         if (cached == null) {
-            cached = send(registry, name, version, tarballUrl, HttpSender.Request.Builder.APPLICATION_JSON, false);
-            tarballCache.put(tarballUrl, cached);
+            // nowhere to keep it, so read straight from the response rather than spilled to a temporary file
+            //noinspection DataFlowIssue
+            return send(registry, name, version, tarballUrl, HttpSender.Request.Builder.APPLICATION_JSON, false, null,
+                    response -> {
+                        try (InputStream body = response.getBody()) {
+                            return StreamUtils.readAllBytes(body);
+                        }
+                    });
+        }
+        try {
+            return Files.readAllBytes(cached);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Start fetching the packument of {@code name} and, when a {@code range} is given, the manifest of the highest
+     * version it admits, without waiting for either. Failures are not reported here; they surface again from the
+     * {@link #getPackument}/{@link #getManifest} call that needs the result.
+     */
+    public void prefetch(NodeRegistry registry, String name, @Nullable String range) {
+        if (registry.isUnresolvedPlaceholders()) {
+            return;
+        }
+        String packumentKey = packumentKey(registry, name);
+        AbbreviatedPackument known = packumentCache.get(packumentKey);
+        if (known != null) {
+            if (range != null) {
+                prefetchManifest(registry, name, known, range);
+            }
+            return;
+        }
+        CompletableFuture<AbbreviatedPackument> packument = claim(packumentCache, packumentKey);
+        if (packument == null) {
+            // another prefetch owns it
+            return;
+        }
+        prefetchExecutor.execute(() -> {
+            AbbreviatedPackument p = complete(packumentCache, packumentKey, packument, () -> fetchPackument(registry, name));
+            if (p != null && range != null) {
+                prefetchManifest(registry, name, p, range);
+            }
+        });
+    }
+
+    private void prefetchManifest(NodeRegistry registry, String name, AbbreviatedPackument packument, String range) {
+        String version = Semver.maxSatisfying(packument.getVersions(), range, NODE);
+        if (version == null) {
+            return;
+        }
+        String manifestKey = manifestKey(registry, name, version);
+        CompletableFuture<VersionManifest> manifest = claim(manifestCache, manifestKey);
+        if (manifest != null) {
+            prefetchExecutor.execute(() ->
+                    complete(manifestCache, manifestKey, manifest, () -> fetchManifest(registry, name, version)));
+        }
+    }
+
+    private <T> T cached(Map<String, T> cache, String key, Supplier<T> fetch) {
+        T cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        CompletableFuture<?> pending = inFlight.get(key);
+        if (pending != null) {
+            try {
+                pending.join();
+            } catch (CompletionException ignored) {
+                // fetch again below so that the failure is reported on the caller's thread
+            }
+        }
+        cached = cache.get(key);
+        if (cached != null) {
+            return cached;
         }
-        return cached;
+        T fetched = fetch.get();
+        T previous = cache.putIfAbsent(key, fetched);
+        return previous == null ? fetched : previous;
+    }
+
+    /**
+     * @return A future the caller is now responsible for completing, or {@code null} when {@code key} is
+     * already cached or being fetched.
+     */
+    private <T> @Nullable CompletableFuture<T> claim(Map<String, T> cache, String key) {
+        if (cache.containsKey(key)) {
+            return null;
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        return inFlight.putIfAbsent(key, future) == null ? future : null;
+    }
+
+    private <T> @Nullable T complete(Map<String, T> cache, String key, CompletableFuture<T> future, Supplier<T> fetch) {
+        try {
+            T fetched = fetch.get();
+            cache.putIfAbsent(key, fetched);
+            future.complete(fetched);
+            return fetched;
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+            return null;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private static String packumentKey(NodeRegistry registry, String name) {
+        return registry.getUrl() + "#" + name;
+    }
+
+    private static String manifestKey(NodeRegistry registry, String name, String version) {
+        return registry.getUrl() + "#" + name + "@" + version;
     }
 
     private AbbreviatedPackument fetchPackument(NodeRegistry registry, String name) {
         guard(registry);
         String url = base(registry) + "/" + Urls.encodeName(name);
-        byte[] body = send(registry, name, null, url, PACKUMENT_ACCEPT, true);
+        byte[] body = fetchBody(registry, name, null, url, PACKUMENT_ACCEPT, true);
         try {
             return parsePackument(name, body);
         } catch (Exception e) {
@@ -100,7 +236,7 @@ private AbbreviatedPackument fetchPackument(NodeRegistry registry, String name)
     private VersionManifest fetchManifest(NodeRegistry registry, String name, String version) {
         guard(registry);
         String url = base(registry) + "/" + Urls.encodeName(name) + "/" + version;
-        byte[] body = send(registry, name, version, url, HttpSender.Request.Builder.APPLICATION_JSON, false);
+        byte[] body = fetchBody(registry, name, version, url, HttpSender.Request.Builder.APPLICATION_JSON, false);
         try {
             return parseManifest(body);
         } catch (Exception e) {
@@ -109,12 +245,64 @@ private VersionManifest fetchManifest(NodeRegistry registry, String name, String
         }
     }
 
-    private byte[] send(NodeRegistry registry, String name, @Nullable String version, String url,
-                        String accept, boolean packument) {
+    /**
+     * A packument or manifest body, revalidating the persistent cache's copy (if any) with a conditional request.
+     */
+    private byte[] fetchBody(NodeRegistry registry, String name, @Nullable String version, String url,
+                             String accept, boolean packument) {
+        NpmRegistryCache persistent = diskCache;
+        if (persistent == null) {
+            //noinspection DataFlowIssue
+            return send(registry, name, version, url, accept, packument, null, HttpSender.Response::getBodyAsBytes);
+        }
+        String key = accept + " " + url;
+        NpmRegistryCache.Entry cached = persistent.get(key);
+        byte[] body = send(registry, name, version, url, accept, packument, cached, response -> {
+            byte[] fetched = response.getBodyAsBytes();
+            persistent.put(key, fetched, header(response, "ETag"), header(response, "Last-Modified"));
+            return fetched;
+        });
+        //noinspection DataFlowIssue
+        return body == null ? cached.getBody() : body;
+    }
+
+    /**
+     * @return The file in the disk cache holding the tarball, streamed there from the response when it isn't cached
+     * yet, or {@code null} if the cache could not be written to.
+     */
+    private @Nullable Path storeTarball(NodeRegistry registry, String name, @Nullable String version, String url,
+                                        NpmRegistryCache diskCache) {
+        String key = "tarball " + url;
+        Path cached = diskCache.getTarball(key);
+        if (cached != null) {
+            return cached;
+        }
+        return send(registry, name, version, url, HttpSender.Request.Builder.APPLICATION_JSON, false, null, response -> {
+            try (InputStream body = response.getBody()) {
+                return diskCache.putTarball(key, body);
+            }
+        });
+    }
+
+    /**
+     * @param revalidate A cached response to revalidate with a conditional request, or {@code null}.
+     * @return The handled response, or {@code null} when {@code revalidate} is still current.
+     */
+    private <T> @Nullable T send(NodeRegistry registry, String name, @Nullable String version, String url,
+                                 String accept, boolean packument, NpmRegistryCache.@Nullable Entry revalidate,
+                                 ResponseHandler<T> handler) {
         HttpSender.Request request;
         try {
             HttpSender.Request.Builder builder = httpSender.get(url).accept(accept);
             applyAuth(builder, registry);
+            if (revalidate != null) {
+                if (revalidate.getEtag() != null) {
+                    builder.withHeader("If-None-Match", revalidate.getEtag());
+                }
+                if (revalidate.getLastModified() != null) {
+                    builder.withHeader("If-Modified-Since", revalidate.getLastModified());
+                }
+            }
             request = builder.build();
         } catch (Exception e) {
             throw new NodeRegistryException(Reason.UNREACHABLE, registry.getUrl(), name, version,
@@ -122,6 +310,9 @@ private byte[] send(NodeRegistry registry, String name, @Nullable String version
         }
         try (HttpSender.Response response = httpSender.send(request)) {
             int code = response.getCode();
+            if (code == 304 && revalidate != null) {
+                return null;
+            }
             if (code == 401 || code == 403) {
                 throw new NodeRegistryException(Reason.AUTH_FAILED, safeUrl(registry), name, version,
                         "HTTP " + code + " from " + url, null);
@@ -135,7 +326,7 @@ private byte[] send(NodeRegistry registry, String name, @Nullable String version
                 throw new NodeRegistryException(Reason.UNREACHABLE, safeUrl(registry), name, version,
                         "HTTP " + code + " from " + url, null);
             }
-            return response.getBodyAsBytes();
+            return handler.handle(response);
         } catch (NodeRegistryException e) {
             throw e;
         } catch (Exception e) {
@@ -144,6 +335,20 @@ private byte[] send(NodeRegistry registry, String name, @Nullable String version
         }
     }
 
+    private interface ResponseHandler<T> {
+        T handle(HttpSender.Response response) throws IOException;
+    }
+
+    private static @Nullable String header(HttpSender.Response response, String name) {
+        for (Map.Entry<String, List<String>> header : response.getHeaders().entrySet()) {
+            // HttpURLConnection reports the status line under a null key
+            if (name.equalsIgnoreCase(header.getKey()) && !header.getValue().isEmpty()) {
+                return header.getValue().get(0);
+            }
+        }
+        return null;
+    }
+
     private void guard(NodeRegistry registry) {
         if (registry.isUnresolvedPlaceholders()) {
             throw new NodeRegistryException(Reason.UNREACHABLE, safeUrl(registry),
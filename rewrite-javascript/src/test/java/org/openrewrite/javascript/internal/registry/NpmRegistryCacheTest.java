@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.javascript.internal.registry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.ipc.http.HttpSender;
+import org.openrewrite.javascript.NodeRegistry;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NpmRegistryCacheTest {
+
+    @TempDir
+    Path registryRoot;
+
+    @TempDir
+    Path cacheDir;
+
+    private static NodeRegistry registry() {
+        return new NodeRegistry(null, "http://registry.test/", null, null, null, null, false, null, true, false);
+    }
+
+    @BeforeEach
+    void publish() throws IOException {
+        Files.write(registryRoot.resolve("lodash"), ("{\"dist-tags\":{\"latest\":\"4.17.21\"}," +
+                "\"versions\":{\"4.17.20\":{},\"4.17.21\":{}}}").getBytes(StandardCharsets.UTF_8));
+        Files.write(registryRoot.resolve("lodash.4.17.21"), ("{\"name\":\"lodash\",\"version\":\"4.17.21\"," +
+                "\"dist\":{\"tarball\":\"http://registry.test/lodash.tgz\",\"integrity\":\"sha512-x\"}}")
+                .getBytes(StandardCharsets.UTF_8));
+        Files.write(registryRoot.resolve("lodash.tgz"), new byte[]{0x1f, (byte) 0x8b, 1, 2, 3});
+    }
+
+    @Test
+    void revalidatesPackumentAcrossRuns() {
+        FileBackedRegistry sender = new FileBackedRegistry(registryRoot);
+        new NpmRegistryClient(sender, new NpmRegistryCache(cacheDir, 10_000_000)).getPackument(registry(), "lodash");
+
+        AbbreviatedPackument packument = new NpmRegistryClient(sender, new NpmRegistryCache(cacheDir, 10_000_000))
+                .getPackument(registry(), "lodash");
+
+        assertThat(packument.getVersions()).containsExactly("4.17.20", "4.17.21");
+        assertThat(sender.statuses).containsExactly(200, 304);
+        assertThat(sender.requests.get(1).getRequestHeaders()).containsKey("If-None-Match");
+    }
+
+    @Test
+    void refetchesChangedPackument() throws IOException {
+        FileBackedRegistry sender = new FileBackedRegistry(registryRoot);
+        new NpmRegistryClient(sender, new NpmRegistryCache(cacheDir, 10_000_000)).getPackument(registry(), "lodash");
+        Files.write(registryRoot.resolve("lodash"), "{\"versions\":{\"5.0.0\":{}}}".getBytes(StandardCharsets.UTF_8));
+
+        AbbreviatedPackument packument = new NpmRegistryClient(sender, new NpmRegistryCache(cacheDir, 10_000_000))
+                .getPackument(registry(), "lodash");
+
+        assertThat(packument.getVersions()).containsExactly("5.0.0");
+        assertThat(sender.statuses).containsExactly(200, 200);
+    }
+
+    @Test
+    void tarballServedFromDiskWithoutRequest() {
+        FileBackedRegistry sender = new FileBackedRegistry(registryRoot);
+        NpmRegistryCache cache = new NpmRegistryCache(cacheDir, 10_000_000);
+        byte[] first = new NpmRegistryClient(sender, cache)
+                .getTarball(registry(), "lodash", "4.17.21", "http://registry.test/lodash.tgz");
+
+        byte[] second = new NpmRegistryClient(sender, cache)
+                .getTarball(registry(), "lodash", "4.17.21", "http://registry.test/lodash.tgz");
+
+        assertThat(second).isEqualTo(first).hasSize(5);
+        assertThat(sender.statuses).containsExactly(200);
+        assertThat(cache.getSizeBytes()).isEqualTo(5);
+    }
+
+    @Test
+    void evictsBeyondMaximumSize() {
+        NpmRegistryCache cache = new NpmRegistryCache(cacheDir, 10);
+        NpmRegistryClient client = new NpmRegistryClient(new FileBackedRegistry(registryRoot), cache);
+
+        client.getPackument(registry(), "lodash");
+        client.getManifest(registry(), "lodash", "4.17.21");
+
+        assertThat(cache.getSizeBytes()).isLessThanOrEqualTo(200);
+        assertThat(cacheDir.toFile().list((dir, name) -> name.endsWith(".body"))).hasSize(1);
+    }
+
+    @Test
+    void responseWithoutValidatorsIsNotStored() {
+        NpmRegistryCache cache = new NpmRegistryCache(cacheDir, 10_000_000);
+
+        cache.put("key", "{}".getBytes(StandardCharsets.UTF_8), null, null);
+
+        assertThat(cache.get("key")).isNull();
+        assertThat(cache.getSizeBytes()).isZero();
+    }
+
+    @Test
+    void lookupWaitsForPrefetchInFlight() {
+        FileBackedRegistry sender = new FileBackedRegistry(registryRoot);
+        NpmRegistryClient client = new NpmRegistryClient(sender);
+
+        client.prefetch(registry(), "lodash", null);
+        AbbreviatedPackument packument = client.getPackument(registry(), "lodash");
+        client.prefetch(registry(), "lodash", "^4.17.0");
+        VersionManifest manifest = client.getManifest(registry(), "lodash", "4.17.21");
+
+        assertThat(packument.getVersions()).contains("4.17.21");
+        assertThat(manifest.getDist().getIntegrity()).isEqualTo("sha512-x");
+        assertThat(sender.requests).hasSize(2);
+    }
+
+    /**
+     * Serves {@code /<name>} and {@code /<name>/<version>} from files named {@code <name>} and
+     * {@code <name>.<version>}, and anything else by its file name, with an ETag derived from the content.
+     */
+    static final class FileBackedRegistry implements HttpSender {
+        final List<Request> requests = Collections.synchronizedList(new ArrayList<>());
+        final List<Integer> statuses = Collections.synchronizedList(new ArrayList<>());
+        private final Path root;
+
+        FileBackedRegistry(Path root) {
+            this.root = root;
+        }
+
+        @Override
+        public Response send(Request request) {
+            requests.add(request);
+            String path = request.getUrl().getPath().substring(1).replace('/', '.');
+            Path file = root.resolve(path);
+            if (!Files.isRegularFile(file)) {
+                statuses.add(404);
+                return new Response(404, null, () -> {
+                });
+            }
+            try {
+                byte[] body = Files.readAllBytes(file);
+                String etag = "\"" + Integer.toHexString(Arrays.hashCode(body)) + "\"";
+                if (etag.equals(request.getRequestHeaders().get("If-None-Match"))) {
+                    statuses.add(304);
+                    return new Response(304, null, () -> {
+                    });
+                }
+                statuses.add(200);
+                return new Response(200, new ByteArrayInputStream(body),
+                        singletonMap("ETag", singletonList(etag)), () -> {
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package org.openrewrite.javascript.internal.registry;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.openrewrite.ipc.http.HttpSender;
 import org.openrewrite.ipc.http.HttpUrlConnectionSender;
 import org.openrewrite.javascript.NodeRegistry;
@@ -25,6 +26,7 @@
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Base64;
@@ -274,6 +276,33 @@ void manifestCachedPerRun() {
         assertThat(sender.sendCount).isEqualTo(1);
     }
 
+    @Test
+    void tarballReadFromResponseWithoutDiskCache() {
+        StubHttpSender sender = new StubHttpSender();
+        sender.enqueueJson(200, "tarball-1");
+        sender.enqueueJson(200, "tarball-1");
+        var client = new NpmRegistryClient(sender);
+
+        assertThat(client.getTarball(registry(), "lodash", "4.17.21", "http://registry.test/lodash-4.17.21.tgz"))
+                .isEqualTo("tarball-1".getBytes(StandardCharsets.UTF_8));
+        // nothing is kept between calls when there is no disk cache to keep it in
+        client.getTarball(registry(), "lodash", "4.17.21", "http://registry.test/lodash-4.17.21.tgz");
+        assertThat(sender.sendCount).isEqualTo(2);
+    }
+
+    @Test
+    void tarballStreamedToDiskCache(@TempDir Path cacheDir) {
+        StubHttpSender sender = new StubHttpSender();
+        sender.enqueueJson(200, "tarball-1");
+        var client = new NpmRegistryClient(sender, new NpmRegistryCache(cacheDir, 1024 * 1024));
+
+        assertThat(client.getTarball(registry(), "lodash", "4.17.21", "http://registry.test/lodash-4.17.21.tgz"))
+                .isEqualTo("tarball-1".getBytes(StandardCharsets.UTF_8));
+        assertThat(client.getTarball(registry(), "lodash", "4.17.21", "http://registry.test/lodash-4.17.21.tgz"))
+                .isEqualTo("tarball-1".getBytes(StandardCharsets.UTF_8));
+        assertThat(sender.sendCount).isEqualTo(1);
+    }
+
     @Test
     void cafileWithDefaultSenderFailsLoud() {
         var client = new NpmRegistryClient(new HttpUrlConnectionSender());
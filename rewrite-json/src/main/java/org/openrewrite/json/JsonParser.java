@@ -23,23 +23,31 @@
 import org.openrewrite.Parser;
 import org.openrewrite.SourceFile;
 import org.openrewrite.json.internal.JsonParserVisitor;
+import org.openrewrite.json.internal.JsonScanner;
 import org.openrewrite.json.internal.grammar.JSON5Lexer;
 import org.openrewrite.json.internal.grammar.JSON5Parser;
 import org.openrewrite.json.tree.Json;
 import org.openrewrite.internal.EncodingDetectingInputStream;
+import org.openrewrite.tree.ParseCache;
 import org.openrewrite.tree.ParseError;
 import org.openrewrite.tree.ParsingEventListener;
 import org.openrewrite.tree.ParsingExecutionContextView;
 
 import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.stream.Stream;
 
 public class JsonParser implements Parser {
     @Override
     public Stream<SourceFile> parseInputs(Iterable<Input> sourceFiles, @Nullable Path relativeTo, ExecutionContext ctx) {
+        return ParseCache.parseInputs(this, sourceFiles, relativeTo, ctx, getClass().getName(), "", true,
+                inputs -> parseUncached(inputs, relativeTo, ctx));
+    }
+
+    private Stream<SourceFile> parseUncached(List<Input> inputs, @Nullable Path relativeTo, ExecutionContext ctx) {
         ParsingEventListener parsingListener = ParsingExecutionContextView.view(ctx).getParsingListener();
-        return acceptedInputs(sourceFiles).map(input -> {
+        return inputs.stream().map(input -> {
             parsingListener.startedParsing(input);
             try {
                 EncodingDetectingInputStream is = input.getSource(ctx);
@@ -47,21 +55,31 @@ public Stream<SourceFile> parseInputs(Iterable<Input> sourceFiles, @Nullable Pat
                 Charset charset = is.getCharset();
                 boolean charsetBomMarked = is.isCharsetBomMarked();
 
-                JSON5Lexer lexer = new JSON5Lexer(CharStreams.fromString(sourceStr));
-                lexer.removeErrorListeners();
-                lexer.addErrorListener(new ForwardingErrorListener(input.getPath(), ctx));
-
-                JSON5Parser parser = new JSON5Parser(new CommonTokenStream(lexer));
-                parser.removeErrorListeners();
-                parser.addErrorListener(new ForwardingErrorListener(input.getPath(), ctx));
-
-                Json.Document document = new JsonParserVisitor(
+                Json.Document document = JsonScanner.scan(
                         input.getRelativePath(relativeTo),
                         input.getFileAttributes(),
                         sourceStr,
                         charset,
                         charsetBomMarked
-                ).visitJson5(parser.json5());
+                );
+                if (document == null) {
+                    // malformed (or unusual) input is left to the grammar, which also reports the syntax errors
+                    JSON5Lexer lexer = new JSON5Lexer(CharStreams.fromString(sourceStr));
+                    lexer.removeErrorListeners();
+                    lexer.addErrorListener(new ForwardingErrorListener(input.getPath(), ctx));
+
+                    JSON5Parser parser = new JSON5Parser(new CommonTokenStream(lexer));
+                    parser.removeErrorListeners();
+                    parser.addErrorListener(new ForwardingErrorListener(input.getPath(), ctx));
+
+                    document = new JsonParserVisitor(
+                            input.getRelativePath(relativeTo),
+                            input.getFileAttributes(),
+                            sourceStr,
+                            charset,
+                            charsetBomMarked
+                    ).visitJson5(parser.json5());
+                }
                 parsingListener.parsed(input, document);
                 return requirePrintEqualsInput(document, input, relativeTo, ctx);
             } catch (Throwable t) {
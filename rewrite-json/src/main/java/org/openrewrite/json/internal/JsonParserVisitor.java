@@ -25,7 +25,6 @@
 import org.openrewrite.json.tree.*;
 import org.openrewrite.marker.Markers;
 
-import java.math.BigInteger;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -199,11 +198,7 @@ public Json.Literal visitNumber(JSON5Parser.NumberContext ctx) {
                 skip(ctx.NUMERIC_LITERAL());
             }
             source.append(ctx.NUMERIC_LITERAL().getText());
-            if ("Infinity".equals(ctx.NUMERIC_LITERAL().getText())) {
-                value = sign.get() == 1 ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
-            } else {
-                value = Double.NaN;
-            }
+            value = JsonScanner.numberValue(ctx.NUMERIC_LITERAL().getText(), sign.get());
         } else {
             if (prefix.get() == null) {
                 prefix.set(sourceBefore(ctx.NUMBER().getText()));
@@ -212,21 +207,7 @@ public Json.Literal visitNumber(JSON5Parser.NumberContext ctx) {
             }
             String text = ctx.NUMBER().getText();
             source.append(text);
-            if (text.startsWith("0x")) {
-                value = Long.decode(text) * sign.get();
-            } else if (text.contains(".") || text.contains("e") || text.contains("E")) {
-                value = Double.parseDouble(text) * sign.get();
-            } else {
-                try {
-                    value = Integer.parseInt(text) * sign.get();
-                } catch (NumberFormatException e) {
-                    try {
-                        value = Long.parseLong(text) * sign.get();
-                    } catch (NumberFormatException e1) {
-                        value = sign.get() == 1 ? new BigInteger(text, 10) : new BigInteger("-" + text, 10);
-                    }
-                }
-            }
+            value = JsonScanner.numberValue(text, sign.get());
         }
 
         return new Json.Literal(randomId(), prefix.get(), Markers.EMPTY, source.toString(), value);
@@ -0,0 +1,424 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.json.internal;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.FileAttributes;
+import org.openrewrite.json.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.openrewrite.Tree.randomId;
+
+/**
+ * A single pass, recursive descent scanner that builds the {@link Json} LST for a JSON5 document directly from
+ * its source, without an ANTLR token stream or parse tree in between. The LST is the same, prefix for prefix,
+ * as the one {@link JsonParserVisitor} builds from the JSON5 grammar.
+ * <p>
+ * The scanner only accepts input it is certain the grammar parses the same way. For anything else, malformed
+ * input in particular but also a few rare forms like unquoted non-ASCII keys, {@link #scan} returns {@code null}
+ * and the caller parses with the grammar, which also reports the syntax errors.
+ */
+public class JsonScanner {
+    private final String source;
+    private int cursor;
+
+    private JsonScanner(String source) {
+        this.source = source;
+    }
+
+    /**
+     * @return The document, or {@code null} if the source must be parsed with the JSON5 grammar instead.
+     */
+    public static Json.@Nullable Document scan(Path path, @Nullable FileAttributes fileAttributes, String source,
+                                               Charset charset, boolean charsetBomMarked) {
+        try {
+            return new JsonScanner(source).document(path, fileAttributes, charset, charsetBomMarked);
+        } catch (Unsupported | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Json.Document document(Path path, @Nullable FileAttributes fileAttributes, Charset charset,
+                                   boolean charsetBomMarked) {
+        Space prefix = whitespace();
+        if (cursor == source.length()) {
+            return new Json.Document(randomId(), path, Space.EMPTY, Markers.EMPTY, charset.name(), charsetBomMarked,
+                    null, fileAttributes, new Json.Literal(randomId(), Space.EMPTY, Markers.EMPTY, source, ""),
+                    Space.EMPTY);
+        }
+        JsonValue value = value(Space.EMPTY);
+        Space eof = whitespace();
+        if (cursor != source.length()) {
+            throw Unsupported.INSTANCE;
+        }
+        return new Json.Document(randomId(), path, prefix, Markers.EMPTY, charset.name(), charsetBomMarked,
+                null, fileAttributes, value, eof);
+    }
+
+    private JsonValue value(Space prefix) {
+        char c = peek();
+        switch (c) {
+            case '{':
+                return object(prefix);
+            case '[':
+                return array(prefix);
+            case '"':
+            case '\'':
+                String str = string();
+                return new Json.Literal(randomId(), prefix, Markers.EMPTY, str, str.substring(1, str.length() - 1));
+            case '+':
+            case '-':
+                cursor++;
+                return number(prefix, c);
+            default:
+                if (isDigit(c) || c == '.') {
+                    return number(prefix, (char) 0);
+                }
+                String word = identifier();
+                switch (word) {
+                    case "true":
+                        return new Json.Literal(randomId(), prefix, Markers.EMPTY, word, true);
+                    case "false":
+                        return new Json.Literal(randomId(), prefix, Markers.EMPTY, word, false);
+                    case "null":
+                        return new Json.Literal(randomId(), prefix, Markers.EMPTY, word, null);
+                    case "Infinity":
+                    case "NaN":
+                        return new Json.Literal(randomId(), prefix, Markers.EMPTY, word, numberValue(word, 1));
+                    default:
+                        throw Unsupported.INSTANCE;
+                }
+        }
+    }
+
+    private Json.Array array(Space prefix) {
+        cursor++;
+        List<JsonRightPadded<JsonValue>> values = new ArrayList<>();
+        Space before = whitespace();
+        if (peek() == ']') {
+            cursor++;
+            values.add(JsonRightPadded.build((JsonValue) new Json.Empty(randomId(), Space.EMPTY, Markers.EMPTY))
+                    .withAfter(before));
+            return new Json.Array(randomId(), prefix, Markers.EMPTY, values);
+        }
+        while (true) {
+            JsonValue value = value(before);
+            Space after = whitespace();
+            char delim = next();
+            values.add(JsonRightPadded.build(value).withAfter(after));
+            if (delim == ']') {
+                break;
+            } else if (delim != ',') {
+                throw Unsupported.INSTANCE;
+            }
+            before = whitespace();
+            if (peek() == ']') {
+                cursor++;
+                values.add(JsonRightPadded.build((JsonValue) new Json.Empty(randomId(), Space.EMPTY, Markers.EMPTY))
+                        .withAfter(before));
+                break;
+            }
+        }
+        return new Json.Array(randomId(), prefix, Markers.EMPTY, values);
+    }
+
+    private Json.JsonObject object(Space prefix) {
+        cursor++;
+        List<JsonRightPadded<Json>> members = new ArrayList<>();
+        Space before = whitespace();
+        if (peek() == '}') {
+            cursor++;
+            members.add(JsonRightPadded.build((Json) new Json.Empty(randomId(), Space.EMPTY, Markers.EMPTY))
+                    .withAfter(before));
+            return new Json.JsonObject(randomId(), prefix, Markers.EMPTY, members);
+        }
+        while (true) {
+            Json.Member member = member(before);
+            Space after = whitespace();
+            char delim = next();
+            members.add(JsonRightPadded.build((Json) member).withAfter(after));
+            if (delim == '}') {
+                break;
+            } else if (delim != ',') {
+                throw Unsupported.INSTANCE;
+            }
+            before = whitespace();
+            if (peek() == '}') {
+                cursor++;
+                members.add(JsonRightPadded.build((Json) new Json.Empty(randomId(), Space.EMPTY, Markers.EMPTY))
+                        .withAfter(before));
+                break;
+            }
+        }
+        return new Json.JsonObject(randomId(), prefix, Markers.EMPTY, members);
+    }
+
+    private Json.Member member(Space prefix) {
+        JsonKey key;
+        char c = peek();
+        if (c == '"' || c == '\'') {
+            String str = string();
+            key = new Json.Literal(randomId(), Space.EMPTY, Markers.EMPTY, str, str.substring(1, str.length() - 1));
+        } else {
+            String name = identifier();
+            switch (name) {
+                case "true":
+                case "false":
+                case "null":
+                case "Infinity":
+                case "NaN":
+                    // lexed as literals, which the grammar doesn't accept as keys
+                    throw Unsupported.INSTANCE;
+                default:
+                    key = new Json.Identifier(randomId(), Space.EMPTY, Markers.EMPTY, name);
+            }
+        }
+        Space beforeColon = whitespace();
+        if (next() != ':') {
+            throw Unsupported.INSTANCE;
+        }
+        JsonValue value = value(whitespace());
+        return new Json.Member(randomId(), prefix, Markers.EMPTY,
+                JsonRightPadded.build(key).withAfter(beforeColon), value);
+    }
+
+    /**
+     * @param symbol The sign already consumed, or {@code 0} when there is none.
+     */
+    private Json.Literal number(Space prefix, char symbol) {
+        int start = cursor;
+        char c = peek();
+        if (c == '0' && (peekAt(cursor + 1) == 'x' || peekAt(cursor + 1) == 'X')) {
+            cursor += 2;
+            int digits = cursor;
+            while (isHexDigit(peekAt(cursor))) {
+                cursor++;
+            }
+            if (cursor == digits) {
+                throw Unsupported.INSTANCE;
+            }
+        } else if (isDigit(c) || c == '.') {
+            if (c == '.') {
+                if (!isDigit(peekAt(cursor + 1))) {
+                    throw Unsupported.INSTANCE;
+                }
+            } else if (c == '0') {
+                cursor++;
+            } else {
+                skipDigits();
+            }
+            if (peekAt(cursor) == '.') {
+                cursor++;
+                skipDigits();
+            }
+            if (peekAt(cursor) == 'e' || peekAt(cursor) == 'E') {
+                cursor++;
+                if (peekAt(cursor) == '+' || peekAt(cursor) == '-') {
+                    cursor++;
+                }
+                skipDigits();
+            }
+        } else {
+            // Infinity or NaN, which must follow the sign immediately since whitespace between the
+            // two isn't preserved by the LST
+            String word = identifier();
+            if (!"Infinity".equals(word) && !"NaN".equals(word)) {
+                throw Unsupported.INSTANCE;
+            }
+        }
+
+        String text = source.substring(start, cursor);
+        int sign = symbol == '-' ? -1 : 1;
+        return new Json.Literal(randomId(), prefix, Markers.EMPTY, symbol == 0 ? text : symbol + text,
+                numberValue(text, sign));
+    }
+
+    /**
+     * The value of a JSON5 number as it is typed in the LST: a {@link Long} for hexadecimal, a {@link Double}
+     * for a fraction, exponent, {@code Infinity} or {@code NaN}, otherwise the narrowest of {@link Integer},
+     * {@link Long} and {@link BigInteger}.
+     *
+     * @param text The number without its sign.
+     */
+    static Number numberValue(String text, int sign) {
+        if ("Infinity".equals(text)) {
+            return sign == 1 ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+        } else if ("NaN".equals(text)) {
+            return Double.NaN;
+        } else if (text.startsWith("0x")) {
+            return Long.decode(text) * sign;
+        } else if (text.contains(".") || text.contains("e") || text.contains("E")) {
+            return Double.parseDouble(text) * sign;
+        }
+        try {
+            return Integer.parseInt(text) * sign;
+        } catch (NumberFormatException e) {
+            try {
+                return Long.parseLong(text) * sign;
+            } catch (NumberFormatException e1) {
+                return sign == 1 ? new BigInteger(text, 10) : new BigInteger("-" + text, 10);
+            }
+        }
+    }
+
+    private String string() {
+        int start = cursor;
+        char quote = source.charAt(cursor++);
+        while (true) {
+            char c = next();
+            if (c == quote) {
+                return source.substring(start, cursor);
+            } else if (c == '\r' || c == '\n') {
+                throw Unsupported.INSTANCE;
+            } else if (c == '\\') {
+                char escaped = next();
+                if (escaped == 'u') {
+                    skipHexDigits(4);
+                } else if (escaped == 'x') {
+                    skipHexDigits(2);
+                } else if (escaped == '\r') {
+                    if (peekAt(cursor) == '\n') {
+                        cursor++;
+                    }
+                } else if (escaped >= '1' && escaped <= '9') {
+                    throw Unsupported.INSTANCE;
+                }
+            }
+        }
+    }
+
+    /**
+     * An identifier of ASCII letters, digits, {@code $}, {@code _} and unicode escapes. Identifiers that use other
+     * characters are left to the grammar, whose notion of a letter follows the Unicode version it was generated with.
+     */
+    private String identifier() {
+        int start = cursor;
+        while (cursor < source.length()) {
+            char c = source.charAt(cursor);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '$' || c == '_' ||
+                (cursor > start && isDigit(c))) {
+                cursor++;
+            } else if (c == '\\') {
+                cursor++;
+                if (next() != 'u') {
+                    throw Unsupported.INSTANCE;
+                }
+                skipHexDigits(4);
+            } else if (c > 0x7F) {
+                throw Unsupported.INSTANCE;
+            } else {
+                break;
+            }
+        }
+        if (cursor == start) {
+            throw Unsupported.INSTANCE;
+        }
+        return source.substring(start, cursor);
+    }
+
+    /**
+     * Consume the whitespace and comments at the cursor.
+     */
+    private Space whitespace() {
+        int start = cursor;
+        while (cursor < source.length()) {
+            char c = source.charAt(cursor);
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\u00A0' || c == '\uFEFF' || c == '\u2003') {
+                cursor++;
+            } else if (c == '/' && peekAt(cursor + 1) == '/') {
+                cursor += 2;
+                while (cursor < source.length()) {
+                    char e = source.charAt(cursor++);
+                    if (e == '\n') {
+                        break;
+                    } else if (e == '\r' && peekAt(cursor) == '\n') {
+                        cursor++;
+                        break;
+                    } else if (e == '\r' || e == '\u2028' || e == '\u2029') {
+                        // the grammar ends a comment on these, but the visitor looks for the next
+                        // delimiter as though the comment continued to the next '\n'
+                        throw Unsupported.INSTANCE;
+                    }
+                }
+            } else if (c == '/' && peekAt(cursor + 1) == '*') {
+                int end = source.indexOf("*/", cursor + 2);
+                if (end < 0) {
+                    throw Unsupported.INSTANCE;
+                }
+                cursor = end + 2;
+            } else {
+                break;
+            }
+        }
+        return Space.format(source, start, cursor);
+    }
+
+    private void skipDigits() {
+        while (isDigit(peekAt(cursor))) {
+            cursor++;
+        }
+    }
+
+    private void skipHexDigits(int count) {
+        for (int i = 0; i < count; i++) {
+            if (!isHexDigit(next())) {
+                throw Unsupported.INSTANCE;
+            }
+        }
+    }
+
+    private char peek() {
+        if (cursor >= source.length()) {
+            throw Unsupported.INSTANCE;
+        }
+        return source.charAt(cursor);
+    }
+
+    private char peekAt(int index) {
+        return index < source.length() ? source.charAt(index) : 0;
+    }
+
+    private char next() {
+        char c = peek();
+        cursor++;
+        return c;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHexDigit(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    /**
+     * Input the scanner leaves to the grammar. Thrown without a stack trace, since it is only ever caught by {@link #scan}.
+     */
+    private static class Unsupported extends RuntimeException {
+        static final Unsupported INSTANCE = new Unsupported();
+
+        private Unsupported() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.json.internal;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openrewrite.json.internal.grammar.JSON5Lexer;
+import org.openrewrite.json.internal.grammar.JSON5Parser;
+import org.openrewrite.json.tree.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonScannerTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+      "",
+      "  // only a comment\n",
+      "'hello world'",
+      "\"with \\\"escapes\\\" and \\u0041 \\x41 \\0 \\\n continuation\"",
+      " true ",
+      "null",
+      "-1e3",
+      "1E-3",
+      "+.5",
+      "8675309.",
+      "0xdecaf",
+      "-0x1F",
+      "-10000000000000000999",
+      "9999999999",
+      "-Infinity",
+      "+NaN",
+      "[]",
+      "[ /* empty */ ]",
+      "[ 1 , 2 , 3  ]",
+      "[1, 2,]",
+      "[[], {}, [ {} ]]",
+      "{}",
+      "{ key: \"value\", \"key\": 1, 'quoted': [true, false], $id_2: null, }",
+      """
+        {
+          // comments
+          unquoted: 'and you can quote me on that',
+          singleQuotes: 'I can use "double quotes" here',
+          hexadecimal: 0xdecaf,
+          leadingDecimalPoint: .8675309, andTrailing: 8675309.,
+          positiveSign: +1,
+          trailingComma: 'in objects', andIn: ['arrays'],
+          "backwardsCompatible": "with JSON"
+        }
+        //
+        """,
+      "{\r\n  \"a\": 1, // trailing\r\n  \"b\" /* before */ : /* after */ [1]\r\n}\r\n"
+    })
+    void sameDocumentAsGrammar(String source) {
+        Json.Document scanned = JsonScanner.scan(Paths.get("file.json"), null, source, StandardCharsets.UTF_8, false);
+        Json.Document parsed = new JsonParserVisitor(Paths.get("file.json"), null, source, StandardCharsets.UTF_8, false)
+          .visitJson5(new JSON5Parser(new CommonTokenStream(new JSON5Lexer(CharStreams.fromString(source)))).json5());
+
+        assertThat(scanned).isNotNull();
+        assertThat(scanned.printAll()).isEqualTo(source);
+        assertThat(describe(scanned)).isEqualTo(describe(parsed));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+      "{",
+      "[1 2]",
+      "{\"a\" 1}",
+      "{true: 1}",
+      "01",
+      "0x",
+      "- 1",
+      "'unterminated",
+      "\"\\1\"",
+      "/* unterminated",
+      "[1] [2]",
+      "undefined",
+      "{ ключ: 1 }",
+      "[1, // lone carriage return\r 2]"
+    })
+    void leavesOtherInputToGrammar(String source) {
+        assertThat(JsonScanner.scan(Paths.get("file.json"), null, source, StandardCharsets.UTF_8, false)).isNull();
+    }
+
+    /**
+     * Every element's type, prefix, padding and literal value, which is everything but the ids that the
+     * scanner and grammar must agree on.
+     */
+    private static String describe(Json.Document document) {
+        StringBuilder sb = new StringBuilder();
+        describe(document.getValue(), sb.append("Document ").append(space(document.getPrefix())));
+        return sb.append(space(document.getEof())).toString();
+    }
+
+    private static void describe(Json json, StringBuilder sb) {
+        sb.append(json.getClass().getSimpleName()).append(space(json.getPrefix()));
+        if (json instanceof Json.Array) {
+            for (JsonRightPadded<JsonValue> value : ((Json.Array) json).getPadding().getValues()) {
+                describe(value, sb);
+            }
+        } else if (json instanceof Json.JsonObject) {
+            for (JsonRightPadded<Json> member : ((Json.JsonObject) json).getPadding().getMembers()) {
+                describe(member, sb);
+            }
+        } else if (json instanceof Json.Member) {
+            describe(((Json.Member) json).getPadding().getKey(), sb);
+            describe(((Json.Member) json).getValue(), sb);
+        } else if (json instanceof Json.Identifier) {
+            sb.append(((Json.Identifier) json).getName());
+        } else if (json instanceof Json.Literal) {
+            Object value = ((Json.Literal) json).getValue();
+            sb.append(((Json.Literal) json).getSource()).append('=').append(value)
+              .append(':').append(value == null ? null : value.getClass().getSimpleName());
+        }
+        sb.append(' ');
+    }
+
+    private static void describe(JsonRightPadded<? extends Json> padded, StringBuilder sb) {
+        sb.append("(");
+        describe(padded.getElement(), sb);
+        sb.append(space(padded.getAfter())).append(") ");
+    }
+
+    private static String space(Space space) {
+        StringBuilder sb = new StringBuilder("[").append(space.getWhitespace());
+        for (Comment comment : space.getComments()) {
+            sb.append(comment.isMultiline() ? "/*" : "//").append(comment.getText()).append(comment.getSuffix());
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -46,6 +46,7 @@
 import org.openrewrite.Tree;
 import org.openrewrite.internal.EncodingDetectingInputStream;
 import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.internal.JavaLeafInterners;
 import org.openrewrite.java.marker.ImplicitReturn;
 import org.openrewrite.java.marker.OmitBraces;
 import org.openrewrite.java.marker.OmitParentheses;
@@ -3844,7 +3845,7 @@ private J.Identifier createIdentifier(String name, Space prefix,
                 prefix,
                 markers,
                 emptyList(),
-                updated,
+                JavaLeafInterners.name(updated),
                 type instanceof JavaType.Unknown ? null : type,
                 fieldType
         );
@@ -55,6 +55,11 @@ public static Detector detector() {
         return new Detector();
     }
 
+    /**
+     * Accumulates style statistics from samples of source files. Sampling and merging are thread-safe, and detectors
+     * can be merged, so that a large set of source files can be sampled in parallel by a detector per thread, e.g.
+     * {@code sourceFiles.parallelStream().collect(Autodetect::detector, Detector::sample, Detector::merge)}.
+     */
     public static class Detector {
 
         private final IndentStatistics indentStatistics = new IndentStatistics();
@@ -70,7 +75,7 @@ public static class Detector {
         private final FindLineFormatJavaVisitor findLineFormat = new FindLineFormatJavaVisitor();
         private final FindTrailingCommaVisitor findTrailingComma = new FindTrailingCommaVisitor();
 
-        public void sample(SourceFile cu) {
+        public synchronized void sample(SourceFile cu) {
             if (cu instanceof K.CompilationUnit) {
                 findImportLayout.visitNonNull(cu, 0);
                 findIndent.visitNonNull(cu, indentStatistics);
@@ -81,7 +86,28 @@ public void sample(SourceFile cu) {
             }
         }
 
-        public Autodetect build() {
+        /**
+         * Add the statistics of another detector to this one, as if this detector had sampled the same source files.
+         * The other detector must not be sampled while it is being merged.
+         *
+         * @return This detector.
+         */
+        public synchronized Detector merge(Detector other) {
+            if (other == this) {
+                return this;
+            }
+            indentStatistics.merge(other.indentStatistics);
+            spacesStatistics.merge(other.spacesStatistics);
+            wrappingAndBracesStatistics.elseOnNewLine += other.wrappingAndBracesStatistics.elseOnNewLine;
+            generalFormatStatistics.linesWithCRLFNewLines += other.generalFormatStatistics.linesWithCRLFNewLines;
+            generalFormatStatistics.linesWithLFNewLines += other.generalFormatStatistics.linesWithLFNewLines;
+            trailingCommaStatistics.usedTrailingCommaCount += other.trailingCommaStatistics.usedTrailingCommaCount;
+            trailingCommaStatistics.unusedTrailingCommaCount += other.trailingCommaStatistics.unusedTrailingCommaCount;
+            findImportLayout.merge(other.findImportLayout);
+            return this;
+        }
+
+        public synchronized Autodetect build() {
             return new Autodetect(Tree.randomId(), Arrays.asList(
                     indentStatistics.getTabsAndIndentsStyle(),
                     findImportLayout.getImportLayoutStyle(),
@@ -124,6 +150,10 @@ public void record(int indentDepth, int continuationDepth, int charCount) {
         }
 
         public void record(DepthCoordinate depth, int charCount) {
+            record(depth, charCount, 1);
+        }
+
+        private void record(DepthCoordinate depth, int charCount, long occurrences) {
             if (charCount <= 0) {
                 return;
             }
@@ -135,12 +165,17 @@ public void record(DepthCoordinate depth, int charCount) {
                     if (count == null) {
                         count = 0L;
                     }
-                    return count + 1;
+                    return count + occurrences;
                 });
                 return map;
             });
         }
 
+        public void merge(IndentStatistic other) {
+            other.depthToSpaceIndentFrequencies.forEach((depth, frequencies) ->
+                    frequencies.forEach((charCount, occurrences) -> record(depth, charCount, occurrences)));
+        }
+
 
         /**
          * Use the provided common indentation to interpret this IndentStatistic's contents as continuation indents.
@@ -182,6 +217,17 @@ private static class IndentStatistics {
         @Getter
         private int continuationDepth = 1;
 
+        public void merge(IndentStatistics other) {
+            spaceIndentFrequencies.merge(other.spaceIndentFrequencies);
+            spaceContinuationIndentFrequencies.merge(other.spaceContinuationIndentFrequencies);
+            tabIndentFrequencies.merge(other.tabIndentFrequencies);
+            tabContinuationIndentFrequencies.merge(other.tabContinuationIndentFrequencies);
+            deltaSpaceIndentFrequencies.merge(other.deltaSpaceIndentFrequencies);
+            accumulateDepthCount += other.accumulateDepthCount;
+            multilineAlignedToFirstArgument += other.multilineAlignedToFirstArgument;
+            multilineNotAlignedToFirstArgument += other.multilineNotAlignedToFirstArgument;
+        }
+
         public void incrementDepth() {
             depth++;
         }
@@ -840,6 +886,15 @@ private static class FindImportLayout extends KotlinIsoVisitor<Integer> {
         private static final Double AVE_DEFAULT_WEIGHT_KOTLIN = 0.2;
         private static final Double AVE_DEFAULT_WEIGHT_ALL_ALIASES = 0.1;
 
+        public void merge(FindImportLayout other) {
+            importsBySourceFile.addAll(other.importsBySourceFile);
+            importedPackages.addAll(other.importedPackages);
+            importLayoutStatistics.minimumFoldedImports = Math.min(importLayoutStatistics.minimumFoldedImports,
+                    other.importLayoutStatistics.minimumFoldedImports);
+            importLayoutStatistics.minimumFoldedStaticImports = Math.min(importLayoutStatistics.minimumFoldedStaticImports,
+                    other.importLayoutStatistics.minimumFoldedStaticImports);
+        }
+
 
         public ImportLayoutStyle getImportLayoutStyle() {
             return importsBySourceFile.stream()
@@ -1052,6 +1107,8 @@ public K.CompilationUnit visitCompilationUnit(K.CompilationUnit cu, Integer inte
     }
 
     private static class SpacesStatistics {
+        private static final SpacesStatistics INITIAL = new SpacesStatistics();
+
         int beforeIf = 1;
         int beforeMethodCall = 0;
         int beforeMethodDeclaration = 0;
@@ -1069,6 +1126,28 @@ private static class SpacesStatistics {
         int afterTypeCast = 0;
         int withinMethodCallParentheses = 0;
 
+        /**
+         * Each statistic starts out biased towards IntelliJ's default, and that bias is only counted once.
+         */
+        public void merge(SpacesStatistics other) {
+            beforeIf += other.beforeIf - INITIAL.beforeIf;
+            beforeMethodCall += other.beforeMethodCall - INITIAL.beforeMethodCall;
+            beforeMethodDeclaration += other.beforeMethodDeclaration - INITIAL.beforeMethodDeclaration;
+            beforeFor += other.beforeFor - INITIAL.beforeFor;
+            beforeWhile += other.beforeWhile - INITIAL.beforeWhile;
+            beforeSwitch += other.beforeSwitch - INITIAL.beforeSwitch;
+            beforeTry += other.beforeTry - INITIAL.beforeTry;
+            beforeCatch += other.beforeCatch - INITIAL.beforeCatch;
+            beforeSynchronized += other.beforeSynchronized - INITIAL.beforeSynchronized;
+            beforeComma += other.beforeComma - INITIAL.beforeComma;
+            afterComma += other.afterComma - INITIAL.afterComma;
+            beforeColonInForEach += other.beforeColonInForEach - INITIAL.beforeColonInForEach;
+            beforeForSemiColon += other.beforeForSemiColon - INITIAL.beforeForSemiColon;
+            afterForSemiColon += other.afterForSemiColon - INITIAL.afterForSemiColon;
+            afterTypeCast += other.afterTypeCast - INITIAL.afterTypeCast;
+            withinMethodCallParentheses += other.withinMethodCallParentheses - INITIAL.withinMethodCallParentheses;
+        }
+
         public SpacesStyle getSpacesStyle() {
             SpacesStyle spaces = IntelliJ.spaces();
             return spaces
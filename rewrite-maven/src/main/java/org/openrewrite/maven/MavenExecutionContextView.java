@@ -57,6 +57,9 @@ public class MavenExecutionContextView extends DelegatingExecutionContext {
     private static final String MAVEN_RESOLUTION_TIME = "org.openrewrite.maven.resolutionTime";
     private static final String MAVEN_UNREACHABLE_ENDPOINTS = "org.openrewrite.maven.unreachableEndpoints";
     private static final String MAVEN_AUTHENTICATION_REQUIRED_ENDPOINTS = "org.openrewrite.maven.authenticationRequiredEndpoints";
+    private static final String MAVEN_RESOLVED_DEPENDENCY_INTERNER = "org.openrewrite.maven.resolvedDependencyInterner";
+    private static final String MAVEN_MAX_CONCURRENT_REQUESTS = "org.openrewrite.maven.maxConcurrentRequests";
+    private static final String MAVEN_MAX_CONCURRENT_REQUESTS_BY_REPOSITORY = "org.openrewrite.maven.maxConcurrentRequestsByRepository";
 
     public MavenExecutionContextView(ExecutionContext delegate) {
         super(delegate);
@@ -70,8 +73,8 @@ public static MavenExecutionContextView view(ExecutionContext ctx) {
     }
 
     public MavenExecutionContextView recordResolutionTime(Duration time) {
-        //noinspection DataFlowIssue
-        this.computeMessage(MAVEN_RESOLUTION_TIME, time.toMillis(), () -> 0L, Long::sum);
+        // atomic, since poms may be downloaded on several threads at once
+        getMessages().merge(MAVEN_RESOLUTION_TIME, time.toMillis(), (a, b) -> (Long) a + (Long) b);
         return this;
     }
 
@@ -107,6 +110,49 @@ public Set<String> getAuthenticationRequiredEndpoints() {
         return computeMessageIfAbsent(MAVEN_AUTHENTICATION_REQUIRED_ENDPOINTS, k -> ConcurrentHashMap.newKeySet());
     }
 
+    /**
+     * Limit the number of requests sent at once to each repository by the threads resolving poms with this execution
+     * context, so that resolving many modules concurrently doesn't overwhelm a repository manager. Requests are not
+     * limited unless configured.
+     */
+    public MavenExecutionContextView setMaxConcurrentRequestsPerRepository(int maxConcurrentRequests) {
+        putMessage(MAVEN_MAX_CONCURRENT_REQUESTS, Math.max(1, maxConcurrentRequests));
+        return this;
+    }
+
+    /**
+     * Limit the number of requests sent at once to the repository with this id, overriding
+     * {@link #setMaxConcurrentRequestsPerRepository(int)} for it.
+     */
+    public MavenExecutionContextView setMaxConcurrentRequests(String repositoryId, int maxConcurrentRequests) {
+        Map<String, Integer> byRepository = computeMessageIfAbsent(MAVEN_MAX_CONCURRENT_REQUESTS_BY_REPOSITORY, k -> new ConcurrentHashMap<>());
+        byRepository.put(repositoryId, Math.max(1, maxConcurrentRequests));
+        return this;
+    }
+
+    /**
+     * @return The number of requests that may be sent at once to the repository with this id, which is
+     * {@link Integer#MAX_VALUE} when they are not limited.
+     */
+    public int getMaxConcurrentRequests(@Nullable String repositoryId) {
+        Map<String, Integer> byRepository = getMessage(MAVEN_MAX_CONCURRENT_REQUESTS_BY_REPOSITORY);
+        if (repositoryId != null && byRepository != null) {
+            Integer maxConcurrentRequests = byRepository.get(repositoryId);
+            if (maxConcurrentRequests != null) {
+                return maxConcurrentRequests;
+            }
+        }
+        return getMessage(MAVEN_MAX_CONCURRENT_REQUESTS, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Shares the dependency subtrees that the modules resolved with this execution context have in common, so that
+     * their markers hold one copy of each.
+     */
+    public ResolvedDependencyInterner getResolvedDependencyInterner() {
+        return computeMessageIfAbsent(MAVEN_RESOLVED_DEPENDENCY_INTERNER, k -> new ResolvedDependencyInterner());
+    }
+
     public MavenExecutionContextView setResolutionListener(ResolutionEventListener listener) {
         putMessage(MAVEN_RESOLUTION_LISTENER, listener);
         return this;
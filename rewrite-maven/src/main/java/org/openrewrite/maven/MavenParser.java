@@ -19,12 +19,10 @@
 import org.intellij.lang.annotations.Language;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
+import org.openrewrite.internal.ThreadPools;
 import org.openrewrite.maven.internal.MavenPomDownloader;
 import org.openrewrite.maven.internal.RawPom;
-import org.openrewrite.maven.tree.MavenResolutionResult;
-import org.openrewrite.maven.tree.Parent;
-import org.openrewrite.maven.tree.Pom;
-import org.openrewrite.maven.tree.ResolvedPom;
+import org.openrewrite.maven.tree.*;
 import org.openrewrite.tree.ParseError;
 import org.openrewrite.xml.XmlParser;
 import org.openrewrite.xml.tree.Xml;
@@ -32,6 +30,10 @@
 import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Stream;
 
 import static java.util.Collections.*;
@@ -44,6 +46,7 @@ public class MavenParser implements Parser {
     private final Collection<String> activeProfiles;
     private final Map<String, String> properties;
     private final boolean skipDependencyResolution;
+    private final int resolutionParallelism;
 
     @Override
     public Stream<SourceFile> parse(@Language("xml") String... sources) {
@@ -105,41 +108,11 @@ public Stream<SourceFile> parseInputs(Iterable<Input> sources, @Nullable Path re
                 .withServers(null);
         List<String> effectivelyActiveProfiles = Stream.concat(mavenCtx.getActiveProfiles().stream(), activeProfiles.stream()).collect(toList());
 
-        for (Map.Entry<Xml.Document, Pom> docToPom : projectPoms.entrySet()) {
-            try {
-                ResolvedPom resolvedPom = docToPom.getValue().resolve(effectivelyActiveProfiles, downloader, ctx);
-                MavenResolutionResult model = new MavenResolutionResult(randomId(),
-                        null,
-                        resolvedPom,
-                        emptyList(),
-                        null,
-                        emptyMap(),
-                        sanitizedSettings,
-                        effectivelyActiveProfiles,
-                        properties);
-                if (!skipDependencyResolution) {
-                    model = model.resolveDependencies(downloader, ctx);
-                }
-                parsed.add(docToPom.getKey().withMarkers(docToPom.getKey().getMarkers().compute(model, (old, n) -> n)));
-            } catch (MavenDownloadingExceptions e) {
-                if (e.getExceptions().size() == 1) {
-                    // If there is only a single MavenDownloadingException, report just that as no additional debugging value is gleaned from its wrapper
-                    MavenDownloadingException e2 = e.getExceptions().get(0);
-                    String message = e2.warn(docToPom.getKey()).printAll(); // Shows any underlying MavenDownloadingException
-                    parsed.add(docToPom.getKey().withMarkers(docToPom.getKey().getMarkers().add(ParseExceptionResult.build(this, e2, message))));
-                    ctx.getOnError().accept(e2);
-                } else {
-                    String message = e.warn(docToPom.getKey()).printAll(); // Shows any underlying MavenDownloadingException
-                    parsed.add(docToPom.getKey().withMarkers(docToPom.getKey().getMarkers().add(ParseExceptionResult.build(this, e, message))));
-                    ctx.getOnError().accept(e);
-                }
-            } catch (MavenDownloadingException e) {
-                String message = e.warn(docToPom.getKey()).printAll(); // Shows any underlying MavenDownloadingException
-                parsed.add(docToPom.getKey().withMarkers(docToPom.getKey().getMarkers().add(ParseExceptionResult.build(this, e, message))));
-                ctx.getOnError().accept(e);
-            } catch (UncheckedIOException e) {
-                parsed.add(docToPom.getKey().withMarkers(docToPom.getKey().getMarkers().add(ParseExceptionResult.build(this, e))));
-                ctx.getOnError().accept(e);
+        if (resolutionParallelism > 1 && projectPoms.size() > 1) {
+            parsed.addAll(resolveConcurrently(projectPoms, downloader, sanitizedSettings, effectivelyActiveProfiles, ctx));
+        } else {
+            for (Map.Entry<Xml.Document, Pom> docToPom : projectPoms.entrySet()) {
+                parsed.add(resolve(docToPom.getKey(), docToPom.getValue(), downloader, sanitizedSettings, effectivelyActiveProfiles, ctx));
             }
         }
 
@@ -178,6 +151,136 @@ public Stream<SourceFile> parseInputs(Iterable<Input> sources, @Nullable Path re
         return parsed.stream();
     }
 
+    private Xml.Document resolve(Xml.Document document, Pom pom, MavenPomDownloader downloader,
+                                 @Nullable MavenSettings sanitizedSettings, List<String> effectivelyActiveProfiles,
+                                 ExecutionContext ctx) {
+        try {
+            ResolvedPom resolvedPom = pom.resolve(effectivelyActiveProfiles, downloader, ctx);
+            MavenResolutionResult model = new MavenResolutionResult(randomId(),
+                    null,
+                    resolvedPom,
+                    emptyList(),
+                    null,
+                    emptyMap(),
+                    sanitizedSettings,
+                    effectivelyActiveProfiles,
+                    properties);
+            if (!skipDependencyResolution) {
+                model = model.resolveDependencies(downloader, ctx);
+            }
+            return document.withMarkers(document.getMarkers().compute(model, (old, n) -> n));
+        } catch (MavenDownloadingExceptions e) {
+            if (e.getExceptions().size() == 1) {
+                // If there is only a single MavenDownloadingException, report just that as no additional debugging value is gleaned from its wrapper
+                MavenDownloadingException e2 = e.getExceptions().get(0);
+                String message = e2.warn(document).printAll(); // Shows any underlying MavenDownloadingException
+                ctx.getOnError().accept(e2);
+                return document.withMarkers(document.getMarkers().add(ParseExceptionResult.build(this, e2, message)));
+            }
+            String message = e.warn(document).printAll(); // Shows any underlying MavenDownloadingException
+            ctx.getOnError().accept(e);
+            return document.withMarkers(document.getMarkers().add(ParseExceptionResult.build(this, e, message)));
+        } catch (MavenDownloadingException e) {
+            String message = e.warn(document).printAll(); // Shows any underlying MavenDownloadingException
+            ctx.getOnError().accept(e);
+            return document.withMarkers(document.getMarkers().add(ParseExceptionResult.build(this, e, message)));
+        } catch (UncheckedIOException e) {
+            ctx.getOnError().accept(e);
+            return document.withMarkers(document.getMarkers().add(ParseExceptionResult.build(this, e)));
+        }
+    }
+
+    /**
+     * Resolve project poms on up to {@link #resolutionParallelism} threads, each one only once the project poms it
+     * inherits from or imports as a BOM are resolved, so that the remote poms they share are downloaded once and
+     * are already in the pom cache by the time the modules that need them are resolved. The markers are the same
+     * as those of a sequential resolution, and the documents are returned in the order of the inputs.
+     */
+    private List<Xml.Document> resolveConcurrently(Map<Xml.Document, Pom> projectPoms, MavenPomDownloader downloader,
+                                                   @Nullable MavenSettings sanitizedSettings,
+                                                   List<String> effectivelyActiveProfiles, ExecutionContext ctx) {
+        MavenExecutionContextView mavenCtx = MavenExecutionContextView.view(ctx);
+        ResolutionEventListener listener = mavenCtx.getResolutionListener();
+        if (listener != ResolutionEventListener.NOOP) {
+            mavenCtx.setResolutionListener(new ConcurrentResolutionEventListener(listener));
+        }
+        ThreadPoolExecutor executor = ThreadPools.newBoundedDaemonPool("rewrite-maven-resolution",
+                Math.min(resolutionParallelism, projectPoms.size()));
+        try {
+            Map<Pom, CompletableFuture<Xml.Document>> resolutions = new IdentityHashMap<>();
+            for (Map.Entry<Xml.Document, Pom> docToPom : projectPoms.entrySet()) {
+                schedule(docToPom.getKey(), docToPom.getValue(), projectPoms, resolutions, new HashSet<>(),
+                        downloader, sanitizedSettings, effectivelyActiveProfiles, executor, ctx);
+            }
+            List<Xml.Document> resolved = new ArrayList<>(projectPoms.size());
+            for (Pom pom : projectPoms.values()) {
+                resolved.add(resolutions.get(pom).join());
+            }
+            return resolved;
+        } catch (CompletionException e) {
+            // fail the same way a sequential resolution would have
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        } finally {
+            executor.shutdownNow();
+            if (listener != ResolutionEventListener.NOOP) {
+                mavenCtx.setResolutionListener(listener);
+            }
+        }
+    }
+
+    private CompletableFuture<Xml.Document> schedule(Xml.Document document, Pom pom, Map<Xml.Document, Pom> projectPoms,
+                                                     Map<Pom, CompletableFuture<Xml.Document>> resolutions, Set<Pom> scheduling,
+                                                     MavenPomDownloader downloader, @Nullable MavenSettings sanitizedSettings,
+                                                     List<String> effectivelyActiveProfiles, ExecutorService executor,
+                                                     ExecutionContext ctx) {
+        CompletableFuture<Xml.Document> resolution = resolutions.get(pom);
+        if (resolution != null) {
+            return resolution;
+        }
+        scheduling.add(pom);
+        List<CompletableFuture<Xml.Document>> prerequisites = new ArrayList<>();
+        for (Map.Entry<Xml.Document, Pom> other : projectPoms.entrySet()) {
+            // a cycle is an error that resolution reports, so it is only broken here rather than waited on forever
+            if (!scheduling.contains(other.getValue()) && isPrerequisite(other.getValue(), pom)) {
+                prerequisites.add(schedule(other.getKey(), other.getValue(), projectPoms, resolutions, scheduling,
+                        downloader, sanitizedSettings, effectivelyActiveProfiles, executor, ctx));
+            }
+        }
+        scheduling.remove(pom);
+        resolution = CompletableFuture.allOf(prerequisites.toArray(new CompletableFuture[0]))
+                .thenApplyAsync(v -> resolve(document, pom, downloader, sanitizedSettings, effectivelyActiveProfiles, ctx), executor);
+        resolutions.put(pom, resolution);
+        return resolution;
+    }
+
+    /**
+     * @return Whether {@code pom} inherits from {@code prerequisite} or imports it as a BOM.
+     */
+    private static boolean isPrerequisite(Pom prerequisite, Pom pom) {
+        if (prerequisite == pom) {
+            return false;
+        }
+        Parent parent = pom.getParent();
+        if (parent != null &&
+            prerequisite.getArtifactId().equals(pom.getValue(parent.getArtifactId())) &&
+            prerequisite.getGroupId().equals(pom.getValue(parent.getGroupId()))) {
+            return true;
+        }
+        for (ManagedDependency managed : pom.getDependencyManagement()) {
+            if (managed instanceof ManagedDependency.Imported &&
+                prerequisite.getArtifactId().equals(pom.getValue(managed.getArtifactId())) &&
+                prerequisite.getGroupId().equals(pom.getValue(managed.getGroupId()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public boolean accept(Path path) {
         return "pom.xml".equals(path.toString()) || path.toString().endsWith(".pom");
@@ -187,10 +290,85 @@ public static Builder builder() {
         return new Builder();
     }
 
+    /**
+     * Passes the events of resolutions running at once to a listener one at a time. A resolution that starts over
+     * doesn't clear the listener, since that would also discard the events of the other project poms being resolved,
+     * so the listener may see some events of a project pom more than once.
+     */
+    @RequiredArgsConstructor
+    private static class ConcurrentResolutionEventListener implements ResolutionEventListener {
+        private final ResolutionEventListener delegate;
+
+        @Override
+        public void clear() {
+        }
+
+        @Override
+        public synchronized void downloadMetadata(GroupArtifactVersion gav) {
+            delegate.downloadMetadata(gav);
+        }
+
+        @Override
+        public synchronized void download(GroupArtifactVersion gav) {
+            delegate.download(gav);
+        }
+
+        @Override
+        public synchronized void downloadSuccess(ResolvedGroupArtifactVersion gav, @Nullable ResolvedPom containing) {
+            delegate.downloadSuccess(gav, containing);
+        }
+
+        @Override
+        public synchronized void downloadError(GroupArtifactVersion gav, List<String> attemptedUris, @Nullable Pom containing) {
+            delegate.downloadError(gav, attemptedUris, containing);
+        }
+
+        @Override
+        public synchronized void parent(Pom parent, Pom containing) {
+            delegate.parent(parent, containing);
+        }
+
+        @Override
+        public synchronized void dependency(Scope scope, ResolvedDependency resolvedDependency, ResolvedPom containing) {
+            delegate.dependency(scope, resolvedDependency, containing);
+        }
+
+        @Override
+        public synchronized void bomImport(ResolvedGroupArtifactVersion gav, Pom containing) {
+            delegate.bomImport(gav, containing);
+        }
+
+        @Override
+        public synchronized void property(String key, String value, Pom containing) {
+            delegate.property(key, value, containing);
+        }
+
+        @Override
+        public synchronized void dependencyManagement(ManagedDependency dependencyManagement, Pom containing) {
+            delegate.dependencyManagement(dependencyManagement, containing);
+        }
+
+        @Override
+        public synchronized void repository(MavenRepository mavenRepository, @Nullable ResolvedPom containing) {
+            delegate.repository(mavenRepository, containing);
+        }
+
+        @Override
+        public synchronized void repositoryAccessFailed(String uri, Throwable e) {
+            delegate.repositoryAccessFailed(uri, e);
+        }
+
+        @Override
+        public synchronized void repositoryAccessFailedPreviously(String uri) {
+            delegate.repositoryAccessFailedPreviously(uri);
+        }
+    }
+
     public static class Builder extends Parser.Builder {
         private final Collection<String> activeProfiles = new HashSet<>();
         private final Map<String, String> properties = new HashMap<>();
         private boolean skipDependencyResolution;
+        private int resolutionParallelism = 1;
 
         public Builder() {
             super(Xml.Document.class);
@@ -201,6 +379,16 @@ public Builder skipDependencyResolution(boolean skip) {
             return this;
         }
 
+        /**
+         * @param parallelism The number of project poms to resolve at once. Poms are resolved after the project poms
+         *                    they inherit from or import as a BOM, and the markers are the same as those of a
+         *                    sequential resolution. Defaults to 1.
+         */
+        public Builder resolutionParallelism(int parallelism) {
+            this.resolutionParallelism = Math.max(1, parallelism);
+            return this;
+        }
+
         /**
          * @param profiles Profile ids to activate, using the same notation as {@code mvn -P}: an id prefixed with
          *                 {@code !} or {@code -} deactivates that profile instead, suppressing it even when it
@@ -236,7 +424,7 @@ public Builder property(@Nullable String key, @Nullable String value) {
 
         @Override
         public MavenParser build() {
-            return new MavenParser(activeProfiles, properties, skipDependencyResolution);
+            return new MavenParser(activeProfiles, properties, skipDependencyResolution, resolutionParallelism);
         }
 
         @Override
@@ -144,8 +144,8 @@ public Xml visitDocument(Xml.Document document, P p) {
             if (sourcePath != null) {
                 projectPoms.put(sourcePath, requested);
             }
-            MavenResolutionResult updated = updateResult(ctx, resolutionResult.withPom(resolutionResult.getPom().withRequested(requested)),
-                    projectPoms);
+            MavenResolutionResult updated = updateResult(ctx, resolutionResult,
+                    resolutionResult.withPom(resolutionResult.getPom().withRequested(requested)), projectPoms);
             markDirtyForAmbiguityRecipes(ctx, document, updated);
             return document.withMarkers(document.getMarkers().computeByType(getResolutionResult(),
                     (original, ignored) -> updated));
@@ -194,7 +194,12 @@ private static void markModulesRecursive(ExecutionContext ctx, MavenResolutionRe
                 .orElse(null);
     }
 
-    private MavenResolutionResult updateResult(ExecutionContext ctx, MavenResolutionResult resolutionResult, Map<Path, Pom> projectPoms) throws MavenDownloadingExceptions {
+    /**
+     * @param previous The resolution result before the edit, whose dependencies are reused for the scopes the edit
+     *                 doesn't affect.
+     */
+    private MavenResolutionResult updateResult(ExecutionContext ctx, MavenResolutionResult previous,
+                                               MavenResolutionResult resolutionResult, Map<Path, Pom> projectPoms) throws MavenDownloadingExceptions {
         MavenPomDownloader downloader = new MavenPomDownloader(projectPoms, ctx, getResolutionResult().getMavenSettings(),
                 getResolutionResult().getActiveProfiles());
 
@@ -206,12 +211,12 @@ private MavenResolutionResult updateResult(ExecutionContext ctx, MavenResolution
                     // its previous resolution rather than discarding this pom's own valid update.
                     .withModules(ListUtils.map(resolutionResult.getModules(), module -> {
                         try {
-                            return updateResult(ctx, module, projectPoms);
+                            return updateResult(ctx, module, module, projectPoms);
                         } catch (MavenDownloadingExceptions e) {
                             return module;
                         }
                     }))
-                    .resolveDependencies(downloader, ctx);
+                    .resolveDependencies(previous, downloader, ctx);
         } catch (MavenDownloadingException e) {
             throw MavenDownloadingExceptions.append(null, e);
         }
@@ -86,6 +86,12 @@ public void putPom(ResolvedGroupArtifactVersion gav, Pom pom) {
         l2.putPom(gav, pom);
     }
 
+    @Override
+    public void putMissingPom(ResolvedGroupArtifactVersion gav) {
+        l1.putMissingPom(gav);
+        l2.putMissingPom(gav);
+    }
+
     @Override
     public @Nullable Optional<MavenRepository> getNormalizedRepository(MavenRepository repository) {
         Optional<MavenRepository> l1r = l1.getNormalizedRepository(repository);
@@ -24,9 +24,11 @@
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.function.Consumer;
 
 @EqualsAndHashCode
@@ -53,16 +55,34 @@ public LocalMavenArtifactCache(Path cache) {
             return null;
         }
         Path path = dependencyPath(dependency);
-        try (InputStream is = artifactInputStream;
-             OutputStream out = Files.newOutputStream(path)) {
-            byte[] buffer = new byte[1024];
-            int read;
-            while ((read = is.read(buffer, 0, 1024)) >= 0) {
-                out.write(buffer, 0, read);
+        Path tmp = null;
+        try (InputStream is = artifactInputStream) {
+            // written next to the artifact and moved into place once complete, so that a download that fails
+            // part way, or that is written by two threads at once, never leaves a truncated artifact behind
+            tmp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = is.read(buffer, 0, buffer.length)) >= 0) {
+                    out.write(buffer, 0, read);
+                }
+            }
+            try {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
             }
         } catch (Throwable t) {
             onError.accept(t);
             return null;
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                    // left for whoever cleans the cache directory
+                }
+            }
         }
 
         return path;
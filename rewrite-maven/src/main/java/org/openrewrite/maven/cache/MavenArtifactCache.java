@@ -56,9 +56,10 @@ public interface MavenArtifactCache {
         String datedSnapshotVersion = dependency.getDatedSnapshotVersion();
         if (dependency.getVersion().endsWith("-SNAPSHOT") &&
             (datedSnapshotVersion == null || dependency.getVersion().equals(datedSnapshotVersion))) {
-            try {
-                if (artifactStream != null) {
-                    Path artifact = putArtifact(dependency, artifactStream.call(), onError);
+            // closed whether or not the cache closes it itself, since it may be a live response
+            try (InputStream is = artifactStream.call()) {
+                if (is != null) {
+                    Path artifact = putArtifact(dependency, is, onError);
                     if (artifact != null) {
                         return artifact;
                     }
@@ -70,9 +71,9 @@ public interface MavenArtifactCache {
         }
         Path artifact = getArtifact(dependency);
         if (artifact == null) {
-            try {
-                if (artifactStream != null) {
-                    artifact = putArtifact(dependency, artifactStream.call(), onError);
+            try (InputStream is = artifactStream.call()) {
+                if (is != null) {
+                    artifact = putArtifact(dependency, is, onError);
                 }
             } catch (Exception e) {
                 onError.accept(e);
@@ -16,6 +16,7 @@
 package org.openrewrite.maven.cache;
 
 import org.jspecify.annotations.Nullable;
+import org.openrewrite.Incubating;
 import org.openrewrite.maven.MavenDownloadingException;
 import org.openrewrite.maven.tree.*;
 
@@ -39,6 +40,16 @@ public interface MavenPomCache {
 
     void putPom(ResolvedGroupArtifactVersion gav, @Nullable Pom pom);
 
+    /**
+     * Record that a repository answered that it does not host a POM at all, as opposed to {@link #putPom} with a
+     * {@code null} POM, which records any failure to retrieve it. Caches that persist across runs may remember
+     * this for longer.
+     */
+    @Incubating(since = "8.88.0")
+    default void putMissingPom(ResolvedGroupArtifactVersion gav) {
+        putPom(gav, null);
+    }
+
     @Nullable
     Optional<MavenRepository> getNormalizedRepository(MavenRepository repository);
 
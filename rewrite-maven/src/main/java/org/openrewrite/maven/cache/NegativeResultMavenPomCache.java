@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.maven.cache;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Incubating;
+import org.openrewrite.maven.MavenDownloadingException;
+import org.openrewrite.maven.tree.*;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Remembers across runs which repositories do not host a POM and how each repository normalized, or that it was
+ * unreachable, in front of any other {@link MavenPomCache}. Without it, every run pays a 404 round trip to each
+ * repository that doesn't host an artifact before reaching the one that does, and probes every declared repository
+ * again, which for a dead one costs a full connection timeout.
+ * <p>
+ * Entries expire after a time to live, so an artifact published since, or a repository that is back up, is picked
+ * up again. An unreachable repository is remembered for at most {@link #MAX_UNREACHABLE_TIME_TO_LIVE}, since that is
+ * as often a passing network problem as a repository that is gone for good. Misses for snapshot versions are not
+ * persisted, since those are published far more often. Only POMs a repository answered were not found or gone are
+ * persisted, any other failure to retrieve one, such as a 401 or 403, being left to the wrapped cache. Credentials are never written, only the URI a repository
+ * normalized to. All caches pointed at the same directory share their entries, whatever they wrap.
+ */
+@Incubating(since = "8.88.0")
+@SuppressWarnings("OptionalAssignedToNull")
+public class NegativeResultMavenPomCache implements MavenPomCache {
+    private static final String MISSING_POM = "pom";
+    private static final String NORMALIZED_REPOSITORY = "repository";
+
+    public static final Duration MAX_UNREACHABLE_TIME_TO_LIVE = Duration.ofHours(1);
+
+    private final MavenPomCache delegate;
+    private final RepositoryStateFile state;
+    private final Duration timeToLive;
+
+    /**
+     * @param delegate   The cache that holds everything else, and that is consulted first.
+     * @param directory  The directory the entries are persisted in.
+     * @param timeToLive How long a missing POM or a repository's normalization is remembered.
+     */
+    public NegativeResultMavenPomCache(MavenPomCache delegate, Path directory, Duration timeToLive) {
+        this(delegate, RepositoryStateFile.forDirectory(directory), timeToLive);
+    }
+
+    public NegativeResultMavenPomCache(MavenPomCache delegate, Path directory) {
+        this(delegate, directory, Duration.ofDays(1));
+    }
+
+    NegativeResultMavenPomCache(MavenPomCache delegate, RepositoryStateFile state, Duration timeToLive) {
+        this.delegate = delegate;
+        this.state = state;
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public @Nullable ResolvedPom getResolvedDependencyPom(ResolvedGroupArtifactVersion dependency) {
+        return delegate.getResolvedDependencyPom(dependency);
+    }
+
+    @Override
+    public void putResolvedDependencyPom(ResolvedGroupArtifactVersion dependency, ResolvedPom resolved) {
+        delegate.putResolvedDependencyPom(dependency, resolved);
+    }
+
+    @Override
+    public @Nullable Optional<MavenMetadata> getMavenMetadata(URI repo, GroupArtifactVersion gav) {
+        return delegate.getMavenMetadata(repo, gav);
+    }
+
+    @Override
+    public void putMavenMetadata(URI repo, GroupArtifactVersion gav, @Nullable MavenMetadata metadata) {
+        delegate.putMavenMetadata(repo, gav, metadata);
+    }
+
+    @Override
+    public @Nullable Optional<Pom> getPom(ResolvedGroupArtifactVersion gav) throws MavenDownloadingException {
+        Optional<Pom> pom = delegate.getPom(gav);
+        if (pom == null) {
+            String key = missingPomKey(gav);
+            if (key != null && state.get(key) != null) {
+                return Optional.empty();
+            }
+        }
+        return pom;
+    }
+
+    @Override
+    public void putPom(ResolvedGroupArtifactVersion gav, @Nullable Pom pom) {
+        delegate.putPom(gav, pom);
+        String key = missingPomKey(gav);
+        if (key != null && pom != null) {
+            state.remove(key);
+        }
+    }
+
+    @Override
+    public void putMissingPom(ResolvedGroupArtifactVersion gav) {
+        delegate.putMissingPom(gav);
+        String key = missingPomKey(gav);
+        if (key != null) {
+            state.put(key, "", expiresAt(timeToLive));
+        }
+    }
+
+    @Override
+    public @Nullable Optional<MavenRepository> getNormalizedRepository(MavenRepository repository) {
+        Optional<MavenRepository> normalized = delegate.getNormalizedRepository(repository);
+        if (normalized == null) {
+            String uri = state.get(normalizedRepositoryKey(repository));
+            if (uri != null) {
+                // an empty URI records a repository that was unreachable
+                normalized = uri.isEmpty() ? Optional.empty() : Optional.of(repository.withUri(uri));
+                delegate.putNormalizedRepository(repository, normalized.orElse(null));
+            }
+        }
+        return normalized;
+    }
+
+    @Override
+    public void putNormalizedRepository(MavenRepository repository, @Nullable MavenRepository normalized) {
+        delegate.putNormalizedRepository(repository, normalized);
+        if (normalized == null) {
+            state.put(normalizedRepositoryKey(repository), "", expiresAt(MAX_UNREACHABLE_TIME_TO_LIVE));
+        } else {
+            state.put(normalizedRepositoryKey(repository), normalized.getUri(), expiresAt(timeToLive));
+        }
+    }
+
+    private long expiresAt(Duration timeToLive) {
+        return System.currentTimeMillis() + Math.min(timeToLive.toMillis(), this.timeToLive.toMillis());
+    }
+
+    private static @Nullable String missingPomKey(ResolvedGroupArtifactVersion gav) {
+        if (gav.getRepository() == null || gav.getVersion().endsWith("-SNAPSHOT")) {
+            return null;
+        }
+        return MISSING_POM + ' ' + gav.getRepository() + ' ' + gav;
+    }
+
+    private static String normalizedRepositoryKey(MavenRepository repository) {
+        return NORMALIZED_REPOSITORY + ' ' + repository.getId() + ' ' + repository.getUri();
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.maven.cache;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * String entries that expire, kept in memory and appended to a file so that they outlive the process. Each line of
+ * the file is an entry as its expiry time in epoch milliseconds, key and value separated by tabs; a later line for a
+ * key replaces an earlier one. The file is read once when it is opened, and rewritten without expired and replaced
+ * entries when enough of them have piled up.
+ * <p>
+ * Several processes may append to the same file. Entries appended by another process while this one rewrites the
+ * file can be lost, which is harmless for a cache.
+ */
+class RepositoryStateFile {
+    private static final String FILE_NAME = "repository-state.tsv";
+
+    // Every cache pointed at the same directory shares one instance, so that what one learns the others see
+    private static final Map<Path, RepositoryStateFile> files = new HashMap<>();
+
+    static synchronized RepositoryStateFile forDirectory(Path directory) {
+        return files.computeIfAbsent(directory.toAbsolutePath().normalize(), RepositoryStateFile::new);
+    }
+
+    private final Path file;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    RepositoryStateFile(Path directory) {
+        this.file = directory.resolve(FILE_NAME);
+        load();
+    }
+
+    /**
+     * @return The value of an entry that has not yet expired, or {@code null} when there is none.
+     */
+    @Nullable
+    String get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    void put(String key, String value, long expiresAt) {
+        if (!isStorable(key) || !isStorable(value)) {
+            return;
+        }
+        entries.put(key, new Entry(value, expiresAt));
+        append(key, value, expiresAt);
+    }
+
+    void remove(String key) {
+        if (entries.remove(key) != null) {
+            // an entry that has already expired is equivalent to one that was never written
+            append(key, "", 0);
+        }
+    }
+
+    private synchronized void append(String key, String value, long expiresAt) {
+        try {
+            Files.createDirectories(file.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.write(expiresAt + "\t" + key + "\t" + value + "\n");
+            }
+        } catch (IOException ignored) {
+            // the entry is still known for the rest of this run
+        }
+    }
+
+    private synchronized void load() {
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        int lines = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines++;
+                int keyStart = line.indexOf('\t');
+                int valueStart = keyStart < 0 ? -1 : line.indexOf('\t', keyStart + 1);
+                if (valueStart < 0) {
+                    // truncated by a process that was killed while appending to it
+                    continue;
+                }
+                long expiresAt;
+                try {
+                    expiresAt = Long.parseLong(line.substring(0, keyStart));
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                String key = line.substring(keyStart + 1, valueStart);
+                if (expiresAt <= now) {
+                    entries.remove(key);
+                } else {
+                    entries.put(key, new Entry(line.substring(valueStart + 1), expiresAt));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            return;
+        }
+        if (lines > 2 * entries.size() + 100) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        try {
+            Path tmp = Files.createTempFile(file.getParent(), FILE_NAME, ".tmp");
+            try {
+                try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                    for (Map.Entry<String, Entry> e : entries.entrySet()) {
+                        writer.write(e.getValue().expiresAt + "\t" + e.getKey() + "\t" + e.getValue().value + "\n");
+                    }
+                }
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException ignored) {
+            // the file keeps growing until a later run manages to rewrite it
+        }
+    }
+
+    private static boolean isStorable(String s) {
+        return s.indexOf('\t') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0;
+    }
+
+    private static final class Entry {
+        private final String value;
+        private final long expiresAt;
+
+        Entry(String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -19,6 +19,7 @@
 import dev.failsafe.FailsafeException;
 import dev.failsafe.RetryPolicy;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Timer;
 import lombok.Getter;
@@ -46,6 +47,8 @@
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -71,6 +74,8 @@ public class MavenPomDownloader {
     private static final String RELEASE = "RELEASE";
     private static final List<String> NAMED_VERSIONS = Arrays.asList(LATEST, RELEASE);
 
+    private static final String REQUEST_PERMITS = "org.openrewrite.maven.requestPermits";
+
 
     private final MavenPomCache mavenCache;
     private final Map<Path, Pom> projectPoms;
@@ -78,6 +83,13 @@ public class MavenPomDownloader {
     private final MavenExecutionContextView ctx;
     private final HttpSender httpSender;
 
+    /**
+     * Requests and repository normalizations being made by one thread that other threads resolving modules
+     * concurrently wait on rather than making them again.
+     */
+    private final SingleFlight<String, byte[]> inFlightRequests = new SingleFlight<>();
+    private final SingleFlight<String, Optional<MavenRepository>> inFlightNormalizations = new SingleFlight<>();
+
     @Nullable
     private MavenSettings mavenSettings;
 
@@ -148,17 +160,25 @@ private MavenPomDownloader(Map<Path, Pom> projectPoms, HttpSender httpSender, Ex
     }
 
     byte[] sendRequest(HttpSender.Request request) throws IOException, HttpSenderResponseException {
+        return sendRequest(null, request);
+    }
+
+    private byte[] sendRequest(@Nullable MavenRepository repository, HttpSender.Request request) throws IOException, HttpSenderResponseException {
         long start = System.nanoTime();
         try {
-            return Failsafe.with(retryPolicy).get(() -> {
-                try (HttpSender.Response response = httpSender.send(request)) {
-                    if (!response.isSuccessful()) {
-                        throw new HttpSenderResponseException(null, response.getCode(),
-                                new String(response.getBodyAsBytes()));
-                    }
-                    return response.getBodyAsBytes();
+            return Failsafe.with(retryPolicy).get(() -> send(repository, request, response -> {
+                if (!response.isSuccessful()) {
+                    throw new HttpSenderResponseException(null, response.getCode(),
+                            new String(response.getBodyAsBytes()));
                 }
-            });
+                byte[] body = response.getBodyAsBytes();
+                DistributionSummary.builder("rewrite.maven.request.bytes")
+                        .baseUnit("bytes")
+                        .tag("repository", repositoryTag(repository))
+                        .register(Metrics.globalRegistry)
+                        .record(body.length);
+                return body;
+            }));
         } catch (FailsafeException failsafeException) {
             if (failsafeException.getCause() instanceof HttpSenderResponseException) {
                 throw (HttpSenderResponseException) failsafeException.getCause();
@@ -171,6 +191,55 @@ byte[] sendRequest(HttpSender.Request request) throws IOException, HttpSenderRes
         }
     }
 
+    /**
+     * Send one request, waiting first for one of the repository's {@link MavenExecutionContextView#getMaxConcurrentRequests(String)
+     * permits} when its requests are limited, and record its latency per repository.
+     */
+    private <T> T send(@Nullable MavenRepository repository, HttpSender.Request request,
+                       ResponseHandler<T> handler) throws HttpSenderResponseException {
+        Semaphore permits = requestPermits(repository);
+        if (permits != null) {
+            permits.acquireUninterruptibly();
+        }
+        Timer.Sample sample = Timer.start();
+        String outcome = "unreachable";
+        try (HttpSender.Response response = httpSender.send(request)) {
+            outcome = response.isSuccessful() ? "success" : "error";
+            return handler.handle(response);
+        } finally {
+            sample.stop(Timer.builder("rewrite.maven.request")
+                    .tag("repository", repositoryTag(repository))
+                    .tag("method", request.getMethod().name())
+                    .tag("outcome", outcome)
+                    .register(Metrics.globalRegistry));
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+
+    private interface ResponseHandler<T> {
+        T handle(HttpSender.Response response) throws HttpSenderResponseException;
+    }
+
+    private @Nullable Semaphore requestPermits(@Nullable MavenRepository repository) {
+        if (repository == null) {
+            return null;
+        }
+        int maxConcurrentRequests = ctx.getMaxConcurrentRequests(repository.getId());
+        if (maxConcurrentRequests == Integer.MAX_VALUE) {
+            return null;
+        }
+        // shared by every downloader of this execution, which may each be used by several threads
+        Map<String, Semaphore> permits = ctx.computeMessageIfAbsent(REQUEST_PERMITS, k -> new ConcurrentHashMap<>());
+        return permits.computeIfAbsent(repository.getId() + '\n' + repository.getUri() + '\n' + maxConcurrentRequests,
+                k -> new Semaphore(maxConcurrentRequests));
+    }
+
+    private static String repositoryTag(@Nullable MavenRepository repository) {
+        return repository == null ? "none" : repository.getUri();
+    }
+
     private Map<GroupArtifactVersion, Pom> projectPomsByGav(Map<Path, Pom> projectPoms) {
         Map<GroupArtifactVersion, Pom> result = new HashMap<>();
         for (Pom projectPom : projectPoms.values()) {
@@ -473,7 +542,13 @@ protected MavenMetadata mergeMetadata(MavenMetadata m1, MavenMetadata m2) {
     }
 
     private List<String> mergeVersions(List<String> versions1, List<String> versions2) {
-        Set<String> merged = new HashSet<>(versions1);
+        if (versions2.isEmpty() || versions1.equals(versions2)) {
+            return versions1;
+        } else if (versions1.isEmpty()) {
+            return versions2;
+        }
+        // in the order listed, so that versions that compare equal are resolved the same way as from one repository
+        Set<String> merged = new LinkedHashSet<>(versions1);
         merged.addAll(versions2);
         return new ArrayList<>(merged);
     }
@@ -716,7 +791,9 @@ public Pom download(GroupArtifactVersion gav,
                         }
                     } catch (HttpSenderResponseException e) {
                         repositoryResponses.put(repo, e.getMessage());
-                        if (e.isClientSideException()) {
+                        if (e.isNotFound()) {
+                            mavenCache.putMissingPom(resolvedGav);
+                        } else if (e.isClientSideException()) {
                             //If the exception is a common, client-side exception, cache an empty result.
                             mavenCache.putPom(resolvedGav, null);
                         }
@@ -976,20 +1053,24 @@ public MavenRepository next() {
                     ctx.getResolutionListener().repositoryAccessFailedPreviously(repository.getUri());
                     return null;
                 }
-                MavenRepository normalized = null;
-                try {
-                    normalized = normalizeRepository(repository);
-                } catch (Throwable e) {
-                    // normalizeRepository(repository) only throws once the endpoint is unreachable on
-                    // every probed URL, so remember it and skip the endpoint for the rest of the run.
-                    if (endpoint != null) {
-                        ctx.getUnreachableEndpoints().add(endpoint);
+                // Concurrent resolutions declaring the same repository share one set of probes
+                MavenRepository probed = repository;
+                result = inFlightNormalizations.execute(repository.getId() + '\n' + repository.getUri(), () -> {
+                    MavenRepository normalized = null;
+                    try {
+                        normalized = normalizeRepository(probed);
+                    } catch (Throwable e) {
+                        // normalizeRepository(repository) only throws once the endpoint is unreachable on
+                        // every probed URL, so remember it and skip the endpoint for the rest of the run.
+                        if (endpoint != null) {
+                            ctx.getUnreachableEndpoints().add(endpoint);
+                        }
+                        ctx.getResolutionListener().repositoryAccessFailed(probed.getUri(), e);
                     }
-                    ctx.getResolutionListener().repositoryAccessFailed(repository.getUri(), e);
-                }
 
-                mavenCache.putNormalizedRepository(repository, normalized);
-                result = Optional.ofNullable(normalized);
+                    mavenCache.putNormalizedRepository(probed, normalized);
+                    return Optional.ofNullable(normalized);
+                });
             } else if (!result.isPresent()) {
                 ctx.getResolutionListener().repositoryAccessFailedPreviously(repository.getUri());
             }
@@ -1054,11 +1135,11 @@ public static String normalizedRepositoryUri(String uri) {
      * credentials are configured the probe is retried with them before concluding the repository is unreachable.
      */
     private ReachabilityResult reachable(MavenRepository repository, HttpSender.Method method, String url) {
-        ReachabilityResult anonymous = reachable(applyTimeoutToRequest(repository, httpSender.newRequest(url).withMethod(method)));
+        ReachabilityResult anonymous = reachable(repository, applyTimeoutToRequest(repository, httpSender.newRequest(url).withMethod(method)));
         if (anonymous.isReachable() || !hasAuthentication(repository)) {
             return anonymous;
         }
-        ReachabilityResult authenticated = reachable(applyAuthenticationAndTimeoutToRequest(repository, httpSender.newRequest(url).withMethod(method)));
+        ReachabilityResult authenticated = reachable(repository, applyAuthenticationAndTimeoutToRequest(repository, httpSender.newRequest(url).withMethod(method)));
         return authenticated.isReachable() ? authenticated : anonymous;
     }
 
@@ -1087,9 +1168,9 @@ enum Reachability {
         UNREACHABLE
     }
 
-    private ReachabilityResult reachable(HttpSender.Request.Builder request) {
+    private ReachabilityResult reachable(MavenRepository repository, HttpSender.Request.Builder request) {
         try {
-            sendRequest(request.build());
+            sendRequest(repository, request.build());
             return ReachabilityResult.success();
         } catch (Throwable t) {
             if (t instanceof HttpSenderResponseException) {
@@ -1116,9 +1197,7 @@ private boolean jarExistsForPomUri(MavenRepository repo, String pomUrl) {
                     HttpSender.Request request = preemptive ?
                             applyAuthenticationAndTimeoutToRequest(repo, httpSender.head(jarUrl)).build() :
                             applyTimeoutToRequest(repo, httpSender.head(jarUrl)).build();
-                    try (HttpSender.Response response = httpSender.send(request)) {
-                        return response.isSuccessful();
-                    }
+                    return send(repo, request, HttpSender.Response::isSuccessful);
                 });
             } catch (FailsafeException failsafeException) {
                 Throwable cause = failsafeException.getCause();
@@ -1126,14 +1205,12 @@ private boolean jarExistsForPomUri(MavenRepository repo, String pomUrl) {
                     ((HttpSenderResponseException) cause).isClientSideException()) {
                     return Failsafe.with(retryPolicy).get(() -> {
                         HttpSender.Request authenticated = applyAuthenticationAndTimeoutToRequest(repo, httpSender.head(jarUrl)).build();
-                        try (HttpSender.Response response = httpSender.send(authenticated)) {
-                            boolean successful = response.isSuccessful();
-                            if (successful && endpoint != null) {
-                                // Remember so later requests to this host authenticate preemptively
-                                ctx.getAuthenticationRequiredEndpoints().add(endpoint);
-                            }
-                            return successful;
+                        boolean successful = send(repo, authenticated, HttpSender.Response::isSuccessful);
+                        if (successful && endpoint != null) {
+                            // Remember so later requests to this host authenticate preemptively
+                            ctx.getAuthenticationRequiredEndpoints().add(endpoint);
                         }
+                        return successful;
                     });
                 }
             }
@@ -1144,19 +1221,27 @@ private boolean jarExistsForPomUri(MavenRepository repo, String pomUrl) {
     }
 
 
+    /**
+     * Send a request, or wait on the same request if another thread is already sending it.
+     */
+    private byte[] requestAsAuthenticatedOrAnonymous(MavenRepository repo, String uriString) throws HttpSenderResponseException, IOException {
+        return inFlightRequests.<HttpSenderResponseException, IOException>execute(repo.getId() + '\n' + uriString,
+                () -> sendAsAuthenticatedOrAnonymous(repo, uriString));
+    }
+
     /**
      * Replicates Apache Maven's DeferredCredentialsProvider behavior: request anonymously first and only send
      * credentials once the server challenges the anonymous request with a 4xx.
      */
-    private byte[] requestAsAuthenticatedOrAnonymous(MavenRepository repo, String uriString) throws HttpSenderResponseException, IOException {
+    private byte[] sendAsAuthenticatedOrAnonymous(MavenRepository repo, String uriString) throws HttpSenderResponseException, IOException {
         // If this host has already required authentication in this session, authenticate preemptively rather
         // than paying another anonymous round-trip. Otherwise request anonymously first.
         String endpoint = endpointOrNull(URI.create(uriString));
         if (hasAuthentication(repo) && endpoint != null && ctx.getAuthenticationRequiredEndpoints().contains(endpoint)) {
-            return sendRequest(applyAuthenticationAndTimeoutToRequest(repo, httpSender.get(uriString)).build());
+            return sendRequest(repo, applyAuthenticationAndTimeoutToRequest(repo, httpSender.get(uriString)).build());
         }
         try {
-            return sendRequest(applyTimeoutToRequest(repo, httpSender.get(uriString)).build());
+            return sendRequest(repo, applyTimeoutToRequest(repo, httpSender.get(uriString)).build());
         } catch (HttpSenderResponseException e) {
             if (hasAuthentication(repo) && e.isClientSideException()) {
                 return retryRequestWithCredentials(repo, uriString, e);
@@ -1168,7 +1253,7 @@ private byte[] requestAsAuthenticatedOrAnonymous(MavenRepository repo, String ur
 
     private byte[] retryRequestWithCredentials(MavenRepository repo, String uriString, HttpSenderResponseException anonymousException) throws HttpSenderResponseException, IOException {
         try {
-            byte[] responseBody = sendRequest(applyAuthenticationAndTimeoutToRequest(repo, httpSender.get(uriString)).build());
+            byte[] responseBody = sendRequest(repo, applyAuthenticationAndTimeoutToRequest(repo, httpSender.get(uriString)).build());
             // Remember so later requests to this host authenticate preemptively
             String endpoint = endpointOrNull(URI.create(uriString));
             if (endpoint != null) {
@@ -1297,6 +1382,14 @@ public String getMessage() {
                     "HTTP " + responseCode;
         }
 
+        /**
+         * A 404 NOT FOUND or 410 GONE, which unlike other client-side exceptions says nothing about the credentials
+         * or the request, only that the repository does not host the resource.
+         */
+        public boolean isNotFound() {
+            return responseCode != null && (responseCode == 404 || responseCode == 410);
+        }
+
         public boolean isAccessDenied() {
             return responseCode != null && 400 < responseCode && responseCode <= 403;
         }
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.maven.internal;
+
+import org.openrewrite.internal.Throwing;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesces identical calls made by several threads at once: the first thread to make a call for a key makes it,
+ * and the others wait for and share its result or exception rather than making it again. A call made once the
+ * previous one for the same key is complete is made again, so results are not cached here.
+ *
+ * @param <K> The key identifying identical calls.
+ * @param <V> The result of a call.
+ */
+class SingleFlight<K, V> {
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * A call that throws up to two kinds of checked exceptions, such as an HTTP request that fails with either an
+     * {@link java.io.IOException} or an error response.
+     */
+    interface Call<V, E1 extends Exception, E2 extends Exception> {
+        V call() throws E1, E2;
+    }
+
+    <E1 extends Exception, E2 extends Exception> V execute(K key, Call<V, E1, E2> call) throws E1, E2 {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            try {
+                return leader.join();
+            } catch (CompletionException e) {
+                // the leader's exception, which is one the call declares or an unchecked one
+                Throwing.sneakyThrow(e.getCause());
+                throw e;
+            }
+        }
+        try {
+            V result = call.call();
+            flight.complete(result);
+            return result;
+        } catch (Throwable t) {
+            flight.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+}
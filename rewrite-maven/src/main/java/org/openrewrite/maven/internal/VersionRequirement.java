@@ -31,6 +31,7 @@
 import org.openrewrite.maven.tree.MavenRepository;
 import org.openrewrite.maven.tree.Version;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
@@ -202,6 +203,35 @@ public boolean matches(Version version) {
             return false;
         }
 
+        /**
+         * @param versions Versions in ascending order.
+         * @return The index after the last of the versions that is not above the highest upper bound of the ranges.
+         */
+        int upperBoundIndex(List<Version> versions) {
+            Version upper = null;
+            for (Range range : ranges) {
+                if (range.upper == null) {
+                    return versions.size();
+                } else if (upper == null || range.upper.compareTo(upper) > 0) {
+                    upper = range.upper;
+                }
+            }
+            if (upper == null) {
+                return versions.size();
+            }
+            int low = 0;
+            int high = versions.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (versions.get(mid).compareTo(upper) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
         @Override
         public String toString() {
             return ranges.stream().map(Range::toString).collect(joining(",", "RangeSet={", "}"));
@@ -228,13 +258,23 @@ public String toString() {
     }
 
     public @Nullable String resolve(DownloadOperation<Iterable<String>> availableVersions) throws MavenDownloadingException {
+        return resolveSorted(() -> {
+            List<String> versions = new ArrayList<>();
+            for (String version : availableVersions.call()) {
+                versions.add(version);
+            }
+            return new MavenMetadata.Versioning(versions, null, null, null, null, null).getParsedVersions();
+        });
+    }
+
+    private @Nullable String resolveSorted(DownloadOperation<List<Version>> sortedVersions) throws MavenDownloadingException {
         if (selected == null) {
-            selected = cacheResolved(availableVersions);
+            selected = cacheResolved(sortedVersions);
         }
         return selected;
     }
 
-    private @Nullable String cacheResolved(DownloadOperation<Iterable<String>> availableVersions) throws MavenDownloadingException {
+    private @Nullable String cacheResolved(DownloadOperation<List<Version>> sortedVersions) throws MavenDownloadingException {
         String nearestSoftRequirement = null;
         VersionRequirement next = this;
         VersionRequirement nearestHardRequirement = null;
@@ -256,36 +296,39 @@ public String toString() {
             return nearestSoftRequirement;
         }
         VersionSpec hardRequirement = nearestHardRequirement.versionSpec;
-        Version latest = null;
-        for (String availableVersion : availableVersions.call()) {
-            Version version;
-            try {
-                version = new Version(availableVersion);
-            } catch (IllegalArgumentException e) {
-                continue;
-            }
-
-            if ((hardRequirement instanceof DynamicVersion && ((DynamicVersion) hardRequirement).matches(version)) ||
-                (hardRequirement instanceof RangeSet && ((RangeSet) hardRequirement).matches(version))) {
-
-                if (latest == null || version.compareTo(latest) > 0) {
-                    latest = version;
+        List<Version> versions = sortedVersions.call();
+
+        // Versions above the highest upper bound of a range can't match it, so the search for the latest version
+        // that matches starts below that bound rather than at the latest version published.
+        int from = hardRequirement instanceof RangeSet ?
+                ((RangeSet) hardRequirement).upperBoundIndex(versions) :
+                versions.size();
+        for (int i = from - 1; i >= 0; i--) {
+            if (matches(hardRequirement, versions.get(i))) {
+                // among versions that compare equal, the first one listed wins
+                Version latest = versions.get(i);
+                for (int j = i - 1; j >= 0 && versions.get(j).compareTo(latest) == 0; j--) {
+                    if (matches(hardRequirement, versions.get(j))) {
+                        latest = versions.get(j);
+                    }
                 }
+                return latest.toString();
             }
         }
 
-        if (latest == null) {
-            // No version matches the hard requirement.
-            return null;
-        }
+        // No version matches the hard requirement.
+        return null;
+    }
 
-        return latest.toString();
+    private static boolean matches(VersionSpec hardRequirement, Version version) {
+        return (hardRequirement instanceof DynamicVersion && ((DynamicVersion) hardRequirement).matches(version)) ||
+               (hardRequirement instanceof RangeSet && ((RangeSet) hardRequirement).matches(version));
     }
 
     public @Nullable String resolve(GroupArtifact groupArtifact, MavenPomDownloader downloader, List<MavenRepository> repositories) throws MavenDownloadingException {
-        return resolve(() -> {
+        return resolveSorted(() -> {
             MavenMetadata metadata = downloader.downloadMetadata(groupArtifact, null, repositories);
-            return metadata.getVersioning().getVersions();
+            return metadata.getVersioning().getParsedVersions();
         });
     }
 
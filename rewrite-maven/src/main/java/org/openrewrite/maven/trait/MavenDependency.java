@@ -98,19 +98,14 @@ public class MavenDependency implements Trait<Xml.Tag> {
                 // this can happen when we encounter exotic, non-semver version numbers
                 return null;
             }
-            List<String> versions = new ArrayList<>();
-            for (String v : mavenMetadata.getVersioning().getVersions()) {
-                if (versionComparator.isValid(finalVersion, v)) {
-                    versions.add(v);
-                }
-            }
+            MavenMetadata.Versioning versioning = mavenMetadata.getVersioning();
 
             // Some repositories will have corrupt or incomplete maven metadata which
             // prevents an upgrade even to a fixed version. For example this metadata file is missing all versions after 2019:
             // https://repository.mapr.com/nexus/content/groups/mapr-public/org/apache/hbase/hbase-annotations/maven-metadata.xml
             if (versionComparator instanceof ExactVersion) {
                 String exactVersion = ((ExactVersion) versionComparator).getVersion();
-                if (!versions.contains(exactVersion)) {
+                if (!versionComparator.isValid(finalVersion, exactVersion) || !versioning.getVersions().contains(exactVersion)) {
                     try {
                         // This is a best effort attempt to see if the pom is there anyway, in spite of the
                         // fact that it's not in the metadata. Usually it won't be, only in situations like the
@@ -130,11 +125,20 @@ public class MavenDependency implements Trait<Xml.Tag> {
             }
 
             // handle upgrades from non semver versions like "org.springframework.cloud:spring-cloud-dependencies:Camden.SR5"
-            if (!Semver.isVersion(finalVersion) && !versions.isEmpty()) {
-                versions.sort(versionComparator);
-                return versions.get(versions.size() - 1);
+            if (!Semver.isVersion(finalVersion)) {
+                List<String> versions = new ArrayList<>();
+                for (String v : versioning.getVersions()) {
+                    if (versionComparator.isValid(finalVersion, v)) {
+                        versions.add(v);
+                    }
+                }
+                if (!versions.isEmpty()) {
+                    versions.sort(versionComparator);
+                    return versions.get(versions.size() - 1);
+                }
             }
-            return versionComparator.upgrade(finalVersion, versions).orElse(null);
+            // sorted once per selector and shared by every module upgrading this dependency
+            return versionComparator.upgrade(finalVersion, versioning.getSortedVersions(versionComparator)).orElse(null);
         } catch (IllegalStateException e) {
             // this can happen when we encounter exotic versions
             return null;
@@ -17,21 +17,30 @@
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Value;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
 import org.jspecify.annotations.Nullable;
+import org.openrewrite.Incubating;
 import org.openrewrite.maven.internal.MavenXmlMapper;
+import org.openrewrite.semver.SortedVersions;
+import org.openrewrite.semver.VersionComparator;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
 
 @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
 @Getter
@@ -65,6 +74,15 @@ public static class Versioning {
         @Nullable
         String latest;
 
+        // Derived from the versions on first use and shared by everyone holding this metadata, which is cached per
+        // repository by the pom cache
+        @Getter(AccessLevel.NONE)
+        @NonFinal
+        transient volatile @Nullable List<Version> parsedVersions;
+
+        @Getter(AccessLevel.NONE)
+        transient Map<VersionComparator, SortedVersions> sortedVersions = new ConcurrentHashMap<>();
+
         @JsonCreator
         public Versioning(
                 @JacksonXmlElementWrapper(localName = "versions") List<String> versions,
@@ -80,6 +98,48 @@ public Versioning(
             this.latest = latest;
             this.release = release;
         }
+
+        /**
+         * @return The versions that can be parsed, in ascending order, where versions that compare equal keep the
+         * order in which they are listed.
+         */
+        @Incubating(since = "8.88.0")
+        @JsonIgnore
+        public List<Version> getParsedVersions() {
+            List<Version> parsed = parsedVersions;
+            if (parsed == null) {
+                List<Version> sorted = new ArrayList<>(versions.size());
+                for (String version : versions) {
+                    try {
+                        sorted.add(new Version(version));
+                    } catch (IllegalArgumentException ignored) {
+                        // not a version that can be compared
+                    }
+                }
+                sorted.sort(null);
+                parsedVersions = parsed = unmodifiableList(sorted);
+            }
+            return parsed;
+        }
+
+        /**
+         * @return The versions sorted for a version selector, which is only done once for equal selectors, since
+         * the same selector is typically used for every module a recipe visits, even when each visitor validates its
+         * own.
+         */
+        @Incubating(since = "8.88.0")
+        public SortedVersions getSortedVersions(VersionComparator comparator) {
+            SortedVersions sorted = sortedVersions.get(comparator);
+            if (sorted == null) {
+                if (sortedVersions.size() >= 16) {
+                    // recipes creating selectors as they go would otherwise accumulate them here
+                    sortedVersions.clear();
+                }
+                sorted = SortedVersions.of(versions, comparator);
+                sortedVersions.put(comparator, sorted);
+            }
+            return sorted;
+        }
     }
 
     public static MavenMetadata parse(InputStream document) {
@@ -23,9 +23,11 @@
 import lombok.experimental.FieldDefaults;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.Incubating;
 import org.openrewrite.marker.Marker;
 import org.openrewrite.maven.MavenDownloadingException;
 import org.openrewrite.maven.MavenDownloadingExceptions;
+import org.openrewrite.maven.MavenExecutionContextView;
 import org.openrewrite.maven.MavenSettings;
 import org.openrewrite.maven.internal.MavenPomDownloader;
 
@@ -184,13 +186,43 @@ public void unsafeSetModules(@Nullable List<MavenResolutionResult> modules) {
     private static final Scope[] RESOLVE_SCOPES = new Scope[]{Scope.Compile, Scope.Runtime, Scope.Test, Scope.Provided};
 
     public MavenResolutionResult resolveDependencies(MavenPomDownloader downloader, ExecutionContext ctx) throws MavenDownloadingExceptions {
+        return resolveDependencies(null, downloader, ctx);
+    }
+
+    /**
+     * Resolve the dependencies of this result's pom after it was edited, reusing the dependencies that
+     * {@code previous} resolved for each scope whose direct dependencies, dependency management, repositories,
+     * properties and profiles are unchanged, such as the compile scope after a test dependency is upgraded. Every
+     * scope is resolved again when the pom's coordinates, parent or imported BOMs changed, and a scope that depends
+     * on other project poms is always resolved again, since they may have been edited too. No resolution events are
+     * reported for the scopes that are reused.
+     *
+     * @param previous The resolution result before the pom was edited.
+     */
+    @Incubating(since = "8.88.0")
+    public MavenResolutionResult resolveDependencies(@Nullable MavenResolutionResult previous, MavenPomDownloader downloader,
+                                                     ExecutionContext ctx) throws MavenDownloadingExceptions {
+        if (previous != null && !hasSameLineage(pom, previous.getPom())) {
+            previous = null;
+        }
         Map<Scope, List<ResolvedDependency>> dependencies = new LinkedHashMap<>();
         MavenDownloadingExceptions exceptions = null;
 
         Map<GroupArtifact, Set<GroupArtifactVersion>> exceptionsInLowerScopes = new HashMap<>();
+        // The scopes overlap heavily, so each dependency pom is downloaded and resolved once for all of them
+        ResolvedPom.SharedDependencyGraph graph = pom.sharedDependencyGraph();
+        ResolvedDependencyInterner interner = MavenExecutionContextView.view(ctx).getResolvedDependencyInterner();
         for (Scope scope : RESOLVE_SCOPES) {
             try {
-                dependencies.put(scope, pom.resolveDependencies(scope, downloader, ctx));
+                if (previous != null) {
+                    List<ResolvedDependency> previousDependencies = previous.getDependencies().get(scope);
+                    if (previousDependencies != null && !hasProjectDependency(previousDependencies) &&
+                        pom.dependencyResolutionInputs(scope).equals(previous.getPom().dependencyResolutionInputs(scope))) {
+                        dependencies.put(scope, previousDependencies);
+                        continue;
+                    }
+                }
+                dependencies.put(scope, interner.intern(pom.resolveDependencies(scope, graph, downloader, ctx)));
             } catch (MavenDownloadingExceptions e) {
                 for (MavenDownloadingException exception : e.getExceptions()) {
                     if (exceptionsInLowerScopes.computeIfAbsent(new GroupArtifact(
@@ -209,6 +241,36 @@ public MavenResolutionResult resolveDependencies(MavenPomDownloader downloader,
         return withDependencies(dependencies);
     }
 
+    private static boolean hasSameLineage(ResolvedPom pom, ResolvedPom previous) {
+        Pom requested = pom.getRequested();
+        Pom previousRequested = previous.getRequested();
+        return pom.getGav().equals(previous.getGav()) &&
+               Objects.equals(requested.getParent(), previousRequested.getParent()) &&
+               importedBoms(requested).equals(importedBoms(previousRequested));
+    }
+
+    private static List<ManagedDependency> importedBoms(Pom pom) {
+        List<ManagedDependency> boms = new ArrayList<>();
+        for (ManagedDependency managed : pom.getDependencyManagement()) {
+            if (managed instanceof ManagedDependency.Imported) {
+                boms.add(managed);
+            }
+        }
+        return boms;
+    }
+
+    /**
+     * @param dependencies The dependencies of a scope, which includes transitive dependencies.
+     */
+    private static boolean hasProjectDependency(List<ResolvedDependency> dependencies) {
+        for (ResolvedDependency dependency : dependencies) {
+            if (dependency.getRepository() == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public Map<Path, Pom> getProjectPoms() {
         Map<Path, Pom> projectPoms = new HashMap<>();
         getProjectPomsRecursive(projectPoms);
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.maven.tree;
+
+import org.openrewrite.Incubating;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.newSetFromMap;
+
+/**
+ * Shares structurally identical dependency subtrees between the scopes and configurations of a module and between
+ * modules. Two resolved dependencies are identical when they are {@link ResolvedDependency#equals(Object) equal},
+ * which covers the coordinates, the requested dependency with its scope and exclusions, the effective exclusions
+ * and the depth, and their dependencies are the same interned nodes. A build whose modules all depend on the same
+ * framework then holds one copy of its subtree instead of one per module and scope.
+ * <p>
+ * Interned dependencies are only weakly referenced, so an interner that outlives the markers holding them doesn't
+ * keep them alive. Interned dependencies must not be mutated, since they may be shared by many markers.
+ */
+@Incubating(since = "8.88.0")
+public class ResolvedDependencyInterner {
+    private final Map<Key, Key> interned = new ConcurrentHashMap<>();
+    private final ReferenceQueue<ResolvedDependency> collected = new ReferenceQueue<>();
+
+    /**
+     * @param dependencies Dependencies, typically of one scope or configuration, whose subtrees are not yet shared.
+     * @return The same dependencies in the same order, each replaced by an identical one that was interned before
+     * when there is one.
+     */
+    public List<ResolvedDependency> intern(List<ResolvedDependency> dependencies) {
+        if (dependencies.isEmpty()) {
+            return dependencies;
+        }
+        expungeCollected();
+        Map<ResolvedDependency, ResolvedDependency> visited = new IdentityHashMap<>();
+        Set<ResolvedDependency> inProgress = newSetFromMap(new IdentityHashMap<>());
+        List<ResolvedDependency> result = new ArrayList<>(dependencies.size());
+        for (ResolvedDependency dependency : dependencies) {
+            result.add(intern(dependency, visited, inProgress));
+        }
+        return result;
+    }
+
+    /**
+     * @return The number of distinct dependency nodes interned so far that are still referenced.
+     */
+    public int size() {
+        expungeCollected();
+        return interned.size();
+    }
+
+    public void clear() {
+        interned.clear();
+    }
+
+    private ResolvedDependency intern(ResolvedDependency dependency,
+                                      Map<ResolvedDependency, ResolvedDependency> visited,
+                                      Set<ResolvedDependency> inProgress) {
+        ResolvedDependency done = visited.get(dependency);
+        if (done != null) {
+            return done;
+        }
+        if (!inProgress.add(dependency)) {
+            // a cycle, which only graphs reported by Gradle can contain, so this node is left as it is
+            return dependency;
+        }
+
+        List<ResolvedDependency> dependencies = dependency.getDependencies();
+        List<ResolvedDependency> internedDependencies = dependencies;
+        for (int i = 0; i < dependencies.size(); i++) {
+            ResolvedDependency child = dependencies.get(i);
+            ResolvedDependency internedChild = intern(child, visited, inProgress);
+            if (internedChild != child) {
+                if (internedDependencies == dependencies) {
+                    internedDependencies = new ArrayList<>(dependencies);
+                }
+                internedDependencies.set(i, internedChild);
+            }
+        }
+        if (internedDependencies != dependencies) {
+            // only a node that hasn't been interned yet can have a child that has been replaced
+            dependency.unsafeSetDependencies(internedDependencies);
+        }
+        inProgress.remove(dependency);
+
+        Key key = new Key(dependency, collected);
+        ResolvedDependency result;
+        while (true) {
+            Key existing = interned.putIfAbsent(key, key);
+            if (existing == null) {
+                result = dependency;
+                break;
+            }
+            result = existing.get();
+            if (result != null) {
+                break;
+            }
+            // collected since it was found equal
+            interned.remove(existing, existing);
+        }
+        visited.put(dependency, result);
+        return result;
+    }
+
+    private void expungeCollected() {
+        for (Reference<? extends ResolvedDependency> ref; (ref = collected.poll()) != null; ) {
+            interned.remove(ref, ref);
+        }
+    }
+
+    /**
+     * Equal to another key only while both dependencies are still referenced, so a key whose dependency has been
+     * collected is only ever equal to itself and can still be removed.
+     */
+    private static final class Key extends WeakReference<ResolvedDependency> {
+        private final int hash;
+
+        Key(ResolvedDependency dependency, ReferenceQueue<ResolvedDependency> queue) {
+            super(dependency, queue);
+            int hash = dependency.hashCode();
+            for (ResolvedDependency child : dependency.getDependencies()) {
+                hash = 31 * hash + System.identityHashCode(child);
+            }
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            ResolvedDependency dependency = get();
+            ResolvedDependency other = key.get();
+            if (hash != key.hash || dependency == null || other == null || !dependency.equals(other)) {
+                return false;
+            }
+            List<ResolvedDependency> dependencies = dependency.getDependencies();
+            List<ResolvedDependency> otherDependencies = other.getDependencies();
+            if (dependencies.size() != otherDependencies.size()) {
+                return false;
+            }
+            for (int i = 0; i < dependencies.size(); i++) {
+                if (dependencies.get(i) != otherDependencies.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
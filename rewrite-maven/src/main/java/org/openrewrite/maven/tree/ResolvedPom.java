@@ -996,12 +996,25 @@ private boolean isAlreadyResolved(GroupArtifactVersion groupArtifactVersion, Lis
     }
 
     public List<ResolvedDependency> resolveDependencies(Scope scope, MavenPomDownloader downloader, ExecutionContext ctx) throws MavenDownloadingExceptions {
-        return doResolveDependencies(scope, new HashMap<>(), true, downloader, ctx);
+        return doResolveDependencies(scope, new HashMap<>(), true, new SharedDependencyGraph(), downloader, ctx);
     }
 
     public List<ResolvedDependency> resolveDependencies(Scope scope, Map<GroupArtifact, VersionRequirement> requirements,
                                                         MavenPomDownloader downloader, ExecutionContext ctx) throws MavenDownloadingExceptions {
-        return doResolveDependencies(scope, requirements, true, downloader, ctx);
+        return doResolveDependencies(scope, requirements, true, new SharedDependencyGraph(), downloader, ctx);
+    }
+
+    SharedDependencyGraph sharedDependencyGraph() {
+        return new SharedDependencyGraph();
+    }
+
+    /**
+     * Resolves the dependencies of one of several scopes that share the graph, so that the dependency poms that
+     * several scopes reach are only downloaded, resolved, and have their dependencies interpolated once.
+     */
+    List<ResolvedDependency> resolveDependencies(Scope scope, SharedDependencyGraph graph, MavenPomDownloader downloader,
+                                                 ExecutionContext ctx) throws MavenDownloadingExceptions {
+        return doResolveDependencies(scope, new HashMap<>(), true, graph, downloader, ctx);
     }
 
     /**
@@ -1011,11 +1024,29 @@ public List<ResolvedDependency> resolveDependencies(Scope scope, Map<GroupArtifa
      * transitive POM downloads.
      */
     public List<ResolvedDependency> resolveDirectDependencies(Scope scope, MavenPomDownloader downloader, ExecutionContext ctx) throws MavenDownloadingExceptions {
-        return doResolveDependencies(scope, new HashMap<>(), false, downloader, ctx);
+        return doResolveDependencies(scope, new HashMap<>(), false, new SharedDependencyGraph(), downloader, ctx);
+    }
+
+    /**
+     * What resolving the dependencies of a scope depends on besides the dependency poms it downloads: the direct
+     * dependencies in that scope as interpolated, and the dependency management, repositories, properties and
+     * profiles they are resolved with. Two poms with equal inputs for a scope resolve the same dependencies in it, as
+     * long as none of them are project poms, whose own dependencies may have changed in between.
+     */
+    List<Object> dependencyResolutionInputs(Scope scope) {
+        List<Dependency> rootDependencies = new ArrayList<>();
+        for (Dependency requestedDependency : getRequestedDependencies()) {
+            Dependency d = getValues(requestedDependency, 0);
+            Scope dScope = Scope.fromName(d.getScope());
+            if (dScope == scope || dScope.transitiveOf(scope) == scope) {
+                rootDependencies.add(d);
+            }
+        }
+        return Arrays.asList(rootDependencies, dependencyManagement, repositories, properties, activeProfiles);
     }
 
     private List<ResolvedDependency> doResolveDependencies(Scope scope, Map<GroupArtifact, VersionRequirement> requirements,
-                                                           boolean resolveTransitives,
+                                                           boolean resolveTransitives, SharedDependencyGraph graph,
                                                            MavenPomDownloader downloader, ExecutionContext ctx) throws MavenDownloadingExceptions {
         List<ResolvedDependency> dependencies = new ArrayList<>();
 
@@ -1087,7 +1118,7 @@ private List<ResolvedDependency> doResolveDependencies(Scope scope, Map<GroupArt
                             MavenExecutionContextView.view(ctx)
                                     .getResolutionListener()
                                     .clear();
-                            return doResolveDependencies(scope, requirements, resolveTransitives, downloader, ctx);
+                            return doResolveDependencies(scope, requirements, resolveTransitives, graph, downloader, ctx);
                         } else if (contains(dependencies, ga, d.getClassifier())) {
                             // we've already resolved this previously and the requirement didn't change,
                             // so just skip and continue on
@@ -1101,10 +1132,13 @@ private List<ResolvedDependency> doResolveDependencies(Scope scope, Map<GroupArt
                         throw new MavenDownloadingException("Could not resolve property", null, d.getGav());
                     }
 
-                    Pom dPom = downloader.download(d.getGav(), null, dd.definedIn, getRepositories());
+                    Pom dPom = graph.download(d.getGav(), dd.definedIn, downloader, getRepositories());
 
                     MavenPomCache cache = MavenExecutionContextView.view(ctx).getPomCache();
-                    ResolvedPom resolvedPom = cache.getResolvedDependencyPom(dPom.getGav());
+                    ResolvedPom resolvedPom = graph.resolvedPoms.get(dPom.getGav());
+                    if (resolvedPom == null) {
+                        resolvedPom = cache.getResolvedDependencyPom(dPom.getGav());
+                    }
                     if (resolvedPom == null) {
                         resolvedPom = new ResolvedPom(
                                 dPom,
@@ -1122,6 +1156,7 @@ private List<ResolvedDependency> doResolveDependencies(Scope scope, Map<GroupArt
                         resolvedPom.resolver(ctx, downloader).resolveParentsRecursively(dPom);
                         cache.putResolvedDependencyPom(dPom.getGav(), resolvedPom);
                     }
+                    graph.resolvedPoms.put(dPom.getGav(), resolvedPom);
 
                     ResolvedDependency resolved = new ResolvedDependency(
                             dPom.getRepository(),
@@ -1161,21 +1196,8 @@ private List<ResolvedDependency> doResolveDependencies(Scope scope, Map<GroupArt
                     }
 
                     nextDependency:
-                    for (Dependency d2 : resolvedPom.getRequestedDependencies()) {
-                        if (d2.getGroupId() == null) {
-                            d2 = d2.withGav(d2.getGav().withGroupId(resolvedPom.getGroupId()));
-                        }
-
-                        d2 = d2
-                                .withGav(d2.getGav()
-                                        .withGroupId(resolvedPom.getValue(d2.getGroupId()))
-                                        .withArtifactId(requireNonNull(resolvedPom.getValue(d2.getArtifactId())))
-                                        .withVersion(resolvedPom.getValue(d2.getVersion()))
-                                )
-                                .withClassifier(resolvedPom.getValue(d2.getClassifier()))
-                                .withScope(resolvedPom.getValue(d2.getScope()))
-                                .withType(resolvedPom.getValue(d2.getType()));
-
+                    for (Dependency interpolated : graph.requestedDependencies(resolvedPom)) {
+                        Dependency d2 = interpolated;
                         if (d.getExclusions() != null) {
                             d2 = d2.withExclusions(ListUtils.concatAll(d2.getExclusions(), d.getExclusions()));
                             for (GroupArtifact exclusion : d.getExclusions()) {
@@ -1206,7 +1228,8 @@ private List<ResolvedDependency> doResolveDependencies(Scope scope, Map<GroupArt
                             continue;
                         }
 
-                        Scope d2Scope = getDependencyScope(d2, resolvedPom);
+                        ResolvedPom containingPom = resolvedPom;
+                        Scope d2Scope = graph.scopes.computeIfAbsent(interpolated, i -> getDependencyScope(i, containingPom));
                         if (d2Scope.isInClasspathOf(dd.getScope())) {
                             // For transitive dependencies at same depth, first parent declaration wins
                             GroupArtifactClassifierType d2Gact = new GroupArtifactClassifierType(
@@ -1325,6 +1348,54 @@ private Dependency getValues(Dependency dep, int depth) {
         }
     }
 
+    /**
+     * What resolving the dependencies of this pom learns about the dependency graph that is the same in every scope,
+     * kept so that the resolution of each scope doesn't download, resolve, and interpolate the dependency poms that
+     * the resolution of another scope already has.
+     */
+    class SharedDependencyGraph {
+        private final Map<ResolvedPom, Map<GroupArtifactVersion, Pom>> downloads = new IdentityHashMap<>();
+        private final Map<ResolvedGroupArtifactVersion, ResolvedPom> resolvedPoms = new HashMap<>();
+        private final Map<ResolvedPom, List<Dependency>> requestedDependencies = new IdentityHashMap<>();
+        private final Map<Dependency, Scope> scopes = new IdentityHashMap<>();
+
+        private Pom download(GroupArtifactVersion gav, ResolvedPom containingPom, MavenPomDownloader downloader,
+                             List<MavenRepository> repositories) throws MavenDownloadingException {
+            Map<GroupArtifactVersion, Pom> downloaded = downloads.computeIfAbsent(containingPom, p -> new HashMap<>());
+            Pom pom = downloaded.get(gav);
+            if (pom == null) {
+                // failures are not kept, so that each scope reports its own
+                pom = downloader.download(gav, null, containingPom, repositories);
+                downloaded.put(gav, pom);
+            }
+            return pom;
+        }
+
+        /**
+         * @return The dependencies requested by a dependency pom, with their properties replaced by its values.
+         */
+        private List<Dependency> requestedDependencies(ResolvedPom resolvedPom) {
+            return requestedDependencies.computeIfAbsent(resolvedPom, p -> {
+                List<Dependency> interpolated = new ArrayList<>(p.getRequestedDependencies().size());
+                for (Dependency d2 : p.getRequestedDependencies()) {
+                    if (d2.getGroupId() == null) {
+                        d2 = d2.withGav(d2.getGav().withGroupId(p.getGroupId()));
+                    }
+                    interpolated.add(d2
+                            .withGav(d2.getGav()
+                                    .withGroupId(p.getValue(d2.getGroupId()))
+                                    .withArtifactId(requireNonNull(p.getValue(d2.getArtifactId())))
+                                    .withVersion(p.getValue(d2.getVersion()))
+                            )
+                            .withClassifier(p.getValue(d2.getClassifier()))
+                            .withScope(p.getValue(d2.getScope()))
+                            .withType(p.getValue(d2.getType())));
+                }
+                return interpolated;
+            });
+        }
+    }
+
     @Value
     private static class DependencyAndDependent {
         Dependency dependency;
@@ -21,6 +21,9 @@
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Incubating;
+import org.openrewrite.internal.HashUtils;
+import org.openrewrite.internal.ThreadPools;
 import org.openrewrite.ipc.http.HttpSender;
 import org.openrewrite.ipc.http.HttpUrlConnectionSender;
 import org.openrewrite.maven.MavenDownloadingException;
@@ -30,20 +33,22 @@
 import org.openrewrite.maven.tree.MavenRepository;
 import org.openrewrite.maven.tree.ResolvedDependency;
 
-import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.net.SocketTimeoutException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.TimeoutException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -67,6 +72,9 @@ public class MavenArtifactDownloader {
     private final HttpSender httpSender;
     private final ExecutionContext ctx;
 
+    // Artifacts being fetched by downloadArtifacts, keyed by artifactKey
+    private final Map<String, CompletableFuture<@Nullable Path>> inFlight = new ConcurrentHashMap<>();
+
 
     /**
      * @deprecated Use {@link #MavenArtifactDownloader(MavenArtifactCache, MavenSettings, Consumer, ExecutionContext)}
@@ -122,9 +130,90 @@ public MavenArtifactDownloader(MavenArtifactCache mavenArtifactCache,
      * @return The path on disk of the downloaded artifact or <code>null</code> if unable to download.
      */
     public @Nullable Path downloadArtifact(ResolvedDependency dependency) {
+        return downloadArtifact(dependency, false);
+    }
+
+    /**
+     * Fetch the jar files of a classpath, typically the resolved dependencies of many modules, several at a time.
+     * An artifact that appears more than once, or that another call on this downloader is already fetching, is only
+     * fetched once. Artifacts are streamed into the {@link MavenArtifactCache} as they are received and, when the
+     * repository publishes a SHA-1 checksum for them, verified against it, so that a corrupt or truncated download
+     * is reported to the error consumer rather than cached.
+     *
+     * @param dependencies The dependencies to download.
+     * @param parallelism  The most artifacts to fetch at a time.
+     * @return The distinct paths on disk of the artifacts that could be downloaded, in the order of the dependencies.
+     */
+    @Incubating(since = "8.88.0")
+    public List<Path> downloadArtifacts(Collection<ResolvedDependency> dependencies, int parallelism) {
+        Map<String, ResolvedDependency> distinct = new LinkedHashMap<>();
+        for (ResolvedDependency dependency : dependencies) {
+            distinct.putIfAbsent(artifactKey(dependency), dependency);
+        }
+        if (distinct.isEmpty()) {
+            return emptyList();
+        }
+
+        ThreadPoolExecutor executor = ThreadPools.newBoundedDaemonPool("rewrite-maven-artifact-download",
+                Math.max(1, Math.min(parallelism, distinct.size())));
+        try {
+            List<CompletableFuture<@Nullable Path>> downloads = new ArrayList<>(distinct.size());
+            for (Map.Entry<String, ResolvedDependency> keyToDependency : distinct.entrySet()) {
+                String key = keyToDependency.getKey();
+                CompletableFuture<@Nullable Path> download = new CompletableFuture<>();
+                CompletableFuture<@Nullable Path> inFlightDownload = inFlight.putIfAbsent(key, download);
+                if (inFlightDownload != null) {
+                    downloads.add(inFlightDownload);
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        download.complete(downloadArtifact(keyToDependency.getValue(), true));
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                        download.complete(null);
+                    } finally {
+                        inFlight.remove(key, download);
+                    }
+                });
+                downloads.add(download);
+            }
+
+            Set<Path> paths = new LinkedHashSet<>();
+            for (CompletableFuture<@Nullable Path> download : downloads) {
+                Path path = download.join();
+                if (path != null) {
+                    paths.add(path);
+                }
+            }
+            return new ArrayList<>(paths);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private @Nullable Path downloadArtifact(ResolvedDependency dependency, boolean verifyChecksum) {
         if (dependency.getRequested().getType() != null && !"jar".equals(dependency.getRequested().getType())) {
             return null;
         }
+        // a cache that discards the stream without closing it would otherwise leave the connection open
+        AtomicReference<@Nullable InputStream> opened = new AtomicReference<>();
+        try {
+            return computeArtifact(dependency, verifyChecksum, opened);
+        } finally {
+            InputStream bodyStream = opened.get();
+            if (bodyStream != null) {
+                try {
+                    bodyStream.close();
+                } catch (IOException e) {
+                    onError.accept(e);
+                }
+            }
+        }
+    }
+
+    private @Nullable Path computeArtifact(ResolvedDependency dependency, boolean verifyChecksum,
+                                           AtomicReference<@Nullable InputStream> opened) {
         return mavenArtifactCache.computeArtifact(dependency, () -> {
             String baseUri = requireNonNull(dependency.getRepository(),
                     String.format("Repository for dependency '%s' was null.", dependency)).getUri();
@@ -146,58 +235,93 @@ public MavenArtifactDownloader(MavenArtifactCache mavenArtifactCache,
             } else {
                 try {
                     MavenRepository repository = dependency.getRepository();
-                    // Mirror Apache Maven's DeferredCredentialsProvider: anonymous first, unless this host has
-                    // already required credentials in this session, in which case authenticate preemptively.
-                    Set<String> authenticationRequiredEndpoints = MavenExecutionContextView.view(ctx).getAuthenticationRequiredEndpoints();
-                    String endpoint = endpointOrNull(uri);
-                    boolean preemptive = hasAuthentication(repository) && endpoint != null &&
-                                         authenticationRequiredEndpoints.contains(endpoint);
-                    byte[] responseBytes = null;
-                    int responseCode;
-                    HttpSender.Request firstRequest = preemptive ?
-                            applyAuthentication(repository, httpSender.get(uri)).build() :
-                            httpSender.get(uri).build();
-                    try (HttpSender.Response response = Failsafe.with(retryPolicy).get(() -> httpSender.send(firstRequest));
-                         InputStream body = response.getBody()) {
-                        responseCode = response.getCode();
-                        if (response.isSuccessful() && body != null) {
-                            responseBytes = readAllBytes(body);
-                        }
-                    }
-                    // Retry with credentials if the anonymous request failed with a client error
-                    if (responseBytes == null && !preemptive && isClientSideError(responseCode) && hasAuthentication(repository)) {
-                        HttpSender.Request.Builder request = applyAuthentication(repository, httpSender.get(uri));
-                        try (HttpSender.Response response = Failsafe.with(retryPolicy).get(() -> httpSender.send(request.build()));
-                             InputStream body = response.getBody()) {
-                            responseCode = response.getCode();
-                            if (response.isSuccessful() && body != null) {
-                                responseBytes = readAllBytes(body);
-                            }
-                        }
-                        if (responseBytes != null && endpoint != null) {
-                            // Remember so later artifacts from this host authenticate preemptively
-                            authenticationRequiredEndpoints.add(endpoint);
-                        }
-                    }
-                    if (responseBytes == null) {
+                    // fetched first, so that the artifact's response is never left open by a failed checksum request
+                    String sha1 = verifyChecksum ? fetchChecksum(repository, uri + ".sha1") : null;
+                    Fetched fetched = fetch(repository, uri);
+                    if (fetched.response == null) {
                         onError.accept(new MavenDownloadingException(String.format("Unable to download dependency %s:%s:%s%s from %s. Response was %d",
                                 dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion(),
                                 dependency.getClassifier() == null ? "" : ":" + dependency.getClassifier(),
-                                uri, responseCode), null,
+                                uri, fetched.responseCode), null,
                                 dependency.getRequested().getGav()));
                         return null;
                     }
-                    bodyStream = new ByteArrayInputStream(responseBytes);
+                    bodyStream = new ResponseInputStream(fetched.response, uri, sha1);
                 } catch (Throwable t) {
                     Throwable cause = t instanceof FailsafeException && t.getCause() != null ? t.getCause() : t;
                     throw new MavenDownloadingException("Unable to download dependency", cause,
                             dependency.getRequested().getGav());
                 }
             }
+            opened.set(bodyStream);
             return bodyStream;
         }, onError);
     }
 
+    /**
+     * Requests {@code uri} anonymously first, mirroring Apache Maven's DeferredCredentialsProvider, unless this host has
+     * already required credentials in this session, in which case it authenticates preemptively.
+     *
+     * @return The successful response, still to be read and closed, or the code of the last unsuccessful one.
+     */
+    private Fetched fetch(MavenRepository repository, String uri) {
+        Set<String> authenticationRequiredEndpoints = MavenExecutionContextView.view(ctx).getAuthenticationRequiredEndpoints();
+        String endpoint = endpointOrNull(uri);
+        boolean preemptive = hasAuthentication(repository) && endpoint != null &&
+                             authenticationRequiredEndpoints.contains(endpoint);
+        HttpSender.Request firstRequest = preemptive ?
+                applyAuthentication(repository, httpSender.get(uri)).build() :
+                httpSender.get(uri).build();
+        HttpSender.Response response = Failsafe.with(retryPolicy).get(() -> httpSender.send(firstRequest));
+        if (response.isSuccessful()) {
+            return new Fetched(response, response.getCode());
+        }
+        int responseCode = response.getCode();
+        response.close();
+
+        // Retry with credentials if the anonymous request failed with a client error
+        if (!preemptive && isClientSideError(responseCode) && hasAuthentication(repository)) {
+            HttpSender.Request.Builder request = applyAuthentication(repository, httpSender.get(uri));
+            response = Failsafe.with(retryPolicy).get(() -> httpSender.send(request.build()));
+            if (response.isSuccessful()) {
+                if (endpoint != null) {
+                    // Remember so later artifacts from this host authenticate preemptively
+                    authenticationRequiredEndpoints.add(endpoint);
+                }
+                return new Fetched(response, response.getCode());
+            }
+            responseCode = response.getCode();
+            response.close();
+        }
+        return new Fetched(null, responseCode);
+    }
+
+    /**
+     * @return The hex encoded SHA-1 checksum the repository publishes for an artifact, or {@code null} when it
+     * publishes none or it can't be fetched, in which case the artifact is downloaded without verification.
+     */
+    private @Nullable String fetchChecksum(MavenRepository repository, String checksumUri) {
+        try {
+            Fetched fetched = fetch(repository, checksumUri);
+            if (fetched.response == null) {
+                return null;
+            }
+            try (HttpSender.Response response = fetched.response;
+                 InputStream body = requireNonNull(response.getBody())) {
+                // either just the checksum or, as written by some tools, the checksum followed by the file name
+                String checksum = new String(readAllBytes(body), StandardCharsets.UTF_8).trim();
+                int end = 0;
+                while (end < checksum.length() && !Character.isWhitespace(checksum.charAt(end))) {
+                    end++;
+                }
+                checksum = checksum.substring(0, end).toLowerCase();
+                return checksum.length() == 40 ? checksum : null;
+            }
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
     private HttpSender.Request.Builder applyAuthentication(MavenRepository repository, HttpSender.Request.Builder request) {
         for (MavenSettings.HttpHeader header : resolveHttpHeaders(repository)) {
             request.withHeader(header.getName(), header.getValue());
@@ -213,6 +337,14 @@ private boolean hasAuthentication(MavenRepository repository) {
         return !resolveHttpHeaders(repository).isEmpty() || resolveCredentials(repository) != null;
     }
 
+    private static String artifactKey(ResolvedDependency dependency) {
+        return (dependency.getRepository() == null ? "" : dependency.getRepository().getUri()) + ' ' +
+               dependency.getGroupId() + ':' + dependency.getArtifactId() + ':' +
+               (dependency.getDatedSnapshotVersion() == null ? dependency.getVersion() : dependency.getDatedSnapshotVersion()) +
+               (dependency.getClassifier() == null ? "" : ':' + dependency.getClassifier()) + ':' +
+               dependency.getRequested().getType();
+    }
+
     private static @Nullable String endpointOrNull(String uri) {
         URI parsed = URI.create(uri);
         String host = parsed.getHost();
@@ -255,4 +387,116 @@ private List<MavenSettings.HttpHeader> resolveHttpHeaders(MavenRepository reposi
         }
         return null;
     }
+
+    private static class Fetched {
+        final HttpSender.@Nullable Response response;
+        final int responseCode;
+
+        Fetched(HttpSender.@Nullable Response response, int responseCode) {
+            this.response = response;
+            this.responseCode = responseCode;
+        }
+    }
+
+    /**
+     * The body of a response, streamed to the artifact cache and closing the response once the cache is done with
+     * it. When a checksum is expected, reaching the end of a body that doesn't match it fails the read, so that
+     * the cache discards what it wrote rather than keeping a corrupt artifact.
+     */
+    private static class ResponseInputStream extends FilterInputStream {
+        private final HttpSender.Response response;
+        private final String uri;
+
+        private final @Nullable String expectedSha1;
+        private final @Nullable MessageDigest digest;
+
+        /**
+         * Set once the end of the body is reached, since the digest can only be computed once.
+         */
+        private boolean verified;
+        private @Nullable IOException checksumMismatch;
+
+        ResponseInputStream(HttpSender.Response response, String uri, @Nullable String expectedSha1) {
+            super(requireNonNull(response.getBody()));
+            this.response = response;
+            this.uri = uri;
+            this.expectedSha1 = expectedSha1;
+            try {
+                this.digest = expectedSha1 == null ? null : MessageDigest.getInstance("SHA-1");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                if (digest != null) {
+                    digest.update((byte) b);
+                }
+            } else {
+                verify();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                if (digest != null) {
+                    digest.update(b, off, read);
+                }
+            } else if (read < 0) {
+                verify();
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // the checksum covers every byte, so skipped bytes are read too
+            byte[] buffer = new byte[(int) Math.min(n, 8192)];
+            long skipped = 0;
+            while (skipped < n) {
+                int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+                if (read < 0) {
+                    break;
+                }
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void verify() throws IOException {
+            if (digest == null) {
+                return;
+            }
+            if (!verified) {
+                verified = true;
+                String actual = HashUtils.hex(digest.digest());
+                if (!actual.equals(expectedSha1)) {
+                    checksumMismatch = new IOException("Checksum of " + uri + " was " + actual + " rather than the published " + expectedSha1);
+                }
+            }
+            if (checksumMismatch != null) {
+                throw checksumMismatch;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                response.close();
+            }
+        }
+    }
 }
@@ -5279,4 +5279,110 @@ void directoryStyleRelativePathWithCiFriendlyVersion() {
           )
         );
     }
+
+    @Test
+    void concurrentResolutionMatchesSequential() {
+        List<Parser.Input> inputs = List.of(
+          Parser.Input.fromString(Path.of("app", "pom.xml"),
+            """
+              <project>
+                  <parent>
+                      <groupId>com.example</groupId>
+                      <artifactId>parent</artifactId>
+                      <version>1.0.0</version>
+                  </parent>
+                  <artifactId>app</artifactId>
+                  <dependencies>
+                      <dependency>
+                          <groupId>com.example</groupId>
+                          <artifactId>core</artifactId>
+                          <version>${project.version}</version>
+                      </dependency>
+                  </dependencies>
+              </project>
+              """),
+          Parser.Input.fromString(Path.of("core", "pom.xml"),
+            """
+              <project>
+                  <parent>
+                      <groupId>com.example</groupId>
+                      <artifactId>parent</artifactId>
+                      <version>1.0.0</version>
+                  </parent>
+                  <artifactId>core</artifactId>
+                  <dependencies>
+                      <dependency>
+                          <groupId>junit</groupId>
+                          <artifactId>junit</artifactId>
+                      </dependency>
+                  </dependencies>
+              </project>
+              """),
+          Parser.Input.fromString(Path.of("pom.xml"),
+            """
+              <project>
+                  <groupId>com.example</groupId>
+                  <artifactId>parent</artifactId>
+                  <version>1.0.0</version>
+                  <packaging>pom</packaging>
+                  <modules>
+                      <module>core</module>
+                      <module>app</module>
+                  </modules>
+                  <dependencyManagement>
+                      <dependencies>
+                          <dependency>
+                              <groupId>junit</groupId>
+                              <artifactId>junit</artifactId>
+                              <version>4.13.2</version>
+                          </dependency>
+                      </dependencies>
+                  </dependencyManagement>
+              </project>
+              """)
+        );
+
+        List<SourceFile> sequential = MavenParser.builder().build()
+          .parseInputs(inputs, null, new InMemoryExecutionContext(Throwable::printStackTrace)).toList();
+        Set<String> containingDependencyEvents = new HashSet<>();
+        ExecutionContext concurrentCtx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        MavenExecutionContextView.view(concurrentCtx).setResolutionListener(new ResolutionEventListener() {
+            @Override
+            public void dependency(Scope scope, ResolvedDependency resolvedDependency, ResolvedPom containing) {
+                containingDependencyEvents.add(containing.getArtifactId());
+            }
+        });
+        List<SourceFile> concurrent = MavenParser.builder().resolutionParallelism(4).build()
+          .parseInputs(inputs, null, concurrentCtx).toList();
+
+        assertThat(concurrent).extracting(SourceFile::getSourcePath)
+          .containsExactlyElementsOf(sequential.stream().map(SourceFile::getSourcePath).toList());
+        for (int i = 0; i < sequential.size(); i++) {
+            MavenResolutionResult expected = sequential.get(i).getMarkers().findFirst(MavenResolutionResult.class).orElseThrow();
+            MavenResolutionResult actual = concurrent.get(i).getMarkers().findFirst(MavenResolutionResult.class).orElseThrow();
+            assertThat(actual.getPom().getGav()).isEqualTo(expected.getPom().getGav());
+            assertThat(actual.getParent() == null ? null : actual.getParent().getPom().getGav())
+              .isEqualTo(expected.getParent() == null ? null : expected.getParent().getPom().getGav());
+            assertThat(actual.getDependencies().keySet()).isEqualTo(expected.getDependencies().keySet());
+            for (Scope scope : expected.getDependencies().keySet()) {
+                assertThat(dependencyGraph(actual.getDependencies().get(scope)))
+                  .as(scope.name())
+                  .isEqualTo(dependencyGraph(expected.getDependencies().get(scope)));
+            }
+        }
+        // no module's events were cleared by another one starting over
+        assertThat(containingDependencyEvents).contains("app", "core");
+    }
+
+    private static String dependencyGraph(List<ResolvedDependency> dependencies) {
+        StringBuilder graph = new StringBuilder();
+        for (ResolvedDependency dependency : dependencies) {
+            graph.append("  ".repeat(dependency.getDepth()))
+              .append(dependency.getGav())
+              .append(' ').append(dependency.getRequested().getScope())
+              .append('\n')
+              .append(dependencyGraph(dependency.getDependencies()));
+        }
+        return graph.toString();
+    }
 }
@@ -17,8 +17,13 @@
 
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaParser;
+import org.openrewrite.maven.internal.MavenPomDownloader;
 import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.maven.tree.ResolvedDependency;
+import org.openrewrite.maven.tree.Scope;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
@@ -79,4 +84,46 @@ void mavenUserPropertiesExistAfterUpdateMavenModel() {
           )
         );
     }
+
+    @Test
+    void scopesUnaffectedByAnEditAreReused() throws Exception {
+        var ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        var document = MavenParser.builder().build().parse(ctx,
+          """
+            <project>
+                <groupId>com.mycompany.app</groupId>
+                <artifactId>my-app</artifactId>
+                <version>1</version>
+                <dependencies>
+                    <dependency>
+                        <groupId>com.google.guava</groupId>
+                        <artifactId>guava</artifactId>
+                        <version>29.0-jre</version>
+                    </dependency>
+                    <dependency>
+                        <groupId>junit</groupId>
+                        <artifactId>junit</artifactId>
+                        <version>4.13.1</version>
+                        <scope>test</scope>
+                    </dependency>
+                </dependencies>
+            </project>
+            """
+        ).findFirst().orElseThrow();
+        var previous = document.getMarkers().findFirst(MavenResolutionResult.class).orElseThrow();
+        var requested = previous.getPom().getRequested();
+        var edited = requested.withDependencies(ListUtils.map(requested.getDependencies(), d ->
+          "junit".equals(d.getArtifactId()) ? d.withGav(d.getGav().withVersion("4.13.2")) : d));
+        var downloader = new MavenPomDownloader(previous.getProjectPoms(), ctx);
+
+        var updated = previous.withPom(previous.getPom().withRequested(edited).resolve(ctx, downloader))
+          .resolveDependencies(previous, downloader, ctx);
+
+        assertThat(updated.getDependencies().get(Scope.Compile)).isSameAs(previous.getDependencies().get(Scope.Compile));
+        assertThat(updated.getDependencies().get(Scope.Runtime)).isSameAs(previous.getDependencies().get(Scope.Runtime));
+        assertThat(updated.findDependencies("junit", "junit", Scope.Test))
+          .singleElement()
+          .extracting(ResolvedDependency::getVersion)
+          .isEqualTo("4.13.2");
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.maven.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.maven.tree.MavenRepository;
+import org.openrewrite.maven.tree.ResolvedGroupArtifactVersion;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NegativeResultMavenPomCacheTest {
+
+    private static final ResolvedGroupArtifactVersion GAV = new ResolvedGroupArtifactVersion(
+      "https://repo.example.com/maven/", "com.example", "lib", "1.0", null);
+
+    // a new state file reads what an earlier process wrote, as the next run would
+    private static NegativeResultMavenPomCache nextRun(Path dir, Duration timeToLive) {
+        return new NegativeResultMavenPomCache(new InMemoryMavenPomCache(), new RepositoryStateFile(dir), timeToLive);
+    }
+
+    @Test
+    void missingPomIsRememberedAcrossRuns(@TempDir Path dir) throws Exception {
+        nextRun(dir, Duration.ofHours(1)).putMissingPom(GAV);
+
+        assertThat(nextRun(dir, Duration.ofHours(1)).getPom(GAV)).isEmpty();
+        assertThat(nextRun(dir, Duration.ofHours(1)).getPom(GAV.withRepository("https://other.example.com/"))).isNull();
+    }
+
+    @Test
+    void otherFailuresAreOnlyRememberedInMemory(@TempDir Path dir) throws Exception {
+        NegativeResultMavenPomCache firstRun = nextRun(dir, Duration.ofHours(1));
+        firstRun.putPom(GAV, null);
+
+        assertThat(firstRun.getPom(GAV)).isEmpty();
+        assertThat(nextRun(dir, Duration.ofHours(1)).getPom(GAV)).isNull();
+    }
+
+    @Test
+    void expiredMissIsForgotten(@TempDir Path dir) throws Exception {
+        nextRun(dir, Duration.ZERO).putMissingPom(GAV);
+
+        assertThat(nextRun(dir, Duration.ofHours(1)).getPom(GAV)).isNull();
+    }
+
+    @Test
+    void snapshotMissesAreNotPersisted(@TempDir Path dir) throws Exception {
+        ResolvedGroupArtifactVersion snapshot = GAV.withVersion("1.0-SNAPSHOT");
+        nextRun(dir, Duration.ofHours(1)).putMissingPom(snapshot);
+
+        assertThat(nextRun(dir, Duration.ofHours(1)).getPom(snapshot)).isNull();
+    }
+
+    @Test
+    void repositoryNormalizationIsRememberedWithoutCredentials(@TempDir Path dir) {
+        MavenRepository declared = MavenRepository.builder()
+          .id("example")
+          .uri("http://repo.example.com/maven")
+          .username("user")
+          .password("secret")
+          .build();
+        MavenRepository unreachable = MavenRepository.builder().id("dead").uri("http://dead.example.com").build();
+        NegativeResultMavenPomCache firstRun = nextRun(dir, Duration.ofHours(1));
+        firstRun.putNormalizedRepository(declared, declared.withUri("https://repo.example.com/maven/"));
+        firstRun.putNormalizedRepository(unreachable, null);
+
+        NegativeResultMavenPomCache secondRun = nextRun(dir, Duration.ofHours(1));
+        assertThat(secondRun.getNormalizedRepository(declared))
+          .map(MavenRepository::getUri)
+          .hasValue("https://repo.example.com/maven/");
+        assertThat(secondRun.getNormalizedRepository(unreachable)).isEqualTo(Optional.empty());
+        assertThat(dir.resolve("repository-state.tsv")).content().doesNotContain("secret");
+    }
+}
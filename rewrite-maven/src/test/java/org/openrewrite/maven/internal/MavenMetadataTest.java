@@ -19,8 +19,11 @@
 import org.junit.jupiter.api.Test;
 import org.openrewrite.Issue;
 import org.openrewrite.maven.tree.MavenMetadata;
+import org.openrewrite.semver.VersionComparator;
+import org.openrewrite.semver.XRange;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -101,4 +104,18 @@ void deserializeSnapshotMetadata() throws Exception {
     void deserializeMetadataWithEmptyVersions() throws Exception {
         assertThat(MavenMetadata.parse("<?xml version=\"1.0\" encoding=\"UTF-8\"?><metadata/>\n".getBytes())).isNull();
     }
+
+    @Test
+    void equalSelectorsShareOneSort() {
+        MavenMetadata.Versioning versioning = new MavenMetadata.Versioning(
+          List.of("2.4.1", "2.5.0", "2.4.2", "3.0.0"), null, null, null, null, null);
+
+        VersionComparator first = XRange.build("2.x", null).getValue();
+        VersionComparator second = XRange.build("2.x", null).getValue();
+        assertThat(second).isNotSameAs(first);
+
+        assertThat(versioning.getSortedVersions(second)).isSameAs(versioning.getSortedVersions(first));
+        assertThat(versioning.getSortedVersions(XRange.build("3.x", null).getValue()))
+          .isNotSameAs(versioning.getSortedVersions(first));
+    }
 }
@@ -52,11 +52,13 @@
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
 import static java.util.Collections.*;
+import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
@@ -98,6 +100,103 @@ void normalizeRepository(String originalUrl, String expectedUrl) throws Throwabl
         assertThat(normalized.getUri()).isEqualTo(expectedUrl);
     }
 
+    @Test
+    void concurrentDownloadsOfTheSamePomAreCoalesced() throws Exception {
+        var requests = new AtomicInteger();
+        try (var server = new MockWebServer()) {
+            server.setDispatcher(new SlowPomDispatcher(requests, new AtomicInteger(), new AtomicInteger()));
+            server.start();
+            var ctx = new InMemoryExecutionContext();
+            var downloader = new MavenPomDownloader(ctx);
+            var repository = MavenRepository.builder().id("slow").uri(server.url("/").toString()).knownToExist(true).build();
+
+            List<Pom> poms = downloadConcurrently(8, i -> downloader.download(
+              new GroupArtifactVersion("com.example", "lib", "1.0"), null, null, List.of(repository)));
+
+            assertThat(poms).hasSize(8).allMatch(pom -> "lib".equals(pom.getArtifactId()));
+            assertThat(requests).hasValue(1);
+        }
+    }
+
+    @Test
+    void concurrentRequestsAreLimitedPerRepository() throws Exception {
+        var concurrent = new AtomicInteger();
+        var maxConcurrent = new AtomicInteger();
+        try (var server = new MockWebServer()) {
+            server.setDispatcher(new SlowPomDispatcher(new AtomicInteger(), concurrent, maxConcurrent));
+            server.start();
+            var ctx = MavenExecutionContextView.view(new InMemoryExecutionContext());
+            ctx.setMaxConcurrentRequestsPerRepository(2);
+            var downloader = new MavenPomDownloader(ctx);
+            var repository = MavenRepository.builder().id("slow").uri(server.url("/").toString()).knownToExist(true).build();
+
+            downloadConcurrently(6, i -> downloader.download(
+              new GroupArtifactVersion("com.example", "lib", "1." + i), null, null, List.of(repository)));
+
+            assertThat(maxConcurrent.get()).isBetween(1, 2);
+        }
+    }
+
+    private static List<Pom> downloadConcurrently(int n, DownloadFunction download) throws Exception {
+        var executor = Executors.newFixedThreadPool(n);
+        try {
+            var start = new CountDownLatch(1);
+            List<Future<Pom>> futures = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return download.apply(index);
+                }));
+            }
+            start.countDown();
+            List<Pom> poms = new ArrayList<>();
+            for (Future<Pom> future : futures) {
+                poms.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return poms;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private interface DownloadFunction {
+        Pom apply(int index) throws MavenDownloadingException;
+    }
+
+    private static class SlowPomDispatcher extends Dispatcher {
+        private final AtomicInteger requests;
+        private final AtomicInteger concurrent;
+        private final AtomicInteger maxConcurrent;
+
+        SlowPomDispatcher(AtomicInteger requests, AtomicInteger concurrent, AtomicInteger maxConcurrent) {
+            this.requests = requests;
+            this.concurrent = concurrent;
+            this.maxConcurrent = maxConcurrent;
+        }
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+            requests.incrementAndGet();
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(200);
+                String[] path = requireNonNull(request.getPath()).split("/");
+                //language=xml
+                return new MockResponse().setResponseCode(200).setBody(
+                  """
+                    <project>
+                        <groupId>com.example</groupId>
+                        <artifactId>lib</artifactId>
+                        <version>%s</version>
+                    </project>
+                    """.formatted(path[path.length - 2]));
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        }
+    }
+
     /**
      * Documented in <a href="https://maven.apache.org/guides/mini/guide-multiple-repositories.html">Maven's guide</a>.
      * Effective Maven settings take precedence over the local effective build POM.
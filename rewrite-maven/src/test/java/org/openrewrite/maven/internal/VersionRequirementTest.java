@@ -74,4 +74,19 @@ void malformedVersionsAreSkipped() throws Exception {
         assertThat(VersionRequirement.fromVersion("[1,4)", 0).resolve(this::availableWithMalformed))
                 .isEqualTo("3");
     }
+
+    @Test
+    void unorderedVersionsResolveTheSameAsOrdered() throws Exception {
+        assertThat(VersionRequirement.fromVersion("[2,7)", 0).resolve(() -> List.of("8", "3", "6.1", "1", "6", "10", "6.0")))
+          .isEqualTo("6.1");
+        assertThat(VersionRequirement.fromVersion("(,5]", 0).resolve(() -> List.of("5.0", "9", "5", "2")))
+          .as("the first listed of versions that compare equal wins")
+          .isEqualTo("5.0");
+    }
+
+    @Test
+    void releaseSkipsSnapshots() throws Exception {
+        assertThat(VersionRequirement.fromVersion("RELEASE", 0).resolve(() -> List.of("1.0", "2.0-SNAPSHOT", "1.1")))
+          .isEqualTo("1.1");
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.maven.tree;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResolvedDependencyInternerTest {
+
+    private static ResolvedDependency dep(String artifactId, int depth, List<GroupArtifact> exclusions, ResolvedDependency... children) {
+        return ResolvedDependency.builder()
+          .gav(new ResolvedGroupArtifactVersion(null, "com.example", artifactId, "1.0", null))
+          .requested(Dependency.builder()
+            .gav(new GroupArtifactVersion("com.example", artifactId, "1.0"))
+            .exclusions(exclusions)
+            .build())
+          .dependencies(List.of(children))
+          .depth(depth)
+          .build();
+    }
+
+    private static ResolvedDependency dep(String artifactId, int depth, ResolvedDependency... children) {
+        return dep(artifactId, depth, emptyList(), children);
+    }
+
+    @Test
+    void identicalSubtreesAreShared() {
+        ResolvedDependencyInterner interner = new ResolvedDependencyInterner();
+        List<ResolvedDependency> compile = interner.intern(List.of(dep("web", 0, dep("core", 1, dep("util", 2)))));
+        List<ResolvedDependency> test = interner.intern(List.of(dep("web", 0, dep("core", 1, dep("util", 2))), dep("junit", 0)));
+
+        assertThat(test.getFirst()).isSameAs(compile.getFirst());
+        // only weakly referenced, so the interned nodes are kept reachable from the lists above
+        assertThat(interner.size()).isEqualTo(4);
+
+        interner.clear();
+        assertThat(interner.size()).isZero();
+    }
+
+    @Test
+    void differentSubtreesAreNotShared() {
+        ResolvedDependencyInterner interner = new ResolvedDependencyInterner();
+        ResolvedDependency a = interner.intern(List.of(dep("web", 0, dep("core", 1, dep("util", 2))))).getFirst();
+        ResolvedDependency b = interner.intern(List.of(dep("web", 0, dep("core", 1)))).getFirst();
+        ResolvedDependency c = interner.intern(List.of(dep("web", 0, List.of(new GroupArtifact("com.example", "util")), dep("core", 1)))).getFirst();
+
+        assertThat(b).isNotSameAs(a);
+        assertThat(c).isNotSameAs(b);
+        // the leaf core at depth 1 is still shared
+        assertThat(c.getDependencies().getFirst()).isSameAs(b.getDependencies().getFirst());
+    }
+
+    @Test
+    void cyclesAreLeftAsTheyAre() {
+        ResolvedDependency a = dep("a", 0);
+        ResolvedDependency b = dep("b", 1, a);
+        List<ResolvedDependency> aDependencies = new ArrayList<>();
+        aDependencies.add(b);
+        a.unsafeSetDependencies(aDependencies);
+
+        List<ResolvedDependency> interned = new ResolvedDependencyInterner().intern(List.of(a));
+
+        assertThat(interned.getFirst()).isSameAs(a);
+        assertThat(a.getDependencies().getFirst()).isSameAs(b);
+        assertThat(b.getDependencies().getFirst()).isSameAs(a);
+    }
+}
@@ -19,6 +19,7 @@
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.openrewrite.ExecutionContext;
@@ -32,10 +33,19 @@
 import org.openrewrite.maven.tree.*;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -415,6 +425,132 @@ public MockResponse dispatch(RecordedRequest request) {
         }
     }
 
+    @Test
+    void downloadsClasspathOnceAndVerifiesChecksums(@TempDir Path tempDir) throws Exception {
+        byte[] jarBytes = {0x50, 0x4B, 0x03, 0x04};
+        String sha1 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1").digest(jarBytes));
+        List<String> requested = new CopyOnWriteArrayList<>();
+
+        try (MockWebServer mockRepo = new MockWebServer()) {
+            mockRepo.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    String path = requireNonNull(request.getPath());
+                    requested.add(path);
+                    if (path.endsWith(".jar.sha1")) {
+                        return new MockResponse().setResponseCode(200).setBody(sha1 + "  " + path);
+                    }
+                    return new MockResponse().setResponseCode(200)
+                      .setBody(new okio.Buffer().write(jarBytes));
+                }
+            });
+            mockRepo.start();
+
+            String repoUrl = "http://" + mockRepo.getHostName() + ":" + mockRepo.getPort();
+            AtomicReference<Throwable> error = new AtomicReference<>();
+            MavenArtifactDownloader downloader = new MavenArtifactDownloader(
+              new LocalMavenArtifactCache(tempDir), null, error::set, new InMemoryExecutionContext());
+            MavenRepository repo = new MavenRepository(
+              "mock-repo", repoUrl, "true", "false", true, null, null, null, false);
+
+            // the same artifact on the classpaths of two modules
+            List<Path> classpath = downloader.downloadArtifacts(List.of(
+              resolvedDependency(repo, repoUrl, "lib-a"),
+              resolvedDependency(repo, repoUrl, "lib-b"),
+              resolvedDependency(repo, repoUrl, "lib-a")), 4);
+
+            assertThat(error.get()).isNull();
+            assertThat(classpath).hasSize(2).allMatch(Files::exists);
+            assertThat(classpath.get(0).getFileName()).hasToString("lib-a-1.0.0.jar");
+            assertThat(requested).hasSize(4)
+              .filteredOn(path -> path.endsWith("lib-a-1.0.0.jar")).hasSize(1);
+        }
+    }
+
+    @Test
+    void artifactNotMatchingItsChecksumIsNotCached(@TempDir Path tempDir) throws Exception {
+        try (MockWebServer mockRepo = new MockWebServer()) {
+            mockRepo.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    if (requireNonNull(request.getPath()).endsWith(".jar.sha1")) {
+                        return new MockResponse().setResponseCode(200).setBody("0".repeat(40));
+                    }
+                    return new MockResponse().setResponseCode(200)
+                      .setBody(new okio.Buffer().write(new byte[]{0x50, 0x4B}));
+                }
+            });
+            mockRepo.start();
+
+            String repoUrl = "http://" + mockRepo.getHostName() + ":" + mockRepo.getPort();
+            AtomicReference<Throwable> error = new AtomicReference<>();
+            MavenArtifactDownloader downloader = new MavenArtifactDownloader(
+              new LocalMavenArtifactCache(tempDir), null, error::set, new InMemoryExecutionContext());
+            MavenRepository repo = new MavenRepository(
+              "mock-repo", repoUrl, "true", "false", true, null, null, null, false);
+
+            List<Path> classpath = downloader.downloadArtifacts(List.of(resolvedDependency(repo, repoUrl, "lib-a")), 4);
+
+            assertThat(classpath).isEmpty();
+            assertThat(error.get()).hasMessageContaining("Checksum");
+            try (Stream<Path> files = Files.walk(tempDir)) {
+                assertThat(files.filter(Files::isRegularFile)).isEmpty();
+            }
+        }
+    }
+
+    @Test
+    void endOfVerifiedBodyCanBeReadAgain(@TempDir Path tempDir) throws Exception {
+        byte[] jarBytes = {0x50, 0x4B, 0x03, 0x04};
+        String sha1 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1").digest(jarBytes));
+
+        try (MockWebServer mockRepo = new MockWebServer()) {
+            mockRepo.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    if (requireNonNull(request.getPath()).endsWith(".jar.sha1")) {
+                        return new MockResponse().setResponseCode(200).setBody(sha1);
+                    }
+                    return new MockResponse().setResponseCode(200)
+                      .setBody(new okio.Buffer().write(jarBytes));
+                }
+            });
+            mockRepo.start();
+
+            String repoUrl = "http://" + mockRepo.getHostName() + ":" + mockRepo.getPort();
+            Path jar = tempDir.resolve("lib-a.jar");
+            // reads past the end twice and leaves closing the stream to the downloader
+            MavenArtifactCache cache = new MavenArtifactCache() {
+                @Override
+                public @Nullable Path getArtifact(ResolvedDependency dependency) {
+                    return null;
+                }
+
+                @Override
+                public Path putArtifact(ResolvedDependency dependency, InputStream is, Consumer<Throwable> onError) {
+                    try {
+                        Files.write(jar, is.readAllBytes());
+                        assertThat(is.read()).isEqualTo(-1);
+                        return jar;
+                    } catch (IOException e) {
+                        onError.accept(e);
+                        return null;
+                    }
+                }
+            };
+            AtomicReference<Throwable> error = new AtomicReference<>();
+            MavenArtifactDownloader downloader = new MavenArtifactDownloader(
+              cache, null, error::set, new InMemoryExecutionContext());
+            MavenRepository repo = new MavenRepository(
+              "mock-repo", repoUrl, "true", "false", true, null, null, null, false);
+
+            List<Path> classpath = downloader.downloadArtifacts(List.of(resolvedDependency(repo, repoUrl, "lib-a")), 4);
+
+            assertThat(error.get()).isNull();
+            assertThat(classpath).containsExactly(jar);
+        }
+    }
+
     private static ResolvedDependency resolvedDependency(MavenRepository repo, String repoUrl, String artifactId) {
         GroupArtifactVersion gav = new GroupArtifactVersion("com.example", artifactId, "1.0.0");
         return ResolvedDependency.builder()
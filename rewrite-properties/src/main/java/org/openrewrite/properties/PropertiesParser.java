@@ -21,6 +21,7 @@
 import org.openrewrite.internal.EncodingDetectingInputStream;
 import org.openrewrite.marker.Markers;
 import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.tree.ParseCache;
 import org.openrewrite.tree.ParseError;
 import org.openrewrite.tree.ParsingEventListener;
 import org.openrewrite.tree.ParsingExecutionContextView;
@@ -41,8 +42,13 @@ public Stream<SourceFile> parse(@Language("properties") String... sources) {
 
     @Override
     public Stream<SourceFile> parseInputs(Iterable<Input> sourceFiles, @Nullable Path relativeTo, ExecutionContext ctx) {
+        return ParseCache.parseInputs(this, sourceFiles, relativeTo, ctx, getClass().getName(), "", true,
+                inputs -> parseUncached(inputs, relativeTo, ctx));
+    }
+
+    private Stream<SourceFile> parseUncached(List<Input> inputs, @Nullable Path relativeTo, ExecutionContext ctx) {
         ParsingEventListener parsingListener = ParsingExecutionContextView.view(ctx).getParsingListener();
-        return acceptedInputs(sourceFiles).map(input -> {
+        return inputs.stream().map(input -> {
             parsingListener.startedParsing(input);
             Path path = input.getRelativePath(relativeTo);
             try (EncodingDetectingInputStream is = input.getSource(ctx)) {
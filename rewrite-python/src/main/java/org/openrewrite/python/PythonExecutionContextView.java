@@ -15,8 +15,10 @@
  */
 package org.openrewrite.python;
 
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.DelegatingExecutionContext;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.python.internal.metadata.CoreMetadataCache;
 
 import java.util.List;
 
@@ -25,6 +27,7 @@
 public class PythonExecutionContextView extends DelegatingExecutionContext {
     private static final String PACKAGE_INDEXES = "org.openrewrite.python.packageIndexes";
     private static final String INDEX_CREDENTIALS = "org.openrewrite.python.indexCredentials";
+    private static final String METADATA_CACHE = "org.openrewrite.python.metadataCache";
 
     public PythonExecutionContextView(ExecutionContext delegate) {
         super(delegate);
@@ -64,4 +67,17 @@ public PythonExecutionContextView setIndexCredentials(List<PythonIndexCredential
     public List<PythonIndexCredentials> getIndexCredentials() {
         return getMessage(INDEX_CREDENTIALS, emptyList());
     }
+
+    /**
+     * A persistent cache of distribution metadata shared by lock regeneration, so that the
+     * METADATA of a given wheel or sdist is fetched once across runs rather than once per lock.
+     */
+    public PythonExecutionContextView setMetadataCache(CoreMetadataCache metadataCache) {
+        putMessage(METADATA_CACHE, metadataCache);
+        return this;
+    }
+
+    public @Nullable CoreMetadataCache getMetadataCache() {
+        return getMessage(METADATA_CACHE);
+    }
 }
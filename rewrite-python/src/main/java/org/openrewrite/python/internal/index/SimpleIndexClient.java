@@ -20,6 +20,7 @@
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jspecify.annotations.Nullable;
+import org.openrewrite.internal.ThreadPools;
 import org.openrewrite.ipc.http.HttpSender;
 import org.openrewrite.python.PythonPackageIndex;
 import org.openrewrite.python.internal.index.PythonIndexException.Reason;
@@ -33,13 +34,19 @@
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * Client for the PyPI Simple Repository API, negotiating PEP 691 JSON with a
  * PEP 503 HTML fallback. Listings are cached in memory per (index url, package).
+ * <p>
+ * {@link #prefetch} lets a lock engine list the packages it is about to need on a small bounded pool;
+ * a {@link #listFiles} call whose prefetch is in flight waits for it rather than listing again.
  */
 public class SimpleIndexClient {
     private static final String ACCEPT = "application/vnd.pypi.simple.v1+json, text/html;q=0.1";
@@ -51,7 +58,13 @@ public class SimpleIndexClient {
     private static final Pattern YANKED = Pattern.compile("(?:^|\\s)data-yanked(?:[=\\s]|$)", Pattern.CASE_INSENSITIVE);
 
     private final HttpSender httpSender;
+    private static final int PREFETCH_CONCURRENCY = 8;
+
     private final Map<String, PackageListing> cache = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<PackageListing>> inFlight = new ConcurrentHashMap<>();
+
+    private final ThreadPoolExecutor prefetchExecutor =
+            ThreadPools.newBoundedDaemonPool("python-index-prefetch", PREFETCH_CONCURRENCY);
 
     public SimpleIndexClient(HttpSender httpSender) {
         this.httpSender = httpSender;
@@ -67,6 +80,18 @@ public static String canonicalName(String name) {
     public PackageListing listFiles(PythonPackageIndex index, String canonicalName) {
         String key = index.getUrl() + "#" + canonicalName;
         PackageListing listing = cache.get(key);
+        if (listing == null) {
+            CompletableFuture<PackageListing> pending = inFlight.get(key);
+            if (pending != null) {
+                try {
+                    pending.join();
+                } catch (CompletionException ignored) {
+                    // list again below so that the failure is reported on the caller's thread
+                }
+            }
+            // a prefetch may also have completed between the two lookups
+            listing = cache.get(key);
+        }
         if (listing == null) {
             listing = fetch(index, canonicalName);
             cache.put(key, listing);
@@ -74,6 +99,32 @@ public PackageListing listFiles(PythonPackageIndex index, String canonicalName)
         return listing;
     }
 
+    /**
+     * Start listing {@code canonicalName} without waiting for it. Failures are not reported here; they
+     * surface again from the {@link #listFiles} call that needs the listing.
+     */
+    public void prefetch(PythonPackageIndex index, String canonicalName) {
+        String key = index.getUrl() + "#" + canonicalName;
+        if (cache.containsKey(key) || index.isUnresolvedPlaceholders()) {
+            return;
+        }
+        CompletableFuture<PackageListing> claimed = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, claimed) != null) {
+            return;
+        }
+        prefetchExecutor.execute(() -> {
+            try {
+                PackageListing listing = fetch(index, canonicalName);
+                cache.putIfAbsent(key, listing);
+                claimed.complete(listing);
+            } catch (Throwable t) {
+                claimed.completeExceptionally(t);
+            } finally {
+                inFlight.remove(key, claimed);
+            }
+        });
+    }
+
     private PackageListing fetch(PythonPackageIndex index, String canonicalName) {
         if (index.isUnresolvedPlaceholders()) {
             throw new PythonIndexException(Reason.UNREACHABLE, index.getUrl(),
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.python.internal.metadata;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.internal.BoundedDiskCache;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * A size-bounded, on-disk cache of {@link CoreMetadata} keyed by the sha256 of the distribution it was read
+ * from, so that regenerating many locks (or the same lock many times) reads each wheel's METADATA or sdist's
+ * PKG-INFO from the network once. A published distribution never changes under its hash, so entries are
+ * never revalidated. Entries are stored in core metadata's own header format and read back with
+ * {@link MetadataParser}. The least recently used entries are deleted once the cache grows beyond its maximum size.
+ */
+public class CoreMetadataCache {
+    private static final Pattern SHA256 = Pattern.compile("[0-9a-f]{64}");
+
+    private final BoundedDiskCache entries;
+
+    public CoreMetadataCache(Path cacheDirectory, long maximumSizeBytes) {
+        this.entries = new BoundedDiskCache(cacheDirectory, ".metadata", maximumSizeBytes);
+    }
+
+    public @Nullable CoreMetadata get(String distributionSha256) {
+        String sha256 = distributionSha256.toLowerCase(Locale.ROOT);
+        if (!SHA256.matcher(sha256).matches()) {
+            return null;
+        }
+        return entries.read(sha256, entry -> MetadataParser.parse(Files.readAllBytes(entry)));
+    }
+
+    public void put(String distributionSha256, CoreMetadata metadata) {
+        String sha256 = distributionSha256.toLowerCase(Locale.ROOT);
+        if (SHA256.matcher(sha256).matches()) {
+            entries.write(sha256, out -> out.write(format(metadata).getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public long getSizeBytes() {
+        return entries.getSizeBytes();
+    }
+
+    /**
+     * The subset of core metadata the cache keeps, as header lines {@link MetadataParser} reads back unchanged.
+     */
+    static String format(CoreMetadata metadata) {
+        StringBuilder sb = new StringBuilder();
+        header(sb, "Metadata-Version", metadata.getMetadataVersion());
+        header(sb, "Name", metadata.getName());
+        header(sb, "Version", metadata.getVersion());
+        if (metadata.getSummary() != null) {
+            header(sb, "Summary", metadata.getSummary());
+        }
+        if (metadata.getRequiresPython() != null) {
+            header(sb, "Requires-Python", metadata.getRequiresPython());
+        }
+        for (String requirement : metadata.getRequiresDist()) {
+            header(sb, "Requires-Dist", requirement);
+        }
+        for (String extra : metadata.getProvidesExtra()) {
+            header(sb, "Provides-Extra", extra);
+        }
+        for (String field : metadata.getDynamic()) {
+            header(sb, "Dynamic", field);
+        }
+        return sb.toString();
+    }
+
+    private static void header(StringBuilder sb, String field, String value) {
+        sb.append(field).append(": ").append(value).append('\n');
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.python.internal.metadata;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.internal.ThreadPools;
+import org.openrewrite.ipc.http.HttpSender;
+import org.openrewrite.python.internal.index.DistFilename;
+import org.openrewrite.python.internal.index.PackageFile;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Reads the {@link CoreMetadata} of distribution files for the lock engines: a wheel through its PEP 658
+ * sidecar or else a lazy (ranged) read of the wheel, an sdist through its PKG-INFO. Each file is read at
+ * most once per client unless it fails, a {@link CoreMetadataCache} (when given) is consulted by the file's sha256 first,
+ * and {@link #prefetchWheel(PackageFile)} reads ahead on a small bounded pool, so a read already in flight
+ * is waited for rather than repeated.
+ */
+public class DistributionMetadataClient {
+    private static final int PREFETCH_CONCURRENCY = 8;
+
+    private final HttpSender http;
+    private final @Nullable CoreMetadataCache diskCache;
+    private final Map<String, CompletableFuture<@Nullable CoreMetadata>> reads = new ConcurrentHashMap<>();
+
+    private final ThreadPoolExecutor prefetchExecutor =
+            ThreadPools.newBoundedDaemonPool("python-metadata-prefetch", PREFETCH_CONCURRENCY);
+
+    public DistributionMetadataClient(HttpSender http, @Nullable CoreMetadataCache diskCache) {
+        this.http = http;
+        this.diskCache = diskCache;
+    }
+
+    /**
+     * The wheel to read a version's dependency metadata from: the first wheel, unless a later one
+     * advertises a PEP 658 sidecar and the first does not.
+     */
+    public static @Nullable PackageFile preferredWheel(List<PackageFile> files) {
+        PackageFile wheel = null;
+        for (PackageFile file : files) {
+            DistFilename dist = DistFilename.parse(file.getFilename());
+            if (dist != null && dist.getType() == DistFilename.Type.WHEEL &&
+                    (wheel == null || (!Boolean.TRUE.equals(wheel.getCoreMetadataAvailable()) &&
+                            Boolean.TRUE.equals(file.getCoreMetadataAvailable())))) {
+                wheel = file;
+            }
+        }
+        return wheel;
+    }
+
+    public @Nullable CoreMetadata wheel(PackageFile wheel) {
+        return read(wheel, true);
+    }
+
+    public @Nullable CoreMetadata sdist(PackageFile sdist) {
+        return read(sdist, false);
+    }
+
+    /**
+     * Start reading a wheel's metadata without waiting for it.
+     */
+    public void prefetchWheel(PackageFile wheel) {
+        CompletableFuture<@Nullable CoreMetadata> claimed = new CompletableFuture<>();
+        if (reads.putIfAbsent(wheel.getUrl(), claimed) == null) {
+            prefetchExecutor.execute(() -> complete(claimed, wheel, true));
+        }
+    }
+
+    private @Nullable CoreMetadata read(PackageFile file, boolean wheel) {
+        CompletableFuture<@Nullable CoreMetadata> claimed = new CompletableFuture<>();
+        CompletableFuture<@Nullable CoreMetadata> existing = reads.putIfAbsent(file.getUrl(), claimed);
+        if (existing != null) {
+            return existing.join();
+        }
+        return complete(claimed, file, wheel);
+    }
+
+    private @Nullable CoreMetadata complete(CompletableFuture<@Nullable CoreMetadata> future, PackageFile file,
+                                            boolean wheel) {
+        CoreMetadata metadata = null;
+        try {
+            String sha256 = file.getSha256();
+            if (diskCache != null && sha256 != null) {
+                metadata = diskCache.get(sha256);
+                if (metadata != null) {
+                    return metadata;
+                }
+            }
+            if (wheel) {
+                metadata = Pep658MetadataFetcher.fetch(http, file.getUrl());
+                if (metadata == null) {
+                    metadata = LazyWheelMetadataReader.read(http, file.getUrl());
+                }
+            } else {
+                metadata = SdistMetadataReader.read(http, file.getUrl());
+            }
+            if (metadata != null && diskCache != null && sha256 != null) {
+                diskCache.put(sha256, metadata);
+            }
+            return metadata;
+        } finally {
+            if (metadata == null) {
+                // so that a later read tries again rather than repeating a failure that may have been transient
+                reads.remove(file.getUrl(), future);
+            }
+            future.complete(metadata);
+        }
+    }
+}
@@ -21,6 +21,7 @@
 import org.openrewrite.InMemoryExecutionContext;
 import org.openrewrite.SourceFile;
 import org.openrewrite.ipc.http.HttpSender;
+import org.openrewrite.python.PythonExecutionContextView;
 import org.openrewrite.python.PythonPackageIndex;
 import org.openrewrite.python.internal.Hashing;
 import org.openrewrite.python.internal.LockFileRegeneration.Failure;
@@ -29,9 +30,7 @@
 import org.openrewrite.python.internal.PyprojectData;
 import org.openrewrite.python.internal.index.*;
 import org.openrewrite.python.internal.metadata.CoreMetadata;
-import org.openrewrite.python.internal.metadata.LazyWheelMetadataReader;
-import org.openrewrite.python.internal.metadata.Pep658MetadataFetcher;
-import org.openrewrite.python.internal.metadata.SdistMetadataReader;
+import org.openrewrite.python.internal.metadata.DistributionMetadataClient;
 import org.openrewrite.python.internal.pep440.PythonVersion;
 import org.openrewrite.python.internal.pep440.PythonVersionSpecifierSet;
 import org.openrewrite.python.internal.pep508.Pep508Requirement;
@@ -139,6 +138,7 @@ private static final class Run {
         private final PdmLock lock;
         private final HttpSender http;
         private final SimpleIndexClient simpleClient;
+        private final DistributionMetadataClient metadataClient;
         private final List<PythonPackageIndex> indexes;
         private final @Nullable PythonVersion pythonLowerBound;
 
@@ -150,6 +150,8 @@ private static final class Run {
             this.lock = lock;
             this.http = HttpSenderExecutionContextView.view(ctx).getHttpSender();
             this.simpleClient = new SimpleIndexClient(http);
+            this.metadataClient = new DistributionMetadataClient(http,
+                    PythonExecutionContextView.view(ctx).getMetadataCache());
             this.indexes = IndexDiscovery.discover(ctx, null, null, Environment.SYSTEM);
             this.pythonLowerBound = lowerBound(targetRequiresPython(lock));
         }
@@ -429,10 +431,7 @@ private CoreMetadata fetchMetadata(String pkg, List<PackageFile> files) {
                 }
             }
             if (wheel != null) {
-                CoreMetadata metadata = Pep658MetadataFetcher.fetch(http, wheel.getUrl());
-                if (metadata == null) {
-                    metadata = LazyWheelMetadataReader.read(http, wheel.getUrl());
-                }
+                CoreMetadata metadata = metadataClient.wheel(wheel);
                 if (metadata != null) {
                     return metadata;
                 }
@@ -441,7 +440,7 @@ private CoreMetadata fetchMetadata(String pkg, List<PackageFile> files) {
                 throw new EngineFailure(Reason.INDEX_UNREACHABLE, pkg,
                         "Could not fetch dependency metadata for " + pkg);
             }
-            CoreMetadata metadata = SdistMetadataReader.read(http, sdist.getUrl());
+            CoreMetadata metadata = metadataClient.sdist(sdist);
             if (metadata == null || !metadata.hasStaticRequiresDist()) {
                 throw new EngineFailure(Reason.DYNAMIC_SDIST_METADATA, pkg,
                         "Sdist metadata of " + sdist.getFilename() + " does not declare static Requires-Dist (PEP 643)");
@@ -21,6 +21,7 @@
 import org.openrewrite.InMemoryExecutionContext;
 import org.openrewrite.SourceFile;
 import org.openrewrite.ipc.http.HttpSender;
+import org.openrewrite.python.PythonExecutionContextView;
 import org.openrewrite.python.PythonPackageIndex;
 import org.openrewrite.python.internal.Hashing;
 import org.openrewrite.python.internal.LockFileRegeneration.Failure;
@@ -35,9 +36,7 @@
 import org.openrewrite.python.internal.index.PythonIndexException;
 import org.openrewrite.python.internal.index.SimpleIndexClient;
 import org.openrewrite.python.internal.metadata.CoreMetadata;
-import org.openrewrite.python.internal.metadata.LazyWheelMetadataReader;
-import org.openrewrite.python.internal.metadata.Pep658MetadataFetcher;
-import org.openrewrite.python.internal.metadata.SdistMetadataReader;
+import org.openrewrite.python.internal.metadata.DistributionMetadataClient;
 import org.openrewrite.python.internal.pep440.PythonVersion;
 import org.openrewrite.python.internal.pep440.PythonVersionSpecifier;
 import org.openrewrite.python.internal.pep440.PythonVersionSpecifierSet;
@@ -200,6 +199,7 @@ private static final class Run {
         private final String newline;
         private final HttpSender http;
         private final SimpleIndexClient client;
+        private final DistributionMetadataClient metadataClient;
 
         private final Map<String, Object> lockMeta;
         private final @Nullable List<Map<String, Object>> lockMetaSources;
@@ -221,6 +221,8 @@ private static final class Run {
             this.newline = oldLockContent.contains("\r\n") ? "\r\n" : "\n";
             this.http = HttpSenderExecutionContextView.view(ctx).getHttpSender();
             this.client = new SimpleIndexClient(http);
+            this.metadataClient = new DistributionMetadataClient(http,
+                    PythonExecutionContextView.view(ctx).getMetadataCache());
 
             Object meta = lock.get("_meta");
             this.lockMeta = meta instanceof Map ? (Map<String, Object>) meta : emptyMap();
@@ -811,10 +813,7 @@ private MetadataResult fetchMetadata(String pkg, PythonPackageIndex index, List<
                 }
             }
             if (wheel != null) {
-                CoreMetadata metadata = Pep658MetadataFetcher.fetch(http, wheel.getUrl());
-                if (metadata == null) {
-                    metadata = LazyWheelMetadataReader.read(http, wheel.getUrl());
-                }
+                CoreMetadata metadata = metadataClient.wheel(wheel);
                 if (metadata != null) {
                     // Wheel METADATA is trusted unconditionally.
                     result.metadata = metadata;
@@ -831,7 +830,7 @@ private MetadataResult fetchMetadata(String pkg, PythonPackageIndex index, List<
                         "No wheel or sdist distribution available");
                 return result;
             }
-            CoreMetadata metadata = SdistMetadataReader.read(http, sdist.getUrl());
+            CoreMetadata metadata = metadataClient.sdist(sdist);
             if (metadata == null) {
                 result.failure = new Failure(Reason.DYNAMIC_SDIST_METADATA, pkg, index.getUrl(),
                         "Could not read PKG-INFO from " + sdist.getFilename());
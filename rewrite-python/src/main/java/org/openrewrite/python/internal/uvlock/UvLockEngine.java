@@ -21,6 +21,7 @@
 import org.openrewrite.InMemoryExecutionContext;
 import org.openrewrite.SourceFile;
 import org.openrewrite.ipc.http.HttpSender;
+import org.openrewrite.python.PythonExecutionContextView;
 import org.openrewrite.python.internal.Hashing;
 import org.openrewrite.python.internal.LockFileRegeneration.Failure;
 import org.openrewrite.python.internal.LockFileRegeneration.Reason;
@@ -35,9 +36,7 @@
 import org.openrewrite.python.internal.index.UvIndex;
 import org.openrewrite.python.internal.index.UvIndexDiscovery;
 import org.openrewrite.python.internal.metadata.CoreMetadata;
-import org.openrewrite.python.internal.metadata.LazyWheelMetadataReader;
-import org.openrewrite.python.internal.metadata.Pep658MetadataFetcher;
-import org.openrewrite.python.internal.metadata.SdistMetadataReader;
+import org.openrewrite.python.internal.metadata.DistributionMetadataClient;
 import org.openrewrite.python.internal.pep440.PythonVersion;
 import org.openrewrite.python.internal.pep440.PythonVersionSpecifier;
 import org.openrewrite.python.internal.pep440.PythonVersionSpecifierSet;
@@ -51,6 +50,7 @@
 import java.util.regex.Pattern;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.Collections.sort;
 
 /**
@@ -213,6 +213,7 @@ private static final class Run {
         private final UvLock lock;
         private final HttpSender http;
         private final SimpleIndexClient simpleClient;
+        private final DistributionMetadataClient metadataClient;
         private final FlatIndexClient flatClient;
         private final List<UvIndex> indexes;
         private final Map<String, List<String>> indexPins;
@@ -244,6 +245,8 @@ private static final class Run {
             this.lock = lock;
             this.http = HttpSenderExecutionContextView.view(ctx).getHttpSender();
             this.simpleClient = new SimpleIndexClient(http);
+            this.metadataClient = new DistributionMetadataClient(http,
+                    PythonExecutionContextView.view(ctx).getMetadataCache());
             this.flatClient = new FlatIndexClient(http);
             this.indexes = UvIndexDiscovery.discover(ctx, pyproject, null, Environment.SYSTEM);
             this.indexPins = UvIndexDiscovery.sourceIndexPins(pyproject);
@@ -328,6 +331,9 @@ private Result run() {
             }
             // drain cascades and transitive additions the closures pull in (ADR 0010 T1+T2)
             while (!cascadeQueue.isEmpty() || !additionQueue.isEmpty()) {
+                // every queued package not yet settled is about to be listed; list them concurrently
+                prefetchListings(cascadeQueue, resolved);
+                prefetchListings(additionQueue, resolved);
                 if (!cascadeQueue.isEmpty()) {
                     String target = cascadeQueue.poll();
                     if (!resolved.add(target)) {
@@ -999,6 +1005,7 @@ private static List<UvLockDependency> addEdgeSorted(@Nullable List<UvLockDepende
          */
         private List<PythonVersionSpecifierSet> gatherConstraints(String target) {
             List<PythonVersionSpecifierSet> constraints = new ArrayList<>();
+            prefetchMetadata(target);
             for (UvLockPackage q : packages) {
                 if (q.getSource().getType() != UvLockSource.Type.REGISTRY || !dependsOn(q, target)) {
                     continue;
@@ -1043,6 +1050,70 @@ private static boolean dependsOn(UvLockPackage pkg, String target) {
             return false;
         }
 
+        /**
+         * Start listing each queued package that is not yet settled, so the next round of the
+         * cascade is not fetched one package at a time. A no-op for anything already listed.
+         */
+        private void prefetchListings(Collection<String> queued, Set<String> resolved) {
+            for (String name : queued) {
+                if (resolved.contains(name)) {
+                    continue;
+                }
+                List<String> pins = indexPins.get(name);
+                String pinnedIndexName = pins != null ? pins.get(0) : null;
+                for (UvIndex index : indexes) {
+                    if (index.usableFor(pinnedIndexName)) {
+                        // flat indexes are listed as one page; only the first index fetchListing consults matters
+                        if (!index.isFlat()) {
+                            simpleClient.prefetch(index.getIndex(), name);
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+
+        /**
+         * {@link #gatherConstraints} reads the metadata of every registry dependent of {@code target}.
+         * List them all concurrently, then start reading each one's wheel metadata, so that the
+         * sequential pass that follows mostly waits on reads already in flight.
+         */
+        private void prefetchMetadata(String target) {
+            List<UvLockPackage> dependents = new ArrayList<>();
+            Set<String> names = new LinkedHashSet<>();
+            for (UvLockPackage q : packages) {
+                if (q.getSource().getType() == UvLockSource.Type.REGISTRY && dependsOn(q, target) &&
+                        !metadataCache.containsKey(q.getName() + '@' + q.getVersion())) {
+                    dependents.add(q);
+                    names.add(q.getName());
+                }
+            }
+            if (dependents.size() < 2) {
+                return;
+            }
+            prefetchListings(names, emptySet());
+            for (UvLockPackage q : dependents) {
+                PythonVersion version = PythonVersion.parse(q.getVersion());
+                if (version == null) {
+                    continue;
+                }
+                try {
+                    List<String> pins = indexPins.get(q.getName());
+                    Listing listing = fetchListing(q.getName(), pins != null ? pins.get(0) : null);
+                    if (listing.index.isFlat()) {
+                        continue;
+                    }
+                    List<PackageFile> files = groupByVersion(listing.listing, q.getName()).get(version);
+                    PackageFile wheel = files == null ? null : DistributionMetadataClient.preferredWheel(files);
+                    if (wheel != null) {
+                        metadataClient.prefetchWheel(wheel);
+                    }
+                } catch (PythonIndexException | EngineFailure e) {
+                    // reported by the sequential pass, in the order it would have been without prefetching
+                }
+            }
+        }
+
         private @Nullable CoreMetadata metadataFor(UvLockPackage pkg) {
             String key = pkg.getName() + '@' + pkg.getVersion();
             if (metadataCache.containsKey(key)) {
@@ -1347,27 +1418,17 @@ private boolean versionAdmitsPython(List<PackageFile> files) {
          */
         private CoreMetadata fetchMetadata(String pkg, UvIndex index, List<PackageFile> files) {
             String indexUrl = index.getIndex().getUrl();
-            PackageFile wheel = null;
+            PackageFile wheel = DistributionMetadataClient.preferredWheel(files);
             PackageFile sdist = null;
             for (PackageFile file : files) {
                 DistFilename dist = DistFilename.parse(file.getFilename());
-                if (dist == null) {
-                    continue;
-                }
-                if (dist.getType() == DistFilename.Type.WHEEL) {
-                    if (wheel == null || (!Boolean.TRUE.equals(wheel.getCoreMetadataAvailable()) &&
-                            Boolean.TRUE.equals(file.getCoreMetadataAvailable()))) {
-                        wheel = file;
-                    }
-                } else if (dist.getType() == DistFilename.Type.SDIST && sdist == null) {
+                if (dist != null && dist.getType() == DistFilename.Type.SDIST) {
                     sdist = file;
+                    break;
                 }
             }
             if (wheel != null) {
-                CoreMetadata metadata = Pep658MetadataFetcher.fetch(http, wheel.getUrl());
-                if (metadata == null) {
-                    metadata = LazyWheelMetadataReader.read(http, wheel.getUrl());
-                }
+                CoreMetadata metadata = metadataClient.wheel(wheel);
                 if (metadata != null) {
                     return metadata;
                 }
@@ -1380,7 +1441,7 @@ private CoreMetadata fetchMetadata(String pkg, UvIndex index, List<PackageFile>
                 throw new EngineFailure(new Failure(Reason.RESOLUTION_CONFLICT, pkg, indexUrl,
                         "No wheel or sdist distribution available"));
             }
-            CoreMetadata metadata = SdistMetadataReader.read(http, sdist.getUrl());
+            CoreMetadata metadata = metadataClient.sdist(sdist);
             if (metadata == null) {
                 throw new EngineFailure(new Failure(Reason.DYNAMIC_SDIST_METADATA, pkg, indexUrl,
                         "Could not read PKG-INFO from " + sdist.getFilename()));
@@ -266,6 +266,19 @@ void listingsAreCachedPerRun() {
         assertThat(server.getRequestCount()).isEqualTo(1);
     }
 
+    @Test
+    void listingWaitsForPrefetchInFlight() {
+        server.enqueue(new MockResponse()
+          .setHeader("Content-Type", "application/vnd.pypi.simple.v1+json")
+          .setBody("{\"files\": []}"));
+
+        client.prefetch(index(), "requests");
+        PackageListing listing = client.listFiles(index(), "requests");
+
+        assertThat(listing.getFiles()).isEmpty();
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
     @Test
     void canonicalName() {
         assertThat(SimpleIndexClient.canonicalName("Django_REST--framework.utils")).isEqualTo("django-rest-framework-utils");
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.python.internal.metadata;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.ipc.http.HttpUrlConnectionSender;
+import org.openrewrite.python.internal.index.PackageFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoreMetadataCacheTest {
+
+    private static final String SHA256 = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    @TempDir
+    Path cacheDir;
+
+    private MockWebServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void roundTripsThroughHeaderFormat() {
+        CoreMetadata metadata = new CoreMetadata("2.2", "foo", "1.0", "A foo", List.of("bar (>=2.0)",
+          "baz; extra == \"test\""), ">=3.8", List.of("test"), List.of("license"));
+        CoreMetadataCache cache = new CoreMetadataCache(cacheDir, 10_000_000);
+
+        cache.put(SHA256, metadata);
+
+        assertThat(new CoreMetadataCache(cacheDir, 10_000_000).get(SHA256)).isEqualTo(metadata);
+    }
+
+    @Test
+    void malformedHashIsNeverCached() {
+        CoreMetadataCache cache = new CoreMetadataCache(cacheDir, 10_000_000);
+
+        cache.put("../../etc/passwd", new CoreMetadata("2.1", "foo", "1.0", null, List.of(), null, List.of(), List.of()));
+
+        assertThat(cache.getSizeBytes()).isZero();
+    }
+
+    @Test
+    void wheelMetadataReadOnceAcrossClients() {
+        server.enqueue(new MockResponse().setBody("""
+          Metadata-Version: 2.1
+          Name: foo
+          Version: 1.0
+          Requires-Dist: bar (>=2.0)
+          """));
+        PackageFile wheel = new PackageFile("foo-1.0-py3-none-any.whl",
+          server.url("/packages/foo-1.0-py3-none-any.whl").toString(), SHA256, null, true, false, null, null);
+        CoreMetadataCache cache = new CoreMetadataCache(cacheDir, 10_000_000);
+
+        CoreMetadata first = new DistributionMetadataClient(new HttpUrlConnectionSender(), cache).wheel(wheel);
+        CoreMetadata second = new DistributionMetadataClient(new HttpUrlConnectionSender(), cache).wheel(wheel);
+
+        assertThat(first).isNotNull();
+        assertThat(second).isEqualTo(first);
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void readWaitsForPrefetchInFlight() {
+        server.enqueue(new MockResponse().setBody("""
+          Metadata-Version: 2.1
+          Name: foo
+          Version: 1.0
+          """));
+        PackageFile wheel = new PackageFile("foo-1.0-py3-none-any.whl",
+          server.url("/packages/foo-1.0-py3-none-any.whl").toString(), null, null, true, false, null, null);
+        DistributionMetadataClient client = new DistributionMetadataClient(new HttpUrlConnectionSender(), null);
+
+        client.prefetchWheel(wheel);
+        CoreMetadata metadata = client.wheel(wheel);
+
+        assertThat(metadata).isNotNull();
+        assertThat(metadata.getName()).isEqualTo("foo");
+        assertThat(server.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void failedReadIsRetried() {
+        AtomicBoolean available = new AtomicBoolean();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                if (!available.get()) {
+                    return new MockResponse().setResponseCode(503);
+                }
+                return new MockResponse().setBody("""
+                  Metadata-Version: 2.1
+                  Name: foo
+                  Version: 1.0
+                  """);
+            }
+        });
+        PackageFile wheel = new PackageFile("foo-1.0-py3-none-any.whl",
+          server.url("/packages/foo-1.0-py3-none-any.whl").toString(), null, null, true, false, null, null);
+        DistributionMetadataClient client = new DistributionMetadataClient(new HttpUrlConnectionSender(), null);
+
+        assertThat(client.wheel(wheel)).isNull();
+        available.set(true);
+
+        assertThat(client.wheel(wheel)).isNotNull();
+    }
+}
@@ -32,6 +32,7 @@
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -220,7 +221,7 @@ static byte[] resourceBytes(String name) {
     /** Serves recorded responses by exact URL; unrouted URLs return 404 and are recorded. */
     static final class RoutedHttp implements HttpSender {
         final Map<String, byte[]> routes = new LinkedHashMap<>();
-        final List<String> requests = new ArrayList<>();
+        final List<String> requests = Collections.synchronizedList(new ArrayList<>());
 
         void route(String url, String fixtureName) {
             routes.put(url, resourceBytes(fixtureName));
@@ -34,6 +34,7 @@
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -70,7 +71,7 @@ void setUp() {
      */
     static final class RoutedHttp implements HttpSender {
         final Map<String, byte[]> routes = new LinkedHashMap<>();
-        final List<String> requests = new ArrayList<>();
+        final List<String> requests = Collections.synchronizedList(new ArrayList<>());
 
         void route(String url, String body) {
             route(url, body.getBytes(StandardCharsets.UTF_8));
@@ -47,6 +47,10 @@ public static Detector detector() {
         return new Detector();
     }
 
+    /**
+     * Accumulates style statistics from samples of documents. Sampling and merging are thread-safe, and detectors
+     * can be merged, so that many documents can be sampled in parallel by a detector per thread.
+     */
     public static class Detector {
 
         private final IndentStatistics indentStatistics = new IndentStatistics();
@@ -54,7 +58,7 @@ public static class Detector {
         private final FindIndentXmlVisitor findIndentXmlVisitor = new FindIndentXmlVisitor();
         private final FindLineFormatXmlVisitor findLineFormatXmlVisitor = new FindLineFormatXmlVisitor();
 
-        public Detector sample(SourceFile xml) {
+        public synchronized Detector sample(SourceFile xml) {
             if(xml instanceof Xml.Document) {
                 findIndentXmlVisitor.visit(xml, indentStatistics);
                 findLineFormatXmlVisitor.visit(xml, generalFormatStatistics);
@@ -62,7 +66,23 @@ public Detector sample(SourceFile xml) {
             return this;
         }
 
-        public Autodetect build() {
+        /**
+         * Add the statistics of another detector to this one, as if this detector had sampled the same documents.
+         * The other detector must not be sampled while it is being merged.
+         *
+         * @return This detector.
+         */
+        public synchronized Detector merge(Detector other) {
+            if (other != this) {
+                indentStatistics.indentFrequencies.merge(other.indentStatistics.indentFrequencies);
+                indentStatistics.continuationIndentFrequencies.merge(other.indentStatistics.continuationIndentFrequencies);
+                generalFormatStatistics.linesWithCRLFNewLines += other.generalFormatStatistics.linesWithCRLFNewLines;
+                generalFormatStatistics.linesWithLFNewLines += other.generalFormatStatistics.linesWithLFNewLines;
+            }
+            return this;
+        }
+
+        public synchronized Autodetect build() {
             return new Autodetect(Tree.randomId(), Arrays.asList(
                     indentStatistics.getTabsAndIndentsStyle(),
                     generalFormatStatistics.getFormatStyle()));
@@ -87,6 +107,13 @@ private static class IndentFrequencies {
         private int linesWithSpaceIndents = 0;
         private int linesWithTabIndents = 0;
 
+        public void merge(IndentFrequencies other) {
+            other.spaceIndentFrequencies.forEach((indent, count) -> spaceIndentFrequencies.merge(indent, count, Long::sum));
+            other.tabIndentFrequencies.forEach((indent, count) -> tabIndentFrequencies.merge(indent, count, Long::sum));
+            linesWithSpaceIndents += other.linesWithSpaceIndents;
+            linesWithTabIndents += other.linesWithTabIndents;
+        }
+
         public boolean isIndentedWithSpaces() {
             return linesWithSpaceIndents >= linesWithTabIndents;
         }
@@ -24,6 +24,7 @@
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.internal.StringUtils;
 import org.openrewrite.marker.Markers;
+import org.openrewrite.tree.ParseCache;
 import org.openrewrite.tree.ParseError;
 import org.openrewrite.tree.ParsingEventListener;
 import org.openrewrite.tree.ParsingExecutionContextView;
@@ -68,8 +69,13 @@ public Stream<SourceFile> parse(@Language("yml") String... sources) {
 
     @Override
     public Stream<SourceFile> parseInputs(Iterable<Input> sourceFiles, @Nullable Path relativeTo, ExecutionContext ctx) {
+        return ParseCache.parseInputs(this, sourceFiles, relativeTo, ctx, getClass().getName(), "", true,
+                inputs -> parseUncached(inputs, relativeTo, ctx));
+    }
+
+    private Stream<SourceFile> parseUncached(List<Input> inputs, @Nullable Path relativeTo, ExecutionContext ctx) {
         ParsingEventListener parsingListener = ParsingExecutionContextView.view(ctx).getParsingListener();
-        return acceptedInputs(sourceFiles)
+        return inputs.stream()
                 .map(input -> {
                     parsingListener.startedParsing(input);
                     Path path = input.getRelativePath(relativeTo);